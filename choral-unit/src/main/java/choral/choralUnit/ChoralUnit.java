@@ -23,6 +23,7 @@ package choral.choralUnit;
 
 import choral.annotations.Choreography;
 import choral.choralUnit.annotations.Test;
+import choral.runtime.Media.RoleThreads;
 import io.github.classgraph.*;
 
 import java.lang.Thread.UncaughtExceptionHandler;
@@ -30,8 +31,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * Runs the {@link Test} methods of a choreography, one thread per role.
+ * Roles run on virtual threads when the system property {@value RoleThreads#MODE_PROPERTY}
+ * is {@code virtual} (JDK 21 or later), see {@link RoleThreads}.
+ */
 public class ChoralUnit {
 
 	public static void main( String[] args ) {
@@ -61,13 +69,14 @@ public class ChoralUnit {
 		// Thread exceptions are collected in order to rethrow them from the main thread.
 		// This enabled automated unit tests, either directly from Java,
 		// or by inspecting the return code when running from the command line.
-		ArrayList<Throwable> threadExceptions = new ArrayList<>();
+		List<Throwable> threadExceptions = Collections.synchronizedList( new ArrayList<>() );
+		ThreadFactory roleThreads = RoleThreads.factory( "choral-unit-" + target + "-" );
 
 		for( MethodInfo method : methods ) {
 			List< Thread > threadList = new ArrayList<>();
 			for( ClassInfo cls : classes ) {
 				threadList.add(
-						new Thread( () -> {
+						roleThreads.newThread( () -> {
 							try {
 								Method classMethod = Class.forName( cls.getName() ).getMethod(
 										method.getName() );
@@ -27,8 +27,11 @@ import choral.runtime.LocalChannel.LocalChannel_A;
 import choral.runtime.LocalChannel.LocalChannel_B;
 import choral.runtime.Media.MessageQueue;
 import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.Media.RingBufferQueue;
 import choral.runtime.Media.ServerSocketByteChannel;
 import choral.runtime.Media.SocketByteChannel;
+import choral.runtime.RingChannel.RingChannel_A;
+import choral.runtime.RingChannel.RingChannel_B;
 import choral.runtime.SerializerChannel.SerializerChannel_A;
 import choral.runtime.SerializerChannel.SerializerChannel_B;
 import choral.runtime.Serializers.KryoSerializer;
@@ -70,6 +73,20 @@ public class TestUtils {
 		}
 	}
 
+	public static synchronized Pair< SymChannel_A< Object >, SymChannel_B< Object > > newLocalRingChannel(
+			String id
+	) {
+		if( !channels.containsKey( id ) ) {
+			RingBufferQueue q1 = new RingBufferQueue();
+			RingBufferQueue q2 = new RingBufferQueue();
+			channels.put( id,
+					new Pair<>( new RingChannel_A( q1, q2 ), new RingChannel_B( q2, q1 ) ) );
+			return channels.get( id );
+		} else {
+			return channels.remove( id );
+		}
+	}
+
 	public static Pair< SerializerChannel_A, SerializerChannel_B > newSocketChannel()
 			throws ExecutionException, InterruptedException {
 		return newSocketChannel( 0 );
@@ -35,6 +35,14 @@ public class TestUtils_A {
 		return TestUtils.newLocalChannel( id ).left();
 	}
 
+	public static SymChannel_A< Object > newLocalRingChannel( String id, Unit o ) {
+		return newLocalRingChannel( id );
+	}
+
+	public static SymChannel_A< Object > newLocalRingChannel( String id ) {
+		return TestUtils.newLocalRingChannel( id ).left();
+	}
+
 	public static TLSChannel_A< Object > newLocalTLSChannel( String id, Unit o ) {
 		return newLocalTLSChannel( id );
 	}
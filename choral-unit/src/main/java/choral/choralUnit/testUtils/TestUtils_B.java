@@ -31,6 +31,10 @@ public class TestUtils_B {
 		return TestUtils.newLocalChannel( id ).right();
 	}
 
+	public static SymChannel_B< Object > newLocalRingChannel( String id ) {
+		return TestUtils.newLocalRingChannel( id ).right();
+	}
+
 	public static TLSChannel_B< Object > newLocalTLSChannel( String id ) {
 		return TestUtils.newLocalTLSChannel( id ).right();
 	}
@@ -39,6 +43,10 @@ public class TestUtils_B {
 		return newLocalChannel( id );
 	}
 
+	public static SymChannel_B< Object > newLocalRingChannel( Unit o, String id ) {
+		return newLocalRingChannel( id );
+	}
+
 	public static TLSChannel_B< Object > newLocalTLSChannel( Unit o, String id ) {
 		return newLocalTLSChannel( id );
 	}
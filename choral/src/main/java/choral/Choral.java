@@ -262,6 +262,29 @@ public class Choral extends ChoralCommand implements Callable< Integer > {
 						}
 				);
 
+				Optional< Path > manifestFile = emissionOptions.serializationManifest(
+						qualifiedName( annotatedUnits.get(), symbol ) );
+				if( !emissionOptions.isDryRun() && manifestFile.isPresent() ) {
+					profilerLog( "serialization manifest", () -> {
+						try {
+							SerializationManifest.write( annotatedUnits.get(), manifestFile.get() );
+						} catch( IOException e ) {
+							throw new RuntimeException( e );
+						}
+					} );
+				}
+
+				if( !emissionOptions.isDryRun() && emissionOptions.binaryCodecs() ) {
+					profilerLog( "binary codecs", () -> {
+						try {
+							writeBinaryCodecs( annotatedUnits.get(), symbol,
+									emissionOptions.targetpath() );
+						} catch( IOException e ) {
+							throw new RuntimeException( e );
+						}
+					} );
+				}
+
 				if( emissionOptions.canOverwriteSourceCode() ){
 					// User wants us to overwrite their old file with the amended sources.
 					var printer = new PrettyPrinterVisitor();
@@ -289,6 +312,36 @@ public class Choral extends ChoralCommand implements Callable< Integer > {
 		}
 	}
 
+	private static String packageOf( Collection< CompilationUnit > annotatedUnits, String symbol ) {
+		return annotatedUnits.stream()
+				.filter( cu -> Stream.of( cu.classes(), cu.interfaces(), cu.enums() )
+						.flatMap( Collection::stream )
+						.anyMatch( d -> d.name().identifier().equals( symbol ) ) )
+				.findFirst()
+				.flatMap( CompilationUnit::packageDeclaration )
+				.orElse( "" );
+	}
+
+	private static String qualifiedName( Collection< CompilationUnit > annotatedUnits, String symbol ) {
+		String packageName = packageOf( annotatedUnits, symbol );
+		return packageName.isEmpty() ? symbol : packageName + "." + symbol;
+	}
+
+	private static void writeBinaryCodecs(
+			Collection< CompilationUnit > annotatedUnits, String symbol, Optional< Path > targetpath
+	) throws IOException {
+		String packageName = packageOf( annotatedUnits, symbol );
+		Optional< String > source = BinaryCodecGenerator.generate( annotatedUnits, symbol, packageName );
+		if( source.isEmpty() ) {
+			return;
+		}
+		Path folder = targetpath.orElse( Paths.get( "" ) )
+				.resolve( packageName.replace( '.', File.separatorChar ) );
+		Files.createDirectories( folder );
+		Files.writeString( folder.resolve( symbol + BinaryCodecGenerator.CLASS_SUFFIX + ".java" ),
+				source.get() );
+	}
+
 	@Command( name = "headers", aliases = { "chh" },
 			description = "Generate choral header files (" + Compiler.HEADER_FILE_EXTENSION + ")."
 	)
@@ -589,6 +642,17 @@ class EmissionOptions {
 			description = "Specify where to save compiled files." )
 	private Path targetpath;
 
+	@Option( names = { "--binary-codecs" },
+			description = "Generate binary codecs for the types sent through com, for use with BinaryCodecSerializer." )
+	private boolean binaryCodecs = false;
+
+	@Option( names = { "--serialization-manifest" },
+			paramLabel = "<RESOURCES>",
+			description = "Write the serialization manifest to "
+					+ SerializationManifest.FOLDER + "<qualified symbol>" + SerializationManifest.EXTENSION
+					+ " under the given resources root." )
+	private Path serializationManifest;
+
 	public boolean isDryRun() {
 		return dryRun;
 	}
@@ -608,6 +672,15 @@ class EmissionOptions {
 	public Optional< Path > targetpath() {
 		return Optional.ofNullable( targetpath );
 	}
+
+	public boolean binaryCodecs() {
+		return binaryCodecs;
+	}
+
+	public Optional< Path > serializationManifest( String choreography ) {
+		return Optional.ofNullable( serializationManifest )
+				.map( r -> r.resolve( SerializationManifest.location( choreography ) ) );
+	}
 }
 
 @Command()
@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.compiler;
+
+import choral.ast.CompilationUnit;
+import choral.types.GroundDataType;
+import choral.types.HigherClass;
+import choral.types.HigherClassOrInterface;
+import choral.types.HigherDataType;
+import choral.types.HigherEnum;
+import choral.types.Member;
+import choral.types.Signature;
+import choral.types.Universe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates {@code choral.runtime.Serializers.BinaryCodec}s for the types that a choreography
+ * sends through {@code com}, as found by {@link SerializationManifest}, and for the types of
+ * their properties.
+ * <p>
+ * A class gets a codec when it has a public constructor whose every parameter can be read
+ * back through a public field, or a public no-argument method, with the same name and type.
+ * Parameter types must be primitive, boxed, {@code String}, or themselves have a codec.
+ * Enums are encoded by ordinal. Generic and multi-world types, and classes not matching the
+ * shape above, are left to the fallback serializer. So is a class with a property of such a
+ * type, as a whole: a message holding a signature that exposes no accessor gets no codec,
+ * even though the other values it holds may have one. The generated class lists the
+ * communicated types left to the fallback serializer.
+ */
+public class BinaryCodecGenerator {
+
+	public static final String CLASS_SUFFIX = "Codecs";
+
+	private static final String CODEC_PACKAGE = "choral.runtime.Serializers";
+
+	private final Map< HigherClassOrInterface, Shape > shapes = new LinkedHashMap<>();
+	private final Map< HigherClassOrInterface, String > codecNames = new LinkedHashMap<>();
+	private final List< String > fallback = new ArrayList<>();
+
+	private BinaryCodecGenerator() {
+	}
+
+	/**
+	 * Returns the source of the {@code <symbol>Codecs} class, in {@code packageName},
+	 * or nothing if none of the communicated types can have a codec.
+	 */
+	public static Optional< String > generate(
+			Collection< CompilationUnit > annotatedUnits, String symbol, String packageName
+	) {
+		BinaryCodecGenerator generator = new BinaryCodecGenerator();
+		generator.analyse( SerializationManifest.collectTypes( annotatedUnits ).values() );
+		if( generator.shapes.isEmpty() ) {
+			return Optional.empty();
+		}
+		return Optional.of( generator.emit( symbol + CLASS_SUFFIX, packageName, symbol ) );
+	}
+
+	private void analyse( Collection< HigherClassOrInterface > types ) {
+		Map< HigherClassOrInterface, Shape > candidates = new LinkedHashMap<>();
+		Set< HigherClassOrInterface > visited = new HashSet<>();
+		Deque< HigherClassOrInterface > pending = new ArrayDeque<>( types );
+		while( !pending.isEmpty() ) {
+			HigherClassOrInterface type = pending.poll();
+			if( visited.add( type ) ) {
+				shapeOf( type ).ifPresent( s -> {
+					candidates.put( type, s );
+					s.properties.stream()
+							.filter( p -> p.reference != null )
+							.forEach( p -> pending.add( p.reference ) );
+				} );
+			}
+		}
+		// drop the classes whose properties refer to classes without a codec, until stable
+		boolean changed = true;
+		while( changed ) {
+			changed = candidates.entrySet().removeIf( e -> e.getValue().properties.stream()
+					.anyMatch( p -> p.reference != null && !candidates.containsKey( p.reference ) ) );
+		}
+		shapes.putAll( candidates );
+		types.stream()
+				.filter( t -> !shapes.containsKey( t ) )
+				.forEach( t -> fallback.add( t.identifier( true ) ) );
+		Set< String > used = new HashSet<>();
+		for( HigherClassOrInterface type : shapes.keySet() ) {
+			String name = type.identifier() + "Codec";
+			for( int i = 2; !used.add( name ); i++ ) {
+				name = type.identifier() + "Codec" + i;
+			}
+			codecNames.put( type, name );
+		}
+	}
+
+	private static Optional< Shape > shapeOf( HigherClassOrInterface type ) {
+		if( type.worldParameters().size() != 1 || !type.typeParameters().isEmpty()
+				|| type.specialTypeTag() != null || type.isAbstract() ) {
+			return Optional.empty();
+		}
+		if( type instanceof HigherEnum ) {
+			return Optional.of( new Shape( true, List.of() ) );
+		}
+		if( !( type instanceof HigherClass c ) ) {
+			return Optional.empty();
+		}
+		Shape best = null;
+		List< ? extends Member.HigherConstructor > constructors =
+				c.innerType().constructors().collect( Collectors.toList() );
+		for( Member.HigherConstructor constructor : constructors ) {
+			if( !constructor.isPublic() ) {
+				continue;
+			}
+			List< ? extends Signature.Parameter > parameters =
+					constructor.innerCallable().signature().parameters();
+			if( parameters.isEmpty() || ( best != null && best.properties.size() >= parameters.size() ) ) {
+				continue;
+			}
+			List< Property > properties = new ArrayList<>();
+			for( Signature.Parameter parameter : parameters ) {
+				Property property = propertyOf( c, parameter );
+				if( property == null ) {
+					properties = null;
+					break;
+				}
+				properties.add( property );
+			}
+			if( properties != null ) {
+				best = new Shape( false, properties );
+			}
+		}
+		return Optional.ofNullable( best );
+	}
+
+	private static Property propertyOf( HigherClass type, Signature.Parameter parameter ) {
+		GroundDataType parameterType = parameter.type();
+		HigherDataType constructor = parameterType.typeConstructor();
+		String accessor = type.innerType().fields()
+				.filter( f -> f.isPublic() && !f.isStatic()
+						&& f.identifier().equals( parameter.identifier() )
+						&& f.type().typeConstructor() == constructor )
+				.map( f -> f.identifier() )
+				.findFirst()
+				.orElseGet( () -> type.innerType().methods()
+						.filter( m -> m.isPublic() && !m.isStatic()
+								&& m.identifier().equals( parameter.identifier() )
+								&& m.innerCallable().signature().parameters().isEmpty()
+								&& m.innerCallable().returnType() instanceof GroundDataType r
+								&& r.typeConstructor() == constructor )
+						.map( m -> m.identifier() + "()" )
+						.findFirst()
+						.orElse( null ) );
+		if( accessor == null ) {
+			return null;
+		}
+		Universe.PrimitiveTypeTag primitive = parameterType.primitiveTypeTag();
+		if( primitive != null ) {
+			return new Property( accessor, primitive, null, null );
+		}
+		Universe.SpecialTypeTag special = parameterType.specialTypeTag();
+		if( special != null ) {
+			return switch( special ) {
+				case STRING, BOOLEAN, BYTE, CHARACTER, SHORT, INTEGER, LONG, FLOAT, DOUBLE ->
+						new Property( accessor, null, special, null );
+				default -> null;
+			};
+		}
+		if( constructor instanceof HigherClassOrInterface reference ) {
+			return new Property( accessor, null, null, reference );
+		}
+		return null;
+	}
+
+	private String emit( String className, String packageName, String symbol ) {
+		StringBuilder out = new StringBuilder();
+		if( !packageName.isEmpty() ) {
+			out.append( "package " ).append( packageName ).append( ";\n\n" );
+		}
+		out.append( "import " ).append( CODEC_PACKAGE ).append( ".BinaryCodec;\n" )
+				.append( "import " ).append( CODEC_PACKAGE ).append( ".BinaryCodecs;\n" )
+				.append( "import " ).append( CODEC_PACKAGE ).append( ".BinaryInput;\n" )
+				.append( "import " ).append( CODEC_PACKAGE ).append( ".BinaryOutput;\n\n" )
+				.append( "import java.util.List;\n\n" )
+				.append( "/**\n * Binary codecs for the types communicated by {@code " ).append( symbol )
+				.append( "}, generated by the Choral compiler.\n" )
+				.append( " * Use them with {@code new BinaryCodecSerializer( " ).append( className )
+				.append( ".codecs() )}.\n" );
+		if( !fallback.isEmpty() ) {
+			out.append( " * Left to the fallback serializer: " )
+					.append( fallback.stream().map( t -> "{@code " + t + "}" )
+							.collect( Collectors.joining( ", " ) ) )
+					.append( ".\n" );
+		}
+		out.append( " */\n" )
+				.append( "public final class " ).append( className ).append( " {\n\n" )
+				.append( "\tprivate " ).append( className ).append( "() {\n\t}\n\n" )
+				.append( "\tpublic static List< BinaryCodec< ? > > codecs() {\n" )
+				.append( "\t\treturn List.of(" );
+		String separator = "\n\t\t\t\t";
+		for( String codec : codecNames.values() ) {
+			out.append( separator ).append( codec ).append( ".INSTANCE" );
+			separator = ",\n\t\t\t\t";
+		}
+		out.append( "\n\t\t);\n\t}\n" );
+		shapes.forEach( ( type, shape ) -> emitCodec( out, type, shape ) );
+		out.append( "\n}\n" );
+		return out.toString();
+	}
+
+	private void emitCodec( StringBuilder out, HigherClassOrInterface type, Shape shape ) {
+		String name = codecNames.get( type );
+		String javaType = type.identifier( true );
+		out.append( "\n\tpublic static final class " ).append( name )
+				.append( " implements BinaryCodec< " ).append( javaType ).append( " > {\n\n" )
+				.append( "\t\tpublic static final " ).append( name ).append( " INSTANCE = new " )
+				.append( name ).append( "();\n\n" )
+				.append( "\t\t@Override\n\t\tpublic Class< " ).append( javaType ).append( " > type() {\n" )
+				.append( "\t\t\treturn " ).append( javaType ).append( ".class;\n\t\t}\n\n" )
+				.append( "\t\t@Override\n\t\tpublic void encode( " ).append( javaType )
+				.append( " value, BinaryOutput out ) {\n" );
+		if( shape.isEnum ) {
+			out.append( "\t\t\tout.putVarInt( value.ordinal() );\n" );
+		}
+		for( Property property : shape.properties ) {
+			out.append( "\t\t\t" ).append( write( property, "value." + property.accessor ) ).append( ";\n" );
+		}
+		out.append( "\t\t}\n\n" )
+				.append( "\t\t@Override\n\t\tpublic " ).append( javaType ).append( " decode( BinaryInput in ) {\n" );
+		if( shape.isEnum ) {
+			out.append( "\t\t\treturn " ).append( javaType ).append( ".values()[ in.getVarInt() ];\n" );
+		} else {
+			out.append( "\t\t\treturn new " ).append( javaType ).append( "(" );
+			String separator = "\n\t\t\t\t\t";
+			for( Property property : shape.properties ) {
+				out.append( separator ).append( read( property ) );
+				separator = ",\n\t\t\t\t\t";
+			}
+			out.append( "\n\t\t\t);\n" );
+		}
+		out.append( "\t\t}\n\n\t}\n" );
+	}
+
+	private String write( Property property, String value ) {
+		if( property.primitive != null ) {
+			return "out.put" + primitiveMethod( property.primitive ) + "( " + value + " )";
+		}
+		return "out.putNullable( " + value + ", " + codecOf( property ) + " )";
+	}
+
+	private String read( Property property ) {
+		if( property.primitive != null ) {
+			return "in.get" + primitiveMethod( property.primitive ) + "()";
+		}
+		return "in.getNullable( " + codecOf( property ) + " )";
+	}
+
+	private String codecOf( Property property ) {
+		return property.special != null
+				? "BinaryCodecs." + property.special.name()
+				: codecNames.get( property.reference ) + ".INSTANCE";
+	}
+
+	private static String primitiveMethod( Universe.PrimitiveTypeTag tag ) {
+		String name = tag.toString();
+		return Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+	}
+
+	private static final class Shape {
+		private final boolean isEnum;
+		private final List< Property > properties;
+
+		private Shape( boolean isEnum, List< Property > properties ) {
+			this.isEnum = isEnum;
+			this.properties = properties;
+		}
+	}
+
+	private static final class Property {
+		private final String accessor;
+		private final Universe.PrimitiveTypeTag primitive;
+		private final Universe.SpecialTypeTag special;
+		private final HigherClassOrInterface reference;
+
+		private Property(
+				String accessor,
+				Universe.PrimitiveTypeTag primitive,
+				Universe.SpecialTypeTag special,
+				HigherClassOrInterface reference
+		) {
+			this.accessor = accessor;
+			this.primitive = primitive;
+			this.special = special;
+			this.reference = reference;
+		}
+	}
+
+}
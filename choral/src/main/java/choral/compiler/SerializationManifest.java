@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.compiler;
+
+import choral.ast.CompilationUnit;
+import choral.ast.Node;
+import choral.ast.expression.MethodCallExpression;
+import choral.ast.visitors.ChoralVisitor;
+import choral.types.GroundClassOrInterface;
+import choral.types.GroundDataType;
+import choral.types.HigherClassOrInterface;
+import choral.types.HigherInterface;
+import choral.types.HigherReferenceType;
+import choral.types.Member;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Collects the types of the values passed to the {@code com} methods of data channels in a
+ * set of type-checked compilation units, and writes them to a serialization manifest.
+ * The manifest also lists the types of the fields of those classes, transitively, as far
+ * as they are known to the compiler; interfaces and {@code java.lang.Object} are left out,
+ * as they are never the class of a serialized value. The class behind such a type, say the
+ * {@code ArrayList} sent as a {@code List}, is not known here: serializers write it by name.
+ * The manifest lists one qualified class name per line; serializers assign class ids by
+ * position, so every role reading the same manifest agrees on them.
+ * An existing manifest is extended rather than rewritten, which keeps the ids already in use.
+ * Each choreography has its own manifest, at {@link #location(String)}.
+ */
+public class SerializationManifest extends ChoralVisitor {
+
+	public static final String FOLDER = "META-INF/choral/serialization/";
+	public static final String EXTENSION = ".manifest";
+
+	private static final String DATA_CHANNEL = "choral.channels.DiDataChannel";
+	private static final String COM = "com";
+	private static final String OBJECT = "java.lang.Object";
+
+	private final Map< String, HigherClassOrInterface > classes = new TreeMap<>();
+
+	private SerializationManifest() {
+	}
+
+	/**
+	 * The location of the manifest of the choreography with the given qualified name,
+	 * relative to the root of the classpath.
+	 */
+	public static String location( String choreography ) {
+		return FOLDER + choreography + EXTENSION;
+	}
+
+	public static Set< String > collect( Collection< CompilationUnit > annotatedUnits ) {
+		return collectTypes( annotatedUnits ).keySet();
+	}
+
+	/**
+	 * Returns the communicated types, keyed and ordered by qualified name.
+	 */
+	public static Map< String, HigherClassOrInterface > collectTypes(
+			Collection< CompilationUnit > annotatedUnits
+	) {
+		SerializationManifest manifest = new SerializationManifest();
+		annotatedUnits.forEach( manifest::visit );
+		return manifest.classes;
+	}
+
+	/**
+	 * Like {@link #collectTypes(Collection)}, followed by the types of the fields of every
+	 * collected class, transitively, in breadth-first order.
+	 */
+	public static Set< String > collectWithFields( Collection< CompilationUnit > annotatedUnits ) {
+		SerializationManifest manifest = new SerializationManifest();
+		annotatedUnits.forEach( manifest::visit );
+		Set< String > entries = new LinkedHashSet<>( manifest.classes.keySet() );
+		Deque< HigherClassOrInterface > pending = new ArrayDeque<>( manifest.classes.values() );
+		while( !pending.isEmpty() ) {
+			HigherClassOrInterface type = pending.poll();
+			manifest.classes.clear();
+			type.innerType().declaredFields()
+					.filter( f -> !f.isStatic() )
+					.forEach( f -> manifest.addType( f.type() ) );
+			for( HigherClassOrInterface fieldType : manifest.classes.values() ) {
+				if( entries.add( fieldType.identifier( true ) ) ) {
+					pending.add( fieldType );
+				}
+			}
+		}
+		return entries;
+	}
+
+	public static void write(
+			Collection< CompilationUnit > annotatedUnits, Path manifestFile
+	) throws IOException {
+		Set< String > entries = new LinkedHashSet<>();
+		if( Files.exists( manifestFile ) ) {
+			for( String line : Files.readAllLines( manifestFile, StandardCharsets.UTF_8 ) ) {
+				line = line.strip();
+				if( !line.isEmpty() && !line.startsWith( "#" ) ) {
+					entries.add( line );
+				}
+			}
+		}
+		int known = entries.size();
+		entries.addAll( collectWithFields( annotatedUnits ) );
+		if( known == entries.size() && Files.exists( manifestFile ) ) {
+			return;
+		}
+		List< String > lines = new ArrayList<>();
+		lines.add( "# Generated by the Choral compiler, one class per line." );
+		lines.add( "# New entries are appended: reordering lines changes the class ids." );
+		lines.addAll( entries );
+		if( manifestFile.getParent() != null ) {
+			Files.createDirectories( manifestFile.getParent() );
+		}
+		Files.write( manifestFile, lines, StandardCharsets.UTF_8 );
+	}
+
+	@Override
+	public Node visit( MethodCallExpression n ) {
+		if( n.name().identifier().equals( COM ) && n.arguments().size() == 1 ) {
+			n.methodAnnotation()
+					.filter( SerializationManifest::isDataChannelMethod )
+					.ifPresent( m -> addType( m.signature().parameters().get( 0 ).type() ) );
+		}
+		return super.visit( n );
+	}
+
+	private static boolean isDataChannelMethod( Member.GroundMethod method ) {
+		GroundClassOrInterface channel = method.higherCallable().declarationContext();
+		return channel.typeConstructor().identifier( true ).equals( DATA_CHANNEL )
+				|| channel.allExtendedInterfaces().anyMatch(
+				i -> i.typeConstructor().identifier( true ).equals( DATA_CHANNEL ) );
+	}
+
+	private void addType( GroundDataType type ) {
+		if( type instanceof GroundClassOrInterface t ) {
+			add( t.typeConstructor() );
+			for( HigherReferenceType argument : t.typeArguments() ) {
+				if( argument instanceof HigherClassOrInterface a ) {
+					add( a );
+				} else if( argument instanceof GroundDataType a ) {
+					addType( a );
+				}
+			}
+		}
+	}
+
+	private void add( HigherClassOrInterface type ) {
+		if( type instanceof HigherInterface || type.identifier( true ).equals( OBJECT ) ) {
+			return;
+		}
+		classes.put( type.identifier( true ), type );
+	}
+
+}
@@ -29,6 +29,8 @@ import choral.ast.body.*;
 import choral.ast.expression.Expression;
 import choral.ast.expression.FieldAccessExpression;
 import choral.ast.expression.MethodCallExpression;
+import choral.ast.expression.ScopedExpression;
+import choral.ast.expression.ThisExpression;
 import choral.ast.statement.ExpressionStatement;
 import choral.ast.statement.NilStatement;
 import choral.ast.statement.ReturnStatement;
@@ -141,8 +143,12 @@ public class CourtesyMethodsSynthesiser extends AbstractChoralVisitor< Node > {
 					n.modifiers(),
 					n.position()
 			) );
-			MethodCallExpression proxyMethod = new MethodCallExpression( n.signature().name(),
+			Expression proxyMethod = new MethodCallExpression( n.signature().name(),
 					parameterBypass, typeParameters );
+			if( !typeParameters.isEmpty() && !n.modifiers().contains( ClassMethodModifier.STATIC ) ) {
+				// explicit type arguments need a receiver in Java
+				proxyMethod = new ScopedExpression( new ThisExpression(), proxyMethod );
+			}
 			Statement proxyStatement = n.signature().returnType().name().identifier().equals(
 					"void" ) ?
 					new ExpressionStatement( proxyMethod, new NilStatement() )
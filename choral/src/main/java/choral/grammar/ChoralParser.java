@@ -0,0 +1,8508 @@
+// Generated from Choral.g4 by ANTLR 4.9.3
+package choral.grammar;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class ChoralParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.9.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, CLASS=7, ELSE=8, SWITCH=9, 
+		CASE=10, DEFAULT=11, EXTENDS=12, IF=13, IMPLEMENTS=14, PACKAGE=15, IMPORT=16, 
+		INTERFACE=17, ENUM=18, NEW=19, RETURN=20, SUPER=21, THIS=22, TRY=23, CATCH=24, 
+		NULL=25, VOID=26, AMPERSAND=27, IntegerLiteral=28, FloatingPointLiteral=29, 
+		BooleanLiteral=30, CharacterLiteral=31, StringLiteral=32, LPAREN=33, RPAREN=34, 
+		LBRACE=35, RBRACE=36, LBRACK=37, RBRACK=38, LANGLE=39, RANGLE=40, SEMI=41, 
+		COMMA=42, DOT=43, STAR=44, ASSIGN=45, GT_EQUAL=46, LT_EQUAL=47, NOT=48, 
+		COLON=49, EQUAL=50, NOTEQUAL=51, AND=52, OR=53, INC=54, DEC=55, ADD=56, 
+		SUB=57, DIV=58, BITOR=59, MOD=60, ADD_ASSIGN=61, SUB_ASSIGN=62, MUL_ASSIGN=63, 
+		DIV_ASSIGN=64, AND_ASSIGN=65, OR_ASSIGN=66, MOD_ASSIGN=67, CHAIN_ACCESS=68, 
+		RIGHT_ARROW=69, Identifier=70, AT=71, ELLIPSIS=72, WS=73, COMMENT=74, 
+		LINE_COMMENT=75;
+	public static final int
+		RULE_literal = 0, RULE_referenceType = 1, RULE_typeParameter = 2, RULE_worldParameter = 3, 
+		RULE_worldArgument = 4, RULE_worldArguments = 5, RULE_worldArgumentList = 6, 
+		RULE_typeBound = 7, RULE_additionalBound = 8, RULE_typeArguments = 9, 
+		RULE_typeArgumentList = 10, RULE_expressionName = 11, RULE_ambiguousName = 12, 
+		RULE_qualifiedName = 13, RULE_compilationUnit = 14, RULE_headerDeclaration = 15, 
+		RULE_packageDeclaration = 16, RULE_importDeclaration = 17, RULE_typeDeclaration = 18, 
+		RULE_classDeclaration = 19, RULE_classModifier = 20, RULE_worldParameters = 21, 
+		RULE_typeParameters = 22, RULE_typeParameterList = 23, RULE_worldParameterList = 24, 
+		RULE_superInterfaces = 25, RULE_interfaceTypeList = 26, RULE_superClass = 27, 
+		RULE_classBody = 28, RULE_classBodyDeclaration = 29, RULE_classMemberDeclaration = 30, 
+		RULE_fieldDeclaration = 31, RULE_fieldModifier = 32, RULE_methodDeclaration = 33, 
+		RULE_methodModifier = 34, RULE_methodHeader = 35, RULE_result = 36, RULE_formalParameterList = 37, 
+		RULE_formalParameters = 38, RULE_formalParameter = 39, RULE_methodBody = 40, 
+		RULE_constructorDeclaration = 41, RULE_constructorModifier = 42, RULE_constructorDeclarator = 43, 
+		RULE_constructorBody = 44, RULE_explicitConstructorInvocation = 45, RULE_enumDeclaration = 46, 
+		RULE_enumBody = 47, RULE_enumConstantList = 48, RULE_enumConstant = 49, 
+		RULE_interfaceDeclaration = 50, RULE_interfaceModifier = 51, RULE_extendsInterfaces = 52, 
+		RULE_interfaceBody = 53, RULE_interfaceMethodDeclaration = 54, RULE_interfaceMethodModifier = 55, 
+		RULE_annotation = 56, RULE_annotationValues = 57, RULE_block = 58, RULE_blockStatements = 59, 
+		RULE_blockStatement = 60, RULE_localVariableDeclaration = 61, RULE_variableDeclarator = 62, 
+		RULE_statement = 63, RULE_basicStatement = 64, RULE_emptyStatement = 65, 
+		RULE_expressionStatement = 66, RULE_statementExpression = 67, RULE_trailingExpression = 68, 
+		RULE_trailExpression = 69, RULE_thisOrSuperMethodAccess = 70, RULE_chainedExpression = 71, 
+		RULE_chainedInvocation = 72, RULE_chainedMethodInvocation = 73, RULE_chainedStaticMethodInvocation = 74, 
+		RULE_chainedClassInstanceCreation = 75, RULE_methodInvocation = 76, RULE_staticGenericAccess = 77, 
+		RULE_primary = 78, RULE_classInstanceCreationExpression = 79, RULE_enumCaseCreationExpression = 80, 
+		RULE_fieldAccess = 81, RULE_fieldAccess_no_primary = 82, RULE_argumentList = 83, 
+		RULE_ifThenStatement = 84, RULE_ifThenElseStatement = 85, RULE_switchStatement = 86, 
+		RULE_switchBlock = 87, RULE_switchCase = 88, RULE_switchArgs = 89, RULE_tryCatchStatement = 90, 
+		RULE_catchBlock = 91, RULE_returnStatement = 92, RULE_expression = 93, 
+		RULE_assignment = 94, RULE_leftHandSide = 95, RULE_assignmentOperator = 96, 
+		RULE_shortCircuitOrExpression = 97, RULE_shortCircuitAndExpression = 98, 
+		RULE_orExpression = 99, RULE_andExpression = 100, RULE_equalityExpression = 101, 
+		RULE_relationalExpression = 102, RULE_additiveExpression = 103, RULE_multiplicativeExpression = 104, 
+		RULE_unaryExpression = 105, RULE_fwd_chain = 106;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"literal", "referenceType", "typeParameter", "worldParameter", "worldArgument", 
+			"worldArguments", "worldArgumentList", "typeBound", "additionalBound", 
+			"typeArguments", "typeArgumentList", "expressionName", "ambiguousName", 
+			"qualifiedName", "compilationUnit", "headerDeclaration", "packageDeclaration", 
+			"importDeclaration", "typeDeclaration", "classDeclaration", "classModifier", 
+			"worldParameters", "typeParameters", "typeParameterList", "worldParameterList", 
+			"superInterfaces", "interfaceTypeList", "superClass", "classBody", "classBodyDeclaration", 
+			"classMemberDeclaration", "fieldDeclaration", "fieldModifier", "methodDeclaration", 
+			"methodModifier", "methodHeader", "result", "formalParameterList", "formalParameters", 
+			"formalParameter", "methodBody", "constructorDeclaration", "constructorModifier", 
+			"constructorDeclarator", "constructorBody", "explicitConstructorInvocation", 
+			"enumDeclaration", "enumBody", "enumConstantList", "enumConstant", "interfaceDeclaration", 
+			"interfaceModifier", "extendsInterfaces", "interfaceBody", "interfaceMethodDeclaration", 
+			"interfaceMethodModifier", "annotation", "annotationValues", "block", 
+			"blockStatements", "blockStatement", "localVariableDeclaration", "variableDeclarator", 
+			"statement", "basicStatement", "emptyStatement", "expressionStatement", 
+			"statementExpression", "trailingExpression", "trailExpression", "thisOrSuperMethodAccess", 
+			"chainedExpression", "chainedInvocation", "chainedMethodInvocation", 
+			"chainedStaticMethodInvocation", "chainedClassInstanceCreation", "methodInvocation", 
+			"staticGenericAccess", "primary", "classInstanceCreationExpression", 
+			"enumCaseCreationExpression", "fieldAccess", "fieldAccess_no_primary", 
+			"argumentList", "ifThenStatement", "ifThenElseStatement", "switchStatement", 
+			"switchBlock", "switchCase", "switchArgs", "tryCatchStatement", "catchBlock", 
+			"returnStatement", "expression", "assignment", "leftHandSide", "assignmentOperator", 
+			"shortCircuitOrExpression", "shortCircuitAndExpression", "orExpression", 
+			"andExpression", "equalityExpression", "relationalExpression", "additiveExpression", 
+			"multiplicativeExpression", "unaryExpression", "fwd_chain"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'public'", "'protected'", "'private'", "'abstract'", "'static'", 
+			"'final'", "'class'", "'else'", "'switch'", "'case'", "'default'", "'extends'", 
+			"'if'", "'implements'", "'package'", "'import'", "'interface'", "'enum'", 
+			"'new'", "'return'", "'super'", "'this'", "'try'", "'catch'", "'null'", 
+			"'void'", "'&'", null, null, null, null, null, "'('", "')'", "'{'", "'}'", 
+			"'['", "']'", "'<'", "'>'", "';'", "','", "'.'", "'*'", "'='", "'>='", 
+			"'<='", "'!'", "':'", "'=='", "'!='", "'&&'", "'||'", "'++'", "'--'", 
+			"'+'", "'-'", "'/'", "'|'", "'%'", "'+='", "'-='", "'*='", "'/='", "'&='", 
+			"'|='", "'%='", "'::'", "'->'", null, "'@'", "'...'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, "CLASS", "ELSE", "SWITCH", 
+			"CASE", "DEFAULT", "EXTENDS", "IF", "IMPLEMENTS", "PACKAGE", "IMPORT", 
+			"INTERFACE", "ENUM", "NEW", "RETURN", "SUPER", "THIS", "TRY", "CATCH", 
+			"NULL", "VOID", "AMPERSAND", "IntegerLiteral", "FloatingPointLiteral", 
+			"BooleanLiteral", "CharacterLiteral", "StringLiteral", "LPAREN", "RPAREN", 
+			"LBRACE", "RBRACE", "LBRACK", "RBRACK", "LANGLE", "RANGLE", "SEMI", "COMMA", 
+			"DOT", "STAR", "ASSIGN", "GT_EQUAL", "LT_EQUAL", "NOT", "COLON", "EQUAL", 
+			"NOTEQUAL", "AND", "OR", "INC", "DEC", "ADD", "SUB", "DIV", "BITOR", 
+			"MOD", "ADD_ASSIGN", "SUB_ASSIGN", "MUL_ASSIGN", "DIV_ASSIGN", "AND_ASSIGN", 
+			"OR_ASSIGN", "MOD_ASSIGN", "CHAIN_ACCESS", "RIGHT_ARROW", "Identifier", 
+			"AT", "ELLIPSIS", "WS", "COMMENT", "LINE_COMMENT"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Choral.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public ChoralParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class LiteralContext extends ParserRuleContext {
+		public TerminalNode BooleanLiteral() { return getToken(ChoralParser.BooleanLiteral, 0); }
+		public TerminalNode IntegerLiteral() { return getToken(ChoralParser.IntegerLiteral, 0); }
+		public TerminalNode FloatingPointLiteral() { return getToken(ChoralParser.FloatingPointLiteral, 0); }
+		public TerminalNode StringLiteral() { return getToken(ChoralParser.StringLiteral, 0); }
+		public LiteralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_literal; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterLiteral(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitLiteral(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitLiteral(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LiteralContext literal() throws RecognitionException {
+		LiteralContext _localctx = new LiteralContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_literal);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(214);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IntegerLiteral) | (1L << FloatingPointLiteral) | (1L << BooleanLiteral) | (1L << StringLiteral))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReferenceTypeContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldArgumentsContext worldArguments() {
+			return getRuleContext(WorldArgumentsContext.class,0);
+		}
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public ReferenceTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_referenceType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterReferenceType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitReferenceType(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitReferenceType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ReferenceTypeContext referenceType() throws RecognitionException {
+		ReferenceTypeContext _localctx = new ReferenceTypeContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_referenceType);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(216);
+			match(Identifier);
+			setState(218);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==AT) {
+				{
+				setState(217);
+				worldArguments();
+				}
+			}
+
+			setState(221);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(220);
+				typeArguments();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParameterContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldParametersContext worldParameters() {
+			return getRuleContext(WorldParametersContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public TypeBoundContext typeBound() {
+			return getRuleContext(TypeBoundContext.class,0);
+		}
+		public TypeParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeParameterContext typeParameter() throws RecognitionException {
+		TypeParameterContext _localctx = new TypeParameterContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_typeParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(226);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(223);
+				annotation();
+				}
+				}
+				setState(228);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(229);
+			match(Identifier);
+			setState(230);
+			worldParameters();
+			setState(232);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(231);
+				typeBound();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WorldParameterContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_worldParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterWorldParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitWorldParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitWorldParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WorldParameterContext worldParameter() throws RecognitionException {
+		WorldParameterContext _localctx = new WorldParameterContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_worldParameter);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(234);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WorldArgumentContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldArgumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_worldArgument; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterWorldArgument(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitWorldArgument(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitWorldArgument(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WorldArgumentContext worldArgument() throws RecognitionException {
+		WorldArgumentContext _localctx = new WorldArgumentContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_worldArgument);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(236);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WorldArgumentsContext extends ParserRuleContext {
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public WorldArgumentListContext worldArgumentList() {
+			return getRuleContext(WorldArgumentListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public WorldArgumentContext worldArgument() {
+			return getRuleContext(WorldArgumentContext.class,0);
+		}
+		public WorldArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_worldArguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterWorldArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitWorldArguments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitWorldArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WorldArgumentsContext worldArguments() throws RecognitionException {
+		WorldArgumentsContext _localctx = new WorldArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_worldArguments);
+		try {
+			setState(245);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(238);
+				match(AT);
+				setState(239);
+				match(LPAREN);
+				setState(240);
+				worldArgumentList();
+				setState(241);
+				match(RPAREN);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(243);
+				match(AT);
+				setState(244);
+				worldArgument();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WorldArgumentListContext extends ParserRuleContext {
+		public List<WorldArgumentContext> worldArgument() {
+			return getRuleContexts(WorldArgumentContext.class);
+		}
+		public WorldArgumentContext worldArgument(int i) {
+			return getRuleContext(WorldArgumentContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public WorldArgumentListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_worldArgumentList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterWorldArgumentList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitWorldArgumentList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitWorldArgumentList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WorldArgumentListContext worldArgumentList() throws RecognitionException {
+		WorldArgumentListContext _localctx = new WorldArgumentListContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_worldArgumentList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(247);
+			worldArgument();
+			setState(252);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(248);
+				match(COMMA);
+				setState(249);
+				worldArgument();
+				}
+				}
+				setState(254);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeBoundContext extends ParserRuleContext {
+		public TerminalNode EXTENDS() { return getToken(ChoralParser.EXTENDS, 0); }
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public List<AdditionalBoundContext> additionalBound() {
+			return getRuleContexts(AdditionalBoundContext.class);
+		}
+		public AdditionalBoundContext additionalBound(int i) {
+			return getRuleContext(AdditionalBoundContext.class,i);
+		}
+		public TypeBoundContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeBound; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeBound(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeBound(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeBound(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeBoundContext typeBound() throws RecognitionException {
+		TypeBoundContext _localctx = new TypeBoundContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_typeBound);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(255);
+			match(EXTENDS);
+			setState(256);
+			referenceType();
+			setState(260);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AMPERSAND) {
+				{
+				{
+				setState(257);
+				additionalBound();
+				}
+				}
+				setState(262);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AdditionalBoundContext extends ParserRuleContext {
+		public TerminalNode AMPERSAND() { return getToken(ChoralParser.AMPERSAND, 0); }
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public AdditionalBoundContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_additionalBound; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAdditionalBound(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAdditionalBound(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAdditionalBound(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AdditionalBoundContext additionalBound() throws RecognitionException {
+		AdditionalBoundContext _localctx = new AdditionalBoundContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_additionalBound);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(263);
+			match(AMPERSAND);
+			setState(264);
+			referenceType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentsContext extends ParserRuleContext {
+		public TerminalNode LANGLE() { return getToken(ChoralParser.LANGLE, 0); }
+		public TypeArgumentListContext typeArgumentList() {
+			return getRuleContext(TypeArgumentListContext.class,0);
+		}
+		public TerminalNode RANGLE() { return getToken(ChoralParser.RANGLE, 0); }
+		public TypeArgumentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArguments; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeArguments(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeArguments(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeArguments(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentsContext typeArguments() throws RecognitionException {
+		TypeArgumentsContext _localctx = new TypeArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_typeArguments);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(266);
+			match(LANGLE);
+			setState(267);
+			typeArgumentList();
+			setState(268);
+			match(RANGLE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeArgumentListContext extends ParserRuleContext {
+		public List<ReferenceTypeContext> referenceType() {
+			return getRuleContexts(ReferenceTypeContext.class);
+		}
+		public ReferenceTypeContext referenceType(int i) {
+			return getRuleContext(ReferenceTypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public TypeArgumentListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeArgumentList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeArgumentList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeArgumentList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeArgumentList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeArgumentListContext typeArgumentList() throws RecognitionException {
+		TypeArgumentListContext _localctx = new TypeArgumentListContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_typeArgumentList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(270);
+			referenceType();
+			setState(275);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(271);
+				match(COMMA);
+				setState(272);
+				referenceType();
+				}
+				}
+				setState(277);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionNameContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public AmbiguousNameContext ambiguousName() {
+			return getRuleContext(AmbiguousNameContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public ExpressionNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterExpressionName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitExpressionName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitExpressionName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionNameContext expressionName() throws RecognitionException {
+		ExpressionNameContext _localctx = new ExpressionNameContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_expressionName);
+		try {
+			setState(283);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(278);
+				match(Identifier);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(279);
+				ambiguousName(0);
+				setState(280);
+				match(DOT);
+				setState(281);
+				match(Identifier);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AmbiguousNameContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public AmbiguousNameContext ambiguousName() {
+			return getRuleContext(AmbiguousNameContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public AmbiguousNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ambiguousName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAmbiguousName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAmbiguousName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAmbiguousName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AmbiguousNameContext ambiguousName() throws RecognitionException {
+		return ambiguousName(0);
+	}
+
+	private AmbiguousNameContext ambiguousName(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		AmbiguousNameContext _localctx = new AmbiguousNameContext(_ctx, _parentState);
+		AmbiguousNameContext _prevctx = _localctx;
+		int _startState = 24;
+		enterRecursionRule(_localctx, 24, RULE_ambiguousName, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(286);
+			match(Identifier);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(293);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new AmbiguousNameContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_ambiguousName);
+					setState(288);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(289);
+					match(DOT);
+					setState(290);
+					match(Identifier);
+					}
+					} 
+				}
+				setState(295);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class QualifiedNameContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public QualifiedNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_qualifiedName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterQualifiedName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitQualifiedName(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitQualifiedName(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final QualifiedNameContext qualifiedName() throws RecognitionException {
+		return qualifiedName(0);
+	}
+
+	private QualifiedNameContext qualifiedName(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		QualifiedNameContext _localctx = new QualifiedNameContext(_ctx, _parentState);
+		QualifiedNameContext _prevctx = _localctx;
+		int _startState = 26;
+		enterRecursionRule(_localctx, 26, RULE_qualifiedName, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(297);
+			match(Identifier);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(304);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new QualifiedNameContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_qualifiedName);
+					setState(299);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(300);
+					match(DOT);
+					setState(301);
+					match(Identifier);
+					}
+					} 
+				}
+				setState(306);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class CompilationUnitContext extends ParserRuleContext {
+		public HeaderDeclarationContext headerDeclaration() {
+			return getRuleContext(HeaderDeclarationContext.class,0);
+		}
+		public List<TypeDeclarationContext> typeDeclaration() {
+			return getRuleContexts(TypeDeclarationContext.class);
+		}
+		public TypeDeclarationContext typeDeclaration(int i) {
+			return getRuleContext(TypeDeclarationContext.class,i);
+		}
+		public TerminalNode EOF() { return getToken(ChoralParser.EOF, 0); }
+		public CompilationUnitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compilationUnit; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterCompilationUnit(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitCompilationUnit(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitCompilationUnit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CompilationUnitContext compilationUnit() throws RecognitionException {
+		CompilationUnitContext _localctx = new CompilationUnitContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_compilationUnit);
+		int _la;
+		try {
+			setState(315);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(307);
+				headerDeclaration();
+				setState(311);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << CLASS) | (1L << INTERFACE) | (1L << ENUM))) != 0) || _la==AT) {
+					{
+					{
+					setState(308);
+					typeDeclaration();
+					}
+					}
+					setState(313);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(314);
+				match(EOF);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class HeaderDeclarationContext extends ParserRuleContext {
+		public PackageDeclarationContext packageDeclaration() {
+			return getRuleContext(PackageDeclarationContext.class,0);
+		}
+		public List<ImportDeclarationContext> importDeclaration() {
+			return getRuleContexts(ImportDeclarationContext.class);
+		}
+		public ImportDeclarationContext importDeclaration(int i) {
+			return getRuleContext(ImportDeclarationContext.class,i);
+		}
+		public HeaderDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_headerDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterHeaderDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitHeaderDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitHeaderDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final HeaderDeclarationContext headerDeclaration() throws RecognitionException {
+		HeaderDeclarationContext _localctx = new HeaderDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_headerDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(318);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==PACKAGE) {
+				{
+				setState(317);
+				packageDeclaration();
+				}
+			}
+
+			setState(323);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==IMPORT) {
+				{
+				{
+				setState(320);
+				importDeclaration();
+				}
+				}
+				setState(325);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PackageDeclarationContext extends ParserRuleContext {
+		public TerminalNode PACKAGE() { return getToken(ChoralParser.PACKAGE, 0); }
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public PackageDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_packageDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterPackageDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitPackageDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitPackageDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
+		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_packageDeclaration);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(326);
+			match(PACKAGE);
+			setState(327);
+			qualifiedName(0);
+			setState(328);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ImportDeclarationContext extends ParserRuleContext {
+		public TerminalNode IMPORT() { return getToken(ChoralParser.IMPORT, 0); }
+		public QualifiedNameContext qualifiedName() {
+			return getRuleContext(QualifiedNameContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public TerminalNode STAR() { return getToken(ChoralParser.STAR, 0); }
+		public ImportDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_importDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterImportDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitImportDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitImportDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ImportDeclarationContext importDeclaration() throws RecognitionException {
+		ImportDeclarationContext _localctx = new ImportDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_importDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(330);
+			match(IMPORT);
+			setState(331);
+			qualifiedName(0);
+			setState(334);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DOT) {
+				{
+				setState(332);
+				match(DOT);
+				setState(333);
+				match(STAR);
+				}
+			}
+
+			setState(336);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeDeclarationContext extends ParserRuleContext {
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
+		public InterfaceDeclarationContext interfaceDeclaration() {
+			return getRuleContext(InterfaceDeclarationContext.class,0);
+		}
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public TypeDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeDeclarationContext typeDeclaration() throws RecognitionException {
+		TypeDeclarationContext _localctx = new TypeDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_typeDeclaration);
+		try {
+			setState(341);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(338);
+				classDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(339);
+				interfaceDeclaration();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(340);
+				enumDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassDeclarationContext extends ParserRuleContext {
+		public TerminalNode CLASS() { return getToken(ChoralParser.CLASS, 0); }
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldParametersContext worldParameters() {
+			return getRuleContext(WorldParametersContext.class,0);
+		}
+		public ClassBodyContext classBody() {
+			return getRuleContext(ClassBodyContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<ClassModifierContext> classModifier() {
+			return getRuleContexts(ClassModifierContext.class);
+		}
+		public ClassModifierContext classModifier(int i) {
+			return getRuleContext(ClassModifierContext.class,i);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public SuperClassContext superClass() {
+			return getRuleContext(SuperClassContext.class,0);
+		}
+		public SuperInterfacesContext superInterfaces() {
+			return getRuleContext(SuperInterfacesContext.class,0);
+		}
+		public ClassDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterClassDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitClassDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitClassDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
+		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_classDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(346);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(343);
+				annotation();
+				}
+				}
+				setState(348);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(352);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5))) != 0)) {
+				{
+				{
+				setState(349);
+				classModifier();
+				}
+				}
+				setState(354);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(355);
+			match(CLASS);
+			setState(356);
+			match(Identifier);
+			setState(357);
+			worldParameters();
+			setState(359);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(358);
+				typeParameters();
+				}
+			}
+
+			setState(362);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(361);
+				superClass();
+				}
+			}
+
+			setState(365);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==IMPLEMENTS) {
+				{
+				setState(364);
+				superInterfaces();
+				}
+			}
+
+			setState(367);
+			classBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassModifierContext extends ParserRuleContext {
+		public ClassModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterClassModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitClassModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitClassModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassModifierContext classModifier() throws RecognitionException {
+		ClassModifierContext _localctx = new ClassModifierContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_classModifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(369);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WorldParametersContext extends ParserRuleContext {
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public WorldParameterListContext worldParameterList() {
+			return getRuleContext(WorldParameterListContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public WorldParameterContext worldParameter() {
+			return getRuleContext(WorldParameterContext.class,0);
+		}
+		public WorldParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_worldParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterWorldParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitWorldParameters(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitWorldParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WorldParametersContext worldParameters() throws RecognitionException {
+		WorldParametersContext _localctx = new WorldParametersContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_worldParameters);
+		try {
+			setState(378);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(371);
+				match(AT);
+				setState(372);
+				match(LPAREN);
+				setState(373);
+				worldParameterList();
+				setState(374);
+				match(RPAREN);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(376);
+				match(AT);
+				setState(377);
+				worldParameter();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParametersContext extends ParserRuleContext {
+		public TerminalNode LANGLE() { return getToken(ChoralParser.LANGLE, 0); }
+		public TypeParameterListContext typeParameterList() {
+			return getRuleContext(TypeParameterListContext.class,0);
+		}
+		public TerminalNode RANGLE() { return getToken(ChoralParser.RANGLE, 0); }
+		public TypeParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeParameters(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeParametersContext typeParameters() throws RecognitionException {
+		TypeParametersContext _localctx = new TypeParametersContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_typeParameters);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(380);
+			match(LANGLE);
+			setState(381);
+			typeParameterList();
+			setState(382);
+			match(RANGLE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeParameterListContext extends ParserRuleContext {
+		public List<TypeParameterContext> typeParameter() {
+			return getRuleContexts(TypeParameterContext.class);
+		}
+		public TypeParameterContext typeParameter(int i) {
+			return getRuleContext(TypeParameterContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public TypeParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typeParameterList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTypeParameterList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTypeParameterList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTypeParameterList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TypeParameterListContext typeParameterList() throws RecognitionException {
+		TypeParameterListContext _localctx = new TypeParameterListContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_typeParameterList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(384);
+			typeParameter();
+			setState(389);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(385);
+				match(COMMA);
+				setState(386);
+				typeParameter();
+				}
+				}
+				setState(391);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WorldParameterListContext extends ParserRuleContext {
+		public List<WorldParameterContext> worldParameter() {
+			return getRuleContexts(WorldParameterContext.class);
+		}
+		public WorldParameterContext worldParameter(int i) {
+			return getRuleContext(WorldParameterContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public WorldParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_worldParameterList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterWorldParameterList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitWorldParameterList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitWorldParameterList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WorldParameterListContext worldParameterList() throws RecognitionException {
+		WorldParameterListContext _localctx = new WorldParameterListContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_worldParameterList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(392);
+			worldParameter();
+			setState(397);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(393);
+				match(COMMA);
+				setState(394);
+				worldParameter();
+				}
+				}
+				setState(399);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SuperInterfacesContext extends ParserRuleContext {
+		public TerminalNode IMPLEMENTS() { return getToken(ChoralParser.IMPLEMENTS, 0); }
+		public InterfaceTypeListContext interfaceTypeList() {
+			return getRuleContext(InterfaceTypeListContext.class,0);
+		}
+		public SuperInterfacesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_superInterfaces; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterSuperInterfaces(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitSuperInterfaces(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitSuperInterfaces(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SuperInterfacesContext superInterfaces() throws RecognitionException {
+		SuperInterfacesContext _localctx = new SuperInterfacesContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_superInterfaces);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(400);
+			match(IMPLEMENTS);
+			setState(401);
+			interfaceTypeList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceTypeListContext extends ParserRuleContext {
+		public List<ReferenceTypeContext> referenceType() {
+			return getRuleContexts(ReferenceTypeContext.class);
+		}
+		public ReferenceTypeContext referenceType(int i) {
+			return getRuleContext(ReferenceTypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public InterfaceTypeListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceTypeList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterInterfaceTypeList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitInterfaceTypeList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitInterfaceTypeList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceTypeListContext interfaceTypeList() throws RecognitionException {
+		InterfaceTypeListContext _localctx = new InterfaceTypeListContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_interfaceTypeList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(403);
+			referenceType();
+			setState(408);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(404);
+				match(COMMA);
+				setState(405);
+				referenceType();
+				}
+				}
+				setState(410);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SuperClassContext extends ParserRuleContext {
+		public TerminalNode EXTENDS() { return getToken(ChoralParser.EXTENDS, 0); }
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public SuperClassContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_superClass; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterSuperClass(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitSuperClass(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitSuperClass(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SuperClassContext superClass() throws RecognitionException {
+		SuperClassContext _localctx = new SuperClassContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_superClass);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(411);
+			match(EXTENDS);
+			setState(412);
+			referenceType();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ChoralParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ChoralParser.RBRACE, 0); }
+		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
+			return getRuleContexts(ClassBodyDeclarationContext.class);
+		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
+		public ClassBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterClassBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitClassBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitClassBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassBodyContext classBody() throws RecognitionException {
+		ClassBodyContext _localctx = new ClassBodyContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_classBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(414);
+			match(LBRACE);
+			setState(418);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << VOID) | (1L << LANGLE))) != 0) || _la==Identifier || _la==AT) {
+				{
+				{
+				setState(415);
+				classBodyDeclaration();
+				}
+				}
+				setState(420);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(421);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassBodyDeclarationContext extends ParserRuleContext {
+		public ClassMemberDeclarationContext classMemberDeclaration() {
+			return getRuleContext(ClassMemberDeclarationContext.class,0);
+		}
+		public ConstructorDeclarationContext constructorDeclaration() {
+			return getRuleContext(ConstructorDeclarationContext.class,0);
+		}
+		public ClassBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classBodyDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterClassBodyDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitClassBodyDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitClassBodyDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassBodyDeclarationContext classBodyDeclaration() throws RecognitionException {
+		ClassBodyDeclarationContext _localctx = new ClassBodyDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_classBodyDeclaration);
+		try {
+			setState(425);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(423);
+				classMemberDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(424);
+				constructorDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassMemberDeclarationContext extends ParserRuleContext {
+		public FieldDeclarationContext fieldDeclaration() {
+			return getRuleContext(FieldDeclarationContext.class,0);
+		}
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
+		public ClassMemberDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classMemberDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterClassMemberDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitClassMemberDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitClassMemberDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassMemberDeclarationContext classMemberDeclaration() throws RecognitionException {
+		ClassMemberDeclarationContext _localctx = new ClassMemberDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_classMemberDeclaration);
+		try {
+			setState(429);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(427);
+				fieldDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(428);
+				methodDeclaration();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldDeclarationContext extends ParserRuleContext {
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public List<TerminalNode> Identifier() { return getTokens(ChoralParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(ChoralParser.Identifier, i);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<FieldModifierContext> fieldModifier() {
+			return getRuleContexts(FieldModifierContext.class);
+		}
+		public FieldModifierContext fieldModifier(int i) {
+			return getRuleContext(FieldModifierContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public FieldDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFieldDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFieldDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFieldDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldDeclarationContext fieldDeclaration() throws RecognitionException {
+		FieldDeclarationContext _localctx = new FieldDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_fieldDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(434);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(431);
+				annotation();
+				}
+				}
+				setState(436);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(440);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5))) != 0)) {
+				{
+				{
+				setState(437);
+				fieldModifier();
+				}
+				}
+				setState(442);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(443);
+			referenceType();
+			setState(444);
+			match(Identifier);
+			setState(449);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(445);
+				match(COMMA);
+				setState(446);
+				match(Identifier);
+				}
+				}
+				setState(451);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(452);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldModifierContext extends ParserRuleContext {
+		public FieldModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFieldModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFieldModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFieldModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldModifierContext fieldModifier() throws RecognitionException {
+		FieldModifierContext _localctx = new FieldModifierContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_fieldModifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(454);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodDeclarationContext extends ParserRuleContext {
+		public MethodHeaderContext methodHeader() {
+			return getRuleContext(MethodHeaderContext.class,0);
+		}
+		public MethodBodyContext methodBody() {
+			return getRuleContext(MethodBodyContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<MethodModifierContext> methodModifier() {
+			return getRuleContexts(MethodModifierContext.class);
+		}
+		public MethodModifierContext methodModifier(int i) {
+			return getRuleContext(MethodModifierContext.class,i);
+		}
+		public MethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodDeclarationContext methodDeclaration() throws RecognitionException {
+		MethodDeclarationContext _localctx = new MethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_methodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(459);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(456);
+				annotation();
+				}
+				}
+				setState(461);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(465);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5))) != 0)) {
+				{
+				{
+				setState(462);
+				methodModifier();
+				}
+				}
+				setState(467);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(468);
+			methodHeader();
+			setState(469);
+			methodBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodModifierContext extends ParserRuleContext {
+		public MethodModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterMethodModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitMethodModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitMethodModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodModifierContext methodModifier() throws RecognitionException {
+		MethodModifierContext _localctx = new MethodModifierContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_methodModifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(471);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodHeaderContext extends ParserRuleContext {
+		public ResultContext result() {
+			return getRuleContext(ResultContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public MethodHeaderContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodHeader; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterMethodHeader(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitMethodHeader(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitMethodHeader(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodHeaderContext methodHeader() throws RecognitionException {
+		MethodHeaderContext _localctx = new MethodHeaderContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_methodHeader);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(474);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(473);
+				typeParameters();
+				}
+			}
+
+			setState(476);
+			result();
+			setState(477);
+			match(Identifier);
+			setState(478);
+			match(LPAREN);
+			setState(480);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Identifier || _la==AT) {
+				{
+				setState(479);
+				formalParameterList();
+				}
+			}
+
+			setState(482);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ResultContext extends ParserRuleContext {
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public TerminalNode VOID() { return getToken(ChoralParser.VOID, 0); }
+		public ResultContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_result; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterResult(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitResult(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitResult(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ResultContext result() throws RecognitionException {
+		ResultContext _localctx = new ResultContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_result);
+		try {
+			setState(486);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(484);
+				referenceType();
+				}
+				break;
+			case VOID:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(485);
+				match(VOID);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterListContext extends ParserRuleContext {
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
+		public FormalParameterListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameterList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFormalParameterList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFormalParameterList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFormalParameterList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParameterListContext formalParameterList() throws RecognitionException {
+		FormalParameterListContext _localctx = new FormalParameterListContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_formalParameterList);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(488);
+			formalParameters();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParametersContext extends ParserRuleContext {
+		public List<FormalParameterContext> formalParameter() {
+			return getRuleContexts(FormalParameterContext.class);
+		}
+		public FormalParameterContext formalParameter(int i) {
+			return getRuleContext(FormalParameterContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public FormalParametersContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameters; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFormalParameters(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFormalParameters(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFormalParameters(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParametersContext formalParameters() throws RecognitionException {
+		FormalParametersContext _localctx = new FormalParametersContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_formalParameters);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(490);
+			formalParameter();
+			setState(495);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(491);
+				match(COMMA);
+				setState(492);
+				formalParameter();
+				}
+				}
+				setState(497);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FormalParameterContext extends ParserRuleContext {
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public FormalParameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_formalParameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFormalParameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFormalParameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFormalParameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FormalParameterContext formalParameter() throws RecognitionException {
+		FormalParameterContext _localctx = new FormalParameterContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_formalParameter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(501);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(498);
+				annotation();
+				}
+				}
+				setState(503);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(504);
+			referenceType();
+			setState(505);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodBodyContext extends ParserRuleContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public MethodBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterMethodBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitMethodBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitMethodBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodBodyContext methodBody() throws RecognitionException {
+		MethodBodyContext _localctx = new MethodBodyContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_methodBody);
+		try {
+			setState(509);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LBRACE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(507);
+				block();
+				}
+				break;
+			case SEMI:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(508);
+				match(SEMI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorDeclarationContext extends ParserRuleContext {
+		public ConstructorDeclaratorContext constructorDeclarator() {
+			return getRuleContext(ConstructorDeclaratorContext.class,0);
+		}
+		public ConstructorBodyContext constructorBody() {
+			return getRuleContext(ConstructorBodyContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<ConstructorModifierContext> constructorModifier() {
+			return getRuleContexts(ConstructorModifierContext.class);
+		}
+		public ConstructorModifierContext constructorModifier(int i) {
+			return getRuleContext(ConstructorModifierContext.class,i);
+		}
+		public ConstructorDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterConstructorDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitConstructorDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitConstructorDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstructorDeclarationContext constructorDeclaration() throws RecognitionException {
+		ConstructorDeclarationContext _localctx = new ConstructorDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_constructorDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(514);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(511);
+				annotation();
+				}
+				}
+				setState(516);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(520);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2))) != 0)) {
+				{
+				{
+				setState(517);
+				constructorModifier();
+				}
+				}
+				setState(522);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(523);
+			constructorDeclarator();
+			setState(524);
+			constructorBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorModifierContext extends ParserRuleContext {
+		public ConstructorModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterConstructorModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitConstructorModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitConstructorModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstructorModifierContext constructorModifier() throws RecognitionException {
+		ConstructorModifierContext _localctx = new ConstructorModifierContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_constructorModifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(526);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorDeclaratorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public FormalParameterListContext formalParameterList() {
+			return getRuleContext(FormalParameterListContext.class,0);
+		}
+		public ConstructorDeclaratorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorDeclarator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterConstructorDeclarator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitConstructorDeclarator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitConstructorDeclarator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstructorDeclaratorContext constructorDeclarator() throws RecognitionException {
+		ConstructorDeclaratorContext _localctx = new ConstructorDeclaratorContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_constructorDeclarator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(529);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(528);
+				typeParameters();
+				}
+			}
+
+			setState(531);
+			match(Identifier);
+			setState(532);
+			match(LPAREN);
+			setState(534);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Identifier || _la==AT) {
+				{
+				setState(533);
+				formalParameterList();
+				}
+			}
+
+			setState(536);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConstructorBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ChoralParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ChoralParser.RBRACE, 0); }
+		public ExplicitConstructorInvocationContext explicitConstructorInvocation() {
+			return getRuleContext(ExplicitConstructorInvocationContext.class,0);
+		}
+		public BlockStatementsContext blockStatements() {
+			return getRuleContext(BlockStatementsContext.class,0);
+		}
+		public ConstructorBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constructorBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterConstructorBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitConstructorBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitConstructorBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstructorBodyContext constructorBody() throws RecognitionException {
+		ConstructorBodyContext _localctx = new ConstructorBodyContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_constructorBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(538);
+			match(LBRACE);
+			setState(540);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+			case 1:
+				{
+				setState(539);
+				explicitConstructorInvocation();
+				}
+				break;
+			}
+			setState(543);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 9)) & ~0x3f) == 0 && ((1L << (_la - 9)) & ((1L << (SWITCH - 9)) | (1L << (IF - 9)) | (1L << (NEW - 9)) | (1L << (RETURN - 9)) | (1L << (SUPER - 9)) | (1L << (THIS - 9)) | (1L << (TRY - 9)) | (1L << (NULL - 9)) | (1L << (IntegerLiteral - 9)) | (1L << (FloatingPointLiteral - 9)) | (1L << (BooleanLiteral - 9)) | (1L << (StringLiteral - 9)) | (1L << (LPAREN - 9)) | (1L << (LBRACE - 9)) | (1L << (LANGLE - 9)) | (1L << (SEMI - 9)) | (1L << (NOT - 9)) | (1L << (Identifier - 9)) | (1L << (AT - 9)))) != 0)) {
+				{
+				setState(542);
+				blockStatements();
+				}
+			}
+
+			setState(545);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExplicitConstructorInvocationContext extends ParserRuleContext {
+		public TerminalNode THIS() { return getToken(ChoralParser.THIS, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public ArgumentListContext argumentList() {
+			return getRuleContext(ArgumentListContext.class,0);
+		}
+		public TerminalNode SUPER() { return getToken(ChoralParser.SUPER, 0); }
+		public ExplicitConstructorInvocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_explicitConstructorInvocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterExplicitConstructorInvocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitExplicitConstructorInvocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitExplicitConstructorInvocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExplicitConstructorInvocationContext explicitConstructorInvocation() throws RecognitionException {
+		ExplicitConstructorInvocationContext _localctx = new ExplicitConstructorInvocationContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_explicitConstructorInvocation);
+		int _la;
+		try {
+			setState(567);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(548);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LANGLE) {
+					{
+					setState(547);
+					typeArguments();
+					}
+				}
+
+				setState(550);
+				match(THIS);
+				setState(551);
+				match(LPAREN);
+				setState(553);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (((((_la - 19)) & ~0x3f) == 0 && ((1L << (_la - 19)) & ((1L << (NEW - 19)) | (1L << (SUPER - 19)) | (1L << (THIS - 19)) | (1L << (NULL - 19)) | (1L << (IntegerLiteral - 19)) | (1L << (FloatingPointLiteral - 19)) | (1L << (BooleanLiteral - 19)) | (1L << (StringLiteral - 19)) | (1L << (LPAREN - 19)) | (1L << (LANGLE - 19)) | (1L << (NOT - 19)) | (1L << (Identifier - 19)))) != 0)) {
+					{
+					setState(552);
+					argumentList();
+					}
+				}
+
+				setState(555);
+				match(RPAREN);
+				setState(556);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(558);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LANGLE) {
+					{
+					setState(557);
+					typeArguments();
+					}
+				}
+
+				setState(560);
+				match(SUPER);
+				setState(561);
+				match(LPAREN);
+				setState(563);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (((((_la - 19)) & ~0x3f) == 0 && ((1L << (_la - 19)) & ((1L << (NEW - 19)) | (1L << (SUPER - 19)) | (1L << (THIS - 19)) | (1L << (NULL - 19)) | (1L << (IntegerLiteral - 19)) | (1L << (FloatingPointLiteral - 19)) | (1L << (BooleanLiteral - 19)) | (1L << (StringLiteral - 19)) | (1L << (LPAREN - 19)) | (1L << (LANGLE - 19)) | (1L << (NOT - 19)) | (1L << (Identifier - 19)))) != 0)) {
+					{
+					setState(562);
+					argumentList();
+					}
+				}
+
+				setState(565);
+				match(RPAREN);
+				setState(566);
+				match(SEMI);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumDeclarationContext extends ParserRuleContext {
+		public TerminalNode ENUM() { return getToken(ChoralParser.ENUM, 0); }
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public WorldParameterContext worldParameter() {
+			return getRuleContext(WorldParameterContext.class,0);
+		}
+		public EnumBodyContext enumBody() {
+			return getRuleContext(EnumBodyContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<ClassModifierContext> classModifier() {
+			return getRuleContexts(ClassModifierContext.class);
+		}
+		public ClassModifierContext classModifier(int i) {
+			return getRuleContext(ClassModifierContext.class,i);
+		}
+		public EnumDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEnumDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEnumDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEnumDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumDeclarationContext enumDeclaration() throws RecognitionException {
+		EnumDeclarationContext _localctx = new EnumDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_enumDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(572);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(569);
+				annotation();
+				}
+				}
+				setState(574);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(578);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5))) != 0)) {
+				{
+				{
+				setState(575);
+				classModifier();
+				}
+				}
+				setState(580);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(581);
+			match(ENUM);
+			setState(582);
+			match(Identifier);
+			setState(583);
+			match(AT);
+			setState(584);
+			worldParameter();
+			setState(585);
+			enumBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ChoralParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ChoralParser.RBRACE, 0); }
+		public EnumConstantListContext enumConstantList() {
+			return getRuleContext(EnumConstantListContext.class,0);
+		}
+		public EnumBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEnumBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEnumBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEnumBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumBodyContext enumBody() throws RecognitionException {
+		EnumBodyContext _localctx = new EnumBodyContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_enumBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(587);
+			match(LBRACE);
+			setState(589);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Identifier || _la==AT) {
+				{
+				setState(588);
+				enumConstantList();
+				}
+			}
+
+			setState(591);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantListContext extends ParserRuleContext {
+		public List<EnumConstantContext> enumConstant() {
+			return getRuleContexts(EnumConstantContext.class);
+		}
+		public EnumConstantContext enumConstant(int i) {
+			return getRuleContext(EnumConstantContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public EnumConstantListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstantList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEnumConstantList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEnumConstantList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEnumConstantList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumConstantListContext enumConstantList() throws RecognitionException {
+		EnumConstantListContext _localctx = new EnumConstantListContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_enumConstantList);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(593);
+			enumConstant();
+			setState(598);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(594);
+				match(COMMA);
+				setState(595);
+				enumConstant();
+				}
+				}
+				setState(600);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumConstantContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public EnumConstantContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumConstant; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEnumConstant(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEnumConstant(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEnumConstant(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumConstantContext enumConstant() throws RecognitionException {
+		EnumConstantContext _localctx = new EnumConstantContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_enumConstant);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(604);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(601);
+				annotation();
+				}
+				}
+				setState(606);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(607);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceDeclarationContext extends ParserRuleContext {
+		public TerminalNode INTERFACE() { return getToken(ChoralParser.INTERFACE, 0); }
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldParametersContext worldParameters() {
+			return getRuleContext(WorldParametersContext.class,0);
+		}
+		public InterfaceBodyContext interfaceBody() {
+			return getRuleContext(InterfaceBodyContext.class,0);
+		}
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<InterfaceModifierContext> interfaceModifier() {
+			return getRuleContexts(InterfaceModifierContext.class);
+		}
+		public InterfaceModifierContext interfaceModifier(int i) {
+			return getRuleContext(InterfaceModifierContext.class,i);
+		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
+		public ExtendsInterfacesContext extendsInterfaces() {
+			return getRuleContext(ExtendsInterfacesContext.class,0);
+		}
+		public InterfaceDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterInterfaceDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitInterfaceDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitInterfaceDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceDeclarationContext interfaceDeclaration() throws RecognitionException {
+		InterfaceDeclarationContext _localctx = new InterfaceDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_interfaceDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(612);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(609);
+				annotation();
+				}
+				}
+				setState(614);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(618);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4))) != 0)) {
+				{
+				{
+				setState(615);
+				interfaceModifier();
+				}
+				}
+				setState(620);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(621);
+			match(INTERFACE);
+			setState(622);
+			match(Identifier);
+			setState(623);
+			worldParameters();
+			setState(625);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(624);
+				typeParameters();
+				}
+			}
+
+			setState(628);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXTENDS) {
+				{
+				setState(627);
+				extendsInterfaces();
+				}
+			}
+
+			setState(630);
+			interfaceBody();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceModifierContext extends ParserRuleContext {
+		public InterfaceModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterInterfaceModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitInterfaceModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitInterfaceModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceModifierContext interfaceModifier() throws RecognitionException {
+		InterfaceModifierContext _localctx = new InterfaceModifierContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_interfaceModifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(632);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExtendsInterfacesContext extends ParserRuleContext {
+		public TerminalNode EXTENDS() { return getToken(ChoralParser.EXTENDS, 0); }
+		public InterfaceTypeListContext interfaceTypeList() {
+			return getRuleContext(InterfaceTypeListContext.class,0);
+		}
+		public ExtendsInterfacesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_extendsInterfaces; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterExtendsInterfaces(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitExtendsInterfaces(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitExtendsInterfaces(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExtendsInterfacesContext extendsInterfaces() throws RecognitionException {
+		ExtendsInterfacesContext _localctx = new ExtendsInterfacesContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_extendsInterfaces);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(634);
+			match(EXTENDS);
+			setState(635);
+			interfaceTypeList();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceBodyContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ChoralParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ChoralParser.RBRACE, 0); }
+		public List<InterfaceMethodDeclarationContext> interfaceMethodDeclaration() {
+			return getRuleContexts(InterfaceMethodDeclarationContext.class);
+		}
+		public InterfaceMethodDeclarationContext interfaceMethodDeclaration(int i) {
+			return getRuleContext(InterfaceMethodDeclarationContext.class,i);
+		}
+		public InterfaceBodyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceBody; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterInterfaceBody(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitInterfaceBody(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitInterfaceBody(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceBodyContext interfaceBody() throws RecognitionException {
+		InterfaceBodyContext _localctx = new InterfaceBodyContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_interfaceBody);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(637);
+			match(LBRACE);
+			setState(641);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__3) | (1L << VOID) | (1L << LANGLE))) != 0) || _la==Identifier || _la==AT) {
+				{
+				{
+				setState(638);
+				interfaceMethodDeclaration();
+				}
+				}
+				setState(643);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(644);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceMethodDeclarationContext extends ParserRuleContext {
+		public MethodHeaderContext methodHeader() {
+			return getRuleContext(MethodHeaderContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<InterfaceMethodModifierContext> interfaceMethodModifier() {
+			return getRuleContexts(InterfaceMethodModifierContext.class);
+		}
+		public InterfaceMethodModifierContext interfaceMethodModifier(int i) {
+			return getRuleContext(InterfaceMethodModifierContext.class,i);
+		}
+		public InterfaceMethodDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceMethodDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterInterfaceMethodDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitInterfaceMethodDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitInterfaceMethodDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceMethodDeclarationContext interfaceMethodDeclaration() throws RecognitionException {
+		InterfaceMethodDeclarationContext _localctx = new InterfaceMethodDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_interfaceMethodDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(649);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(646);
+				annotation();
+				}
+				}
+				setState(651);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(655);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__0 || _la==T__3) {
+				{
+				{
+				setState(652);
+				interfaceMethodModifier();
+				}
+				}
+				setState(657);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(658);
+			methodHeader();
+			setState(659);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InterfaceMethodModifierContext extends ParserRuleContext {
+		public InterfaceMethodModifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_interfaceMethodModifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterInterfaceMethodModifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitInterfaceMethodModifier(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitInterfaceMethodModifier(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InterfaceMethodModifierContext interfaceMethodModifier() throws RecognitionException {
+		InterfaceMethodModifierContext _localctx = new InterfaceMethodModifierContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_interfaceMethodModifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(661);
+			_la = _input.LA(1);
+			if ( !(_la==T__0 || _la==T__3) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationContext extends ParserRuleContext {
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public AnnotationValuesContext annotationValues() {
+			return getRuleContext(AnnotationValuesContext.class,0);
+		}
+		public AnnotationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAnnotation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAnnotation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAnnotation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationContext annotation() throws RecognitionException {
+		AnnotationContext _localctx = new AnnotationContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_annotation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(663);
+			match(AT);
+			setState(664);
+			match(Identifier);
+			setState(672);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(665);
+				match(LPAREN);
+				setState(668);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case IntegerLiteral:
+				case FloatingPointLiteral:
+				case BooleanLiteral:
+				case StringLiteral:
+					{
+					setState(666);
+					literal();
+					}
+					break;
+				case Identifier:
+					{
+					setState(667);
+					annotationValues();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(670);
+				match(RPAREN);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AnnotationValuesContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode ASSIGN() { return getToken(ChoralParser.ASSIGN, 0); }
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public TerminalNode COMMA() { return getToken(ChoralParser.COMMA, 0); }
+		public AnnotationValuesContext annotationValues() {
+			return getRuleContext(AnnotationValuesContext.class,0);
+		}
+		public AnnotationValuesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_annotationValues; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAnnotationValues(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAnnotationValues(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAnnotationValues(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AnnotationValuesContext annotationValues() throws RecognitionException {
+		AnnotationValuesContext _localctx = new AnnotationValuesContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_annotationValues);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(674);
+			match(Identifier);
+			setState(675);
+			match(ASSIGN);
+			setState(676);
+			literal();
+			setState(679);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(677);
+				match(COMMA);
+				setState(678);
+				annotationValues();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ChoralParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ChoralParser.RBRACE, 0); }
+		public BlockStatementsContext blockStatements() {
+			return getRuleContext(BlockStatementsContext.class,0);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_block);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(681);
+			match(LBRACE);
+			setState(683);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 9)) & ~0x3f) == 0 && ((1L << (_la - 9)) & ((1L << (SWITCH - 9)) | (1L << (IF - 9)) | (1L << (NEW - 9)) | (1L << (RETURN - 9)) | (1L << (SUPER - 9)) | (1L << (THIS - 9)) | (1L << (TRY - 9)) | (1L << (NULL - 9)) | (1L << (IntegerLiteral - 9)) | (1L << (FloatingPointLiteral - 9)) | (1L << (BooleanLiteral - 9)) | (1L << (StringLiteral - 9)) | (1L << (LPAREN - 9)) | (1L << (LBRACE - 9)) | (1L << (LANGLE - 9)) | (1L << (SEMI - 9)) | (1L << (NOT - 9)) | (1L << (Identifier - 9)) | (1L << (AT - 9)))) != 0)) {
+				{
+				setState(682);
+				blockStatements();
+				}
+			}
+
+			setState(685);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockStatementsContext extends ParserRuleContext {
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
+		}
+		public BlockStatementsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_blockStatements; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterBlockStatements(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitBlockStatements(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitBlockStatements(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockStatementsContext blockStatements() throws RecognitionException {
+		BlockStatementsContext _localctx = new BlockStatementsContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_blockStatements);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(688); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(687);
+				blockStatement();
+				}
+				}
+				setState(690); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( ((((_la - 9)) & ~0x3f) == 0 && ((1L << (_la - 9)) & ((1L << (SWITCH - 9)) | (1L << (IF - 9)) | (1L << (NEW - 9)) | (1L << (RETURN - 9)) | (1L << (SUPER - 9)) | (1L << (THIS - 9)) | (1L << (TRY - 9)) | (1L << (NULL - 9)) | (1L << (IntegerLiteral - 9)) | (1L << (FloatingPointLiteral - 9)) | (1L << (BooleanLiteral - 9)) | (1L << (StringLiteral - 9)) | (1L << (LPAREN - 9)) | (1L << (LBRACE - 9)) | (1L << (LANGLE - 9)) | (1L << (SEMI - 9)) | (1L << (NOT - 9)) | (1L << (Identifier - 9)) | (1L << (AT - 9)))) != 0) );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BlockStatementContext extends ParserRuleContext {
+		public LocalVariableDeclarationContext localVariableDeclaration() {
+			return getRuleContext(LocalVariableDeclarationContext.class,0);
+		}
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
+		public BlockStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_blockStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterBlockStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitBlockStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitBlockStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockStatementContext blockStatement() throws RecognitionException {
+		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_blockStatement);
+		try {
+			setState(695);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(692);
+				localVariableDeclaration();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(693);
+				block();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(694);
+				statement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LocalVariableDeclarationContext extends ParserRuleContext {
+		public ReferenceTypeContext referenceType() {
+			return getRuleContext(ReferenceTypeContext.class,0);
+		}
+		public List<VariableDeclaratorContext> variableDeclarator() {
+			return getRuleContexts(VariableDeclaratorContext.class);
+		}
+		public VariableDeclaratorContext variableDeclarator(int i) {
+			return getRuleContext(VariableDeclaratorContext.class,i);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public List<AnnotationContext> annotation() {
+			return getRuleContexts(AnnotationContext.class);
+		}
+		public AnnotationContext annotation(int i) {
+			return getRuleContext(AnnotationContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public LocalVariableDeclarationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_localVariableDeclaration; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterLocalVariableDeclaration(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitLocalVariableDeclaration(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitLocalVariableDeclaration(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LocalVariableDeclarationContext localVariableDeclaration() throws RecognitionException {
+		LocalVariableDeclarationContext _localctx = new LocalVariableDeclarationContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_localVariableDeclaration);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(700);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==AT) {
+				{
+				{
+				setState(697);
+				annotation();
+				}
+				}
+				setState(702);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(703);
+			referenceType();
+			setState(704);
+			variableDeclarator();
+			setState(709);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(705);
+				match(COMMA);
+				setState(706);
+				variableDeclarator();
+				}
+				}
+				setState(711);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(712);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VariableDeclaratorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode ASSIGN() { return getToken(ChoralParser.ASSIGN, 0); }
+		public ShortCircuitOrExpressionContext shortCircuitOrExpression() {
+			return getRuleContext(ShortCircuitOrExpressionContext.class,0);
+		}
+		public ChainedExpressionContext chainedExpression() {
+			return getRuleContext(ChainedExpressionContext.class,0);
+		}
+		public VariableDeclaratorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_variableDeclarator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterVariableDeclarator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitVariableDeclarator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitVariableDeclarator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VariableDeclaratorContext variableDeclarator() throws RecognitionException {
+		VariableDeclaratorContext _localctx = new VariableDeclaratorContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_variableDeclarator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(714);
+			match(Identifier);
+			setState(720);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==ASSIGN) {
+				{
+				setState(715);
+				match(ASSIGN);
+				setState(716);
+				shortCircuitOrExpression(0);
+				setState(718);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==RANGLE) {
+					{
+					setState(717);
+					chainedExpression();
+					}
+				}
+
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementContext extends ParserRuleContext {
+		public BasicStatementContext basicStatement() {
+			return getRuleContext(BasicStatementContext.class,0);
+		}
+		public IfThenStatementContext ifThenStatement() {
+			return getRuleContext(IfThenStatementContext.class,0);
+		}
+		public IfThenElseStatementContext ifThenElseStatement() {
+			return getRuleContext(IfThenElseStatementContext.class,0);
+		}
+		public SwitchStatementContext switchStatement() {
+			return getRuleContext(SwitchStatementContext.class,0);
+		}
+		public TryCatchStatementContext tryCatchStatement() {
+			return getRuleContext(TryCatchStatementContext.class,0);
+		}
+		public StatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementContext statement() throws RecognitionException {
+		StatementContext _localctx = new StatementContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_statement);
+		try {
+			setState(727);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(722);
+				basicStatement();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(723);
+				ifThenStatement();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(724);
+				ifThenElseStatement();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(725);
+				switchStatement();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(726);
+				tryCatchStatement();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BasicStatementContext extends ParserRuleContext {
+		public EmptyStatementContext emptyStatement() {
+			return getRuleContext(EmptyStatementContext.class,0);
+		}
+		public ExpressionStatementContext expressionStatement() {
+			return getRuleContext(ExpressionStatementContext.class,0);
+		}
+		public ReturnStatementContext returnStatement() {
+			return getRuleContext(ReturnStatementContext.class,0);
+		}
+		public BasicStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_basicStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterBasicStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitBasicStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitBasicStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BasicStatementContext basicStatement() throws RecognitionException {
+		BasicStatementContext _localctx = new BasicStatementContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_basicStatement);
+		try {
+			setState(732);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case SEMI:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(729);
+				emptyStatement();
+				}
+				break;
+			case NEW:
+			case SUPER:
+			case THIS:
+			case NULL:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case StringLiteral:
+			case LPAREN:
+			case LANGLE:
+			case NOT:
+			case Identifier:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(730);
+				expressionStatement();
+				}
+				break;
+			case RETURN:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(731);
+				returnStatement();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EmptyStatementContext extends ParserRuleContext {
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public EmptyStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_emptyStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEmptyStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEmptyStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEmptyStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EmptyStatementContext emptyStatement() throws RecognitionException {
+		EmptyStatementContext _localctx = new EmptyStatementContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_emptyStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(734);
+			match(SEMI);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionStatementContext extends ParserRuleContext {
+		public StatementExpressionContext statementExpression() {
+			return getRuleContext(StatementExpressionContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ChainedExpressionContext chainedExpression() {
+			return getRuleContext(ChainedExpressionContext.class,0);
+		}
+		public ExpressionStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expressionStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterExpressionStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitExpressionStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitExpressionStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionStatementContext expressionStatement() throws RecognitionException {
+		ExpressionStatementContext _localctx = new ExpressionStatementContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_expressionStatement);
+		try {
+			setState(743);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(736);
+				statementExpression();
+				setState(737);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(739);
+				expression();
+				setState(740);
+				chainedExpression();
+				setState(741);
+				match(SEMI);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StatementExpressionContext extends ParserRuleContext {
+		public AssignmentContext assignment() {
+			return getRuleContext(AssignmentContext.class,0);
+		}
+		public TrailingExpressionContext trailingExpression() {
+			return getRuleContext(TrailingExpressionContext.class,0);
+		}
+		public StatementExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_statementExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterStatementExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitStatementExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitStatementExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StatementExpressionContext statementExpression() throws RecognitionException {
+		StatementExpressionContext _localctx = new StatementExpressionContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_statementExpression);
+		try {
+			setState(747);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(745);
+				assignment();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(746);
+				trailingExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TrailingExpressionContext extends ParserRuleContext {
+		public FieldAccessContext fieldAccess() {
+			return getRuleContext(FieldAccessContext.class,0);
+		}
+		public MethodInvocationContext methodInvocation() {
+			return getRuleContext(MethodInvocationContext.class,0);
+		}
+		public ClassInstanceCreationExpressionContext classInstanceCreationExpression() {
+			return getRuleContext(ClassInstanceCreationExpressionContext.class,0);
+		}
+		public StaticGenericAccessContext staticGenericAccess() {
+			return getRuleContext(StaticGenericAccessContext.class,0);
+		}
+		public ThisOrSuperMethodAccessContext thisOrSuperMethodAccess() {
+			return getRuleContext(ThisOrSuperMethodAccessContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public TrailExpressionContext trailExpression() {
+			return getRuleContext(TrailExpressionContext.class,0);
+		}
+		public TrailingExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_trailingExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTrailingExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTrailingExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTrailingExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TrailingExpressionContext trailingExpression() throws RecognitionException {
+		TrailingExpressionContext _localctx = new TrailingExpressionContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_trailingExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(754);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
+			case 1:
+				{
+				setState(749);
+				fieldAccess();
+				}
+				break;
+			case 2:
+				{
+				setState(750);
+				methodInvocation();
+				}
+				break;
+			case 3:
+				{
+				setState(751);
+				classInstanceCreationExpression();
+				}
+				break;
+			case 4:
+				{
+				setState(752);
+				staticGenericAccess();
+				}
+				break;
+			case 5:
+				{
+				setState(753);
+				thisOrSuperMethodAccess();
+				}
+				break;
+			}
+			setState(758);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
+			case 1:
+				{
+				setState(756);
+				match(DOT);
+				setState(757);
+				trailExpression();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TrailExpressionContext extends ParserRuleContext {
+		public FieldAccess_no_primaryContext fieldAccess_no_primary() {
+			return getRuleContext(FieldAccess_no_primaryContext.class,0);
+		}
+		public MethodInvocationContext methodInvocation() {
+			return getRuleContext(MethodInvocationContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public TrailExpressionContext trailExpression() {
+			return getRuleContext(TrailExpressionContext.class,0);
+		}
+		public TrailExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_trailExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTrailExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTrailExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTrailExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TrailExpressionContext trailExpression() throws RecognitionException {
+		TrailExpressionContext _localctx = new TrailExpressionContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_trailExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(762);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
+			case 1:
+				{
+				setState(760);
+				fieldAccess_no_primary();
+				}
+				break;
+			case 2:
+				{
+				setState(761);
+				methodInvocation();
+				}
+				break;
+			}
+			setState(766);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
+			case 1:
+				{
+				setState(764);
+				match(DOT);
+				setState(765);
+				trailExpression();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ThisOrSuperMethodAccessContext extends ParserRuleContext {
+		public Token thisSymbol;
+		public Token superSymbol;
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public MethodInvocationContext methodInvocation() {
+			return getRuleContext(MethodInvocationContext.class,0);
+		}
+		public TerminalNode THIS() { return getToken(ChoralParser.THIS, 0); }
+		public TerminalNode SUPER() { return getToken(ChoralParser.SUPER, 0); }
+		public ThisOrSuperMethodAccessContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_thisOrSuperMethodAccess; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterThisOrSuperMethodAccess(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitThisOrSuperMethodAccess(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitThisOrSuperMethodAccess(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ThisOrSuperMethodAccessContext thisOrSuperMethodAccess() throws RecognitionException {
+		ThisOrSuperMethodAccessContext _localctx = new ThisOrSuperMethodAccessContext(_ctx, getState());
+		enterRule(_localctx, 140, RULE_thisOrSuperMethodAccess);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(770);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case THIS:
+				{
+				setState(768);
+				((ThisOrSuperMethodAccessContext)_localctx).thisSymbol = match(THIS);
+				}
+				break;
+			case SUPER:
+				{
+				setState(769);
+				((ThisOrSuperMethodAccessContext)_localctx).superSymbol = match(SUPER);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(772);
+			match(DOT);
+			setState(773);
+			methodInvocation();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChainedExpressionContext extends ParserRuleContext {
+		public List<Fwd_chainContext> fwd_chain() {
+			return getRuleContexts(Fwd_chainContext.class);
+		}
+		public Fwd_chainContext fwd_chain(int i) {
+			return getRuleContext(Fwd_chainContext.class,i);
+		}
+		public List<ChainedInvocationContext> chainedInvocation() {
+			return getRuleContexts(ChainedInvocationContext.class);
+		}
+		public ChainedInvocationContext chainedInvocation(int i) {
+			return getRuleContext(ChainedInvocationContext.class,i);
+		}
+		public ChainedExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_chainedExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterChainedExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitChainedExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitChainedExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChainedExpressionContext chainedExpression() throws RecognitionException {
+		ChainedExpressionContext _localctx = new ChainedExpressionContext(_ctx, getState());
+		enterRule(_localctx, 142, RULE_chainedExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(775);
+			fwd_chain();
+			setState(776);
+			chainedInvocation();
+			setState(782);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==RANGLE) {
+				{
+				{
+				setState(777);
+				fwd_chain();
+				setState(778);
+				chainedInvocation();
+				}
+				}
+				setState(784);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChainedInvocationContext extends ParserRuleContext {
+		public ChainedClassInstanceCreationContext chainedClassInstanceCreation() {
+			return getRuleContext(ChainedClassInstanceCreationContext.class,0);
+		}
+		public ChainedStaticMethodInvocationContext chainedStaticMethodInvocation() {
+			return getRuleContext(ChainedStaticMethodInvocationContext.class,0);
+		}
+		public ChainedMethodInvocationContext chainedMethodInvocation() {
+			return getRuleContext(ChainedMethodInvocationContext.class,0);
+		}
+		public ChainedInvocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_chainedInvocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterChainedInvocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitChainedInvocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitChainedInvocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChainedInvocationContext chainedInvocation() throws RecognitionException {
+		ChainedInvocationContext _localctx = new ChainedInvocationContext(_ctx, getState());
+		enterRule(_localctx, 144, RULE_chainedInvocation);
+		try {
+			setState(788);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(785);
+				chainedClassInstanceCreation();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(786);
+				chainedStaticMethodInvocation();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(787);
+				chainedMethodInvocation();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChainedMethodInvocationContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(ChoralParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(ChoralParser.Identifier, i);
+		}
+		public TerminalNode CHAIN_ACCESS() { return getToken(ChoralParser.CHAIN_ACCESS, 0); }
+		public List<TerminalNode> DOT() { return getTokens(ChoralParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(ChoralParser.DOT, i);
+		}
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public TerminalNode THIS() { return getToken(ChoralParser.THIS, 0); }
+		public TerminalNode SUPER() { return getToken(ChoralParser.SUPER, 0); }
+		public ChainedMethodInvocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_chainedMethodInvocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterChainedMethodInvocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitChainedMethodInvocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitChainedMethodInvocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChainedMethodInvocationContext chainedMethodInvocation() throws RecognitionException {
+		ChainedMethodInvocationContext _localctx = new ChainedMethodInvocationContext(_ctx, getState());
+		enterRule(_localctx, 146, RULE_chainedMethodInvocation);
+		int _la;
+		try {
+			setState(829);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Identifier:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(790);
+				match(Identifier);
+				setState(795);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==DOT) {
+					{
+					{
+					setState(791);
+					match(DOT);
+					setState(792);
+					match(Identifier);
+					}
+					}
+					setState(797);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(798);
+				match(CHAIN_ACCESS);
+				setState(800);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LANGLE) {
+					{
+					setState(799);
+					typeArguments();
+					}
+				}
+
+				setState(802);
+				match(Identifier);
+				}
+				break;
+			case THIS:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(803);
+				match(THIS);
+				setState(808);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==DOT) {
+					{
+					{
+					setState(804);
+					match(DOT);
+					setState(805);
+					match(Identifier);
+					}
+					}
+					setState(810);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(811);
+				match(CHAIN_ACCESS);
+				setState(813);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LANGLE) {
+					{
+					setState(812);
+					typeArguments();
+					}
+				}
+
+				setState(815);
+				match(Identifier);
+				}
+				break;
+			case SUPER:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(816);
+				match(SUPER);
+				setState(821);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==DOT) {
+					{
+					{
+					setState(817);
+					match(DOT);
+					setState(818);
+					match(Identifier);
+					}
+					}
+					setState(823);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(824);
+				match(CHAIN_ACCESS);
+				setState(826);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==LANGLE) {
+					{
+					setState(825);
+					typeArguments();
+					}
+				}
+
+				setState(828);
+				match(Identifier);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChainedStaticMethodInvocationContext extends ParserRuleContext {
+		public StaticGenericAccessContext staticGenericAccess() {
+			return getRuleContext(StaticGenericAccessContext.class,0);
+		}
+		public TerminalNode CHAIN_ACCESS() { return getToken(ChoralParser.CHAIN_ACCESS, 0); }
+		public List<TerminalNode> Identifier() { return getTokens(ChoralParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(ChoralParser.Identifier, i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(ChoralParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(ChoralParser.DOT, i);
+		}
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public ChainedStaticMethodInvocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_chainedStaticMethodInvocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterChainedStaticMethodInvocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitChainedStaticMethodInvocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitChainedStaticMethodInvocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChainedStaticMethodInvocationContext chainedStaticMethodInvocation() throws RecognitionException {
+		ChainedStaticMethodInvocationContext _localctx = new ChainedStaticMethodInvocationContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_chainedStaticMethodInvocation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(831);
+			staticGenericAccess();
+			setState(836);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==DOT) {
+				{
+				{
+				setState(832);
+				match(DOT);
+				setState(833);
+				match(Identifier);
+				}
+				}
+				setState(838);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(839);
+			match(CHAIN_ACCESS);
+			setState(841);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(840);
+				typeArguments();
+				}
+			}
+
+			setState(843);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ChainedClassInstanceCreationContext extends ParserRuleContext {
+		public StaticGenericAccessContext staticGenericAccess() {
+			return getRuleContext(StaticGenericAccessContext.class,0);
+		}
+		public TerminalNode CHAIN_ACCESS() { return getToken(ChoralParser.CHAIN_ACCESS, 0); }
+		public TerminalNode NEW() { return getToken(ChoralParser.NEW, 0); }
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public ChainedClassInstanceCreationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_chainedClassInstanceCreation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterChainedClassInstanceCreation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitChainedClassInstanceCreation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitChainedClassInstanceCreation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ChainedClassInstanceCreationContext chainedClassInstanceCreation() throws RecognitionException {
+		ChainedClassInstanceCreationContext _localctx = new ChainedClassInstanceCreationContext(_ctx, getState());
+		enterRule(_localctx, 150, RULE_chainedClassInstanceCreation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(845);
+			staticGenericAccess();
+			setState(846);
+			match(CHAIN_ACCESS);
+			setState(848);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(847);
+				typeArguments();
+				}
+			}
+
+			setState(850);
+			match(NEW);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodInvocationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public ArgumentListContext argumentList() {
+			return getRuleContext(ArgumentListContext.class,0);
+		}
+		public MethodInvocationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_methodInvocation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterMethodInvocation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitMethodInvocation(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitMethodInvocation(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MethodInvocationContext methodInvocation() throws RecognitionException {
+		MethodInvocationContext _localctx = new MethodInvocationContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_methodInvocation);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(853);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(852);
+				typeArguments();
+				}
+			}
+
+			setState(855);
+			match(Identifier);
+			setState(856);
+			match(LPAREN);
+			setState(858);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 19)) & ~0x3f) == 0 && ((1L << (_la - 19)) & ((1L << (NEW - 19)) | (1L << (SUPER - 19)) | (1L << (THIS - 19)) | (1L << (NULL - 19)) | (1L << (IntegerLiteral - 19)) | (1L << (FloatingPointLiteral - 19)) | (1L << (BooleanLiteral - 19)) | (1L << (StringLiteral - 19)) | (1L << (LPAREN - 19)) | (1L << (LANGLE - 19)) | (1L << (NOT - 19)) | (1L << (Identifier - 19)))) != 0)) {
+				{
+				setState(857);
+				argumentList();
+				}
+			}
+
+			setState(860);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StaticGenericAccessContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldArgumentsContext worldArguments() {
+			return getRuleContext(WorldArgumentsContext.class,0);
+		}
+		public TypeArgumentsContext typeArguments() {
+			return getRuleContext(TypeArgumentsContext.class,0);
+		}
+		public StaticGenericAccessContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_staticGenericAccess; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterStaticGenericAccess(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitStaticGenericAccess(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitStaticGenericAccess(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StaticGenericAccessContext staticGenericAccess() throws RecognitionException {
+		StaticGenericAccessContext _localctx = new StaticGenericAccessContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_staticGenericAccess);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(862);
+			match(Identifier);
+			setState(863);
+			worldArguments();
+			setState(865);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
+			case 1:
+				{
+				setState(864);
+				typeArguments();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrimaryContext extends ParserRuleContext {
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public WorldArgumentContext worldArgument() {
+			return getRuleContext(WorldArgumentContext.class,0);
+		}
+		public TerminalNode NULL() { return getToken(ChoralParser.NULL, 0); }
+		public WorldArgumentsContext worldArguments() {
+			return getRuleContext(WorldArgumentsContext.class,0);
+		}
+		public TerminalNode THIS() { return getToken(ChoralParser.THIS, 0); }
+		public TerminalNode SUPER() { return getToken(ChoralParser.SUPER, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public PrimaryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primary; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterPrimary(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitPrimary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitPrimary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PrimaryContext primary() throws RecognitionException {
+		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_primary);
+		try {
+			setState(879);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case StringLiteral:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(867);
+				literal();
+				setState(868);
+				match(AT);
+				setState(869);
+				worldArgument();
+				}
+				break;
+			case NULL:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(871);
+				match(NULL);
+				setState(872);
+				worldArguments();
+				}
+				break;
+			case THIS:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(873);
+				match(THIS);
+				}
+				break;
+			case SUPER:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(874);
+				match(SUPER);
+				}
+				break;
+			case LPAREN:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(875);
+				match(LPAREN);
+				setState(876);
+				expression();
+				setState(877);
+				match(RPAREN);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClassInstanceCreationExpressionContext extends ParserRuleContext {
+		public TypeArgumentsContext methodArgs;
+		public TypeArgumentsContext classArguments;
+		public TerminalNode NEW() { return getToken(ChoralParser.NEW, 0); }
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public WorldArgumentsContext worldArguments() {
+			return getRuleContext(WorldArgumentsContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public ArgumentListContext argumentList() {
+			return getRuleContext(ArgumentListContext.class,0);
+		}
+		public List<TypeArgumentsContext> typeArguments() {
+			return getRuleContexts(TypeArgumentsContext.class);
+		}
+		public TypeArgumentsContext typeArguments(int i) {
+			return getRuleContext(TypeArgumentsContext.class,i);
+		}
+		public ClassInstanceCreationExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_classInstanceCreationExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterClassInstanceCreationExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitClassInstanceCreationExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitClassInstanceCreationExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClassInstanceCreationExpressionContext classInstanceCreationExpression() throws RecognitionException {
+		ClassInstanceCreationExpressionContext _localctx = new ClassInstanceCreationExpressionContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_classInstanceCreationExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(881);
+			match(NEW);
+			setState(883);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(882);
+				((ClassInstanceCreationExpressionContext)_localctx).methodArgs = typeArguments();
+				}
+			}
+
+			setState(885);
+			match(Identifier);
+			setState(886);
+			worldArguments();
+			setState(888);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LANGLE) {
+				{
+				setState(887);
+				((ClassInstanceCreationExpressionContext)_localctx).classArguments = typeArguments();
+				}
+			}
+
+			setState(890);
+			match(LPAREN);
+			setState(892);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (((((_la - 19)) & ~0x3f) == 0 && ((1L << (_la - 19)) & ((1L << (NEW - 19)) | (1L << (SUPER - 19)) | (1L << (THIS - 19)) | (1L << (NULL - 19)) | (1L << (IntegerLiteral - 19)) | (1L << (FloatingPointLiteral - 19)) | (1L << (BooleanLiteral - 19)) | (1L << (StringLiteral - 19)) | (1L << (LPAREN - 19)) | (1L << (LANGLE - 19)) | (1L << (NOT - 19)) | (1L << (Identifier - 19)))) != 0)) {
+				{
+				setState(891);
+				argumentList();
+				}
+			}
+
+			setState(894);
+			match(RPAREN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EnumCaseCreationExpressionContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(ChoralParser.Identifier); }
+		public TerminalNode Identifier(int i) {
+			return getToken(ChoralParser.Identifier, i);
+		}
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public WorldArgumentContext worldArgument() {
+			return getRuleContext(WorldArgumentContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public EnumCaseCreationExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_enumCaseCreationExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEnumCaseCreationExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEnumCaseCreationExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEnumCaseCreationExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EnumCaseCreationExpressionContext enumCaseCreationExpression() throws RecognitionException {
+		EnumCaseCreationExpressionContext _localctx = new EnumCaseCreationExpressionContext(_ctx, getState());
+		enterRule(_localctx, 160, RULE_enumCaseCreationExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(896);
+			match(Identifier);
+			setState(897);
+			match(AT);
+			setState(898);
+			worldArgument();
+			setState(899);
+			match(DOT);
+			setState(900);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldAccessContext extends ParserRuleContext {
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public ExpressionNameContext expressionName() {
+			return getRuleContext(ExpressionNameContext.class,0);
+		}
+		public FieldAccessContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldAccess; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFieldAccess(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFieldAccess(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFieldAccess(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldAccessContext fieldAccess() throws RecognitionException {
+		FieldAccessContext _localctx = new FieldAccessContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_fieldAccess);
+		try {
+			setState(912);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case SUPER:
+			case THIS:
+			case NULL:
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case StringLiteral:
+			case LPAREN:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(902);
+				primary();
+				setState(903);
+				match(DOT);
+				setState(904);
+				match(Identifier);
+				}
+				break;
+			case Identifier:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(909);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,101,_ctx) ) {
+				case 1:
+					{
+					setState(906);
+					expressionName();
+					setState(907);
+					match(DOT);
+					}
+					break;
+				}
+				setState(911);
+				match(Identifier);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FieldAccess_no_primaryContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public ExpressionNameContext expressionName() {
+			return getRuleContext(ExpressionNameContext.class,0);
+		}
+		public TerminalNode DOT() { return getToken(ChoralParser.DOT, 0); }
+		public FieldAccess_no_primaryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fieldAccess_no_primary; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFieldAccess_no_primary(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFieldAccess_no_primary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFieldAccess_no_primary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FieldAccess_no_primaryContext fieldAccess_no_primary() throws RecognitionException {
+		FieldAccess_no_primaryContext _localctx = new FieldAccess_no_primaryContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_fieldAccess_no_primary);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(917);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,103,_ctx) ) {
+			case 1:
+				{
+				setState(914);
+				expressionName();
+				setState(915);
+				match(DOT);
+				}
+				break;
+			}
+			setState(919);
+			match(Identifier);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArgumentListContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(ChoralParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(ChoralParser.COMMA, i);
+		}
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public TerminalNode LBRACK() { return getToken(ChoralParser.LBRACK, 0); }
+		public WorldArgumentListContext worldArgumentList() {
+			return getRuleContext(WorldArgumentListContext.class,0);
+		}
+		public TerminalNode RBRACK() { return getToken(ChoralParser.RBRACK, 0); }
+		public ArgumentListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_argumentList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterArgumentList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitArgumentList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitArgumentList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ArgumentListContext argumentList() throws RecognitionException {
+		ArgumentListContext _localctx = new ArgumentListContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_argumentList);
+		int _la;
+		try {
+			setState(935);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,105,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(921);
+				expression();
+				setState(926);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(922);
+					match(COMMA);
+					setState(923);
+					expression();
+					}
+					}
+					setState(928);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(929);
+				literal();
+				setState(930);
+				match(AT);
+				setState(931);
+				match(LBRACK);
+				setState(932);
+				worldArgumentList();
+				setState(933);
+				match(RBRACK);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IfThenStatementContext extends ParserRuleContext {
+		public TerminalNode IF() { return getToken(ChoralParser.IF, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public IfThenStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ifThenStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterIfThenStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitIfThenStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitIfThenStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IfThenStatementContext ifThenStatement() throws RecognitionException {
+		IfThenStatementContext _localctx = new IfThenStatementContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_ifThenStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(937);
+			match(IF);
+			setState(938);
+			match(LPAREN);
+			setState(939);
+			expression();
+			setState(940);
+			match(RPAREN);
+			setState(941);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IfThenElseStatementContext extends ParserRuleContext {
+		public BlockContext thenBlock;
+		public BlockContext elseBlock;
+		public TerminalNode IF() { return getToken(ChoralParser.IF, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public TerminalNode ELSE() { return getToken(ChoralParser.ELSE, 0); }
+		public List<BlockContext> block() {
+			return getRuleContexts(BlockContext.class);
+		}
+		public BlockContext block(int i) {
+			return getRuleContext(BlockContext.class,i);
+		}
+		public IfThenElseStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ifThenElseStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterIfThenElseStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitIfThenElseStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitIfThenElseStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IfThenElseStatementContext ifThenElseStatement() throws RecognitionException {
+		IfThenElseStatementContext _localctx = new IfThenElseStatementContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_ifThenElseStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(943);
+			match(IF);
+			setState(944);
+			match(LPAREN);
+			setState(945);
+			expression();
+			setState(946);
+			match(RPAREN);
+			setState(947);
+			((IfThenElseStatementContext)_localctx).thenBlock = block();
+			setState(948);
+			match(ELSE);
+			setState(949);
+			((IfThenElseStatementContext)_localctx).elseBlock = block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchStatementContext extends ParserRuleContext {
+		public TerminalNode SWITCH() { return getToken(ChoralParser.SWITCH, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public SwitchBlockContext switchBlock() {
+			return getRuleContext(SwitchBlockContext.class,0);
+		}
+		public SwitchStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterSwitchStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitSwitchStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitSwitchStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchStatementContext switchStatement() throws RecognitionException {
+		SwitchStatementContext _localctx = new SwitchStatementContext(_ctx, getState());
+		enterRule(_localctx, 172, RULE_switchStatement);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(951);
+			match(SWITCH);
+			setState(952);
+			match(LPAREN);
+			setState(953);
+			expression();
+			setState(954);
+			match(RPAREN);
+			setState(955);
+			switchBlock();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchBlockContext extends ParserRuleContext {
+		public TerminalNode LBRACE() { return getToken(ChoralParser.LBRACE, 0); }
+		public TerminalNode RBRACE() { return getToken(ChoralParser.RBRACE, 0); }
+		public List<SwitchCaseContext> switchCase() {
+			return getRuleContexts(SwitchCaseContext.class);
+		}
+		public SwitchCaseContext switchCase(int i) {
+			return getRuleContext(SwitchCaseContext.class,i);
+		}
+		public SwitchBlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchBlock; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterSwitchBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitSwitchBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitSwitchBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchBlockContext switchBlock() throws RecognitionException {
+		SwitchBlockContext _localctx = new SwitchBlockContext(_ctx, getState());
+		enterRule(_localctx, 174, RULE_switchBlock);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(957);
+			match(LBRACE);
+			setState(959); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(958);
+				switchCase();
+				}
+				}
+				setState(961); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==CASE || _la==DEFAULT );
+			setState(963);
+			match(RBRACE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchCaseContext extends ParserRuleContext {
+		public TerminalNode CASE() { return getToken(ChoralParser.CASE, 0); }
+		public SwitchArgsContext switchArgs() {
+			return getRuleContext(SwitchArgsContext.class,0);
+		}
+		public TerminalNode RIGHT_ARROW() { return getToken(ChoralParser.RIGHT_ARROW, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public TerminalNode DEFAULT() { return getToken(ChoralParser.DEFAULT, 0); }
+		public SwitchCaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchCase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterSwitchCase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitSwitchCase(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitSwitchCase(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchCaseContext switchCase() throws RecognitionException {
+		SwitchCaseContext _localctx = new SwitchCaseContext(_ctx, getState());
+		enterRule(_localctx, 176, RULE_switchCase);
+		try {
+			setState(973);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case CASE:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(965);
+				match(CASE);
+				setState(966);
+				switchArgs();
+				setState(967);
+				match(RIGHT_ARROW);
+				setState(968);
+				block();
+				}
+				break;
+			case DEFAULT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(970);
+				match(DEFAULT);
+				setState(971);
+				match(RIGHT_ARROW);
+				setState(972);
+				block();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SwitchArgsContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(ChoralParser.Identifier, 0); }
+		public LiteralContext literal() {
+			return getRuleContext(LiteralContext.class,0);
+		}
+		public TerminalNode AT() { return getToken(ChoralParser.AT, 0); }
+		public WorldArgumentContext worldArgument() {
+			return getRuleContext(WorldArgumentContext.class,0);
+		}
+		public TerminalNode COMMA() { return getToken(ChoralParser.COMMA, 0); }
+		public SwitchArgsContext switchArgs() {
+			return getRuleContext(SwitchArgsContext.class,0);
+		}
+		public SwitchArgsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_switchArgs; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterSwitchArgs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitSwitchArgs(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitSwitchArgs(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final SwitchArgsContext switchArgs() throws RecognitionException {
+		SwitchArgsContext _localctx = new SwitchArgsContext(_ctx, getState());
+		enterRule(_localctx, 178, RULE_switchArgs);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(980);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Identifier:
+				{
+				setState(975);
+				match(Identifier);
+				}
+				break;
+			case IntegerLiteral:
+			case FloatingPointLiteral:
+			case BooleanLiteral:
+			case StringLiteral:
+				{
+				setState(976);
+				literal();
+				setState(977);
+				match(AT);
+				setState(978);
+				worldArgument();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(984);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMMA) {
+				{
+				setState(982);
+				match(COMMA);
+				setState(983);
+				switchArgs();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TryCatchStatementContext extends ParserRuleContext {
+		public TerminalNode TRY() { return getToken(ChoralParser.TRY, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public List<CatchBlockContext> catchBlock() {
+			return getRuleContexts(CatchBlockContext.class);
+		}
+		public CatchBlockContext catchBlock(int i) {
+			return getRuleContext(CatchBlockContext.class,i);
+		}
+		public TryCatchStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tryCatchStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterTryCatchStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitTryCatchStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitTryCatchStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final TryCatchStatementContext tryCatchStatement() throws RecognitionException {
+		TryCatchStatementContext _localctx = new TryCatchStatementContext(_ctx, getState());
+		enterRule(_localctx, 180, RULE_tryCatchStatement);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(986);
+			match(TRY);
+			setState(987);
+			block();
+			setState(989); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(988);
+				catchBlock();
+				}
+				}
+				setState(991); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==CATCH );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CatchBlockContext extends ParserRuleContext {
+		public TerminalNode CATCH() { return getToken(ChoralParser.CATCH, 0); }
+		public TerminalNode LPAREN() { return getToken(ChoralParser.LPAREN, 0); }
+		public FormalParameterContext formalParameter() {
+			return getRuleContext(FormalParameterContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(ChoralParser.RPAREN, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public CatchBlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_catchBlock; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterCatchBlock(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitCatchBlock(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitCatchBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CatchBlockContext catchBlock() throws RecognitionException {
+		CatchBlockContext _localctx = new CatchBlockContext(_ctx, getState());
+		enterRule(_localctx, 182, RULE_catchBlock);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(993);
+			match(CATCH);
+			setState(994);
+			match(LPAREN);
+			setState(995);
+			formalParameter();
+			setState(996);
+			match(RPAREN);
+			setState(997);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReturnStatementContext extends ParserRuleContext {
+		public TerminalNode RETURN() { return getToken(ChoralParser.RETURN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public TerminalNode SEMI() { return getToken(ChoralParser.SEMI, 0); }
+		public ChainedExpressionContext chainedExpression() {
+			return getRuleContext(ChainedExpressionContext.class,0);
+		}
+		public ReturnStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_returnStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterReturnStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitReturnStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitReturnStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ReturnStatementContext returnStatement() throws RecognitionException {
+		ReturnStatementContext _localctx = new ReturnStatementContext(_ctx, getState());
+		enterRule(_localctx, 184, RULE_returnStatement);
+		int _la;
+		try {
+			setState(1008);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,112,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(999);
+				match(RETURN);
+				setState(1000);
+				expression();
+				setState(1002);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==RANGLE) {
+					{
+					setState(1001);
+					chainedExpression();
+					}
+				}
+
+				setState(1004);
+				match(SEMI);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1006);
+				match(RETURN);
+				setState(1007);
+				match(SEMI);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExpressionContext extends ParserRuleContext {
+		public ShortCircuitOrExpressionContext shortCircuitOrExpression() {
+			return getRuleContext(ShortCircuitOrExpressionContext.class,0);
+		}
+		public AssignmentContext assignment() {
+			return getRuleContext(AssignmentContext.class,0);
+		}
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 186, RULE_expression);
+		try {
+			setState(1012);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,113,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1010);
+				shortCircuitOrExpression(0);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1011);
+				assignment();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentContext extends ParserRuleContext {
+		public LeftHandSideContext leftHandSide() {
+			return getRuleContext(LeftHandSideContext.class,0);
+		}
+		public AssignmentOperatorContext assignmentOperator() {
+			return getRuleContext(AssignmentOperatorContext.class,0);
+		}
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignment; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAssignment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAssignment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAssignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentContext assignment() throws RecognitionException {
+		AssignmentContext _localctx = new AssignmentContext(_ctx, getState());
+		enterRule(_localctx, 188, RULE_assignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1014);
+			leftHandSide();
+			setState(1015);
+			assignmentOperator();
+			setState(1016);
+			expression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LeftHandSideContext extends ParserRuleContext {
+		public ExpressionNameContext expressionName() {
+			return getRuleContext(ExpressionNameContext.class,0);
+		}
+		public FieldAccessContext fieldAccess() {
+			return getRuleContext(FieldAccessContext.class,0);
+		}
+		public LeftHandSideContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_leftHandSide; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterLeftHandSide(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitLeftHandSide(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitLeftHandSide(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LeftHandSideContext leftHandSide() throws RecognitionException {
+		LeftHandSideContext _localctx = new LeftHandSideContext(_ctx, getState());
+		enterRule(_localctx, 190, RULE_leftHandSide);
+		try {
+			setState(1020);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,114,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1018);
+				expressionName();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1019);
+				fieldAccess();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentOperatorContext extends ParserRuleContext {
+		public TerminalNode ASSIGN() { return getToken(ChoralParser.ASSIGN, 0); }
+		public TerminalNode MUL_ASSIGN() { return getToken(ChoralParser.MUL_ASSIGN, 0); }
+		public TerminalNode DIV_ASSIGN() { return getToken(ChoralParser.DIV_ASSIGN, 0); }
+		public TerminalNode MOD_ASSIGN() { return getToken(ChoralParser.MOD_ASSIGN, 0); }
+		public TerminalNode ADD_ASSIGN() { return getToken(ChoralParser.ADD_ASSIGN, 0); }
+		public TerminalNode SUB_ASSIGN() { return getToken(ChoralParser.SUB_ASSIGN, 0); }
+		public TerminalNode AND_ASSIGN() { return getToken(ChoralParser.AND_ASSIGN, 0); }
+		public TerminalNode OR_ASSIGN() { return getToken(ChoralParser.OR_ASSIGN, 0); }
+		public AssignmentOperatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignmentOperator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAssignmentOperator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAssignmentOperator(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAssignmentOperator(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentOperatorContext assignmentOperator() throws RecognitionException {
+		AssignmentOperatorContext _localctx = new AssignmentOperatorContext(_ctx, getState());
+		enterRule(_localctx, 192, RULE_assignmentOperator);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1022);
+			_la = _input.LA(1);
+			if ( !(((((_la - 45)) & ~0x3f) == 0 && ((1L << (_la - 45)) & ((1L << (ASSIGN - 45)) | (1L << (ADD_ASSIGN - 45)) | (1L << (SUB_ASSIGN - 45)) | (1L << (MUL_ASSIGN - 45)) | (1L << (DIV_ASSIGN - 45)) | (1L << (AND_ASSIGN - 45)) | (1L << (OR_ASSIGN - 45)) | (1L << (MOD_ASSIGN - 45)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ShortCircuitOrExpressionContext extends ParserRuleContext {
+		public ShortCircuitAndExpressionContext shortCircuitAndExpression() {
+			return getRuleContext(ShortCircuitAndExpressionContext.class,0);
+		}
+		public ShortCircuitOrExpressionContext shortCircuitOrExpression() {
+			return getRuleContext(ShortCircuitOrExpressionContext.class,0);
+		}
+		public TerminalNode OR() { return getToken(ChoralParser.OR, 0); }
+		public ShortCircuitOrExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_shortCircuitOrExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterShortCircuitOrExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitShortCircuitOrExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitShortCircuitOrExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ShortCircuitOrExpressionContext shortCircuitOrExpression() throws RecognitionException {
+		return shortCircuitOrExpression(0);
+	}
+
+	private ShortCircuitOrExpressionContext shortCircuitOrExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ShortCircuitOrExpressionContext _localctx = new ShortCircuitOrExpressionContext(_ctx, _parentState);
+		ShortCircuitOrExpressionContext _prevctx = _localctx;
+		int _startState = 194;
+		enterRecursionRule(_localctx, 194, RULE_shortCircuitOrExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1025);
+			shortCircuitAndExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1032);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,115,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new ShortCircuitOrExpressionContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_shortCircuitOrExpression);
+					setState(1027);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(1028);
+					match(OR);
+					setState(1029);
+					shortCircuitAndExpression(0);
+					}
+					} 
+				}
+				setState(1034);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,115,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class ShortCircuitAndExpressionContext extends ParserRuleContext {
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public ShortCircuitAndExpressionContext shortCircuitAndExpression() {
+			return getRuleContext(ShortCircuitAndExpressionContext.class,0);
+		}
+		public TerminalNode AND() { return getToken(ChoralParser.AND, 0); }
+		public ShortCircuitAndExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_shortCircuitAndExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterShortCircuitAndExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitShortCircuitAndExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitShortCircuitAndExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ShortCircuitAndExpressionContext shortCircuitAndExpression() throws RecognitionException {
+		return shortCircuitAndExpression(0);
+	}
+
+	private ShortCircuitAndExpressionContext shortCircuitAndExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ShortCircuitAndExpressionContext _localctx = new ShortCircuitAndExpressionContext(_ctx, _parentState);
+		ShortCircuitAndExpressionContext _prevctx = _localctx;
+		int _startState = 196;
+		enterRecursionRule(_localctx, 196, RULE_shortCircuitAndExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1036);
+			orExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1043);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,116,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new ShortCircuitAndExpressionContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_shortCircuitAndExpression);
+					setState(1038);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(1039);
+					match(AND);
+					setState(1040);
+					orExpression(0);
+					}
+					} 
+				}
+				setState(1045);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,116,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class OrExpressionContext extends ParserRuleContext {
+		public AndExpressionContext andExpression() {
+			return getRuleContext(AndExpressionContext.class,0);
+		}
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public TerminalNode BITOR() { return getToken(ChoralParser.BITOR, 0); }
+		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_orExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterOrExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitOrExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitOrExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final OrExpressionContext orExpression() throws RecognitionException {
+		return orExpression(0);
+	}
+
+	private OrExpressionContext orExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		OrExpressionContext _localctx = new OrExpressionContext(_ctx, _parentState);
+		OrExpressionContext _prevctx = _localctx;
+		int _startState = 198;
+		enterRecursionRule(_localctx, 198, RULE_orExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1047);
+			andExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1054);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,117,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new OrExpressionContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+					setState(1049);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(1050);
+					match(BITOR);
+					setState(1051);
+					andExpression(0);
+					}
+					} 
+				}
+				setState(1056);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,117,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class AndExpressionContext extends ParserRuleContext {
+		public EqualityExpressionContext equalityExpression() {
+			return getRuleContext(EqualityExpressionContext.class,0);
+		}
+		public AndExpressionContext andExpression() {
+			return getRuleContext(AndExpressionContext.class,0);
+		}
+		public TerminalNode AMPERSAND() { return getToken(ChoralParser.AMPERSAND, 0); }
+		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_andExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAndExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAndExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAndExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AndExpressionContext andExpression() throws RecognitionException {
+		return andExpression(0);
+	}
+
+	private AndExpressionContext andExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		AndExpressionContext _localctx = new AndExpressionContext(_ctx, _parentState);
+		AndExpressionContext _prevctx = _localctx;
+		int _startState = 200;
+		enterRecursionRule(_localctx, 200, RULE_andExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1058);
+			equalityExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1065);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,118,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new AndExpressionContext(_parentctx, _parentState);
+					pushNewRecursionContext(_localctx, _startState, RULE_andExpression);
+					setState(1060);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(1061);
+					match(AMPERSAND);
+					setState(1062);
+					equalityExpression(0);
+					}
+					} 
+				}
+				setState(1067);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,118,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class EqualityExpressionContext extends ParserRuleContext {
+		public Token op;
+		public RelationalExpressionContext relationalExpression() {
+			return getRuleContext(RelationalExpressionContext.class,0);
+		}
+		public EqualityExpressionContext equalityExpression() {
+			return getRuleContext(EqualityExpressionContext.class,0);
+		}
+		public TerminalNode EQUAL() { return getToken(ChoralParser.EQUAL, 0); }
+		public TerminalNode NOTEQUAL() { return getToken(ChoralParser.NOTEQUAL, 0); }
+		public EqualityExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_equalityExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterEqualityExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitEqualityExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitEqualityExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EqualityExpressionContext equalityExpression() throws RecognitionException {
+		return equalityExpression(0);
+	}
+
+	private EqualityExpressionContext equalityExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, _parentState);
+		EqualityExpressionContext _prevctx = _localctx;
+		int _startState = 202;
+		enterRecursionRule(_localctx, 202, RULE_equalityExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1069);
+			relationalExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1079);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,120,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1077);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
+					case 1:
+						{
+						_localctx = new EqualityExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_equalityExpression);
+						setState(1071);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(1072);
+						((EqualityExpressionContext)_localctx).op = match(EQUAL);
+						setState(1073);
+						relationalExpression(0);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new EqualityExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_equalityExpression);
+						setState(1074);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(1075);
+						((EqualityExpressionContext)_localctx).op = match(NOTEQUAL);
+						setState(1076);
+						relationalExpression(0);
+						}
+						break;
+					}
+					} 
+				}
+				setState(1081);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,120,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class RelationalExpressionContext extends ParserRuleContext {
+		public Token op;
+		public AdditiveExpressionContext additiveExpression() {
+			return getRuleContext(AdditiveExpressionContext.class,0);
+		}
+		public RelationalExpressionContext relationalExpression() {
+			return getRuleContext(RelationalExpressionContext.class,0);
+		}
+		public TerminalNode RANGLE() { return getToken(ChoralParser.RANGLE, 0); }
+		public TerminalNode GT_EQUAL() { return getToken(ChoralParser.GT_EQUAL, 0); }
+		public TerminalNode LANGLE() { return getToken(ChoralParser.LANGLE, 0); }
+		public TerminalNode LT_EQUAL() { return getToken(ChoralParser.LT_EQUAL, 0); }
+		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relationalExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterRelationalExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitRelationalExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitRelationalExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
+		return relationalExpression(0);
+	}
+
+	private RelationalExpressionContext relationalExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, _parentState);
+		RelationalExpressionContext _prevctx = _localctx;
+		int _startState = 204;
+		enterRecursionRule(_localctx, 204, RULE_relationalExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1083);
+			additiveExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1099);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,122,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1097);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,121,_ctx) ) {
+					case 1:
+						{
+						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
+						setState(1085);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(1086);
+						((RelationalExpressionContext)_localctx).op = match(RANGLE);
+						setState(1087);
+						additiveExpression(0);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
+						setState(1088);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(1089);
+						((RelationalExpressionContext)_localctx).op = match(GT_EQUAL);
+						setState(1090);
+						additiveExpression(0);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
+						setState(1091);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(1092);
+						((RelationalExpressionContext)_localctx).op = match(LANGLE);
+						setState(1093);
+						additiveExpression(0);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new RelationalExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_relationalExpression);
+						setState(1094);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(1095);
+						((RelationalExpressionContext)_localctx).op = match(LT_EQUAL);
+						setState(1096);
+						additiveExpression(0);
+						}
+						break;
+					}
+					} 
+				}
+				setState(1101);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,122,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class AdditiveExpressionContext extends ParserRuleContext {
+		public Token op;
+		public MultiplicativeExpressionContext multiplicativeExpression() {
+			return getRuleContext(MultiplicativeExpressionContext.class,0);
+		}
+		public AdditiveExpressionContext additiveExpression() {
+			return getRuleContext(AdditiveExpressionContext.class,0);
+		}
+		public TerminalNode ADD() { return getToken(ChoralParser.ADD, 0); }
+		public TerminalNode SUB() { return getToken(ChoralParser.SUB, 0); }
+		public AdditiveExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_additiveExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterAdditiveExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitAdditiveExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitAdditiveExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AdditiveExpressionContext additiveExpression() throws RecognitionException {
+		return additiveExpression(0);
+	}
+
+	private AdditiveExpressionContext additiveExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, _parentState);
+		AdditiveExpressionContext _prevctx = _localctx;
+		int _startState = 206;
+		enterRecursionRule(_localctx, 206, RULE_additiveExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1103);
+			multiplicativeExpression(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1113);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1111);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
+					case 1:
+						{
+						_localctx = new AdditiveExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_additiveExpression);
+						setState(1105);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(1106);
+						((AdditiveExpressionContext)_localctx).op = match(ADD);
+						setState(1107);
+						multiplicativeExpression(0);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new AdditiveExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_additiveExpression);
+						setState(1108);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(1109);
+						((AdditiveExpressionContext)_localctx).op = match(SUB);
+						setState(1110);
+						multiplicativeExpression(0);
+						}
+						break;
+					}
+					} 
+				}
+				setState(1115);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class MultiplicativeExpressionContext extends ParserRuleContext {
+		public Token op;
+		public UnaryExpressionContext unaryExpression() {
+			return getRuleContext(UnaryExpressionContext.class,0);
+		}
+		public MultiplicativeExpressionContext multiplicativeExpression() {
+			return getRuleContext(MultiplicativeExpressionContext.class,0);
+		}
+		public TerminalNode STAR() { return getToken(ChoralParser.STAR, 0); }
+		public TerminalNode DIV() { return getToken(ChoralParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(ChoralParser.MOD, 0); }
+		public MultiplicativeExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_multiplicativeExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterMultiplicativeExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitMultiplicativeExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MultiplicativeExpressionContext multiplicativeExpression() throws RecognitionException {
+		return multiplicativeExpression(0);
+	}
+
+	private MultiplicativeExpressionContext multiplicativeExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, _parentState);
+		MultiplicativeExpressionContext _prevctx = _localctx;
+		int _startState = 208;
+		enterRecursionRule(_localctx, 208, RULE_multiplicativeExpression, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1117);
+			unaryExpression();
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(1130);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,126,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(1128);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,125,_ctx) ) {
+					case 1:
+						{
+						_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
+						setState(1119);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(1120);
+						((MultiplicativeExpressionContext)_localctx).op = match(STAR);
+						setState(1121);
+						unaryExpression();
+						}
+						break;
+					case 2:
+						{
+						_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
+						setState(1122);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(1123);
+						((MultiplicativeExpressionContext)_localctx).op = match(DIV);
+						setState(1124);
+						unaryExpression();
+						}
+						break;
+					case 3:
+						{
+						_localctx = new MultiplicativeExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_multiplicativeExpression);
+						setState(1125);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(1126);
+						((MultiplicativeExpressionContext)_localctx).op = match(MOD);
+						setState(1127);
+						unaryExpression();
+						}
+						break;
+					}
+					} 
+				}
+				setState(1132);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,126,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class UnaryExpressionContext extends ParserRuleContext {
+		public Token op;
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
+		}
+		public StatementExpressionContext statementExpression() {
+			return getRuleContext(StatementExpressionContext.class,0);
+		}
+		public UnaryExpressionContext unaryExpression() {
+			return getRuleContext(UnaryExpressionContext.class,0);
+		}
+		public TerminalNode NOT() { return getToken(ChoralParser.NOT, 0); }
+		public UnaryExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unaryExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterUnaryExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitUnaryExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitUnaryExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnaryExpressionContext unaryExpression() throws RecognitionException {
+		UnaryExpressionContext _localctx = new UnaryExpressionContext(_ctx, getState());
+		enterRule(_localctx, 210, RULE_unaryExpression);
+		try {
+			setState(1137);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1133);
+				primary();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1134);
+				statementExpression();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1135);
+				((UnaryExpressionContext)_localctx).op = match(NOT);
+				setState(1136);
+				unaryExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Fwd_chainContext extends ParserRuleContext {
+		public List<TerminalNode> RANGLE() { return getTokens(ChoralParser.RANGLE); }
+		public TerminalNode RANGLE(int i) {
+			return getToken(ChoralParser.RANGLE, i);
+		}
+		public Fwd_chainContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fwd_chain; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).enterFwd_chain(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChoralListener ) ((ChoralListener)listener).exitFwd_chain(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ChoralVisitor ) return ((ChoralVisitor<? extends T>)visitor).visitFwd_chain(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Fwd_chainContext fwd_chain() throws RecognitionException {
+		Fwd_chainContext _localctx = new Fwd_chainContext(_ctx, getState());
+		enterRule(_localctx, 212, RULE_fwd_chain);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1139);
+			match(RANGLE);
+			setState(1140);
+			match(RANGLE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 12:
+			return ambiguousName_sempred((AmbiguousNameContext)_localctx, predIndex);
+		case 13:
+			return qualifiedName_sempred((QualifiedNameContext)_localctx, predIndex);
+		case 97:
+			return shortCircuitOrExpression_sempred((ShortCircuitOrExpressionContext)_localctx, predIndex);
+		case 98:
+			return shortCircuitAndExpression_sempred((ShortCircuitAndExpressionContext)_localctx, predIndex);
+		case 99:
+			return orExpression_sempred((OrExpressionContext)_localctx, predIndex);
+		case 100:
+			return andExpression_sempred((AndExpressionContext)_localctx, predIndex);
+		case 101:
+			return equalityExpression_sempred((EqualityExpressionContext)_localctx, predIndex);
+		case 102:
+			return relationalExpression_sempred((RelationalExpressionContext)_localctx, predIndex);
+		case 103:
+			return additiveExpression_sempred((AdditiveExpressionContext)_localctx, predIndex);
+		case 104:
+			return multiplicativeExpression_sempred((MultiplicativeExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean ambiguousName_sempred(AmbiguousNameContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean qualifiedName_sempred(QualifiedNameContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean shortCircuitOrExpression_sempred(ShortCircuitOrExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean shortCircuitAndExpression_sempred(ShortCircuitAndExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean orExpression_sempred(OrExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 4:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean andExpression_sempred(AndExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 5:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean equalityExpression_sempred(EqualityExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 6:
+			return precpred(_ctx, 2);
+		case 7:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean relationalExpression_sempred(RelationalExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 8:
+			return precpred(_ctx, 4);
+		case 9:
+			return precpred(_ctx, 3);
+		case 10:
+			return precpred(_ctx, 2);
+		case 11:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean additiveExpression_sempred(AdditiveExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 12:
+			return precpred(_ctx, 2);
+		case 13:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean multiplicativeExpression_sempred(MultiplicativeExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 14:
+			return precpred(_ctx, 3);
+		case 15:
+			return precpred(_ctx, 2);
+		case 16:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3M\u0479\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k\t"+
+		"k\4l\tl\3\2\3\2\3\3\3\3\5\3\u00dd\n\3\3\3\5\3\u00e0\n\3\3\4\7\4\u00e3"+
+		"\n\4\f\4\16\4\u00e6\13\4\3\4\3\4\3\4\5\4\u00eb\n\4\3\5\3\5\3\6\3\6\3\7"+
+		"\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u00f8\n\7\3\b\3\b\3\b\7\b\u00fd\n\b\f\b\16"+
+		"\b\u0100\13\b\3\t\3\t\3\t\7\t\u0105\n\t\f\t\16\t\u0108\13\t\3\n\3\n\3"+
+		"\n\3\13\3\13\3\13\3\13\3\f\3\f\3\f\7\f\u0114\n\f\f\f\16\f\u0117\13\f\3"+
+		"\r\3\r\3\r\3\r\3\r\5\r\u011e\n\r\3\16\3\16\3\16\3\16\3\16\3\16\7\16\u0126"+
+		"\n\16\f\16\16\16\u0129\13\16\3\17\3\17\3\17\3\17\3\17\3\17\7\17\u0131"+
+		"\n\17\f\17\16\17\u0134\13\17\3\20\3\20\7\20\u0138\n\20\f\20\16\20\u013b"+
+		"\13\20\3\20\5\20\u013e\n\20\3\21\5\21\u0141\n\21\3\21\7\21\u0144\n\21"+
+		"\f\21\16\21\u0147\13\21\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\5\23\u0151"+
+		"\n\23\3\23\3\23\3\24\3\24\3\24\5\24\u0158\n\24\3\25\7\25\u015b\n\25\f"+
+		"\25\16\25\u015e\13\25\3\25\7\25\u0161\n\25\f\25\16\25\u0164\13\25\3\25"+
+		"\3\25\3\25\3\25\5\25\u016a\n\25\3\25\5\25\u016d\n\25\3\25\5\25\u0170\n"+
+		"\25\3\25\3\25\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\5\27\u017d"+
+		"\n\27\3\30\3\30\3\30\3\30\3\31\3\31\3\31\7\31\u0186\n\31\f\31\16\31\u0189"+
+		"\13\31\3\32\3\32\3\32\7\32\u018e\n\32\f\32\16\32\u0191\13\32\3\33\3\33"+
+		"\3\33\3\34\3\34\3\34\7\34\u0199\n\34\f\34\16\34\u019c\13\34\3\35\3\35"+
+		"\3\35\3\36\3\36\7\36\u01a3\n\36\f\36\16\36\u01a6\13\36\3\36\3\36\3\37"+
+		"\3\37\5\37\u01ac\n\37\3 \3 \5 \u01b0\n \3!\7!\u01b3\n!\f!\16!\u01b6\13"+
+		"!\3!\7!\u01b9\n!\f!\16!\u01bc\13!\3!\3!\3!\3!\7!\u01c2\n!\f!\16!\u01c5"+
+		"\13!\3!\3!\3\"\3\"\3#\7#\u01cc\n#\f#\16#\u01cf\13#\3#\7#\u01d2\n#\f#\16"+
+		"#\u01d5\13#\3#\3#\3#\3$\3$\3%\5%\u01dd\n%\3%\3%\3%\3%\5%\u01e3\n%\3%\3"+
+		"%\3&\3&\5&\u01e9\n&\3\'\3\'\3(\3(\3(\7(\u01f0\n(\f(\16(\u01f3\13(\3)\7"+
+		")\u01f6\n)\f)\16)\u01f9\13)\3)\3)\3)\3*\3*\5*\u0200\n*\3+\7+\u0203\n+"+
+		"\f+\16+\u0206\13+\3+\7+\u0209\n+\f+\16+\u020c\13+\3+\3+\3+\3,\3,\3-\5"+
+		"-\u0214\n-\3-\3-\3-\5-\u0219\n-\3-\3-\3.\3.\5.\u021f\n.\3.\5.\u0222\n"+
+		".\3.\3.\3/\5/\u0227\n/\3/\3/\3/\5/\u022c\n/\3/\3/\3/\5/\u0231\n/\3/\3"+
+		"/\3/\5/\u0236\n/\3/\3/\5/\u023a\n/\3\60\7\60\u023d\n\60\f\60\16\60\u0240"+
+		"\13\60\3\60\7\60\u0243\n\60\f\60\16\60\u0246\13\60\3\60\3\60\3\60\3\60"+
+		"\3\60\3\60\3\61\3\61\5\61\u0250\n\61\3\61\3\61\3\62\3\62\3\62\7\62\u0257"+
+		"\n\62\f\62\16\62\u025a\13\62\3\63\7\63\u025d\n\63\f\63\16\63\u0260\13"+
+		"\63\3\63\3\63\3\64\7\64\u0265\n\64\f\64\16\64\u0268\13\64\3\64\7\64\u026b"+
+		"\n\64\f\64\16\64\u026e\13\64\3\64\3\64\3\64\3\64\5\64\u0274\n\64\3\64"+
+		"\5\64\u0277\n\64\3\64\3\64\3\65\3\65\3\66\3\66\3\66\3\67\3\67\7\67\u0282"+
+		"\n\67\f\67\16\67\u0285\13\67\3\67\3\67\38\78\u028a\n8\f8\168\u028d\13"+
+		"8\38\78\u0290\n8\f8\168\u0293\138\38\38\38\39\39\3:\3:\3:\3:\3:\5:\u029f"+
+		"\n:\3:\3:\5:\u02a3\n:\3;\3;\3;\3;\3;\5;\u02aa\n;\3<\3<\5<\u02ae\n<\3<"+
+		"\3<\3=\6=\u02b3\n=\r=\16=\u02b4\3>\3>\3>\5>\u02ba\n>\3?\7?\u02bd\n?\f"+
+		"?\16?\u02c0\13?\3?\3?\3?\3?\7?\u02c6\n?\f?\16?\u02c9\13?\3?\3?\3@\3@\3"+
+		"@\3@\5@\u02d1\n@\5@\u02d3\n@\3A\3A\3A\3A\3A\5A\u02da\nA\3B\3B\3B\5B\u02df"+
+		"\nB\3C\3C\3D\3D\3D\3D\3D\3D\3D\5D\u02ea\nD\3E\3E\5E\u02ee\nE\3F\3F\3F"+
+		"\3F\3F\5F\u02f5\nF\3F\3F\5F\u02f9\nF\3G\3G\5G\u02fd\nG\3G\3G\5G\u0301"+
+		"\nG\3H\3H\5H\u0305\nH\3H\3H\3H\3I\3I\3I\3I\3I\7I\u030f\nI\fI\16I\u0312"+
+		"\13I\3J\3J\3J\5J\u0317\nJ\3K\3K\3K\7K\u031c\nK\fK\16K\u031f\13K\3K\3K"+
+		"\5K\u0323\nK\3K\3K\3K\3K\7K\u0329\nK\fK\16K\u032c\13K\3K\3K\5K\u0330\n"+
+		"K\3K\3K\3K\3K\7K\u0336\nK\fK\16K\u0339\13K\3K\3K\5K\u033d\nK\3K\5K\u0340"+
+		"\nK\3L\3L\3L\7L\u0345\nL\fL\16L\u0348\13L\3L\3L\5L\u034c\nL\3L\3L\3M\3"+
+		"M\3M\5M\u0353\nM\3M\3M\3N\5N\u0358\nN\3N\3N\3N\5N\u035d\nN\3N\3N\3O\3"+
+		"O\3O\5O\u0364\nO\3P\3P\3P\3P\3P\3P\3P\3P\3P\3P\3P\3P\5P\u0372\nP\3Q\3"+
+		"Q\5Q\u0376\nQ\3Q\3Q\3Q\5Q\u037b\nQ\3Q\3Q\5Q\u037f\nQ\3Q\3Q\3R\3R\3R\3"+
+		"R\3R\3R\3S\3S\3S\3S\3S\3S\3S\5S\u0390\nS\3S\5S\u0393\nS\3T\3T\3T\5T\u0398"+
+		"\nT\3T\3T\3U\3U\3U\7U\u039f\nU\fU\16U\u03a2\13U\3U\3U\3U\3U\3U\3U\5U\u03aa"+
+		"\nU\3V\3V\3V\3V\3V\3V\3W\3W\3W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3Y\3Y"+
+		"\6Y\u03c2\nY\rY\16Y\u03c3\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03d0\nZ\3"+
+		"[\3[\3[\3[\3[\5[\u03d7\n[\3[\3[\5[\u03db\n[\3\\\3\\\3\\\6\\\u03e0\n\\"+
+		"\r\\\16\\\u03e1\3]\3]\3]\3]\3]\3]\3^\3^\3^\5^\u03ed\n^\3^\3^\3^\3^\5^"+
+		"\u03f3\n^\3_\3_\5_\u03f7\n_\3`\3`\3`\3`\3a\3a\5a\u03ff\na\3b\3b\3c\3c"+
+		"\3c\3c\3c\3c\7c\u0409\nc\fc\16c\u040c\13c\3d\3d\3d\3d\3d\3d\7d\u0414\n"+
+		"d\fd\16d\u0417\13d\3e\3e\3e\3e\3e\3e\7e\u041f\ne\fe\16e\u0422\13e\3f\3"+
+		"f\3f\3f\3f\3f\7f\u042a\nf\ff\16f\u042d\13f\3g\3g\3g\3g\3g\3g\3g\3g\3g"+
+		"\7g\u0438\ng\fg\16g\u043b\13g\3h\3h\3h\3h\3h\3h\3h\3h\3h\3h\3h\3h\3h\3"+
+		"h\3h\7h\u044c\nh\fh\16h\u044f\13h\3i\3i\3i\3i\3i\3i\3i\3i\3i\7i\u045a"+
+		"\ni\fi\16i\u045d\13i\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\7j\u046b\nj\f"+
+		"j\16j\u046e\13j\3k\3k\3k\3k\5k\u0474\nk\3l\3l\3l\3l\2\f\32\34\u00c4\u00c6"+
+		"\u00c8\u00ca\u00cc\u00ce\u00d0\u00d2m\2\4\6\b\n\f\16\20\22\24\26\30\32"+
+		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080"+
+		"\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098"+
+		"\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0"+
+		"\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8"+
+		"\u00ca\u00cc\u00ce\u00d0\u00d2\u00d4\u00d6\2\t\4\2\36 \"\"\3\2\3\b\4\2"+
+		"\3\5\7\b\3\2\3\5\3\2\3\7\4\2\3\3\6\6\4\2//?E\2\u049f\2\u00d8\3\2\2\2\4"+
+		"\u00da\3\2\2\2\6\u00e4\3\2\2\2\b\u00ec\3\2\2\2\n\u00ee\3\2\2\2\f\u00f7"+
+		"\3\2\2\2\16\u00f9\3\2\2\2\20\u0101\3\2\2\2\22\u0109\3\2\2\2\24\u010c\3"+
+		"\2\2\2\26\u0110\3\2\2\2\30\u011d\3\2\2\2\32\u011f\3\2\2\2\34\u012a\3\2"+
+		"\2\2\36\u013d\3\2\2\2 \u0140\3\2\2\2\"\u0148\3\2\2\2$\u014c\3\2\2\2&\u0157"+
+		"\3\2\2\2(\u015c\3\2\2\2*\u0173\3\2\2\2,\u017c\3\2\2\2.\u017e\3\2\2\2\60"+
+		"\u0182\3\2\2\2\62\u018a\3\2\2\2\64\u0192\3\2\2\2\66\u0195\3\2\2\28\u019d"+
+		"\3\2\2\2:\u01a0\3\2\2\2<\u01ab\3\2\2\2>\u01af\3\2\2\2@\u01b4\3\2\2\2B"+
+		"\u01c8\3\2\2\2D\u01cd\3\2\2\2F\u01d9\3\2\2\2H\u01dc\3\2\2\2J\u01e8\3\2"+
+		"\2\2L\u01ea\3\2\2\2N\u01ec\3\2\2\2P\u01f7\3\2\2\2R\u01ff\3\2\2\2T\u0204"+
+		"\3\2\2\2V\u0210\3\2\2\2X\u0213\3\2\2\2Z\u021c\3\2\2\2\\\u0239\3\2\2\2"+
+		"^\u023e\3\2\2\2`\u024d\3\2\2\2b\u0253\3\2\2\2d\u025e\3\2\2\2f\u0266\3"+
+		"\2\2\2h\u027a\3\2\2\2j\u027c\3\2\2\2l\u027f\3\2\2\2n\u028b\3\2\2\2p\u0297"+
+		"\3\2\2\2r\u0299\3\2\2\2t\u02a4\3\2\2\2v\u02ab\3\2\2\2x\u02b2\3\2\2\2z"+
+		"\u02b9\3\2\2\2|\u02be\3\2\2\2~\u02cc\3\2\2\2\u0080\u02d9\3\2\2\2\u0082"+
+		"\u02de\3\2\2\2\u0084\u02e0\3\2\2\2\u0086\u02e9\3\2\2\2\u0088\u02ed\3\2"+
+		"\2\2\u008a\u02f4\3\2\2\2\u008c\u02fc\3\2\2\2\u008e\u0304\3\2\2\2\u0090"+
+		"\u0309\3\2\2\2\u0092\u0316\3\2\2\2\u0094\u033f\3\2\2\2\u0096\u0341\3\2"+
+		"\2\2\u0098\u034f\3\2\2\2\u009a\u0357\3\2\2\2\u009c\u0360\3\2\2\2\u009e"+
+		"\u0371\3\2\2\2\u00a0\u0373\3\2\2\2\u00a2\u0382\3\2\2\2\u00a4\u0392\3\2"+
+		"\2\2\u00a6\u0397\3\2\2\2\u00a8\u03a9\3\2\2\2\u00aa\u03ab\3\2\2\2\u00ac"+
+		"\u03b1\3\2\2\2\u00ae\u03b9\3\2\2\2\u00b0\u03bf\3\2\2\2\u00b2\u03cf\3\2"+
+		"\2\2\u00b4\u03d6\3\2\2\2\u00b6\u03dc\3\2\2\2\u00b8\u03e3\3\2\2\2\u00ba"+
+		"\u03f2\3\2\2\2\u00bc\u03f6\3\2\2\2\u00be\u03f8\3\2\2\2\u00c0\u03fe\3\2"+
+		"\2\2\u00c2\u0400\3\2\2\2\u00c4\u0402\3\2\2\2\u00c6\u040d\3\2\2\2\u00c8"+
+		"\u0418\3\2\2\2\u00ca\u0423\3\2\2\2\u00cc\u042e\3\2\2\2\u00ce\u043c\3\2"+
+		"\2\2\u00d0\u0450\3\2\2\2\u00d2\u045e\3\2\2\2\u00d4\u0473\3\2\2\2\u00d6"+
+		"\u0475\3\2\2\2\u00d8\u00d9\t\2\2\2\u00d9\3\3\2\2\2\u00da\u00dc\7H\2\2"+
+		"\u00db\u00dd\5\f\7\2\u00dc\u00db\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd\u00df"+
+		"\3\2\2\2\u00de\u00e0\5\24\13\2\u00df\u00de\3\2\2\2\u00df\u00e0\3\2\2\2"+
+		"\u00e0\5\3\2\2\2\u00e1\u00e3\5r:\2\u00e2\u00e1\3\2\2\2\u00e3\u00e6\3\2"+
+		"\2\2\u00e4\u00e2\3\2\2\2\u00e4\u00e5\3\2\2\2\u00e5\u00e7\3\2\2\2\u00e6"+
+		"\u00e4\3\2\2\2\u00e7\u00e8\7H\2\2\u00e8\u00ea\5,\27\2\u00e9\u00eb\5\20"+
+		"\t\2\u00ea\u00e9\3\2\2\2\u00ea\u00eb\3\2\2\2\u00eb\7\3\2\2\2\u00ec\u00ed"+
+		"\7H\2\2\u00ed\t\3\2\2\2\u00ee\u00ef\7H\2\2\u00ef\13\3\2\2\2\u00f0\u00f1"+
+		"\7I\2\2\u00f1\u00f2\7#\2\2\u00f2\u00f3\5\16\b\2\u00f3\u00f4\7$\2\2\u00f4"+
+		"\u00f8\3\2\2\2\u00f5\u00f6\7I\2\2\u00f6\u00f8\5\n\6\2\u00f7\u00f0\3\2"+
+		"\2\2\u00f7\u00f5\3\2\2\2\u00f8\r\3\2\2\2\u00f9\u00fe\5\n\6\2\u00fa\u00fb"+
+		"\7,\2\2\u00fb\u00fd\5\n\6\2\u00fc\u00fa\3\2\2\2\u00fd\u0100\3\2\2\2\u00fe"+
+		"\u00fc\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff\17\3\2\2\2\u0100\u00fe\3\2\2"+
+		"\2\u0101\u0102\7\16\2\2\u0102\u0106\5\4\3\2\u0103\u0105\5\22\n\2\u0104"+
+		"\u0103\3\2\2\2\u0105\u0108\3\2\2\2\u0106\u0104\3\2\2\2\u0106\u0107\3\2"+
+		"\2\2\u0107\21\3\2\2\2\u0108\u0106\3\2\2\2\u0109\u010a\7\35\2\2\u010a\u010b"+
+		"\5\4\3\2\u010b\23\3\2\2\2\u010c\u010d\7)\2\2\u010d\u010e\5\26\f\2\u010e"+
+		"\u010f\7*\2\2\u010f\25\3\2\2\2\u0110\u0115\5\4\3\2\u0111\u0112\7,\2\2"+
+		"\u0112\u0114\5\4\3\2\u0113\u0111\3\2\2\2\u0114\u0117\3\2\2\2\u0115\u0113"+
+		"\3\2\2\2\u0115\u0116\3\2\2\2\u0116\27\3\2\2\2\u0117\u0115\3\2\2\2\u0118"+
+		"\u011e\7H\2\2\u0119\u011a\5\32\16\2\u011a\u011b\7-\2\2\u011b\u011c\7H"+
+		"\2\2\u011c\u011e\3\2\2\2\u011d\u0118\3\2\2\2\u011d\u0119\3\2\2\2\u011e"+
+		"\31\3\2\2\2\u011f\u0120\b\16\1\2\u0120\u0121\7H\2\2\u0121\u0127\3\2\2"+
+		"\2\u0122\u0123\f\3\2\2\u0123\u0124\7-\2\2\u0124\u0126\7H\2\2\u0125\u0122"+
+		"\3\2\2\2\u0126\u0129\3\2\2\2\u0127\u0125\3\2\2\2\u0127\u0128\3\2\2\2\u0128"+
+		"\33\3\2\2\2\u0129\u0127\3\2\2\2\u012a\u012b\b\17\1\2\u012b\u012c\7H\2"+
+		"\2\u012c\u0132\3\2\2\2\u012d\u012e\f\3\2\2\u012e\u012f\7-\2\2\u012f\u0131"+
+		"\7H\2\2\u0130\u012d\3\2\2\2\u0131\u0134\3\2\2\2\u0132\u0130\3\2\2\2\u0132"+
+		"\u0133\3\2\2\2\u0133\35\3\2\2\2\u0134\u0132\3\2\2\2\u0135\u0139\5 \21"+
+		"\2\u0136\u0138\5&\24\2\u0137\u0136\3\2\2\2\u0138\u013b\3\2\2\2\u0139\u0137"+
+		"\3\2\2\2\u0139\u013a\3\2\2\2\u013a\u013e\3\2\2\2\u013b\u0139\3\2\2\2\u013c"+
+		"\u013e\7\2\2\3\u013d\u0135\3\2\2\2\u013d\u013c\3\2\2\2\u013e\37\3\2\2"+
+		"\2\u013f\u0141\5\"\22\2\u0140\u013f\3\2\2\2\u0140\u0141\3\2\2\2\u0141"+
+		"\u0145\3\2\2\2\u0142\u0144\5$\23\2\u0143\u0142\3\2\2\2\u0144\u0147\3\2"+
+		"\2\2\u0145\u0143\3\2\2\2\u0145\u0146\3\2\2\2\u0146!\3\2\2\2\u0147\u0145"+
+		"\3\2\2\2\u0148\u0149\7\21\2\2\u0149\u014a\5\34\17\2\u014a\u014b\7+\2\2"+
+		"\u014b#\3\2\2\2\u014c\u014d\7\22\2\2\u014d\u0150\5\34\17\2\u014e\u014f"+
+		"\7-\2\2\u014f\u0151\7.\2\2\u0150\u014e\3\2\2\2\u0150\u0151\3\2\2\2\u0151"+
+		"\u0152\3\2\2\2\u0152\u0153\7+\2\2\u0153%\3\2\2\2\u0154\u0158\5(\25\2\u0155"+
+		"\u0158\5f\64\2\u0156\u0158\5^\60\2\u0157\u0154\3\2\2\2\u0157\u0155\3\2"+
+		"\2\2\u0157\u0156\3\2\2\2\u0158\'\3\2\2\2\u0159\u015b\5r:\2\u015a\u0159"+
+		"\3\2\2\2\u015b\u015e\3\2\2\2\u015c\u015a\3\2\2\2\u015c\u015d\3\2\2\2\u015d"+
+		"\u0162\3\2\2\2\u015e\u015c\3\2\2\2\u015f\u0161\5*\26\2\u0160\u015f\3\2"+
+		"\2\2\u0161\u0164\3\2\2\2\u0162\u0160\3\2\2\2\u0162\u0163\3\2\2\2\u0163"+
+		"\u0165\3\2\2\2\u0164\u0162\3\2\2\2\u0165\u0166\7\t\2\2\u0166\u0167\7H"+
+		"\2\2\u0167\u0169\5,\27\2\u0168\u016a\5.\30\2\u0169\u0168\3\2\2\2\u0169"+
+		"\u016a\3\2\2\2\u016a\u016c\3\2\2\2\u016b\u016d\58\35\2\u016c\u016b\3\2"+
+		"\2\2\u016c\u016d\3\2\2\2\u016d\u016f\3\2\2\2\u016e\u0170\5\64\33\2\u016f"+
+		"\u016e\3\2\2\2\u016f\u0170\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0172\5:"+
+		"\36\2\u0172)\3\2\2\2\u0173\u0174\t\3\2\2\u0174+\3\2\2\2\u0175\u0176\7"+
+		"I\2\2\u0176\u0177\7#\2\2\u0177\u0178\5\62\32\2\u0178\u0179\7$\2\2\u0179"+
+		"\u017d\3\2\2\2\u017a\u017b\7I\2\2\u017b\u017d\5\b\5\2\u017c\u0175\3\2"+
+		"\2\2\u017c\u017a\3\2\2\2\u017d-\3\2\2\2\u017e\u017f\7)\2\2\u017f\u0180"+
+		"\5\60\31\2\u0180\u0181\7*\2\2\u0181/\3\2\2\2\u0182\u0187\5\6\4\2\u0183"+
+		"\u0184\7,\2\2\u0184\u0186\5\6\4\2\u0185\u0183\3\2\2\2\u0186\u0189\3\2"+
+		"\2\2\u0187\u0185\3\2\2\2\u0187\u0188\3\2\2\2\u0188\61\3\2\2\2\u0189\u0187"+
+		"\3\2\2\2\u018a\u018f\5\b\5\2\u018b\u018c\7,\2\2\u018c\u018e\5\b\5\2\u018d"+
+		"\u018b\3\2\2\2\u018e\u0191\3\2\2\2\u018f\u018d\3\2\2\2\u018f\u0190\3\2"+
+		"\2\2\u0190\63\3\2\2\2\u0191\u018f\3\2\2\2\u0192\u0193\7\20\2\2\u0193\u0194"+
+		"\5\66\34\2\u0194\65\3\2\2\2\u0195\u019a\5\4\3\2\u0196\u0197\7,\2\2\u0197"+
+		"\u0199\5\4\3\2\u0198\u0196\3\2\2\2\u0199\u019c\3\2\2\2\u019a\u0198\3\2"+
+		"\2\2\u019a\u019b\3\2\2\2\u019b\67\3\2\2\2\u019c\u019a\3\2\2\2\u019d\u019e"+
+		"\7\16\2\2\u019e\u019f\5\4\3\2\u019f9\3\2\2\2\u01a0\u01a4\7%\2\2\u01a1"+
+		"\u01a3\5<\37\2\u01a2\u01a1\3\2\2\2\u01a3\u01a6\3\2\2\2\u01a4\u01a2\3\2"+
+		"\2\2\u01a4\u01a5\3\2\2\2\u01a5\u01a7\3\2\2\2\u01a6\u01a4\3\2\2\2\u01a7"+
+		"\u01a8\7&\2\2\u01a8;\3\2\2\2\u01a9\u01ac\5> \2\u01aa\u01ac\5T+\2\u01ab"+
+		"\u01a9\3\2\2\2\u01ab\u01aa\3\2\2\2\u01ac=\3\2\2\2\u01ad\u01b0\5@!\2\u01ae"+
+		"\u01b0\5D#\2\u01af\u01ad\3\2\2\2\u01af\u01ae\3\2\2\2\u01b0?\3\2\2\2\u01b1"+
+		"\u01b3\5r:\2\u01b2\u01b1\3\2\2\2\u01b3\u01b6\3\2\2\2\u01b4\u01b2\3\2\2"+
+		"\2\u01b4\u01b5\3\2\2\2\u01b5\u01ba\3\2\2\2\u01b6\u01b4\3\2\2\2\u01b7\u01b9"+
+		"\5B\"\2\u01b8\u01b7\3\2\2\2\u01b9\u01bc\3\2\2\2\u01ba\u01b8\3\2\2\2\u01ba"+
+		"\u01bb\3\2\2\2\u01bb\u01bd\3\2\2\2\u01bc\u01ba\3\2\2\2\u01bd\u01be\5\4"+
+		"\3\2\u01be\u01c3\7H\2\2\u01bf\u01c0\7,\2\2\u01c0\u01c2\7H\2\2\u01c1\u01bf"+
+		"\3\2\2\2\u01c2\u01c5\3\2\2\2\u01c3\u01c1\3\2\2\2\u01c3\u01c4\3\2\2\2\u01c4"+
+		"\u01c6\3\2\2\2\u01c5\u01c3\3\2\2\2\u01c6\u01c7\7+\2\2\u01c7A\3\2\2\2\u01c8"+
+		"\u01c9\t\4\2\2\u01c9C\3\2\2\2\u01ca\u01cc\5r:\2\u01cb\u01ca\3\2\2\2\u01cc"+
+		"\u01cf\3\2\2\2\u01cd\u01cb\3\2\2\2\u01cd\u01ce\3\2\2\2\u01ce\u01d3\3\2"+
+		"\2\2\u01cf\u01cd\3\2\2\2\u01d0\u01d2\5F$\2\u01d1\u01d0\3\2\2\2\u01d2\u01d5"+
+		"\3\2\2\2\u01d3\u01d1\3\2\2\2\u01d3\u01d4\3\2\2\2\u01d4\u01d6\3\2\2\2\u01d5"+
+		"\u01d3\3\2\2\2\u01d6\u01d7\5H%\2\u01d7\u01d8\5R*\2\u01d8E\3\2\2\2\u01d9"+
+		"\u01da\t\3\2\2\u01daG\3\2\2\2\u01db\u01dd\5.\30\2\u01dc\u01db\3\2\2\2"+
+		"\u01dc\u01dd\3\2\2\2\u01dd\u01de\3\2\2\2\u01de\u01df\5J&\2\u01df\u01e0"+
+		"\7H\2\2\u01e0\u01e2\7#\2\2\u01e1\u01e3\5L\'\2\u01e2\u01e1\3\2\2\2\u01e2"+
+		"\u01e3\3\2\2\2\u01e3\u01e4\3\2\2\2\u01e4\u01e5\7$\2\2\u01e5I\3\2\2\2\u01e6"+
+		"\u01e9\5\4\3\2\u01e7\u01e9\7\34\2\2\u01e8\u01e6\3\2\2\2\u01e8\u01e7\3"+
+		"\2\2\2\u01e9K\3\2\2\2\u01ea\u01eb\5N(\2\u01ebM\3\2\2\2\u01ec\u01f1\5P"+
+		")\2\u01ed\u01ee\7,\2\2\u01ee\u01f0\5P)\2\u01ef\u01ed\3\2\2\2\u01f0\u01f3"+
+		"\3\2\2\2\u01f1\u01ef\3\2\2\2\u01f1\u01f2\3\2\2\2\u01f2O\3\2\2\2\u01f3"+
+		"\u01f1\3\2\2\2\u01f4\u01f6\5r:\2\u01f5\u01f4\3\2\2\2\u01f6\u01f9\3\2\2"+
+		"\2\u01f7\u01f5\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8\u01fa\3\2\2\2\u01f9\u01f7"+
+		"\3\2\2\2\u01fa\u01fb\5\4\3\2\u01fb\u01fc\7H\2\2\u01fcQ\3\2\2\2\u01fd\u0200"+
+		"\5v<\2\u01fe\u0200\7+\2\2\u01ff\u01fd\3\2\2\2\u01ff\u01fe\3\2\2\2\u0200"+
+		"S\3\2\2\2\u0201\u0203\5r:\2\u0202\u0201\3\2\2\2\u0203\u0206\3\2\2\2\u0204"+
+		"\u0202\3\2\2\2\u0204\u0205\3\2\2\2\u0205\u020a\3\2\2\2\u0206\u0204\3\2"+
+		"\2\2\u0207\u0209\5V,\2\u0208\u0207\3\2\2\2\u0209\u020c\3\2\2\2\u020a\u0208"+
+		"\3\2\2\2\u020a\u020b\3\2\2\2\u020b\u020d\3\2\2\2\u020c\u020a\3\2\2\2\u020d"+
+		"\u020e\5X-\2\u020e\u020f\5Z.\2\u020fU\3\2\2\2\u0210\u0211\t\5\2\2\u0211"+
+		"W\3\2\2\2\u0212\u0214\5.\30\2\u0213\u0212\3\2\2\2\u0213\u0214\3\2\2\2"+
+		"\u0214\u0215\3\2\2\2\u0215\u0216\7H\2\2\u0216\u0218\7#\2\2\u0217\u0219"+
+		"\5L\'\2\u0218\u0217\3\2\2\2\u0218\u0219\3\2\2\2\u0219\u021a\3\2\2\2\u021a"+
+		"\u021b\7$\2\2\u021bY\3\2\2\2\u021c\u021e\7%\2\2\u021d\u021f\5\\/\2\u021e"+
+		"\u021d\3\2\2\2\u021e\u021f\3\2\2\2\u021f\u0221\3\2\2\2\u0220\u0222\5x"+
+		"=\2\u0221\u0220\3\2\2\2\u0221\u0222\3\2\2\2\u0222\u0223\3\2\2\2\u0223"+
+		"\u0224\7&\2\2\u0224[\3\2\2\2\u0225\u0227\5\24\13\2\u0226\u0225\3\2\2\2"+
+		"\u0226\u0227\3\2\2\2\u0227\u0228\3\2\2\2\u0228\u0229\7\30\2\2\u0229\u022b"+
+		"\7#\2\2\u022a\u022c\5\u00a8U\2\u022b\u022a\3\2\2\2\u022b\u022c\3\2\2\2"+
+		"\u022c\u022d\3\2\2\2\u022d\u022e\7$\2\2\u022e\u023a\7+\2\2\u022f\u0231"+
+		"\5\24\13\2\u0230\u022f\3\2\2\2\u0230\u0231\3\2\2\2\u0231\u0232\3\2\2\2"+
+		"\u0232\u0233\7\27\2\2\u0233\u0235\7#\2\2\u0234\u0236\5\u00a8U\2\u0235"+
+		"\u0234\3\2\2\2\u0235\u0236\3\2\2\2\u0236\u0237\3\2\2\2\u0237\u0238\7$"+
+		"\2\2\u0238\u023a\7+\2\2\u0239\u0226\3\2\2\2\u0239\u0230\3\2\2\2\u023a"+
+		"]\3\2\2\2\u023b\u023d\5r:\2\u023c\u023b\3\2\2\2\u023d\u0240\3\2\2\2\u023e"+
+		"\u023c\3\2\2\2\u023e\u023f\3\2\2\2\u023f\u0244\3\2\2\2\u0240\u023e\3\2"+
+		"\2\2\u0241\u0243\5*\26\2\u0242\u0241\3\2\2\2\u0243\u0246\3\2\2\2\u0244"+
+		"\u0242\3\2\2\2\u0244\u0245\3\2\2\2\u0245\u0247\3\2\2\2\u0246\u0244\3\2"+
+		"\2\2\u0247\u0248\7\24\2\2\u0248\u0249\7H\2\2\u0249\u024a\7I\2\2\u024a"+
+		"\u024b\5\b\5\2\u024b\u024c\5`\61\2\u024c_\3\2\2\2\u024d\u024f\7%\2\2\u024e"+
+		"\u0250\5b\62\2\u024f\u024e\3\2\2\2\u024f\u0250\3\2\2\2\u0250\u0251\3\2"+
+		"\2\2\u0251\u0252\7&\2\2\u0252a\3\2\2\2\u0253\u0258\5d\63\2\u0254\u0255"+
+		"\7,\2\2\u0255\u0257\5d\63\2\u0256\u0254\3\2\2\2\u0257\u025a\3\2\2\2\u0258"+
+		"\u0256\3\2\2\2\u0258\u0259\3\2\2\2\u0259c\3\2\2\2\u025a\u0258\3\2\2\2"+
+		"\u025b\u025d\5r:\2\u025c\u025b\3\2\2\2\u025d\u0260\3\2\2\2\u025e\u025c"+
+		"\3\2\2\2\u025e\u025f\3\2\2\2\u025f\u0261\3\2\2\2\u0260\u025e\3\2\2\2\u0261"+
+		"\u0262\7H\2\2\u0262e\3\2\2\2\u0263\u0265\5r:\2\u0264\u0263\3\2\2\2\u0265"+
+		"\u0268\3\2\2\2\u0266\u0264\3\2\2\2\u0266\u0267\3\2\2\2\u0267\u026c\3\2"+
+		"\2\2\u0268\u0266\3\2\2\2\u0269\u026b\5h\65\2\u026a\u0269\3\2\2\2\u026b"+
+		"\u026e\3\2\2\2\u026c\u026a\3\2\2\2\u026c\u026d\3\2\2\2\u026d\u026f\3\2"+
+		"\2\2\u026e\u026c\3\2\2\2\u026f\u0270\7\23\2\2\u0270\u0271\7H\2\2\u0271"+
+		"\u0273\5,\27\2\u0272\u0274\5.\30\2\u0273\u0272\3\2\2\2\u0273\u0274\3\2"+
+		"\2\2\u0274\u0276\3\2\2\2\u0275\u0277\5j\66\2\u0276\u0275\3\2\2\2\u0276"+
+		"\u0277\3\2\2\2\u0277\u0278\3\2\2\2\u0278\u0279\5l\67\2\u0279g\3\2\2\2"+
+		"\u027a\u027b\t\6\2\2\u027bi\3\2\2\2\u027c\u027d\7\16\2\2\u027d\u027e\5"+
+		"\66\34\2\u027ek\3\2\2\2\u027f\u0283\7%\2\2\u0280\u0282\5n8\2\u0281\u0280"+
+		"\3\2\2\2\u0282\u0285\3\2\2\2\u0283\u0281\3\2\2\2\u0283\u0284\3\2\2\2\u0284"+
+		"\u0286\3\2\2\2\u0285\u0283\3\2\2\2\u0286\u0287\7&\2\2\u0287m\3\2\2\2\u0288"+
+		"\u028a\5r:\2\u0289\u0288\3\2\2\2\u028a\u028d\3\2\2\2\u028b\u0289\3\2\2"+
+		"\2\u028b\u028c\3\2\2\2\u028c\u0291\3\2\2\2\u028d\u028b\3\2\2\2\u028e\u0290"+
+		"\5p9\2\u028f\u028e\3\2\2\2\u0290\u0293\3\2\2\2\u0291\u028f\3\2\2\2\u0291"+
+		"\u0292\3\2\2\2\u0292\u0294\3\2\2\2\u0293\u0291\3\2\2\2\u0294\u0295\5H"+
+		"%\2\u0295\u0296\7+\2\2\u0296o\3\2\2\2\u0297\u0298\t\7\2\2\u0298q\3\2\2"+
+		"\2\u0299\u029a\7I\2\2\u029a\u02a2\7H\2\2\u029b\u029e\7#\2\2\u029c\u029f"+
+		"\5\2\2\2\u029d\u029f\5t;\2\u029e\u029c\3\2\2\2\u029e\u029d\3\2\2\2\u029f"+
+		"\u02a0\3\2\2\2\u02a0\u02a1\7$\2\2\u02a1\u02a3\3\2\2\2\u02a2\u029b\3\2"+
+		"\2\2\u02a2\u02a3\3\2\2\2\u02a3s\3\2\2\2\u02a4\u02a5\7H\2\2\u02a5\u02a6"+
+		"\7/\2\2\u02a6\u02a9\5\2\2\2\u02a7\u02a8\7,\2\2\u02a8\u02aa\5t;\2\u02a9"+
+		"\u02a7\3\2\2\2\u02a9\u02aa\3\2\2\2\u02aau\3\2\2\2\u02ab\u02ad\7%\2\2\u02ac"+
+		"\u02ae\5x=\2\u02ad\u02ac\3\2\2\2\u02ad\u02ae\3\2\2\2\u02ae\u02af\3\2\2"+
+		"\2\u02af\u02b0\7&\2\2\u02b0w\3\2\2\2\u02b1\u02b3\5z>\2\u02b2\u02b1\3\2"+
+		"\2\2\u02b3\u02b4\3\2\2\2\u02b4\u02b2\3\2\2\2\u02b4\u02b5\3\2\2\2\u02b5"+
+		"y\3\2\2\2\u02b6\u02ba\5|?\2\u02b7\u02ba\5v<\2\u02b8\u02ba\5\u0080A\2\u02b9"+
+		"\u02b6\3\2\2\2\u02b9\u02b7\3\2\2\2\u02b9\u02b8\3\2\2\2\u02ba{\3\2\2\2"+
+		"\u02bb\u02bd\5r:\2\u02bc\u02bb\3\2\2\2\u02bd\u02c0\3\2\2\2\u02be\u02bc"+
+		"\3\2\2\2\u02be\u02bf\3\2\2\2\u02bf\u02c1\3\2\2\2\u02c0\u02be\3\2\2\2\u02c1"+
+		"\u02c2\5\4\3\2\u02c2\u02c7\5~@\2\u02c3\u02c4\7,\2\2\u02c4\u02c6\5~@\2"+
+		"\u02c5\u02c3\3\2\2\2\u02c6\u02c9\3\2\2\2\u02c7\u02c5\3\2\2\2\u02c7\u02c8"+
+		"\3\2\2\2\u02c8\u02ca\3\2\2\2\u02c9\u02c7\3\2\2\2\u02ca\u02cb\7+\2\2\u02cb"+
+		"}\3\2\2\2\u02cc\u02d2\7H\2\2\u02cd\u02ce\7/\2\2\u02ce\u02d0\5\u00c4c\2"+
+		"\u02cf\u02d1\5\u0090I\2\u02d0\u02cf\3\2\2\2\u02d0\u02d1\3\2\2\2\u02d1"+
+		"\u02d3\3\2\2\2\u02d2\u02cd\3\2\2\2\u02d2\u02d3\3\2\2\2\u02d3\177\3\2\2"+
+		"\2\u02d4\u02da\5\u0082B\2\u02d5\u02da\5\u00aaV\2\u02d6\u02da\5\u00acW"+
+		"\2\u02d7\u02da\5\u00aeX\2\u02d8\u02da\5\u00b6\\\2\u02d9\u02d4\3\2\2\2"+
+		"\u02d9\u02d5\3\2\2\2\u02d9\u02d6\3\2\2\2\u02d9\u02d7\3\2\2\2\u02d9\u02d8"+
+		"\3\2\2\2\u02da\u0081\3\2\2\2\u02db\u02df\5\u0084C\2\u02dc\u02df\5\u0086"+
+		"D\2\u02dd\u02df\5\u00ba^\2\u02de\u02db\3\2\2\2\u02de\u02dc\3\2\2\2\u02de"+
+		"\u02dd\3\2\2\2\u02df\u0083\3\2\2\2\u02e0\u02e1\7+\2\2\u02e1\u0085\3\2"+
+		"\2\2\u02e2\u02e3\5\u0088E\2\u02e3\u02e4\7+\2\2\u02e4\u02ea\3\2\2\2\u02e5"+
+		"\u02e6\5\u00bc_\2\u02e6\u02e7\5\u0090I\2\u02e7\u02e8\7+\2\2\u02e8\u02ea"+
+		"\3\2\2\2\u02e9\u02e2\3\2\2\2\u02e9\u02e5\3\2\2\2\u02ea\u0087\3\2\2\2\u02eb"+
+		"\u02ee\5\u00be`\2\u02ec\u02ee\5\u008aF\2\u02ed\u02eb\3\2\2\2\u02ed\u02ec"+
+		"\3\2\2\2\u02ee\u0089\3\2\2\2\u02ef\u02f5\5\u00a4S\2\u02f0\u02f5\5\u009a"+
+		"N\2\u02f1\u02f5\5\u00a0Q\2\u02f2\u02f5\5\u009cO\2\u02f3\u02f5\5\u008e"+
+		"H\2\u02f4\u02ef\3\2\2\2\u02f4\u02f0\3\2\2\2\u02f4\u02f1\3\2\2\2\u02f4"+
+		"\u02f2\3\2\2\2\u02f4\u02f3\3\2\2\2\u02f5\u02f8\3\2\2\2\u02f6\u02f7\7-"+
+		"\2\2\u02f7\u02f9\5\u008cG\2\u02f8\u02f6\3\2\2\2\u02f8\u02f9\3\2\2\2\u02f9"+
+		"\u008b\3\2\2\2\u02fa\u02fd\5\u00a6T\2\u02fb\u02fd\5\u009aN\2\u02fc\u02fa"+
+		"\3\2\2\2\u02fc\u02fb\3\2\2\2\u02fd\u0300\3\2\2\2\u02fe\u02ff\7-\2\2\u02ff"+
+		"\u0301\5\u008cG\2\u0300\u02fe\3\2\2\2\u0300\u0301\3\2\2\2\u0301\u008d"+
+		"\3\2\2\2\u0302\u0305\7\30\2\2\u0303\u0305\7\27\2\2\u0304\u0302\3\2\2\2"+
+		"\u0304\u0303\3\2\2\2\u0305\u0306\3\2\2\2\u0306\u0307\7-\2\2\u0307\u0308"+
+		"\5\u009aN\2\u0308\u008f\3\2\2\2\u0309\u030a\5\u00d6l\2\u030a\u0310\5\u0092"+
+		"J\2\u030b\u030c\5\u00d6l\2\u030c\u030d\5\u0092J\2\u030d\u030f\3\2\2\2"+
+		"\u030e\u030b\3\2\2\2\u030f\u0312\3\2\2\2\u0310\u030e\3\2\2\2\u0310\u0311"+
+		"\3\2\2\2\u0311\u0091\3\2\2\2\u0312\u0310\3\2\2\2\u0313\u0317\5\u0098M"+
+		"\2\u0314\u0317\5\u0096L\2\u0315\u0317\5\u0094K\2\u0316\u0313\3\2\2\2\u0316"+
+		"\u0314\3\2\2\2\u0316\u0315\3\2\2\2\u0317\u0093\3\2\2\2\u0318\u031d\7H"+
+		"\2\2\u0319\u031a\7-\2\2\u031a\u031c\7H\2\2\u031b\u0319\3\2\2\2\u031c\u031f"+
+		"\3\2\2\2\u031d\u031b\3\2\2\2\u031d\u031e\3\2\2\2\u031e\u0320\3\2\2\2\u031f"+
+		"\u031d\3\2\2\2\u0320\u0322\7F\2\2\u0321\u0323\5\24\13\2\u0322\u0321\3"+
+		"\2\2\2\u0322\u0323\3\2\2\2\u0323\u0324\3\2\2\2\u0324\u0340\7H\2\2\u0325"+
+		"\u032a\7\30\2\2\u0326\u0327\7-\2\2\u0327\u0329\7H\2\2\u0328\u0326\3\2"+
+		"\2\2\u0329\u032c\3\2\2\2\u032a\u0328\3\2\2\2\u032a\u032b\3\2\2\2\u032b"+
+		"\u032d\3\2\2\2\u032c\u032a\3\2\2\2\u032d\u032f\7F\2\2\u032e\u0330\5\24"+
+		"\13\2\u032f\u032e\3\2\2\2\u032f\u0330\3\2\2\2\u0330\u0331\3\2\2\2\u0331"+
+		"\u0340\7H\2\2\u0332\u0337\7\27\2\2\u0333\u0334\7-\2\2\u0334\u0336\7H\2"+
+		"\2\u0335\u0333\3\2\2\2\u0336\u0339\3\2\2\2\u0337\u0335\3\2\2\2\u0337\u0338"+
+		"\3\2\2\2\u0338\u033a\3\2\2\2\u0339\u0337\3\2\2\2\u033a\u033c\7F\2\2\u033b"+
+		"\u033d\5\24\13\2\u033c\u033b\3\2\2\2\u033c\u033d\3\2\2\2\u033d\u033e\3"+
+		"\2\2\2\u033e\u0340\7H\2\2\u033f\u0318\3\2\2\2\u033f\u0325\3\2\2\2\u033f"+
+		"\u0332\3\2\2\2\u0340\u0095\3\2\2\2\u0341\u0346\5\u009cO\2\u0342\u0343"+
+		"\7-\2\2\u0343\u0345\7H\2\2\u0344\u0342\3\2\2\2\u0345\u0348\3\2\2\2\u0346"+
+		"\u0344\3\2\2\2\u0346\u0347\3\2\2\2\u0347\u0349\3\2\2\2\u0348\u0346\3\2"+
+		"\2\2\u0349\u034b\7F\2\2\u034a\u034c\5\24\13\2\u034b\u034a\3\2\2\2\u034b"+
+		"\u034c\3\2\2\2\u034c\u034d\3\2\2\2\u034d\u034e\7H\2\2\u034e\u0097\3\2"+
+		"\2\2\u034f\u0350\5\u009cO\2\u0350\u0352\7F\2\2\u0351\u0353\5\24\13\2\u0352"+
+		"\u0351\3\2\2\2\u0352\u0353\3\2\2\2\u0353\u0354\3\2\2\2\u0354\u0355\7\25"+
+		"\2\2\u0355\u0099\3\2\2\2\u0356\u0358\5\24\13\2\u0357\u0356\3\2\2\2\u0357"+
+		"\u0358\3\2\2\2\u0358\u0359\3\2\2\2\u0359\u035a\7H\2\2\u035a\u035c\7#\2"+
+		"\2\u035b\u035d\5\u00a8U\2\u035c\u035b\3\2\2\2\u035c\u035d\3\2\2\2\u035d"+
+		"\u035e\3\2\2\2\u035e\u035f\7$\2\2\u035f\u009b\3\2\2\2\u0360\u0361\7H\2"+
+		"\2\u0361\u0363\5\f\7\2\u0362\u0364\5\24\13\2\u0363\u0362\3\2\2\2\u0363"+
+		"\u0364\3\2\2\2\u0364\u009d\3\2\2\2\u0365\u0366\5\2\2\2\u0366\u0367\7I"+
+		"\2\2\u0367\u0368\5\n\6\2\u0368\u0372\3\2\2\2\u0369\u036a\7\33\2\2\u036a"+
+		"\u0372\5\f\7\2\u036b\u0372\7\30\2\2\u036c\u0372\7\27\2\2\u036d\u036e\7"+
+		"#\2\2\u036e\u036f\5\u00bc_\2\u036f\u0370\7$\2\2\u0370\u0372\3\2\2\2\u0371"+
+		"\u0365\3\2\2\2\u0371\u0369\3\2\2\2\u0371\u036b\3\2\2\2\u0371\u036c\3\2"+
+		"\2\2\u0371\u036d\3\2\2\2\u0372\u009f\3\2\2\2\u0373\u0375\7\25\2\2\u0374"+
+		"\u0376\5\24\13\2\u0375\u0374\3\2\2\2\u0375\u0376\3\2\2\2\u0376\u0377\3"+
+		"\2\2\2\u0377\u0378\7H\2\2\u0378\u037a\5\f\7\2\u0379\u037b\5\24\13\2\u037a"+
+		"\u0379\3\2\2\2\u037a\u037b\3\2\2\2\u037b\u037c\3\2\2\2\u037c\u037e\7#"+
+		"\2\2\u037d\u037f\5\u00a8U\2\u037e\u037d\3\2\2\2\u037e\u037f\3\2\2\2\u037f"+
+		"\u0380\3\2\2\2\u0380\u0381\7$\2\2\u0381\u00a1\3\2\2\2\u0382\u0383\7H\2"+
+		"\2\u0383\u0384\7I\2\2\u0384\u0385\5\n\6\2\u0385\u0386\7-\2\2\u0386\u0387"+
+		"\7H\2\2\u0387\u00a3\3\2\2\2\u0388\u0389\5\u009eP\2\u0389\u038a\7-\2\2"+
+		"\u038a\u038b\7H\2\2\u038b\u0393\3\2\2\2\u038c\u038d\5\30\r\2\u038d\u038e"+
+		"\7-\2\2\u038e\u0390\3\2\2\2\u038f\u038c\3\2\2\2\u038f\u0390\3\2\2\2\u0390"+
+		"\u0391\3\2\2\2\u0391\u0393\7H\2\2\u0392\u0388\3\2\2\2\u0392\u038f\3\2"+
+		"\2\2\u0393\u00a5\3\2\2\2\u0394\u0395\5\30\r\2\u0395\u0396\7-\2\2\u0396"+
+		"\u0398\3\2\2\2\u0397\u0394\3\2\2\2\u0397\u0398\3\2\2\2\u0398\u0399\3\2"+
+		"\2\2\u0399\u039a\7H\2\2\u039a\u00a7\3\2\2\2\u039b\u03a0\5\u00bc_\2\u039c"+
+		"\u039d\7,\2\2\u039d\u039f\5\u00bc_\2\u039e\u039c\3\2\2\2\u039f\u03a2\3"+
+		"\2\2\2\u03a0\u039e\3\2\2\2\u03a0\u03a1\3\2\2\2\u03a1\u03aa\3\2\2\2\u03a2"+
+		"\u03a0\3\2\2\2\u03a3\u03a4\5\2\2\2\u03a4\u03a5\7I\2\2\u03a5\u03a6\7\'"+
+		"\2\2\u03a6\u03a7\5\16\b\2\u03a7\u03a8\7(\2\2\u03a8\u03aa\3\2\2\2\u03a9"+
+		"\u039b\3\2\2\2\u03a9\u03a3\3\2\2\2\u03aa\u00a9\3\2\2\2\u03ab\u03ac\7\17"+
+		"\2\2\u03ac\u03ad\7#\2\2\u03ad\u03ae\5\u00bc_\2\u03ae\u03af\7$\2\2\u03af"+
+		"\u03b0\5v<\2\u03b0\u00ab\3\2\2\2\u03b1\u03b2\7\17\2\2\u03b2\u03b3\7#\2"+
+		"\2\u03b3\u03b4\5\u00bc_\2\u03b4\u03b5\7$\2\2\u03b5\u03b6\5v<\2\u03b6\u03b7"+
+		"\7\n\2\2\u03b7\u03b8\5v<\2\u03b8\u00ad\3\2\2\2\u03b9\u03ba\7\13\2\2\u03ba"+
+		"\u03bb\7#\2\2\u03bb\u03bc\5\u00bc_\2\u03bc\u03bd\7$\2\2\u03bd\u03be\5"+
+		"\u00b0Y\2\u03be\u00af\3\2\2\2\u03bf\u03c1\7%\2\2\u03c0\u03c2\5\u00b2Z"+
+		"\2\u03c1\u03c0\3\2\2\2\u03c2\u03c3\3\2\2\2\u03c3\u03c1\3\2\2\2\u03c3\u03c4"+
+		"\3\2\2\2\u03c4\u03c5\3\2\2\2\u03c5\u03c6\7&\2\2\u03c6\u00b1\3\2\2\2\u03c7"+
+		"\u03c8\7\f\2\2\u03c8\u03c9\5\u00b4[\2\u03c9\u03ca\7G\2\2\u03ca\u03cb\5"+
+		"v<\2\u03cb\u03d0\3\2\2\2\u03cc\u03cd\7\r\2\2\u03cd\u03ce\7G\2\2\u03ce"+
+		"\u03d0\5v<\2\u03cf\u03c7\3\2\2\2\u03cf\u03cc\3\2\2\2\u03d0\u00b3\3\2\2"+
+		"\2\u03d1\u03d7\7H\2\2\u03d2\u03d3\5\2\2\2\u03d3\u03d4\7I\2\2\u03d4\u03d5"+
+		"\5\n\6\2\u03d5\u03d7\3\2\2\2\u03d6\u03d1\3\2\2\2\u03d6\u03d2\3\2\2\2\u03d7"+
+		"\u03da\3\2\2\2\u03d8\u03d9\7,\2\2\u03d9\u03db\5\u00b4[\2\u03da\u03d8\3"+
+		"\2\2\2\u03da\u03db\3\2\2\2\u03db\u00b5\3\2\2\2\u03dc\u03dd\7\31\2\2\u03dd"+
+		"\u03df\5v<\2\u03de\u03e0\5\u00b8]\2\u03df\u03de\3\2\2\2\u03e0\u03e1\3"+
+		"\2\2\2\u03e1\u03df\3\2\2\2\u03e1\u03e2\3\2\2\2\u03e2\u00b7\3\2\2\2\u03e3"+
+		"\u03e4\7\32\2\2\u03e4\u03e5\7#\2\2\u03e5\u03e6\5P)\2\u03e6\u03e7\7$\2"+
+		"\2\u03e7\u03e8\5v<\2\u03e8\u00b9\3\2\2\2\u03e9\u03ea\7\26\2\2\u03ea\u03ec"+
+		"\5\u00bc_\2\u03eb\u03ed\5\u0090I\2\u03ec\u03eb\3\2\2\2\u03ec\u03ed\3\2"+
+		"\2\2\u03ed\u03ee\3\2\2\2\u03ee\u03ef\7+\2\2\u03ef\u03f3\3\2\2\2\u03f0"+
+		"\u03f1\7\26\2\2\u03f1\u03f3\7+\2\2\u03f2\u03e9\3\2\2\2\u03f2\u03f0\3\2"+
+		"\2\2\u03f3\u00bb\3\2\2\2\u03f4\u03f7\5\u00c4c\2\u03f5\u03f7\5\u00be`\2"+
+		"\u03f6\u03f4\3\2\2\2\u03f6\u03f5\3\2\2\2\u03f7\u00bd\3\2\2\2\u03f8\u03f9"+
+		"\5\u00c0a\2\u03f9\u03fa\5\u00c2b\2\u03fa\u03fb\5\u00bc_\2\u03fb\u00bf"+
+		"\3\2\2\2\u03fc\u03ff\5\30\r\2\u03fd\u03ff\5\u00a4S\2\u03fe\u03fc\3\2\2"+
+		"\2\u03fe\u03fd\3\2\2\2\u03ff\u00c1\3\2\2\2\u0400\u0401\t\b\2\2\u0401\u00c3"+
+		"\3\2\2\2\u0402\u0403\bc\1\2\u0403\u0404\5\u00c6d\2\u0404\u040a\3\2\2\2"+
+		"\u0405\u0406\f\3\2\2\u0406\u0407\7\67\2\2\u0407\u0409\5\u00c6d\2\u0408"+
+		"\u0405\3\2\2\2\u0409\u040c\3\2\2\2\u040a\u0408\3\2\2\2\u040a\u040b\3\2"+
+		"\2\2\u040b\u00c5\3\2\2\2\u040c\u040a\3\2\2\2\u040d\u040e\bd\1\2\u040e"+
+		"\u040f\5\u00c8e\2\u040f\u0415\3\2\2\2\u0410\u0411\f\3\2\2\u0411\u0412"+
+		"\7\66\2\2\u0412\u0414\5\u00c8e\2\u0413\u0410\3\2\2\2\u0414\u0417\3\2\2"+
+		"\2\u0415\u0413\3\2\2\2\u0415\u0416\3\2\2\2\u0416\u00c7\3\2\2\2\u0417\u0415"+
+		"\3\2\2\2\u0418\u0419\be\1\2\u0419\u041a\5\u00caf\2\u041a\u0420\3\2\2\2"+
+		"\u041b\u041c\f\3\2\2\u041c\u041d\7=\2\2\u041d\u041f\5\u00caf\2\u041e\u041b"+
+		"\3\2\2\2\u041f\u0422\3\2\2\2\u0420\u041e\3\2\2\2\u0420\u0421\3\2\2\2\u0421"+
+		"\u00c9\3\2\2\2\u0422\u0420\3\2\2\2\u0423\u0424\bf\1\2\u0424\u0425\5\u00cc"+
+		"g\2\u0425\u042b\3\2\2\2\u0426\u0427\f\3\2\2\u0427\u0428\7\35\2\2\u0428"+
+		"\u042a\5\u00ccg\2\u0429\u0426\3\2\2\2\u042a\u042d\3\2\2\2\u042b\u0429"+
+		"\3\2\2\2\u042b\u042c\3\2\2\2\u042c\u00cb\3\2\2\2\u042d\u042b\3\2\2\2\u042e"+
+		"\u042f\bg\1\2\u042f\u0430\5\u00ceh\2\u0430\u0439\3\2\2\2\u0431\u0432\f"+
+		"\4\2\2\u0432\u0433\7\64\2\2\u0433\u0438\5\u00ceh\2\u0434\u0435\f\3\2\2"+
+		"\u0435\u0436\7\65\2\2\u0436\u0438\5\u00ceh\2\u0437\u0431\3\2\2\2\u0437"+
+		"\u0434\3\2\2\2\u0438\u043b\3\2\2\2\u0439\u0437\3\2\2\2\u0439\u043a\3\2"+
+		"\2\2\u043a\u00cd\3\2\2\2\u043b\u0439\3\2\2\2\u043c\u043d\bh\1\2\u043d"+
+		"\u043e\5\u00d0i\2\u043e\u044d\3\2\2\2\u043f\u0440\f\6\2\2\u0440\u0441"+
+		"\7*\2\2\u0441\u044c\5\u00d0i\2\u0442\u0443\f\5\2\2\u0443\u0444\7\60\2"+
+		"\2\u0444\u044c\5\u00d0i\2\u0445\u0446\f\4\2\2\u0446\u0447\7)\2\2\u0447"+
+		"\u044c\5\u00d0i\2\u0448\u0449\f\3\2\2\u0449\u044a\7\61\2\2\u044a\u044c"+
+		"\5\u00d0i\2\u044b\u043f\3\2\2\2\u044b\u0442\3\2\2\2\u044b\u0445\3\2\2"+
+		"\2\u044b\u0448\3\2\2\2\u044c\u044f\3\2\2\2\u044d\u044b\3\2\2\2\u044d\u044e"+
+		"\3\2\2\2\u044e\u00cf\3\2\2\2\u044f\u044d\3\2\2\2\u0450\u0451\bi\1\2\u0451"+
+		"\u0452\5\u00d2j\2\u0452\u045b\3\2\2\2\u0453\u0454\f\4\2\2\u0454\u0455"+
+		"\7:\2\2\u0455\u045a\5\u00d2j\2\u0456\u0457\f\3\2\2\u0457\u0458\7;\2\2"+
+		"\u0458\u045a\5\u00d2j\2\u0459\u0453\3\2\2\2\u0459\u0456\3\2\2\2\u045a"+
+		"\u045d\3\2\2\2\u045b\u0459\3\2\2\2\u045b\u045c\3\2\2\2\u045c\u00d1\3\2"+
+		"\2\2\u045d\u045b\3\2\2\2\u045e\u045f\bj\1\2\u045f\u0460\5\u00d4k\2\u0460"+
+		"\u046c\3\2\2\2\u0461\u0462\f\5\2\2\u0462\u0463\7.\2\2\u0463\u046b\5\u00d4"+
+		"k\2\u0464\u0465\f\4\2\2\u0465\u0466\7<\2\2\u0466\u046b\5\u00d4k\2\u0467"+
+		"\u0468\f\3\2\2\u0468\u0469\7>\2\2\u0469\u046b\5\u00d4k\2\u046a\u0461\3"+
+		"\2\2\2\u046a\u0464\3\2\2\2\u046a\u0467\3\2\2\2\u046b\u046e\3\2\2\2\u046c"+
+		"\u046a\3\2\2\2\u046c\u046d\3\2\2\2\u046d\u00d3\3\2\2\2\u046e\u046c\3\2"+
+		"\2\2\u046f\u0474\5\u009eP\2\u0470\u0474\5\u0088E\2\u0471\u0472\7\62\2"+
+		"\2\u0472\u0474\5\u00d4k\2\u0473\u046f\3\2\2\2\u0473\u0470\3\2\2\2\u0473"+
+		"\u0471\3\2\2\2\u0474\u00d5\3\2\2\2\u0475\u0476\7*\2\2\u0476\u0477\7*\2"+
+		"\2\u0477\u00d7\3\2\2\2\u0082\u00dc\u00df\u00e4\u00ea\u00f7\u00fe\u0106"+
+		"\u0115\u011d\u0127\u0132\u0139\u013d\u0140\u0145\u0150\u0157\u015c\u0162"+
+		"\u0169\u016c\u016f\u017c\u0187\u018f\u019a\u01a4\u01ab\u01af\u01b4\u01ba"+
+		"\u01c3\u01cd\u01d3\u01dc\u01e2\u01e8\u01f1\u01f7\u01ff\u0204\u020a\u0213"+
+		"\u0218\u021e\u0221\u0226\u022b\u0230\u0235\u0239\u023e\u0244\u024f\u0258"+
+		"\u025e\u0266\u026c\u0273\u0276\u0283\u028b\u0291\u029e\u02a2\u02a9\u02ad"+
+		"\u02b4\u02b9\u02be\u02c7\u02d0\u02d2\u02d9\u02de\u02e9\u02ed\u02f4\u02f8"+
+		"\u02fc\u0300\u0304\u0310\u0316\u031d\u0322\u032a\u032f\u0337\u033c\u033f"+
+		"\u0346\u034b\u0352\u0357\u035c\u0363\u0371\u0375\u037a\u037e\u038f\u0392"+
+		"\u0397\u03a0\u03a9\u03c3\u03cf\u03d6\u03da\u03e1\u03ec\u03f2\u03f6\u03fe"+
+		"\u040a\u0415\u0420\u042b\u0437\u0439\u044b\u044d\u0459\u045b\u046a\u046c"+
+		"\u0473";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
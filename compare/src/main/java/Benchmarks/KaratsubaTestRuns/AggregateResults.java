@@ -20,6 +20,7 @@ public class AggregateResults {
 		map.put( "choral_local", "cSetup" );
 		map.put( "akka_local", "aSetup" );
 //		map.put( "choral_socket", "choralSock" );
+//		map.put( "choral_runner", "cRunner" );
 
 		List< String > tiers = List.of(
 				new String[] { "sequential", "choral_local", "akka_local" } );
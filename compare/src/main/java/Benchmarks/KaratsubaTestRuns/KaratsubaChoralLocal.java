@@ -6,6 +6,7 @@ import Benchmarks.Choral.Karatsuba.Karatsuba_C;
 import choral.channels.SymChannel_A;
 import choral.channels.SymChannel_B;
 import choral.choralUnit.testUtils.TestUtils;
+import choral.runtime.Media.RoleThreads;
 import choral.utils.Pair;
 
 import java.io.FileWriter;
@@ -16,7 +17,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
@@ -47,7 +47,7 @@ public class KaratsubaChoralLocal {
 					long right = Long.parseLong( couple[ 1 ] );
 					long result = Long.parseLong( couple[ 2 ] );
 					long start = System.nanoTime();
-					ExecutorService executors = Executors.newFixedThreadPool( 3 );
+					ExecutorService executors = RoleThreads.newExecutor( 3 );
 					Pair< SymChannel_A< Object >, SymChannel_B< Object > > ch_AB = TestUtils.newLocalChannel(
 							"ch_AB" );
 					Pair< SymChannel_A< Object >, SymChannel_B< Object > > ch_BC = TestUtils.newLocalChannel(
@@ -0,0 +1,64 @@
+package Benchmarks.KaratsubaTestRuns;
+
+import Benchmarks.Choral.Karatsuba.Karatsuba_A;
+import Benchmarks.Choral.Karatsuba.Karatsuba_B;
+import Benchmarks.Choral.Karatsuba.Karatsuba_C;
+import choral.runtime.ChoreographyRunner.ChoreographyRunner;
+import choral.runtime.ChoreographyRunner.Transport;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class KaratsubaChoralRunner {
+
+	public static final String filepath = System.getProperty(
+			"user.dir" ) + "compare/java/Benchmarks/results/";
+	public static final String folder = "choral_runner/";
+
+	public static void main( String[] args ) {
+		runBenchmarks( false );
+		runBenchmarks( true );
+	}
+
+	public static void runBenchmarks( boolean write ) {
+		try( ChoreographyRunner runner = new ChoreographyRunner( "multiply", Transport.local(),
+				Karatsuba_A.class, Karatsuba_B.class, Karatsuba_C.class ) ) {
+			List< Path > num_files = Files.list( Path.of( CoupleGenerator.filepath ) ).collect(
+					Collectors.toList() );
+			for( Path numbers : num_files ) {
+				int idx = Integer.parseInt(
+						numbers.getFileName().toString().split( "numbers_" )[ 1 ].split(
+								".csv" )[ 0 ] );
+				String[] num_lines = Files.readString( numbers ).split( "\n" );
+				List< Long > times = new LinkedList<>();
+				for( String line : num_lines ) {
+					String[] couple = line.split( "," );
+					long left = Long.parseLong( couple[ 0 ] );
+					long right = Long.parseLong( couple[ 1 ] );
+					long result = Long.parseLong( couple[ 2 ] );
+					long start = System.nanoTime();
+					Object computed = runner.run( left, right ).get( "A" );
+					times.add( System.nanoTime() - start );
+					if( !computed.equals( result ) ) {
+						throw new RuntimeException(
+								"The procedure returned an unexpected result, expected: " + result + ", computed: " + computed );
+					}
+				}
+				if( write ) {
+					Files.createDirectories( Path.of( filepath + folder ) );
+					FileWriter w = new FileWriter( filepath + folder + "results_" + idx + ".csv" );
+					w.write( times.toString() );
+					w.close();
+				}
+			}
+		} catch( IOException e ) {
+			e.printStackTrace();
+		}
+	}
+
+}
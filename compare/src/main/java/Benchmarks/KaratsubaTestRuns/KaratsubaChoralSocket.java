@@ -4,6 +4,7 @@ import Benchmarks.Choral.Karatsuba.Karatsuba_A;
 import Benchmarks.Choral.Karatsuba.Karatsuba_B;
 import Benchmarks.Choral.Karatsuba.Karatsuba_C;
 import choral.choralUnit.testUtils.TestUtils;
+import choral.runtime.Media.RoleThreads;
 import choral.runtime.SerializerChannel.SerializerChannel_A;
 import choral.runtime.SerializerChannel.SerializerChannel_B;
 import choral.utils.Pair;
@@ -16,7 +17,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
@@ -35,7 +35,7 @@ public class KaratsubaChoralSocket {
 			List< Path > num_files = Files.list( Path.of( CoupleGenerator.filepath ) ).collect(
 					Collectors.toList() );
 			int i = 0;
-			ExecutorService executors = Executors.newFixedThreadPool( 3 );
+			ExecutorService executors = RoleThreads.newExecutor( 3 );
 			Pair< SerializerChannel_A, SerializerChannel_B > ch_AB = TestUtils.newSocketChannel(
 					10000 );
 			Pair< SerializerChannel_A, SerializerChannel_B > ch_BC = TestUtils.newSocketChannel(
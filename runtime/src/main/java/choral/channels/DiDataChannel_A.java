@@ -23,6 +23,17 @@ package choral.channels;
 
 import choral.lang.Unit;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface DiDataChannel_A< T > {
 	< S extends T > Unit com( S m );
+
+	/**
+	 * Sends {@code m} without waiting for the transmission; the returned future completes
+	 * once the message has been handed to the medium. Messages keep the order in which
+	 * {@code com} and {@code comAsync} were called. The default implementation is blocking.
+	 */
+	default < S extends T > CompletableFuture< Unit > comAsync( S m ) {
+		return CompletableFuture.completedFuture( com( m ) );
+	}
 }
@@ -23,8 +23,23 @@ package choral.channels;
 
 import choral.lang.Unit;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface DiDataChannel_B< T > {
 	< S extends T > S com( Unit m );
 
 	< S extends T > S com();
+
+	default < S extends T > CompletableFuture< S > comAsync( Unit m ) {
+		return comAsync();
+	}
+
+	/**
+	 * Returns a future for the next message, without waiting for it to arrive. Futures are
+	 * completed in the order in which {@code com} and {@code comAsync} were called.
+	 * The default implementation is blocking.
+	 */
+	default < S extends T > CompletableFuture< S > comAsync() {
+		return CompletableFuture.completedFuture( com() );
+	}
 }
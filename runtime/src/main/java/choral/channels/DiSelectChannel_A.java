@@ -23,6 +23,12 @@ package choral.channels;
 
 import choral.lang.Unit;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface DiSelectChannel_A {
 	< T extends Enum< T > > Unit select( T m );
+
+	default < T extends Enum< T > > CompletableFuture< Unit > selectAsync( T m ) {
+		return CompletableFuture.completedFuture( select( m ) );
+	}
 }
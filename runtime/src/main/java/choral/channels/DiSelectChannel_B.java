@@ -23,8 +23,18 @@ package choral.channels;
 
 import choral.lang.Unit;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface DiSelectChannel_B {
 	< T extends Enum< T > > T select( Unit m );
 
 	< T extends Enum< T > > T select();
+
+	default < T extends Enum< T > > CompletableFuture< T > selectAsync( Unit m ) {
+		return selectAsync();
+	}
+
+	default < T extends Enum< T > > CompletableFuture< T > selectAsync() {
+		return CompletableFuture.completedFuture( select() );
+	}
 }
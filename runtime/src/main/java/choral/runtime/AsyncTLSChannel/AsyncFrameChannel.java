@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.AsyncTLSChannel;
+
+import choral.lang.Unit;
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.TLSByteChannel.tlschannel.async.ExtendedAsynchronousByteChannel;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Length-prefixed framing over an {@link ExtendedAsynchronousByteChannel}, in the
+ * {@link FrameCodec} wire format. No thread is held while a frame is in flight: each step
+ * continues from the completion handler of the previous one. Sends and receives are queued
+ * independently, so frames never interleave on the wire.
+ */
+public class AsyncFrameChannel {
+
+	private final ExtendedAsynchronousByteChannel channel;
+	private final ByteBufferPool pool;
+
+	private final ByteBuffer writeHeader = ByteBuffer.allocateDirect( FrameCodec.HEADER_LENGTH );
+	private final ByteBuffer[] gather = new ByteBuffer[ 2 ];
+	private final ByteBuffer readHeader = ByteBuffer.allocateDirect( FrameCodec.HEADER_LENGTH );
+	private final ReentrantLock sendLock = new ReentrantLock();
+	private final ReentrantLock recvLock = new ReentrantLock();
+	private CompletableFuture< ? > lastSend = CompletableFuture.completedFuture( null );
+	private CompletableFuture< ? > lastRecv = CompletableFuture.completedFuture( null );
+
+	private final LongAdder framesSent = new LongAdder();
+	private final LongAdder framesReceived = new LongAdder();
+	private final LongAdder bytesSent = new LongAdder();
+	private final LongAdder bytesReceived = new LongAdder();
+
+	public AsyncFrameChannel( ExtendedAsynchronousByteChannel channel, ByteBufferPool pool ) {
+		this.channel = channel;
+		this.pool = pool;
+	}
+
+	public AsyncFrameChannel( ExtendedAsynchronousByteChannel channel ) {
+		this( channel, ByteBufferPool.getDefault() );
+	}
+
+	public ExtendedAsynchronousByteChannel channel() {
+		return channel;
+	}
+
+	/**
+	 * Queues the remaining bytes of {@code payload} as one frame. The buffer must not be
+	 * modified until the returned future completes.
+	 */
+	public CompletableFuture< Unit > send( ByteBuffer payload ) {
+		sendLock.lock();
+		try {
+			CompletableFuture< Unit > sent = lastSend
+					.handle( ( r, e ) -> null )
+					.thenCompose( r -> writeFrame( payload ) );
+			lastSend = sent;
+			return sent;
+		} finally {
+			sendLock.unlock();
+		}
+	}
+
+	/**
+	 * Queues the reception of the next frame. The buffer the future completes with is
+	 * flipped and comes from the pool; hand it back with {@link #release(ByteBuffer)}.
+	 */
+	public CompletableFuture< ByteBuffer > recv() {
+		recvLock.lock();
+		try {
+			CompletableFuture< ByteBuffer > received = lastRecv
+					.handle( ( r, e ) -> null )
+					.thenCompose( r -> readFrame() );
+			lastRecv = received;
+			return received;
+		} finally {
+			recvLock.unlock();
+		}
+	}
+
+	public void release( ByteBuffer frame ) {
+		pool.release( frame );
+	}
+
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	public boolean isOpen() {
+		return channel.isOpen();
+	}
+
+	public long framesSent() {
+		return framesSent.sum();
+	}
+
+	public long framesReceived() {
+		return framesReceived.sum();
+	}
+
+	public long bytesSent() {
+		return bytesSent.sum();
+	}
+
+	public long bytesReceived() {
+		return bytesReceived.sum();
+	}
+
+	private CompletableFuture< Unit > writeFrame( ByteBuffer payload ) {
+		CompletableFuture< Unit > done = new CompletableFuture<>();
+		int length = payload.remaining();
+		writeHeader.clear();
+		writeHeader.putInt( length ).flip();
+		gather[ 0 ] = writeHeader;
+		gather[ 1 ] = payload;
+		channel.write( gather, 0, 2, 0, TimeUnit.MILLISECONDS, done,
+				new CompletionHandler< Long, CompletableFuture< Unit > >() {
+					@Override
+					public void completed( Long written, CompletableFuture< Unit > done ) {
+						if( writeHeader.hasRemaining() || payload.hasRemaining() ) {
+							channel.write( gather, 0, 2, 0, TimeUnit.MILLISECONDS, done, this );
+							return;
+						}
+						gather[ 1 ] = null;
+						framesSent.increment();
+						bytesSent.add( FrameCodec.HEADER_LENGTH + length );
+						done.complete( Unit.id );
+					}
+
+					@Override
+					public void failed( Throwable e, CompletableFuture< Unit > done ) {
+						gather[ 1 ] = null;
+						done.completeExceptionally( e );
+					}
+				} );
+		return done;
+	}
+
+	private CompletableFuture< ByteBuffer > readFrame() {
+		CompletableFuture< ByteBuffer > done = new CompletableFuture<>();
+		readHeader.clear();
+		readFully( readHeader, new CompletableFuture<>() ).whenComplete( ( h, e ) -> {
+			if( e != null ) {
+				done.completeExceptionally( e );
+				return;
+			}
+			int length = h.flip().getInt();
+			if( length < 0 ) {
+				done.completeExceptionally( new IOException( "Invalid frame length " + length ) );
+				return;
+			}
+			ByteBuffer frame = pool.acquire( length );
+			readFully( frame, new CompletableFuture<>() ).whenComplete( ( f, x ) -> {
+				if( x != null ) {
+					pool.release( frame );
+					done.completeExceptionally( x );
+					return;
+				}
+				framesReceived.increment();
+				bytesReceived.add( FrameCodec.HEADER_LENGTH + length );
+				done.complete( f.flip() );
+			} );
+		} );
+		return done;
+	}
+
+	private CompletableFuture< ByteBuffer > readFully( ByteBuffer dst, CompletableFuture< ByteBuffer > done ) {
+		if( !dst.hasRemaining() ) {
+			done.complete( dst );
+			return done;
+		}
+		channel.read( dst, 0, TimeUnit.MILLISECONDS, done,
+				new CompletionHandler< Integer, CompletableFuture< ByteBuffer > >() {
+					@Override
+					public void completed( Integer read, CompletableFuture< ByteBuffer > done ) {
+						if( read < 0 ) {
+							done.completeExceptionally( new EOFException(
+									"Channel closed with " + dst.remaining() + " bytes still expected" ) );
+						} else if( dst.hasRemaining() ) {
+							channel.read( dst, 0, TimeUnit.MILLISECONDS, done, this );
+						} else {
+							done.complete( dst );
+						}
+					}
+
+					@Override
+					public void failed( Throwable e, CompletableFuture< ByteBuffer > done ) {
+						done.completeExceptionally( e );
+					}
+				} );
+		return done;
+	}
+
+}
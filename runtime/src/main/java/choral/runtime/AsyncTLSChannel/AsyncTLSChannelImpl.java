@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.AsyncTLSChannel;
+
+import choral.channels.SymChannelImpl;
+import choral.lang.Unit;
+import choral.runtime.Events.ComReceiveEvent;
+import choral.runtime.Events.ComSendEvent;
+import choral.runtime.Events.SelectReceiveEvent;
+import choral.runtime.Events.SelectSendEvent;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.SelectionCodec;
+import choral.runtime.TLSByteChannel.tlschannel.TlsChannel;
+import choral.runtime.TLSByteChannel.tlschannel.async.AsynchronousTlsChannel;
+import choral.runtime.TLSByteChannel.tlschannel.async.AsynchronousTlsChannelGroup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A TLS channel driven by an {@link AsynchronousTlsChannelGroup}. The asynchronous methods
+ * hold no thread while waiting on the network, so many sessions can share the fixed pool
+ * of the group. Received frames are decoded one at a time, in the order they were
+ * received, so stateful serializers and selection labels see them in wire order. The
+ * blocking methods wait on the asynchronous ones, rethrowing their failure, and must not
+ * be called from the threads of the group.
+ */
+public abstract class AsyncTLSChannelImpl implements SymChannelImpl< Object > {
+
+	private final ChoralSerializer< Object, ByteBuffer > serializer;
+	private final AsyncFrameChannel frames;
+	private final AsyncTLSChannelMetrics metrics;
+	private final String name;
+	private final SelectionCodec selectionCodec = new SelectionCodec();
+	private final ReentrantLock recvLock = new ReentrantLock();
+	private CompletableFuture< ? > lastDecode = CompletableFuture.completedFuture( null );
+
+	protected AsyncTLSChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			AsynchronousTlsChannelGroup group,
+			TlsChannel tlsChannel,
+			SocketChannel socketChannel,
+			String name
+	) throws IOException {
+		this.serializer = serializer;
+		this.name = name;
+		this.frames = new AsyncFrameChannel(
+				new AsynchronousTlsChannel( group, tlsChannel, socketChannel ) );
+		this.metrics = new AsyncTLSChannelMetrics( frames, group );
+	}
+
+	protected static SocketChannel nonBlocking( SocketChannel socketChannel ) throws IOException {
+		socketChannel.configureBlocking( false );
+		return socketChannel;
+	}
+
+	public AsyncTLSChannelMetrics metrics() {
+		return metrics;
+	}
+
+	public boolean isOpen() {
+		return frames.isOpen();
+	}
+
+	public void close() throws IOException {
+		frames.close();
+	}
+
+	@Override
+	public < M > Unit com( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		ByteBuffer b = serializer.fromObject( m );
+		event.bytes = b.remaining();
+		Unit u = await( frames.send( b ) );
+		event.emit( name, m );
+		return u;
+	}
+
+	@Override
+	public < M > M com( Unit u ) {
+		return com();
+	}
+
+	@Override
+	public < S > S com() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		event.begin();
+		S s = await( receive( frame -> {
+			event.bytes = frame.remaining();
+			return this.< S >deserialize( frame );
+		} ) );
+		event.emit( name, s );
+		return s;
+	}
+
+	/**
+	 * The {@link ComSendEvent} of an asynchronous send covers serialization but not the write.
+	 */
+	@Override
+	public < M > CompletableFuture< Unit > comAsync( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		ByteBuffer b = serializer.fromObject( m );
+		event.bytes = b.remaining();
+		CompletableFuture< Unit > sent = frames.send( b );
+		event.emit( name, m );
+		return sent;
+	}
+
+	@Override
+	public < S > CompletableFuture< S > comAsync() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		if( !event.isEnabled() ) {
+			return receive( this::deserialize );
+		}
+		event.begin();
+		return receive( frame -> {
+			event.bytes = frame.remaining();
+			S s = deserialize( frame );
+			event.emit( name, s );
+			return s;
+		} );
+	}
+
+	/**
+	 * Queues the reception of the next frame and its decoding, which starts once the
+	 * frames received before it have been decoded.
+	 */
+	private < R > CompletableFuture< R > receive( Function< ByteBuffer, R > decoder ) {
+		recvLock.lock();
+		try {
+			CompletableFuture< R > decoded = lastDecode
+					.handle( ( r, e ) -> null )
+					.thenCombine( frames.recv(), ( r, frame ) -> decoder.apply( frame ) );
+			lastDecode = decoded;
+			return decoded;
+		} finally {
+			recvLock.unlock();
+		}
+	}
+
+	private < S > S deserialize( ByteBuffer frame ) {
+		try {
+			return serializer.toObject( frame );
+		} finally {
+			frames.release( frame );
+		}
+	}
+
+	private < T extends Enum< T > > T decodeSelection( ByteBuffer frame ) {
+		try {
+			return selectionCodec.decode( frame );
+		} finally {
+			frames.release( frame );
+		}
+	}
+
+	private static < T > T await( CompletableFuture< T > future ) {
+		try {
+			return future.join();
+		} catch( CompletionException e ) {
+			if( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new RuntimeException( e.getCause() );
+		}
+	}
+
+	@Override
+	public < T extends Enum< T > > Unit select( T m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = selectionCodec.encode( m );
+		event.bytes = b.remaining();
+		Unit u = await( selectionCodec.sent( m, frames.send( b ) ) );
+		event.label = m.name();
+		event.emit( name, m );
+		return u;
+	}
+
+	@Override
+	public < T extends Enum< T > > T select( Unit m ) {
+		return select();
+	}
+
+	@Override
+	public < T extends Enum< T > > T select() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		event.begin();
+		T t = await( receive( frame -> {
+			event.bytes = frame.remaining();
+			return this.< T >decodeSelection( frame );
+		} ) );
+		event.label = t.name();
+		event.emit( name, t );
+		return t;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< Unit > selectAsync( T m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = selectionCodec.encode( m );
+		event.bytes = b.remaining();
+		CompletableFuture< Unit > sent = selectionCodec.sent( m, frames.send( b ) );
+		event.label = m.name();
+		event.emit( name, m );
+		return sent;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< T > selectAsync() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		if( !event.isEnabled() ) {
+			return receive( this::decodeSelection );
+		}
+		event.begin();
+		return receive( frame -> {
+			event.bytes = frame.remaining();
+			T t = decodeSelection( frame );
+			event.label = t.name();
+			event.emit( name, t );
+			return t;
+		} );
+	}
+
+}
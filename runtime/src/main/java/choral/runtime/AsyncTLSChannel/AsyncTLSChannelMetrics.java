@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.AsyncTLSChannel;
+
+import choral.runtime.TLSByteChannel.tlschannel.async.AsynchronousTlsChannelGroup;
+
+/**
+ * Live view of the counters of an {@link AsyncTLSChannelImpl}. Frame and byte counts are
+ * per channel; operation counts come from the {@link AsynchronousTlsChannelGroup} and are
+ * shared by all the channels registered with it.
+ */
+public class AsyncTLSChannelMetrics {
+
+	private final AsyncFrameChannel frames;
+	private final AsynchronousTlsChannelGroup group;
+
+	AsyncTLSChannelMetrics( AsyncFrameChannel frames, AsynchronousTlsChannelGroup group ) {
+		this.frames = frames;
+		this.group = group;
+	}
+
+	public long framesSent() {
+		return frames.framesSent();
+	}
+
+	public long framesReceived() {
+		return frames.framesReceived();
+	}
+
+	public long bytesSent() {
+		return frames.bytesSent();
+	}
+
+	public long bytesReceived() {
+		return frames.bytesReceived();
+	}
+
+	public long startedReads() {
+		return group.getStartedReadCount();
+	}
+
+	public long startedWrites() {
+		return group.getStartedWriteCount();
+	}
+
+	public long successfulReads() {
+		return group.getSuccessfulReadCount();
+	}
+
+	public long successfulWrites() {
+		return group.getSuccessfulWriteCount();
+	}
+
+	public long failedReads() {
+		return group.getFailedReadCount();
+	}
+
+	public long failedWrites() {
+		return group.getFailedWriteCount();
+	}
+
+	public long cancelledReads() {
+		return group.getCancelledReadCount();
+	}
+
+	public long cancelledWrites() {
+		return group.getCancelledWriteCount();
+	}
+
+	public long currentReads() {
+		return group.getCurrentReadCount();
+	}
+
+	public long currentWrites() {
+		return group.getCurrentWriteCount();
+	}
+
+	public long currentRegistrations() {
+		return group.getCurrentRegistrationCount();
+	}
+
+	@Override
+	public String toString() {
+		return "frames sent " + framesSent() + " (" + bytesSent() + " B)"
+				+ ", frames received " + framesReceived() + " (" + bytesReceived() + " B)"
+				+ ", reads " + successfulReads() + "/" + startedReads()
+				+ ", writes " + successfulWrites() + "/" + startedWrites()
+				+ ", failed " + failedReads() + "/" + failedWrites()
+				+ ", registrations " + currentRegistrations();
+	}
+
+}
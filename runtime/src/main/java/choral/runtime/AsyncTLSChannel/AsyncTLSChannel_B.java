@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.AsyncTLSChannel;
+
+import choral.channels.SymChannel_B;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.TLSByteChannel.tlschannel.ServerTlsChannel;
+import choral.runtime.TLSByteChannel.tlschannel.async.AsynchronousTlsChannelGroup;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+public class AsyncTLSChannel_B extends AsyncTLSChannelImpl implements SymChannel_B< Object > {
+
+	/**
+	 * Takes over {@code socketChannel}, switching it to non-blocking mode, and acts as the
+	 * TLS server on it.
+	 */
+	public AsyncTLSChannel_B(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			AsynchronousTlsChannelGroup group,
+			SocketChannel socketChannel,
+			SSLContext sslContext
+	) throws IOException {
+		this( serializer, group, socketChannel, sslContext, ChannelEvent.name( "AsyncTLSChannel" ) );
+	}
+
+	/**
+	 * Like {@link #AsyncTLSChannel_B(ChoralSerializer, AsynchronousTlsChannelGroup,
+	 * SocketChannel, SSLContext)}, with {@code name} as the name of the channel in its events,
+	 * shared by both ends.
+	 */
+	public AsyncTLSChannel_B(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			AsynchronousTlsChannelGroup group,
+			SocketChannel socketChannel,
+			SSLContext sslContext,
+			String name
+	) throws IOException {
+		super( serializer, group,
+				ServerTlsChannel.newBuilder( nonBlocking( socketChannel ), sslContext ).build(),
+				socketChannel, name );
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.BufferedByteChannel;
+
+import choral.lang.Unit;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Media.SerialExecutor;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces outgoing frames of a byte channel and hands them over together with
+ * {@link SymByteChannelImpl#writeFrames(ByteBuffer)}. Channels that frame messages as
+ * {@link FrameCodec} does (e.g., a WrapperByteChannel) write them in a single write,
+ * ordered with their other sends. Buffered frames are flushed
+ * <ul>
+ *     <li>explicitly, by {@link #flush()};</li>
+ *     <li>before every receive, so that a role never waits for a reply to a message
+ *     it has not sent yet;</li>
+ *     <li>when the buffered bytes would exceed the flush threshold;</li>
+ *     <li>when the oldest buffered frame has waited for the maximum delay.</li>
+ * </ul>
+ * Deadline flushes run on {@link SerialExecutor#ioExecutor()}, so a slow peer only delays
+ * its own channel. A failed flush loses the frames it was writing and breaks the channel:
+ * the failure is rethrown by every later send, receive and flush.
+ */
+public class BufferedByteChannelImpl implements SymByteChannelImpl, Flushable {
+
+	public static final int DEFAULT_FLUSH_THRESHOLD = 64 * 1024;
+	public static final long DEFAULT_MAX_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+	private final SymByteChannelImpl channel;
+	private final int flushThreshold;
+	private final long maxDelayNanos;
+	private final ByteBufferPool pool;
+	private final ReentrantLock lock = new ReentrantLock();
+	private ByteBuffer buffer;
+	private long generation = 0;
+	private IOException failure;
+
+	public BufferedByteChannelImpl(
+			SymByteChannelImpl channel, int flushThreshold, long maxDelayNanos, ByteBufferPool pool
+	) {
+		this.channel = channel;
+		this.flushThreshold = flushThreshold;
+		this.maxDelayNanos = maxDelayNanos;
+		this.pool = pool;
+	}
+
+	public BufferedByteChannelImpl( SymByteChannelImpl channel, int flushThreshold, long maxDelayNanos ) {
+		this( channel, flushThreshold, maxDelayNanos, ByteBufferPool.getDefault() );
+	}
+
+	public BufferedByteChannelImpl( SymByteChannelImpl channel ) {
+		this( channel, DEFAULT_FLUSH_THRESHOLD, DEFAULT_MAX_DELAY_NANOS );
+	}
+
+	@Override
+	public < T extends ByteBuffer > Unit com( T m ) {
+		try {
+			append( m );
+		} catch( IOException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+		return Unit.id;
+	}
+
+	@Override
+	public < T extends ByteBuffer > T com( Unit u ) {
+		return this.com();
+	}
+
+	@Override
+	public < T extends ByteBuffer > T com() {
+		flushOrThrow();
+		return channel.com();
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< Unit > comAsync( T m ) {
+		try {
+			append( m );
+		} catch( IOException e ) {
+			return CompletableFuture.failedFuture( e );
+		}
+		return CompletableFuture.completedFuture( Unit.id );
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< T > comAsync() {
+		flushOrThrow();
+		return channel.comAsync();
+	}
+
+	@Override
+	public void release( ByteBuffer buffer ) {
+		channel.release( buffer );
+	}
+
+	@Override
+	public ByteChannel byteChannel() {
+		return channel.byteChannel();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		lock.lock();
+		try {
+			checkFailure();
+			if( buffer == null ) {
+				return;
+			}
+			generation++;
+			try {
+				channel.writeFrames( buffer.flip() );
+			} catch( IOException e ) {
+				failure = e;
+				throw e;
+			} finally {
+				pool.release( buffer );
+				buffer = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void append( ByteBuffer m ) throws IOException {
+		lock.lock();
+		try {
+			checkFailure();
+			int frameLength = FrameCodec.HEADER_LENGTH + m.remaining();
+			if( buffer != null && buffer.remaining() < frameLength ) {
+				flush();
+			}
+			if( frameLength > flushThreshold ) {
+				// too large to be worth copying, send it on its own
+				channel.com( m );
+				return;
+			}
+			if( buffer == null ) {
+				buffer = pool.acquire( flushThreshold );
+				long scheduled = generation;
+				CompletableFuture.runAsync( () -> flushIfStale( scheduled ), CompletableFuture.delayedExecutor(
+						maxDelayNanos, TimeUnit.NANOSECONDS, SerialExecutor.ioExecutor() ) );
+			}
+			buffer.putInt( m.remaining() ).put( m.duplicate() );
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void flushIfStale( long scheduled ) {
+		lock.lock();
+		try {
+			if( generation == scheduled ) {
+				flush();
+			}
+		} catch( IOException e ) {
+			// recorded by flush, the next operation on the channel rethrows it
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void checkFailure() throws IOException {
+		if( failure != null ) {
+			throw new IOException( "A previous flush failed: " + failure.getMessage(), failure );
+		}
+	}
+
+	private void flushOrThrow() {
+		try {
+			flush();
+		} catch( IOException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.BufferedByteChannel;
+
+import choral.channels.DiDataChannel_A;
+import choral.channels.DiDataChannel_B;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+
+import java.nio.ByteBuffer;
+
+public class BufferedByteChannel_A extends BufferedByteChannelImpl implements
+																 DiDataChannel_A< ByteBuffer >,
+																 DiDataChannel_B< ByteBuffer > {
+	public BufferedByteChannel_A( SymByteChannelImpl channel ) {
+		super( channel );
+	}
+
+	public BufferedByteChannel_A( SymByteChannelImpl channel, int flushThreshold, long maxDelayNanos ) {
+		super( channel, flushThreshold, maxDelayNanos );
+	}
+
+}
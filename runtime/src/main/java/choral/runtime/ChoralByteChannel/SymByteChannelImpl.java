@@ -22,10 +22,53 @@
 package choral.runtime.ChoralByteChannel;
 
 import choral.channels.SymDataChannelImpl;
+import choral.lang.Unit;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Serializers.BufferSerializer;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 public interface SymByteChannelImpl extends SymDataChannelImpl< ByteBuffer > {
 	ByteChannel byteChannel();
+
+	/**
+	 * Signals that a buffer returned by {@code com()} is no longer in use,
+	 * so that its storage can be reused for later receptions.
+	 */
+	default void release( ByteBuffer buffer ) {
+	}
+
+	/**
+	 * Sends {@code frames}, a run of complete frames laid out as by {@link FrameCodec},
+	 * ordered with the other sends of the channel. By default each frame is sent as a
+	 * message of its own; channels that use that layout on the wire write them in one go.
+	 */
+	default void writeFrames( ByteBuffer frames ) throws IOException {
+		while( frames.hasRemaining() ) {
+			int length = frames.getInt();
+			ByteBuffer payload = frames.slice( frames.position(), length );
+			frames.position( frames.position() + length );
+			com( payload );
+		}
+	}
+
+	/**
+	 * Sends {@code m} as one message, letting {@code serializer} write it straight into
+	 * the outbound buffer of the channel. By default {@code m} is serialized into a buffer
+	 * of its own, which is then sent.
+	 */
+	default Unit com( Object m, BufferSerializer serializer ) {
+		return com( serializer.writeObject( m, ByteBuffer.allocate( 256 ) ).flip() );
+	}
+
+	/**
+	 * Like {@link #com(Object, BufferSerializer)}; {@code m} is serialized before this
+	 * method returns.
+	 */
+	default CompletableFuture< Unit > comAsync( Object m, BufferSerializer serializer ) {
+		return comAsync( serializer.writeObject( m, ByteBuffer.allocate( 256 ) ).flip() );
+	}
 }
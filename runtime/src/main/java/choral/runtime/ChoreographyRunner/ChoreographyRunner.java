@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.ChoreographyRunner;
+
+import choral.annotations.Choreography;
+import choral.channels.SymChannel_A;
+import choral.channels.SymChannel_B;
+import choral.lang.Unit;
+import choral.runtime.Media.RoleThreads;
+import choral.runtime.Metrics.ChannelMetrics;
+import choral.runtime.Metrics.MeteredChannel_A;
+import choral.runtime.Metrics.MeteredChannel_B;
+import choral.runtime.Tracing.TraceContext;
+import choral.utils.Pair;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Runs every role of a choreography in-process.
+ * <p>
+ * The entry point is the overload of the entry method that has the same arity in every
+ * projection, i.e., the one that keeps the parameters of the other roles as {@link Unit}.
+ * Each of its parameters is either a channel, received as an {@code _A} end by one role and
+ * as a {@code _B} end by another, or a value located at a single role. The runner opens one
+ * pair of channels per channel parameter with its {@link Transport}; the values are the
+ * arguments of {@link #run(Object...)}, in the order of the parameters.
+ * <p>
+ * Channels are pooled: an invocation takes an idle set of channels, or opens a new one, and
+ * returns it once every role has completed, so that concurrent invocations never share
+ * channels. A set whose invocation failed may hold stray messages and is closed instead.
+ * <p>
+ * When {@link ChannelMetrics#isEnabled() metrics are enabled}, each end of each channel
+ * parameter has its own {@link ChannelMetrics}, which aggregates every invocation. It is
+ * named {@code <choreography>#<runner>.<parameter>.<role>}, where {@code <runner>} tells
+ * apart the runners of the same choreography. The transport counts the bytes and the
+ * serialization times, see {@link Transport#open(String, String, String, ChannelMetrics,
+ * ChannelMetrics)}.
+ * <p>
+ * Every invocation runs its roles under a fresh {@link TraceContext trace id}, which the
+ * channels of a {@link Transport#traced traced transport} stamp on their messages.
+ */
+public class ChoreographyRunner implements AutoCloseable {
+
+	private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	private final List< String > roles = new ArrayList<>();
+	private final List< Method > methods = new ArrayList<>();
+	private final List< int[] > channels = new ArrayList<>(); // { position, role of _A, role of _B }
+	private final List< String > channelNames = new ArrayList<>();
+	private final List< int[] > values = new ArrayList<>(); // { position, role }
+	private final List< ChannelMetrics > metrics = new ArrayList<>(); // _A and _B end of each channel
+	private final int arity;
+	private final Transport transport;
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final ConcurrentLinkedQueue< List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > > idle =
+			new ConcurrentLinkedQueue<>();
+	private volatile boolean closed = false;
+
+	/**
+	 * Discovers the roles of the choreography called {@code choreography} on the classpath and
+	 * runs them on an executor from {@link RoleThreads#newExecutor()}.
+	 */
+	public ChoreographyRunner( String choreography, String entry, Transport transport ) {
+		this( entry, transport, RoleThreads.newExecutor(), true, discover( choreography ) );
+	}
+
+	/**
+	 * Runs the given role classes on {@code executor}, which must be able to run every role of
+	 * an invocation at the same time, and is left open by {@link #close()}.
+	 */
+	public ChoreographyRunner(
+			String entry, Transport transport, ExecutorService executor, Class< ? >... roleClasses
+	) {
+		this( entry, transport, executor, false, Arrays.asList( roleClasses ) );
+	}
+
+	public ChoreographyRunner( String entry, Transport transport, Class< ? >... roleClasses ) {
+		this( entry, transport, RoleThreads.newExecutor(), true, Arrays.asList( roleClasses ) );
+	}
+
+	private ChoreographyRunner(
+			String entry, Transport transport, ExecutorService executor, boolean ownsExecutor,
+			List< Class< ? > > roleClasses
+	) {
+		this.transport = transport;
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+		try {
+			this.arity = introspect( entry, roleClasses );
+		} catch( RuntimeException | Error e ) {
+			// the MBeans registered so far would otherwise outlive the runner
+			metrics.forEach( ChannelMetrics::unregister );
+			if( ownsExecutor ) {
+				executor.shutdown();
+			}
+			throw e;
+		}
+	}
+
+	private int introspect( String entry, List< Class< ? > > roleClasses ) {
+		if( roleClasses.isEmpty() ) {
+			throw new IllegalArgumentException( "No roles to run" );
+		}
+		for( Class< ? > c : roleClasses ) {
+			Choreography annotation = c.getAnnotation( Choreography.class );
+			roles.add( annotation == null ? c.getSimpleName() : annotation.role() );
+		}
+		int arity = commonArity( entry, roleClasses );
+		for( Class< ? > c : roleClasses ) {
+			methods.add( entryMethod( c, entry, arity ) );
+		}
+		for( int i = 0; i < arity; i++ ) {
+			layout( entry, i );
+		}
+		for( int[] c : channels ) {
+			Parameter p = methods.get( c[ 1 ] ).getParameters()[ c[ 0 ] ];
+			// without -parameters, name the channel after the roles it links, and its position
+			// if they share more than one
+			String name = p.isNamePresent() ? p.getName() : roles.get( c[ 1 ] ) + "-" + roles.get( c[ 2 ] );
+			channelNames.add( channelNames.contains( name ) ? name + "-" + c[ 0 ] : name );
+		}
+		if( ChannelMetrics.isEnabled() ) {
+			Choreography annotation = roleClasses.get( 0 ).getAnnotation( Choreography.class );
+			String prefix = ( annotation == null ? entry : annotation.name() )
+					+ "#" + INSTANCES.incrementAndGet() + ".";
+			for( int i = 0; i < channels.size(); i++ ) {
+				int[] c = channels.get( i );
+				String parameter = prefix + channelNames.get( i ) + ".";
+				metrics.add( ChannelMetrics.register( parameter + roles.get( c[ 1 ] ) ) );
+				metrics.add( ChannelMetrics.register( parameter + roles.get( c[ 2 ] ) ) );
+			}
+		}
+		return arity;
+	}
+
+	/**
+	 * The role classes of the choreography called {@code choreography}, sorted by role.
+	 */
+	public static List< Class< ? > > discover( String choreography ) {
+		try( ScanResult scanResult = new ClassGraph().enableAnnotationInfo().scan() ) {
+			List< Class< ? > > classes = new ArrayList<>( scanResult
+					.getClassesWithAnnotation( Choreography.class.getName() )
+					.filter( c -> c.getAnnotationInfo( Choreography.class.getName() )
+							.getParameterValues().getValue( "name" ).equals( choreography ) )
+					.loadClasses() );
+			if( classes.isEmpty() ) {
+				throw new IllegalArgumentException( "Found 0 classes belonging to " + choreography );
+			}
+			classes.sort( Comparator.comparing( c -> c.getAnnotation( Choreography.class ).role() ) );
+			return classes;
+		}
+	}
+
+	/**
+	 * The roles, in the order used by the results of {@link #run(Object...)}.
+	 */
+	public List< String > roles() {
+		return Collections.unmodifiableList( roles );
+	}
+
+	/**
+	 * Runs every role and waits for all of them; see {@link #runAsync(Object...)}.
+	 */
+	public Map< String, Object > run( Object... args ) {
+		try {
+			return runAsync( args ).join();
+		} catch( CompletionException e ) {
+			if( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new RuntimeException( e.getCause() );
+		}
+	}
+
+	/**
+	 * Runs every role with the given values and completes with the value returned by each
+	 * role, keyed by role. If a role throws, the invocation completes with that exception, its
+	 * channels are closed and the other roles are interrupted.
+	 */
+	public CompletableFuture< Map< String, Object > > runAsync( Object... args ) {
+		if( closed ) {
+			throw new IllegalStateException( "Runner closed" );
+		}
+		if( args.length != values.size() ) {
+			throw new IllegalArgumentException(
+					"Expected " + values.size() + " arguments, got " + args.length );
+		}
+		List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > session = idle.poll();
+		if( session == null ) {
+			session = openSession();
+		}
+		Object[][] roleArgs = new Object[ roles.size() ][ arity ];
+		for( Object[] a : roleArgs ) {
+			Arrays.fill( a, Unit.id );
+		}
+		for( int i = 0; i < channels.size(); i++ ) {
+			int[] c = channels.get( i );
+			roleArgs[ c[ 1 ] ][ c[ 0 ] ] = metrics.isEmpty()
+					? session.get( i ).left()
+					: new MeteredChannel_A( session.get( i ).left(), metrics.get( 2 * i ) );
+			roleArgs[ c[ 2 ] ][ c[ 0 ] ] = metrics.isEmpty()
+					? session.get( i ).right()
+					: new MeteredChannel_B( session.get( i ).right(), metrics.get( 2 * i + 1 ) );
+		}
+		for( int i = 0; i < values.size(); i++ ) {
+			int[] v = values.get( i );
+			roleArgs[ v[ 1 ] ][ v[ 0 ] ] = args[ i ];
+		}
+		return new Invocation( session, roleArgs ).start();
+	}
+
+	/**
+	 * The metrics of each end of each channel parameter, empty if metrics are disabled.
+	 */
+	public List< ChannelMetrics > metrics() {
+		return Collections.unmodifiableList( metrics );
+	}
+
+	/**
+	 * Closes the idle channels, unregisters the metrics and, if the runner created it, shuts
+	 * the executor down.
+	 * Running invocations complete normally, after which their channels are closed.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > session;
+		while( ( session = idle.poll() ) != null ) {
+			closeSession( session );
+		}
+		metrics.forEach( ChannelMetrics::unregister );
+		if( ownsExecutor ) {
+			executor.shutdown();
+		}
+	}
+
+	private class Invocation {
+
+		private final List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > session;
+		private final Object[][] roleArgs;
+		private final Object[] results = new Object[ roles.size() ];
+		private final AtomicReferenceArray< Future< ? > > tasks = new AtomicReferenceArray<>( roles.size() );
+		private final AtomicInteger pending = new AtomicInteger( roles.size() );
+		private final CompletableFuture< Map< String, Object > > result = new CompletableFuture<>();
+		private final long trace = TraceContext.newTrace();
+
+		private Invocation(
+				List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > session,
+				Object[][] roleArgs
+		) {
+			this.session = session;
+			this.roleArgs = roleArgs;
+		}
+
+		private CompletableFuture< Map< String, Object > > start() {
+			try {
+				for( int r = 0; r < tasks.length(); r++ ) {
+					int role = r;
+					tasks.set( r, executor.submit( () -> runRole( role ) ) );
+				}
+			} catch( RuntimeException e ) {
+				fail( e );
+			}
+			if( result.isCompletedExceptionally() ) {
+				// a role may have failed before its peers were submitted
+				cancel();
+			}
+			return result;
+		}
+
+		private void runRole( int role ) {
+			TraceContext.set( trace );
+			try {
+				results[ role ] = methods.get( role ).invoke( null, roleArgs[ role ] );
+			} catch( InvocationTargetException e ) {
+				fail( e.getCause() );
+			} catch( IllegalAccessException | RuntimeException | Error e ) {
+				fail( e );
+			} finally {
+				TraceContext.clear();
+			}
+			if( pending.decrementAndGet() == 0 && !result.isDone() ) {
+				idle.offer( session );
+				// close() may have drained the pool between our offer and its flag being seen
+				if( closed && idle.remove( session ) ) {
+					closeSession( session );
+				}
+				Map< String, Object > byRole = new LinkedHashMap<>();
+				for( int r = 0; r < results.length; r++ ) {
+					byRole.put( roles.get( r ), results[ r ] );
+				}
+				result.complete( byRole );
+			}
+		}
+
+		private void fail( Throwable t ) {
+			if( !result.completeExceptionally( t ) ) {
+				return;
+			}
+			// closing first releases the peers blocked on the channels, which an interrupt
+			// alone may not, e.g. in a read from a pipe or a socket
+			closeSession( session );
+			cancel();
+		}
+
+		private void cancel() {
+			for( int r = 0; r < tasks.length(); r++ ) {
+				Future< ? > task = tasks.get( r );
+				if( task != null ) {
+					task.cancel( true );
+				}
+			}
+		}
+
+	}
+
+	private List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > openSession() {
+		List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > session = new ArrayList<>();
+		try {
+			for( int i = 0; i < channels.size(); i++ ) {
+				int[] c = channels.get( i );
+				session.add( metrics.isEmpty()
+						? transport.open( channelNames.get( i ), roles.get( c[ 1 ] ), roles.get( c[ 2 ] ) )
+						: transport.open( channelNames.get( i ), roles.get( c[ 1 ] ), roles.get( c[ 2 ] ),
+								metrics.get( 2 * i ), metrics.get( 2 * i + 1 ) ) );
+			}
+		} catch( IOException e ) {
+			closeSession( session );
+			throw new RuntimeException( e.getMessage() );
+		}
+		return session;
+	}
+
+	private void closeSession( List< Pair< SymChannel_A< Object >, SymChannel_B< Object > > > session ) {
+		for( Pair< SymChannel_A< Object >, SymChannel_B< Object > > channel : session ) {
+			try {
+				transport.close( channel );
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void layout( String entry, int position ) {
+		int a = -1, b = -1, value = -1, located = 0;
+		for( int r = 0; r < methods.size(); r++ ) {
+			Class< ? > type = methods.get( r ).getParameterTypes()[ position ];
+			if( type == Unit.class ) {
+				continue;
+			}
+			located++;
+			if( isEnd( type, "_A", SymChannel_A.class ) ) {
+				a = r;
+			} else if( isEnd( type, "_B", SymChannel_B.class ) ) {
+				b = r;
+			} else {
+				value = r;
+			}
+		}
+		if( located == 2 && a >= 0 && b >= 0 ) {
+			channels.add( new int[]{ position, a, b } );
+		} else if( located == 1 && value >= 0 ) {
+			values.add( new int[]{ position, value } );
+		} else {
+			throw new IllegalArgumentException( "Parameter " + position + " of " + entry
+					+ " is neither a channel between two roles nor a value at one role" );
+		}
+	}
+
+	private static boolean isEnd( Class< ? > type, String suffix, Class< ? > end ) {
+		return type.getSimpleName().endsWith( suffix ) && type.isAssignableFrom( end );
+	}
+
+	private static int commonArity( String entry, List< Class< ? > > roleClasses ) {
+		int arity = -1;
+		for( Method m : roleClasses.get( 0 ).getMethods() ) {
+			if( isEntry( m, entry ) && m.getParameterCount() > arity
+					&& roleClasses.stream().allMatch( c -> hasEntry( c, entry, m.getParameterCount() ) ) ) {
+				arity = m.getParameterCount();
+			}
+		}
+		if( arity < 0 ) {
+			throw new IllegalArgumentException(
+					"No public static method " + entry + " with the same arity in every role" );
+		}
+		return arity;
+	}
+
+	private static boolean hasEntry( Class< ? > c, String entry, int arity ) {
+		return Arrays.stream( c.getMethods() )
+				.anyMatch( m -> isEntry( m, entry ) && m.getParameterCount() == arity );
+	}
+
+	private static Method entryMethod( Class< ? > c, String entry, int arity ) {
+		Method found = null;
+		for( Method m : c.getMethods() ) {
+			if( isEntry( m, entry ) && m.getParameterCount() == arity ) {
+				if( found != null ) {
+					throw new IllegalArgumentException( "Ambiguous method " + entry + " in " + c.getName() );
+				}
+				found = m;
+			}
+		}
+		return found;
+	}
+
+	private static boolean isEntry( Method m, String entry ) {
+		return m.getName().equals( entry ) && Modifier.isStatic( m.getModifiers() );
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.ChoreographyRunner;
+
+import choral.channels.SymChannel_A;
+import choral.channels.SymChannel_B;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.Metrics.ChannelMetrics;
+import choral.runtime.Metrics.MeteredByteChannel;
+import choral.runtime.Metrics.MeteredSerializer;
+import choral.runtime.SerializerChannel.SerializerChannel_A;
+import choral.runtime.SerializerChannel.SerializerChannel_B;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Tracing.TraceRecorder;
+import choral.runtime.Tracing.TracingByteChannel;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_A;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_B;
+import choral.utils.Pair;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+class PipedTransport implements Transport {
+
+	private final ChoralSerializer< Object, ByteBuffer > serializer;
+	private final Map< SymChannel_A< Object >, Pair< PipedByteChannel, PipedByteChannel > > pipes =
+			new ConcurrentHashMap<>();
+
+	private final Function< String, TraceRecorder > recorders;
+
+	/**
+	 * @param recorders the trace recorder of each role, or {@code null} not to trace
+	 */
+	PipedTransport(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			Function< String, TraceRecorder > recorders
+	) {
+		this.serializer = serializer;
+		this.recorders = recorders;
+	}
+
+	@Override
+	public Pair< SymChannel_A< Object >, SymChannel_B< Object > > open() throws IOException {
+		return open( "channel", "A", "B" );
+	}
+
+	@Override
+	public Pair< SymChannel_A< Object >, SymChannel_B< Object > > open(
+			String channel, String roleA, String roleB
+	) throws IOException {
+		return open( channel, roleA, roleB, null, null );
+	}
+
+	@Override
+	public Pair< SymChannel_A< Object >, SymChannel_B< Object > > open(
+			String channel, String roleA, String roleB,
+			ChannelMetrics metricsA, ChannelMetrics metricsB
+	) throws IOException {
+		Pair< PipedByteChannel, PipedByteChannel > p = PipedByteChannel.getConnectedChannels();
+		String name = ChannelEvent.name( channel );
+		// metered outside the tracing, so that the trace header is not counted
+		SerializerChannel_A a = new SerializerChannel_A(
+				MeteredSerializer.instrument( serializer, metricsA ),
+				MeteredByteChannel.instrument(
+						traced( new WrapperByteChannel_A( p.left() ), channel, roleA ), metricsA ),
+				name );
+		SerializerChannel_B b = new SerializerChannel_B(
+				MeteredSerializer.instrument( serializer, metricsB ),
+				MeteredByteChannel.instrument(
+						traced( new WrapperByteChannel_B( p.right() ), channel, roleB ), metricsB ),
+				name );
+		pipes.put( a, p );
+		return Pair.of( a, b );
+	}
+
+	@Override
+	public void close( Pair< SymChannel_A< Object >, SymChannel_B< Object > > channels )
+			throws IOException {
+		Pair< PipedByteChannel, PipedByteChannel > p = pipes.remove( channels.left() );
+		if( p != null ) {
+			p.left().close();
+			p.right().close();
+		}
+	}
+
+	private SymByteChannelImpl traced( SymByteChannelImpl channel, String name, String role ) {
+		return recorders == null
+				? channel
+				: TracingByteChannel.instrument( channel, recorders.apply( role ), name );
+	}
+
+}
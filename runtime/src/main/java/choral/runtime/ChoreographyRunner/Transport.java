@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.ChoreographyRunner;
+
+import choral.channels.SymChannel_A;
+import choral.channels.SymChannel_B;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.LocalChannel.LocalChannel_A;
+import choral.runtime.LocalChannel.LocalChannel_B;
+import choral.runtime.Media.MessageQueue;
+import choral.runtime.Metrics.ChannelMetrics;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Tracing.TraceRecorder;
+import choral.runtime.Tracing.TracingByteChannel;
+import choral.utils.Pair;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Opens the channels that connect two roles of a choreography run by a
+ * {@link ChoreographyRunner}.
+ */
+public interface Transport {
+
+	Pair< SymChannel_A< Object >, SymChannel_B< Object > > open() throws IOException;
+
+	/**
+	 * Opens the channel named {@code channel} between {@code roleA}, which gets its
+	 * {@code _A} end, and {@code roleB}. By default, {@link #open()}.
+	 */
+	default Pair< SymChannel_A< Object >, SymChannel_B< Object > > open(
+			String channel, String roleA, String roleB
+	) throws IOException {
+		return open();
+	}
+
+	/**
+	 * Like {@link #open(String, String, String)}, counting the bytes that each end sends and
+	 * receives, and the time it spends serializing them, into {@code metricsA} and
+	 * {@code metricsB}, which are {@code null} when metrics are disabled. By default, the
+	 * channels are not measured.
+	 */
+	default Pair< SymChannel_A< Object >, SymChannel_B< Object > > open(
+			String channel, String roleA, String roleB,
+			ChannelMetrics metricsA, ChannelMetrics metricsB
+	) throws IOException {
+		return open( channel, roleA, roleB );
+	}
+
+	/**
+	 * Releases a pair of channels obtained from {@link #open()} that will not be used again.
+	 */
+	default void close( Pair< SymChannel_A< Object >, SymChannel_B< Object > > channels )
+			throws IOException {
+	}
+
+	/**
+	 * In-memory channels backed by a pair of unbounded {@link MessageQueue}s.
+	 */
+	static Transport local() {
+		return local( MessageQueue.UNBOUNDED, 0, TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * In-memory channels backed by a pair of {@link MessageQueue}s that hold at most
+	 * {@code capacity} messages each. A sender waits while its queue is full and fails
+	 * after {@code sendTimeout}, or waits indefinitely if that is 0; see
+	 * {@link MessageQueue#send(Object)}.
+	 */
+	static Transport local( int capacity, long sendTimeout, TimeUnit unit ) {
+		return new Transport() {
+
+			@Override
+			public Pair< SymChannel_A< Object >, SymChannel_B< Object > > open() {
+				return open( "LocalChannel", "A", "B" );
+			}
+
+			@Override
+			public Pair< SymChannel_A< Object >, SymChannel_B< Object > > open(
+					String channel, String roleA, String roleB
+			) {
+				MessageQueue m1 = new MessageQueue( capacity, sendTimeout, unit );
+				MessageQueue m2 = new MessageQueue( capacity, sendTimeout, unit );
+				String name = ChannelEvent.name( channel );
+				return Pair.of( new LocalChannel_A( m1, m2, name ), new LocalChannel_B( m2, m1, name ) );
+			}
+
+		};
+	}
+
+	/**
+	 * Serializing channels over an in-process pipe, e.g. to exercise a serializer without
+	 * the network.
+	 */
+	static Transport piped( ChoralSerializer< Object, ByteBuffer > serializer ) {
+		return new PipedTransport( serializer, null );
+	}
+
+	/**
+	 * Like {@link #piped(ChoralSerializer)}, with the messages of each role traced into the
+	 * recorder that {@code recorders} returns for it, see {@link TracingByteChannel}.
+	 */
+	static Transport traced(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			Function< String, TraceRecorder > recorders
+	) {
+		return new PipedTransport( serializer, recorders );
+	}
+
+}
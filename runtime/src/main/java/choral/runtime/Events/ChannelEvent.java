@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Events;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The fields shared by the events of a channel. Emitting an event follows the JFR idiom,
+ * which costs next to nothing while the event is disabled:
+ * <pre>
+ * ComSendEvent event = new ComSendEvent();
+ * event.begin();
+ * ...
+ * event.bytes = ...;
+ * event.emit( id, m );
+ * </pre>
+ */
+@StackTrace( false )
+public abstract class ChannelEvent extends Event {
+
+	private static final AtomicLong NAMES = new AtomicLong();
+
+	@Label( "Channel" )
+	public String channel;
+
+	@Label( "Payload Type" )
+	public String payloadType;
+
+	@Label( "Size" )
+	@DataAmount
+	public long bytes;
+
+	/**
+	 * Commits this event for {@code payload} sent or received on {@code channel}, if it
+	 * is enabled and over its threshold.
+	 */
+	public void emit( String channel, Object payload ) {
+		if( shouldCommit() ) {
+			this.channel = channel;
+			this.payloadType = payload == null ? "null"
+					: payload instanceof Enum ? ( (Enum< ? >) payload ).getDeclaringClass().getName()
+					: payload.getClass().getName();
+			commit();
+		}
+	}
+
+	/**
+	 * A new name for the events of a channel, {@code prefix} followed by a number unique in
+	 * this JVM. Give the same name to both ends of a channel, so that the events of a
+	 * message sent on one end match those of its reception on the other.
+	 */
+	public static String name( String prefix ) {
+		return prefix + "#" + NAMES.incrementAndGet();
+	}
+
+}
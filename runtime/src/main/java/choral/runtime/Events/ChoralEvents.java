@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Events;
+
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+/**
+ * The Flight Recorder settings profile of the runtime events, shipped as the resource
+ * {@value #SETTINGS}. Pass a copy of it to {@code -XX:StartFlightRecording:settings=},
+ * or start a recording with {@code new Recording( ChoralEvents.configuration() )}.
+ */
+public final class ChoralEvents {
+
+	public static final String SETTINGS = "/choral/runtime/Events/choral.jfc";
+
+	private ChoralEvents() {
+	}
+
+	public static Configuration configuration() throws IOException, ParseException {
+		try( InputStream in = ChoralEvents.class.getResourceAsStream( SETTINGS ) ) {
+			if( in == null ) {
+				throw new IOException( "Missing resource " + SETTINGS );
+			}
+			try( Reader reader = new InputStreamReader( in, StandardCharsets.UTF_8 ) ) {
+				return Configuration.create( reader );
+			}
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( "choral.TlsHandshake" )
+@Label( "TLS Handshake" )
+@Category( { "Choral", "TLS" } )
+@Description( "A TLS handshake, or renegotiation, of a channel" )
+@StackTrace( false )
+public class TlsHandshakeEvent extends Event {
+
+	@Label( "Channel" )
+	public String channel;
+
+	@Label( "Client Mode" )
+	public boolean clientMode;
+
+	@Label( "Renegotiation" )
+	public boolean renegotiation;
+
+	@Label( "Protocol" )
+	public String protocol;
+
+	@Label( "Cipher Suite" )
+	public String cipherSuite;
+
+	@Label( "Succeeded" )
+	public boolean succeeded;
+
+}
@@ -23,18 +23,34 @@ package choral.runtime.LocalChannel;
 
 import choral.channels.SymChannelImpl;
 import choral.lang.Unit;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Events.ComReceiveEvent;
+import choral.runtime.Events.ComSendEvent;
+import choral.runtime.Events.SelectReceiveEvent;
+import choral.runtime.Events.SelectSendEvent;
 import choral.runtime.Media.MessageQueue;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 public class LocalChannelImpl implements SymChannelImpl< Object > {
 
 	private final MessageQueue queueOut;
 	private final MessageQueue queueIn;
+	private final String id;
 
 	public LocalChannelImpl( MessageQueue queueOut, MessageQueue queueIn ) {
+		this( queueOut, queueIn, ChannelEvent.name( "LocalChannel" ) );
+	}
+
+	/**
+	 * @param name the name of the channel in its events, shared by both ends, see
+	 *             {@link ChannelEvent#name(String)}
+	 */
+	public LocalChannelImpl( MessageQueue queueOut, MessageQueue queueIn, String name ) {
 		this.queueOut = queueOut;
 		this.queueIn = queueIn;
+		this.id = name;
 	}
 
 	@Override
@@ -44,23 +60,49 @@ public class LocalChannelImpl implements SymChannelImpl< Object > {
 
 	@Override
 	public < S > S com() {
-		try {
-			return queueIn.recv();
-		} catch( ExecutionException | InterruptedException e ) {
-			e.printStackTrace();
-		}
-		return null; // it should never happen
+		ComReceiveEvent event = new ComReceiveEvent();
+		event.begin();
+		S s = receive();
+		event.emit( id, s );
+		return s;
 	}
 
 	@Override
 	public < M > Unit com( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
 		queueOut.send( m );
+		event.emit( id, m );
 		return Unit.id;
 	}
 
+	@Override
+	public < M > CompletableFuture< Unit > comAsync( M m ) {
+		com( m );
+		return CompletableFuture.completedFuture( Unit.id );
+	}
+
+	@Override
+	public < S > CompletableFuture< S > comAsync() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		if( !event.isEnabled() ) {
+			return queueIn.recvAsync();
+		}
+		event.begin();
+		return queueIn.< S >recvAsync().thenApply( s -> {
+			event.emit( id, s );
+			return s;
+		} );
+	}
+
 	@Override
 	public < M extends Enum< M > > Unit select( M m ) {
-		return this.com( m );
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		queueOut.send( m );
+		event.label = m.name();
+		event.emit( id, m );
+		return Unit.id;
 	}
 
 	@Override
@@ -70,7 +112,43 @@ public class LocalChannelImpl implements SymChannelImpl< Object > {
 
 	@Override
 	public < T extends Enum< T > > T select() {
-		return this.com();
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		event.begin();
+		T t = receive();
+		event.label = t.name();
+		event.emit( id, t );
+		return t;
+	}
+
+	@Override
+	public < M extends Enum< M > > CompletableFuture< Unit > selectAsync( M m ) {
+		select( m );
+		return CompletableFuture.completedFuture( Unit.id );
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< T > selectAsync() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		if( !event.isEnabled() ) {
+			return queueIn.recvAsync();
+		}
+		event.begin();
+		return queueIn.< T >recvAsync().thenApply( t -> {
+			event.label = t.name();
+			event.emit( id, t );
+			return t;
+		} );
+	}
+
+	private < S > S receive() {
+		try {
+			return queueIn.recv();
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException( e );
+		} catch( ExecutionException e ) {
+			throw new RuntimeException( e.getCause() );
+		}
 	}
 
 }
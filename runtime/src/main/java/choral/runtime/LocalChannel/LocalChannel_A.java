@@ -29,4 +29,8 @@ public class LocalChannel_A extends LocalChannelImpl implements SymChannel_A< Ob
 		super( queueOut, queueIn );
 	}
 
+	public LocalChannel_A( MessageQueue queueOut, MessageQueue queueIn, String name ) {
+		super( queueOut, queueIn, name );
+	}
+
 }
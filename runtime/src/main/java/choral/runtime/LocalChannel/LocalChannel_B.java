@@ -29,4 +29,8 @@ public class LocalChannel_B extends LocalChannelImpl implements SymChannel_B< Ob
 		super( queueOut, queueIn );
 	}
 
+	public LocalChannel_B( MessageQueue queueOut, MessageQueue queueIn, String name ) {
+		super( queueOut, queueIn, name );
+	}
+
 }
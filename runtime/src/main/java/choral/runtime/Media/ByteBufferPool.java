@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of {@link ByteBuffer}s organised in power-of-two size classes.
+ * Buffers larger than the biggest size class are allocated on demand and never retained.
+ * The pool retains at most a given number of buffers per class and a given number of bytes
+ * overall; buffers released beyond either limit are left to the garbage collector.
+ */
+public class ByteBufferPool {
+
+	private static final int MIN_SHIFT = 8; // 256 bytes
+	private static final int MAX_SHIFT = 22; // 4 MiB
+	private static final int DEFAULT_BUFFERS_PER_CLASS = 16;
+	private static final long DEFAULT_MAX_RETAINED_BYTES = 16L << 20; // 16 MiB
+	private static final ByteBufferPool DEFAULT =
+			new ByteBufferPool( true, DEFAULT_BUFFERS_PER_CLASS, DEFAULT_MAX_RETAINED_BYTES );
+
+	private final boolean direct;
+	private final int buffersPerClass;
+	private final long maxRetainedBytes;
+	private final ConcurrentLinkedQueue< ByteBuffer >[] classes;
+	private final AtomicInteger[] retained;
+	private final AtomicLong retainedBytes = new AtomicLong();
+
+	/**
+	 * @param buffersPerClass the maximum number of idle buffers retained per size class
+	 * @param maxRetainedBytes the maximum total capacity of the idle buffers retained
+	 */
+	@SuppressWarnings( "unchecked" )
+	public ByteBufferPool( boolean direct, int buffersPerClass, long maxRetainedBytes ) {
+		this.direct = direct;
+		this.buffersPerClass = buffersPerClass;
+		this.maxRetainedBytes = maxRetainedBytes;
+		this.classes = (ConcurrentLinkedQueue< ByteBuffer >[]) new ConcurrentLinkedQueue< ? >[ MAX_SHIFT - MIN_SHIFT + 1 ];
+		this.retained = new AtomicInteger[ classes.length ];
+		for( int i = 0; i < classes.length; i++ ) {
+			classes[ i ] = new ConcurrentLinkedQueue<>();
+			retained[ i ] = new AtomicInteger();
+		}
+	}
+
+	public ByteBufferPool( boolean direct, int buffersPerClass ) {
+		this( direct, buffersPerClass, DEFAULT_MAX_RETAINED_BYTES );
+	}
+
+	public static ByteBufferPool getDefault() {
+		return DEFAULT;
+	}
+
+	public boolean isDirect() {
+		return direct;
+	}
+
+	/**
+	 * Returns a cleared buffer whose limit is {@code size}. The buffer capacity may be larger.
+	 */
+	public ByteBuffer acquire( int size ) {
+		int index = classIndex( size );
+		if( index < 0 ) {
+			return allocate( size );
+		}
+		ByteBuffer buffer = classes[ index ].poll();
+		if( buffer == null ) {
+			buffer = allocate( 1 << ( index + MIN_SHIFT ) );
+		} else {
+			retained[ index ].decrementAndGet();
+			retainedBytes.addAndGet( -buffer.capacity() );
+		}
+		buffer.clear().limit( size );
+		return buffer;
+	}
+
+	/**
+	 * Hands a buffer obtained from {@link #acquire(int)} back to the pool.
+	 * The caller must not use the buffer afterwards.
+	 */
+	public void release( ByteBuffer buffer ) {
+		if( buffer == null || buffer.isDirect() != direct || buffer.isReadOnly() ) {
+			return;
+		}
+		int capacity = buffer.capacity();
+		if( Integer.bitCount( capacity ) != 1 ) {
+			return;
+		}
+		int index = Integer.numberOfTrailingZeros( capacity ) - MIN_SHIFT;
+		if( index < 0 || index >= classes.length ) {
+			return;
+		}
+		if( retained[ index ].incrementAndGet() > buffersPerClass ) {
+			retained[ index ].decrementAndGet();
+			return;
+		}
+		if( retainedBytes.addAndGet( capacity ) > maxRetainedBytes ) {
+			retainedBytes.addAndGet( -capacity );
+			retained[ index ].decrementAndGet();
+			return;
+		}
+		classes[ index ].offer( buffer );
+	}
+
+	/**
+	 * Returns the total capacity of the idle buffers currently retained.
+	 */
+	public long retainedBytes() {
+		return retainedBytes.get();
+	}
+
+	private ByteBuffer allocate( int capacity ) {
+		if( direct ) {
+			try {
+				return ByteBuffer.allocateDirect( capacity );
+			} catch( OutOfMemoryError e ) {
+				// direct memory exhausted, fall back to the heap
+			}
+		}
+		return ByteBuffer.allocate( capacity );
+	}
+
+	private static int classIndex( int size ) {
+		if( size <= 1 << MIN_SHIFT ) {
+			return 0;
+		}
+		int shift = 32 - Integer.numberOfLeadingZeros( size - 1 );
+		return shift > MAX_SHIFT ? -1 : shift - MIN_SHIFT;
+	}
+
+}
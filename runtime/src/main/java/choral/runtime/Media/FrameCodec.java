@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Length-prefixed framing over a blocking {@link ByteChannel}.
+ * Each frame is a 4-byte big-endian payload length followed by the payload.
+ * Reads and writes are guarded by independent locks, so one thread may receive
+ * while another sends on the same channel. The locks are {@link ReentrantLock}s rather
+ * than monitors, so that a virtual thread blocked on the channel does not pin its carrier.
+ * Received frames longer than the maximum frame length fail the read instead of being
+ * allocated.
+ */
+public class FrameCodec {
+
+	public static final int HEADER_LENGTH = Integer.BYTES;
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 64 << 20;
+
+	private final ByteChannel channel;
+	private final ByteBufferPool pool;
+	private final int maxFrameLength;
+	private final ByteBuffer readHeader = ByteBuffer.allocateDirect( HEADER_LENGTH );
+	private final ByteBuffer writeHeader = ByteBuffer.allocateDirect( HEADER_LENGTH );
+	private final ByteBuffer[] gather = new ByteBuffer[ 2 ];
+	private final ReentrantLock readLock = new ReentrantLock();
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	/**
+	 * @param maxFrameLength the largest payload, in bytes, that {@link #readFrame()} accepts
+	 */
+	public FrameCodec( ByteChannel channel, ByteBufferPool pool, int maxFrameLength ) {
+		if( maxFrameLength < 0 ) {
+			throw new IllegalArgumentException( "Invalid maximum frame length " + maxFrameLength );
+		}
+		this.channel = channel;
+		this.pool = pool;
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	public FrameCodec( ByteChannel channel, ByteBufferPool pool ) {
+		this( channel, pool, DEFAULT_MAX_FRAME_LENGTH );
+	}
+
+	public FrameCodec( ByteChannel channel ) {
+		this( channel, ByteBufferPool.getDefault() );
+	}
+
+	public ByteChannel channel() {
+		return channel;
+	}
+
+	public ByteBufferPool pool() {
+		return pool;
+	}
+
+	/**
+	 * Writes the remaining bytes of {@code payload} as a single frame.
+	 * Header and payload go out in one gathering write when the channel supports it.
+	 */
+	public void writeFrame( ByteBuffer payload ) throws IOException {
+		writeLock.lock();
+		try {
+			writeHeader.clear();
+			writeHeader.putInt( payload.remaining() ).flip();
+			if( channel instanceof GatheringByteChannel ) {
+				gather[ 0 ] = writeHeader;
+				gather[ 1 ] = payload;
+				try {
+					writeFully( (GatheringByteChannel) channel, gather );
+				} finally {
+					gather[ 1 ] = null;
+				}
+			} else {
+				writeFully( channel, writeHeader );
+				writeFully( channel, payload );
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Writes the remaining bytes of {@code frames}, a run of complete frames (headers
+	 * included), without interleaving them with other writes.
+	 */
+	public void writeFrames( ByteBuffer frames ) throws IOException {
+		writeLock.lock();
+		try {
+			writeFully( channel, frames );
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Reads one whole frame into a buffer acquired from the pool. The returned buffer is
+	 * flipped and ready to be read; hand it back with {@link #release(ByteBuffer)} once done.
+	 * A frame longer than the maximum frame length fails the read, and leaves the channel
+	 * in the middle of that frame.
+	 */
+	public ByteBuffer readFrame() throws IOException {
+		readLock.lock();
+		try {
+			readHeader.clear();
+			readFully( channel, readHeader );
+			int length = readHeader.flip().getInt();
+			checkFrameLength( length, maxFrameLength );
+			ByteBuffer frame = pool.acquire( length );
+			try {
+				readFully( channel, frame );
+			} catch( IOException e ) {
+				pool.release( frame );
+				throw e;
+			}
+			return frame.flip();
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a pooled buffer of at least {@code capacity} bytes positioned after the room
+	 * for the header, so that the payload can be written straight into it.
+	 * Complete it with {@link #sealFrame(ByteBuffer)}.
+	 */
+	public ByteBuffer newFrame( int capacity ) {
+		ByteBuffer frame = pool.acquire( HEADER_LENGTH + capacity );
+		frame.limit( frame.capacity() ).position( HEADER_LENGTH );
+		return frame;
+	}
+
+	/**
+	 * Fills in the header of a frame obtained from {@link #newFrame(int)} whose payload
+	 * ends at the current position, and flips it.
+	 */
+	public ByteBuffer sealFrame( ByteBuffer frame ) {
+		frame.flip();
+		frame.order( ByteOrder.BIG_ENDIAN ).putInt( 0, frame.remaining() - HEADER_LENGTH );
+		return frame;
+	}
+
+	/**
+	 * Writes a frame completed with {@link #sealFrame(ByteBuffer)} and hands it back to
+	 * the pool.
+	 */
+	public void writeSealedFrame( ByteBuffer frame ) throws IOException {
+		try {
+			writeLock.lock();
+			try {
+				writeFully( channel, frame );
+			} finally {
+				writeLock.unlock();
+			}
+		} finally {
+			pool.release( frame );
+		}
+	}
+
+	public void release( ByteBuffer frame ) {
+		pool.release( frame );
+	}
+
+	/**
+	 * Fails if a received frame header announces a negative length or one longer than
+	 * {@code maxFrameLength}, before any buffer is allocated for it.
+	 */
+	public static void checkFrameLength( int length, int maxFrameLength ) throws IOException {
+		if( length < 0 ) {
+			throw new IOException( "Invalid frame length " + length );
+		}
+		if( length > maxFrameLength ) {
+			throw new IOException( "Frame of " + length + " bytes exceeds the maximum of " + maxFrameLength );
+		}
+	}
+
+	public static void readFully( ReadableByteChannel channel, ByteBuffer dst ) throws IOException {
+		while( dst.hasRemaining() ) {
+			if( channel.read( dst ) < 0 ) {
+				throw new EOFException( "Channel closed with " + dst.remaining() + " bytes still expected" );
+			}
+		}
+	}
+
+	public static void writeFully( WritableByteChannel channel, ByteBuffer src ) throws IOException {
+		while( src.hasRemaining() ) {
+			channel.write( src );
+		}
+	}
+
+	public static void writeFully( GatheringByteChannel channel, ByteBuffer[] srcs ) throws IOException {
+		while( hasRemaining( srcs ) ) {
+			channel.write( srcs );
+		}
+	}
+
+	private static boolean hasRemaining( ByteBuffer[] buffers ) {
+		for( ByteBuffer buffer : buffers ) {
+			if( buffer.hasRemaining() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -21,35 +21,262 @@
 
 package choral.runtime.Media;
 
+import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
 
+/**
+ * An in-memory queue of messages between two roles. By default the queue is unbounded;
+ * a bounded queue makes senders wait while {@link #capacity()} messages are pending,
+ * and, if a send timeout is configured, fail once that timeout elapses.
+ * The queue keeps track of its depth and of the bytes retained by pending messages,
+ * as measured by its size estimator.
+ * Waiting is done on a {@link ReentrantLock}, which lets virtual threads unmount from their carrier.
+ */
 public class MessageQueue {
 
+	public static final int UNBOUNDED = Integer.MAX_VALUE;
+	private static final long FOREVER = -1;
+
 	private final LinkedList< Object > sendQueue = new LinkedList<>();
 	private final LinkedList< CompletableFuture< Object > > recvQueue = new LinkedList<>();
+	private final int capacity;
+	private final long sendTimeoutNanos;
+	private final ToLongFunction< Object > sizeEstimator;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notFull = lock.newCondition();
+	private int peakDepth = 0;
+	private long retainedBytes = 0;
+	private long peakRetainedBytes = 0;
+
+	public MessageQueue() {
+		this( UNBOUNDED );
+	}
+
+	public MessageQueue( int capacity ) {
+		this( capacity, 0, TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * @param sendTimeout how long {@link #send(Object)} waits on a full queue before
+	 *                    failing; 0 waits indefinitely
+	 */
+	public MessageQueue( int capacity, long sendTimeout, TimeUnit unit ) {
+		this( capacity, sendTimeout, unit, MessageQueue::estimateSize );
+	}
+
+	public MessageQueue(
+			int capacity, long sendTimeout, TimeUnit unit, ToLongFunction< Object > sizeEstimator
+	) {
+		if( capacity < 1 ) {
+			throw new IllegalArgumentException( "Invalid capacity " + capacity );
+		}
+		this.capacity = capacity;
+		this.sendTimeoutNanos = unit.toNanos( sendTimeout );
+		this.sizeEstimator = sizeEstimator;
+	}
 
+	/**
+	 * Enqueues a message, waiting while the queue is full.
+	 *
+	 * @throws IllegalStateException if the queue is still full when the send timeout elapses
+	 */
 	public void send( Object message ) {
-		synchronized( this ) {
+		try {
+			if( !offer( message, sendTimeoutNanos == 0 ? FOREVER : sendTimeoutNanos ) ) {
+				throw new IllegalStateException( "Message queue full, capacity " + capacity );
+			}
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException( e );
+		}
+	}
+
+	/**
+	 * Enqueues a message if the queue is not full.
+	 *
+	 * @return whether the message was enqueued
+	 */
+	public boolean offer( Object message ) {
+		try {
+			return offer( message, 0 );
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Enqueues a message, waiting up to the given timeout while the queue is full;
+	 * a timeout of 0 or less does not wait.
+	 *
+	 * @return whether the message was enqueued
+	 */
+	public boolean offer( Object message, long timeout, TimeUnit unit ) throws InterruptedException {
+		return offer( message, Math.max( 0, unit.toNanos( timeout ) ) );
+	}
+
+	/**
+	 * @param timeoutNanos {@link #FOREVER} waits as long as the queue is full
+	 */
+	private boolean offer( Object message, long timeoutNanos ) throws InterruptedException {
+		CompletableFuture< Object > future;
+		lock.lockInterruptibly();
+		try {
+			if( recvQueue.isEmpty() && sendQueue.size() >= capacity
+					&& !awaitSpace( timeoutNanos ) ) {
+				return false;
+			}
+			// receivers may have drained the queue and started waiting while we did
 			if ( recvQueue.isEmpty() ){
-				sendQueue.add( message );
-			} else {
-				CompletableFuture< Object > future = recvQueue.removeFirst();
-				future.complete( message );
+				enqueue( message );
+				return true;
 			}
+			future = recvQueue.removeFirst();
+		} finally {
+			lock.unlock();
 		}
+		// completed outside the lock, as it may run the receiver's continuations
+		future.complete( message );
+		return true;
 	}
 
+	@SuppressWarnings( "unchecked" )
 	public < T > T recv() throws ExecutionException, InterruptedException {
+		CompletableFuture< Object > future;
+		lock.lock();
+		try {
+			if( !sendQueue.isEmpty() ) {
+				return (T) dequeue();
+			}
+			future = new CompletableFuture<>();
+			recvQueue.add( future );
+		} finally {
+			lock.unlock();
+		}
+		try {
+			return (T) future.get();
+		} catch( InterruptedException e ) {
+			lock.lock();
+			try {
+				if( recvQueue.remove( future ) ) {
+					// withdrawn, so that the next message goes to a live receiver
+					throw e;
+				}
+			} finally {
+				lock.unlock();
+			}
+			// a sender already handed the message over: keep it and the interrupt
+			Thread.currentThread().interrupt();
+			return (T) future.join();
+		}
+	}
+
+	@SuppressWarnings( "unchecked" )
+	public < T > CompletableFuture< T > recvAsync() {
 		CompletableFuture< Object > future = new CompletableFuture<>();
-		synchronized ( this ){
+		lock.lock();
+		try {
 			if( sendQueue.isEmpty() ){
 				recvQueue.add( future );
 			} else {
-				future.complete( sendQueue.removeFirst() );
+				future.complete( dequeue() );
 			}
+		} finally {
+			lock.unlock();
+		}
+		return (CompletableFuture< T >) future;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public int depth() {
+		lock.lock();
+		try {
+			return sendQueue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int peakDepth() {
+		lock.lock();
+		try {
+			return peakDepth;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long retainedBytes() {
+		lock.lock();
+		try {
+			return retainedBytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long peakRetainedBytes() {
+		lock.lock();
+		try {
+			return peakRetainedBytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The default size estimator: counts the payload of byte buffers, byte arrays and strings,
+	 * and nothing for other objects.
+	 */
+	public static long estimateSize( Object message ) {
+		if( message instanceof ByteBuffer ) {
+			return ( (ByteBuffer) message ).remaining();
+		} else if( message instanceof byte[] ) {
+			return ( (byte[]) message ).length;
+		} else if( message instanceof CharSequence ) {
+			return 2L * ( (CharSequence) message ).length();
+		}
+		return 0;
+	}
+
+	private boolean awaitSpace( long timeoutNanos ) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		while( sendQueue.size() >= capacity ) {
+			if( timeoutNanos == FOREVER ) {
+				notFull.await();
+			} else {
+				long remaining = deadline - System.nanoTime();
+				if( remaining <= 0 ) {
+					return false;
+				}
+				notFull.awaitNanos( remaining );
+			}
+		}
+		return true;
+	}
+
+	private void enqueue( Object message ) {
+		sendQueue.add( message );
+		peakDepth = Math.max( peakDepth, sendQueue.size() );
+		retainedBytes += sizeEstimator.applyAsLong( message );
+		peakRetainedBytes = Math.max( peakRetainedBytes, retainedBytes );
+	}
+
+	private Object dequeue() {
+		Object message = sendQueue.removeFirst();
+		retainedBytes -= sizeEstimator.applyAsLong( message );
+		if( capacity != UNBOUNDED ) {
+			notFull.signalAll();
 		}
-		return (T) future.get();
+		return message;
 	}
 }
@@ -25,14 +25,19 @@ import choral.utils.Pair;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.Pipe;
 import java.nio.channels.ReadableByteChannel;
-import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.ReentrantLock;
 
-public class PipedByteChannel implements BlockingByteChannel {
+public class PipedByteChannel implements BlockingByteChannel, GatheringByteChannel {
 
 	private final ReadableByteChannel in;
-	private final WritableByteChannel out;
+	private final GatheringByteChannel out;
+	private final ByteBuffer lengthIn = ByteBuffer.allocate( FrameCodec.HEADER_LENGTH );
+	private final ByteBuffer lengthOut = ByteBuffer.allocate( FrameCodec.HEADER_LENGTH );
+	private final ReentrantLock readLock = new ReentrantLock();
+	private final ReentrantLock writeLock = new ReentrantLock();
 	private boolean isOpen = true;
 
 	public static Pair< PipedByteChannel, PipedByteChannel > getConnectedChannels() throws IOException {
@@ -44,7 +49,7 @@ public class PipedByteChannel implements BlockingByteChannel {
 		);
 	}
 
-	private PipedByteChannel( ReadableByteChannel in, WritableByteChannel out ) {
+	private PipedByteChannel( ReadableByteChannel in, GatheringByteChannel out ) {
 		this.in = in;
 		this.out = out;
 	}
@@ -59,6 +64,16 @@ public class PipedByteChannel implements BlockingByteChannel {
 		return out.write( src );
 	}
 
+	@Override
+	public long write( ByteBuffer[] srcs, int offset, int length ) throws IOException {
+		return out.write( srcs, offset, length );
+	}
+
+	@Override
+	public long write( ByteBuffer[] srcs ) throws IOException {
+		return out.write( srcs );
+	}
+
 	@Override
 	public boolean isOpen() {
 		return isOpen;
@@ -72,14 +87,25 @@ public class PipedByteChannel implements BlockingByteChannel {
 
 	@Override
 	public int recvTransmissionLength() throws IOException {
-		ByteBuffer recv = ByteBuffer.allocate( 4 );
-		in.read( recv );
-		return recv.asIntBuffer().get();
+		readLock.lock();
+		try {
+			lengthIn.clear();
+			FrameCodec.readFully( in, lengthIn );
+			return lengthIn.flip().getInt();
+		} finally {
+			readLock.unlock();
+		}
 	}
 
 	@Override
 	public void sendTransmissionLength( int length ) throws IOException {
-		ByteBuffer snd = ByteBuffer.allocate( 4 ).putInt( length );
-		out.write( snd );
+		writeLock.lock();
+		try {
+			lengthOut.clear();
+			lengthOut.putInt( length ).flip();
+			FrameCodec.writeFully( out, lengthOut );
+		} finally {
+			writeLock.unlock();
+		}
 	}
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free, single-producer/single-consumer message queue.
+ * At most one thread may call {@link #send(Object)} and at most one thread may call
+ * {@link #recv()} at any given time, which is the case for each direction of a channel
+ * between two roles. The queue does not check this: concurrent producers (or consumers)
+ * silently lose or duplicate messages.
+ * <p>
+ * With a {@link WaitStrategy} that parks, each side publishes itself as waiting before its
+ * last check of the queue, and the other side reads that after a full fence following
+ * its update, so that either the waiting side sees the update or it gets unparked.
+ */
+public class RingBufferQueue {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private final Object[] buffer;
+	private final int mask;
+	private final WaitStrategy waitStrategy;
+
+	// index of the next slot to read, written only by the consumer
+	private final AtomicLong head = new AtomicLong();
+	// index of the next slot to write, written only by the producer
+	private final AtomicLong tail = new AtomicLong();
+	// producer-local view of head, refreshed only when the queue looks full
+	private long cachedHead = 0;
+	// consumer-local view of tail, refreshed only when the queue looks empty
+	private long cachedTail = 0;
+
+	private volatile Thread waitingProducer;
+	private volatile Thread waitingConsumer;
+
+	public RingBufferQueue() {
+		this( DEFAULT_CAPACITY, WaitStrategy.PARK );
+	}
+
+	public RingBufferQueue( int capacity, WaitStrategy waitStrategy ) {
+		if( capacity < 1 || capacity > 1 << 30 ) {
+			throw new IllegalArgumentException( "Invalid capacity " + capacity );
+		}
+		int size = Integer.highestOneBit( capacity );
+		size = size < capacity ? size << 1 : size;
+		this.buffer = new Object[ size ];
+		this.mask = size - 1;
+		this.waitStrategy = waitStrategy;
+	}
+
+	public int capacity() {
+		return buffer.length;
+	}
+
+	public int size() {
+		return (int) ( tail.get() - head.get() );
+	}
+
+	/**
+	 * Enqueues a message without waiting; returns {@code false} if the queue is full.
+	 */
+	public boolean offer( Object message ) {
+		long t = tail.get();
+		if( t - cachedHead >= buffer.length ) {
+			cachedHead = head.get();
+			if( t - cachedHead >= buffer.length ) {
+				return false;
+			}
+		}
+		buffer[ (int) t & mask ] = message;
+		tail.lazySet( t + 1 );
+		if( waitStrategy.parks() ) {
+			VarHandle.fullFence();
+			signal( waitingConsumer );
+		}
+		return true;
+	}
+
+	/**
+	 * Enqueues a message, waiting according to the queue's {@link WaitStrategy} while it is full.
+	 */
+	public void send( Object message ) throws InterruptedException {
+		if( offer( message ) ) {
+			return;
+		}
+		if( waitStrategy.parks() ) {
+			waitingProducer = Thread.currentThread();
+		}
+		try {
+			for( int round = 0; !offer( message ); round++ ) {
+				checkInterrupted();
+				waitStrategy.idle( round );
+			}
+		} finally {
+			waitingProducer = null;
+		}
+	}
+
+	/**
+	 * Dequeues the next message, waiting according to the queue's {@link WaitStrategy}
+	 * while the queue is empty.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public < T > T recv() throws InterruptedException {
+		long h = head.get();
+		if( h >= cachedTail ) {
+			cachedTail = tail.get();
+			if( h >= cachedTail ) {
+				if( waitStrategy.parks() ) {
+					waitingConsumer = Thread.currentThread();
+				}
+				try {
+					for( int round = 0; h >= ( cachedTail = tail.get() ); round++ ) {
+						checkInterrupted();
+						waitStrategy.idle( round );
+					}
+				} finally {
+					waitingConsumer = null;
+				}
+			}
+		}
+		int index = (int) h & mask;
+		Object message = buffer[ index ];
+		buffer[ index ] = null;
+		head.lazySet( h + 1 );
+		if( waitStrategy.parks() ) {
+			VarHandle.fullFence();
+			signal( waitingProducer );
+		}
+		return (T) message;
+	}
+
+	private static void signal( Thread waiting ) {
+		if( waiting != null ) {
+			LockSupport.unpark( waiting );
+		}
+	}
+
+	private static void checkInterrupted() throws InterruptedException {
+		if( Thread.interrupted() ) {
+			throw new InterruptedException();
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads on which roles, and the asynchronous operations of their channels, run.
+ * <p>
+ * By default these are platform threads. On JDK 21 and later they can be virtual threads
+ * instead, either by setting the system property {@value #MODE_PROPERTY} to {@code virtual}
+ * or by calling {@link #useVirtualThreads(boolean)} before starting any role. The runtime is
+ * compiled for Java 17, so virtual threads are reached reflectively; on older JDKs the
+ * virtual mode is unavailable and platform threads are used.
+ */
+public final class RoleThreads {
+
+	public static final String MODE_PROPERTY = "choral.threads";
+
+	private static final Method OF_VIRTUAL;
+	private static final Method BUILDER_NAME;
+	private static final Method BUILDER_FACTORY;
+	private static final Method THREAD_PER_TASK_EXECUTOR;
+
+	static {
+		Method ofVirtual = null, name = null, factory = null, perTask = null;
+		if( Runtime.version().feature() >= 21 ) {
+			try {
+				Class< ? > builder = Class.forName( "java.lang.Thread$Builder" );
+				ofVirtual = Thread.class.getMethod( "ofVirtual" );
+				name = builder.getMethod( "name", String.class, long.class );
+				factory = builder.getMethod( "factory" );
+				perTask = Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class );
+			} catch( ReflectiveOperationException e ) {
+				ofVirtual = null;
+			}
+		}
+		OF_VIRTUAL = ofVirtual;
+		BUILDER_NAME = name;
+		BUILDER_FACTORY = factory;
+		THREAD_PER_TASK_EXECUTOR = perTask;
+	}
+
+	private static volatile boolean virtual =
+			"virtual".equalsIgnoreCase( System.getProperty( MODE_PROPERTY, "platform" ) )
+					&& OF_VIRTUAL != null;
+
+	private RoleThreads() {
+	}
+
+	/**
+	 * Whether this JVM offers virtual threads.
+	 */
+	public static boolean virtualThreadsSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/**
+	 * Whether roles currently run on virtual threads.
+	 */
+	public static boolean isVirtual() {
+		return virtual;
+	}
+
+	/**
+	 * Switches between virtual and platform threads. Threads and executors already created
+	 * keep their kind.
+	 *
+	 * @throws UnsupportedOperationException when enabling virtual threads on a JVM that
+	 *                                       lacks them
+	 */
+	public static void useVirtualThreads( boolean enable ) {
+		if( enable && OF_VIRTUAL == null ) {
+			throw new UnsupportedOperationException(
+					"Virtual threads require JDK 21 or later, running on " + Runtime.version() );
+		}
+		virtual = enable;
+	}
+
+	/**
+	 * A factory of threads of the current kind, named {@code prefix} followed by a counter.
+	 * Platform threads are not daemons, so that a role keeps the JVM alive until it completes.
+	 */
+	public static ThreadFactory factory( String prefix ) {
+		if( virtual ) {
+			return virtualFactory( prefix );
+		}
+		AtomicInteger counter = new AtomicInteger();
+		return r -> new Thread( r, prefix + counter.getAndIncrement() );
+	}
+
+	/**
+	 * Starts {@code role} on a new thread of the current kind.
+	 */
+	public static Thread start( String name, Runnable role ) {
+		Thread t = factory( name ).newThread( role );
+		t.setName( name );
+		t.start();
+		return t;
+	}
+
+	/**
+	 * An executor for running roles: one virtual thread per task, or a fixed pool of
+	 * {@code platformThreads} platform threads.
+	 */
+	public static ExecutorService newExecutor( int platformThreads ) {
+		if( virtual ) {
+			return perTaskExecutor( virtualFactory( "choral-role-" ) );
+		}
+		return Executors.newFixedThreadPool( platformThreads, factory( "choral-role-" ) );
+	}
+
+	/**
+	 * An executor for running roles that grows with demand: one virtual thread per task,
+	 * or a cached pool of platform threads. Unlike a fixed pool, it cannot starve a role
+	 * whose peers already occupy every thread.
+	 */
+	public static ExecutorService newExecutor() {
+		if( virtual ) {
+			return perTaskExecutor( virtualFactory( "choral-role-" ) );
+		}
+		return Executors.newCachedThreadPool( factory( "choral-role-" ) );
+	}
+
+	/**
+	 * The executor used for blocking channel I/O, see {@link SerialExecutor#ioExecutor()}.
+	 */
+	static ExecutorService ioExecutor() {
+		return virtual ? VirtualIO.EXECUTOR : PlatformIO.EXECUTOR;
+	}
+
+	private static ThreadFactory virtualFactory( String prefix ) {
+		try {
+			Object builder = BUILDER_NAME.invoke( OF_VIRTUAL.invoke( null ), prefix, 0L );
+			return (ThreadFactory) BUILDER_FACTORY.invoke( builder );
+		} catch( ReflectiveOperationException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+	}
+
+	private static ExecutorService perTaskExecutor( ThreadFactory factory ) {
+		try {
+			return (ExecutorService) THREAD_PER_TASK_EXECUTOR.invoke( null, factory );
+		} catch( ReflectiveOperationException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+	}
+
+	private static final class PlatformIO {
+		static final ExecutorService EXECUTOR = Executors.newCachedThreadPool( r -> {
+			Thread t = new Thread( r, "choral-channel-io" );
+			t.setDaemon( true );
+			return t;
+		} );
+	}
+
+	private static final class VirtualIO {
+		static final ExecutorService EXECUTOR = perTaskExecutor( virtualFactory( "choral-channel-io-" ) );
+	}
+
+}
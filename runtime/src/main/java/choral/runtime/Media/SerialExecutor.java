@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks one at a time, in submission order, on a backing executor.
+ * Channels use one instance per direction so that asynchronous sends (resp. receives)
+ * reach the wire (resp. the caller) in the order they were issued. Asynchronous
+ * operations are plain blocking I/O performed on {@link #ioExecutor()}; the synchronous
+ * ones go through {@link #call(Task)} and thus share the same queue.
+ */
+public class SerialExecutor {
+
+	private final Executor executor;
+	private CompletableFuture< ? > tail = CompletableFuture.completedFuture( null );
+
+	public SerialExecutor( Executor executor ) {
+		this.executor = executor;
+	}
+
+	public SerialExecutor() {
+		this( ioExecutor() );
+	}
+
+	/**
+	 * The executor shared by the asynchronous channel operations of the runtime: a cached
+	 * pool of daemon threads, or virtual threads when {@link RoleThreads#isVirtual()}.
+	 */
+	public static Executor ioExecutor() {
+		return RoleThreads.ioExecutor();
+	}
+
+	/**
+	 * Schedules {@code task} after every previously submitted task has completed,
+	 * whether normally or exceptionally.
+	 */
+	public synchronized < R > CompletableFuture< R > submit( Callable< R > task ) {
+		CompletableFuture< R > next = tail.handleAsync( ( r, e ) -> {
+			try {
+				return task.call();
+			} catch( RuntimeException ex ) {
+				throw ex;
+			} catch( Exception ex ) {
+				throw new CompletionException( ex );
+			}
+		}, executor );
+		tail = next;
+		return next;
+	}
+
+	/**
+	 * Runs {@code task} in the calling thread once every previously submitted task has
+	 * completed, whether normally or exceptionally. Tasks submitted meanwhile are queued
+	 * behind it, so synchronous operations keep their place among the asynchronous ones.
+	 */
+	public < R, E extends Exception > R call( Task< R, E > task ) throws E {
+		CompletableFuture< Void > done = new CompletableFuture<>();
+		CompletableFuture< ? > previous;
+		synchronized( this ) {
+			previous = tail;
+			tail = done;
+		}
+		try {
+			previous.handle( ( r, e ) -> null ).join();
+			return task.call();
+		} finally {
+			done.complete( null );
+		}
+	}
+
+	/**
+	 * A task run in the calling thread by {@link #call(Task)}.
+	 */
+	@FunctionalInterface
+	public interface Task< R, E extends Exception > {
+		R call() throws E;
+	}
+
+}
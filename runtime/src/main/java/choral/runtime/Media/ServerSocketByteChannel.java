@@ -2,14 +2,17 @@ package choral.runtime.Media;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 
 public class ServerSocketByteChannel {
 
 	private final ServerSocketChannel listeningChannel;
+	private final boolean tcpNoDelay;
 
-	private ServerSocketByteChannel( String hostname, int portNumber ) {
+	private ServerSocketByteChannel( String hostname, int portNumber, boolean tcpNoDelay ) {
+		this.tcpNoDelay = tcpNoDelay;
 		try {
 			this.listeningChannel = ServerSocketChannel.open();
 			listeningChannel.socket().bind( new InetSocketAddress( hostname, portNumber ) );
@@ -19,13 +22,22 @@ public class ServerSocketByteChannel {
 		}
 	}
 
+	/**
+	 * Accepted connections have {@code TCP_NODELAY} set, see
+	 * {@link SocketByteChannel#connect(String, int)}.
+	 */
 	public static ServerSocketByteChannel at( String hostname, int portNumber ) {
-		return new ServerSocketByteChannel( hostname, portNumber );
+		return at( hostname, portNumber, true );
+	}
+
+	public static ServerSocketByteChannel at( String hostname, int portNumber, boolean tcpNoDelay ) {
+		return new ServerSocketByteChannel( hostname, portNumber, tcpNoDelay );
 	}
 
 	public SocketByteChannel getNext() throws IOException {
 		SocketChannel channel = listeningChannel.accept();
 		channel.configureBlocking( true );
+		channel.setOption( StandardSocketOptions.TCP_NODELAY, tcpNoDelay );
 		return new SocketByteChannel( channel );
 	}
 
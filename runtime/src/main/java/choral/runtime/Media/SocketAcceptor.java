@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A listening socket that stays open and serves every incoming connection.
+ * Connections are accepted on a dedicated selector thread and each connected
+ * {@link SocketByteChannel} is handed to a {@link SessionHandler} on a worker pool,
+ * so a server role can run many choreography instances concurrently.
+ */
+public class SocketAcceptor implements Closeable {
+
+	private static final long ACCEPT_RETRY_MILLIS = 100;
+
+	@FunctionalInterface
+	public interface SessionHandler {
+		/**
+		 * Serves one connection. The channel is closed once the handler returns or throws.
+		 */
+		void handle( SocketByteChannel channel ) throws Exception;
+	}
+
+	private final ServerSocketChannel listeningChannel;
+	private final Selector selector;
+	private final SessionHandler handler;
+	private final ExecutorService workers;
+	private final boolean ownsWorkers;
+	private final Thread acceptThread;
+	private volatile boolean open = true;
+
+	private SocketAcceptor(
+			String hostname, int portNumber, SessionHandler handler,
+			ExecutorService workers, boolean ownsWorkers
+	) throws IOException {
+		this.handler = handler;
+		this.workers = workers;
+		this.ownsWorkers = ownsWorkers;
+		this.selector = Selector.open();
+		this.listeningChannel = ServerSocketChannel.open();
+		try {
+			listeningChannel.bind( new InetSocketAddress( hostname, portNumber ) );
+			listeningChannel.configureBlocking( false );
+			listeningChannel.register( selector, SelectionKey.OP_ACCEPT );
+		} catch( IOException e ) {
+			listeningChannel.close();
+			selector.close();
+			throw e;
+		}
+		this.acceptThread = new Thread( this::acceptLoop, "choral-acceptor-" + localPort() );
+		acceptThread.setDaemon( true );
+		acceptThread.start();
+	}
+
+	/**
+	 * Listens at the given address (port 0 picks a free port) and runs sessions on
+	 * {@code workers}, which stays owned by the caller.
+	 */
+	public static SocketAcceptor at(
+			String hostname, int portNumber, SessionHandler handler, ExecutorService workers
+	) throws IOException {
+		return new SocketAcceptor( hostname, portNumber, handler, workers, false );
+	}
+
+	/**
+	 * Listens at the given address (port 0 picks a free port) and runs each session on
+	 * a thread of a private cached pool, shut down by {@link #close()}.
+	 */
+	public static SocketAcceptor at(
+			String hostname, int portNumber, SessionHandler handler
+	) throws IOException {
+		return new SocketAcceptor( hostname, portNumber, handler,
+				Executors.newCachedThreadPool(), true );
+	}
+
+	public int localPort() {
+		return listeningChannel.socket().getLocalPort();
+	}
+
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public void close() throws IOException {
+		open = false;
+		selector.wakeup();
+		try {
+			acceptThread.join();
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+		listeningChannel.close();
+		selector.close();
+		if( ownsWorkers ) {
+			workers.shutdown();
+		}
+	}
+
+	/**
+	 * Accepts until the acceptor is closed. A failure, e.g. running out of file
+	 * descriptors, is logged and retried after a short pause rather than ending the loop.
+	 */
+	private void acceptLoop() {
+		while( open ) {
+			try {
+				selector.select();
+				Iterator< SelectionKey > keys = selector.selectedKeys().iterator();
+				while( keys.hasNext() ) {
+					keys.next();
+					keys.remove();
+					SocketChannel channel;
+					while( open && ( channel = listeningChannel.accept() ) != null ) {
+						dispatch( channel );
+					}
+				}
+			} catch( IOException | ClosedSelectorException e ) {
+				if( open ) {
+					e.printStackTrace();
+					backOff();
+				}
+			}
+		}
+	}
+
+	private static void backOff() {
+		try {
+			Thread.sleep( ACCEPT_RETRY_MILLIS );
+		} catch( InterruptedException e ) {
+			// only close() ends the loop
+		}
+	}
+
+	private void dispatch( SocketChannel channel ) {
+		try {
+			channel.configureBlocking( true );
+			channel.setOption( StandardSocketOptions.TCP_NODELAY, true );
+			SocketByteChannel session = new SocketByteChannel( channel );
+			workers.execute( () -> serve( session ) );
+		} catch( IOException | RejectedExecutionException e ) {
+			e.printStackTrace();
+			closeQuietly( channel );
+		}
+	}
+
+	private void serve( SocketByteChannel session ) {
+		try {
+			handler.handle( session );
+		} catch( Exception e ) {
+			e.printStackTrace();
+		} finally {
+			try {
+				session.close();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static void closeQuietly( SocketChannel channel ) {
+		try {
+			channel.close();
+		} catch( IOException e ) {
+			e.printStackTrace();
+		}
+	}
+
+}
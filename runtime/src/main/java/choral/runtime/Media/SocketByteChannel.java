@@ -1,25 +1,39 @@
 package choral.runtime.Media;
 
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.ReentrantLock;
 
-public class SocketByteChannel implements BlockingByteChannel {
+public class SocketByteChannel implements BlockingByteChannel, GatheringByteChannel {
 
 	private final SocketChannel channel;
+	private final ByteBuffer lengthIn = ByteBuffer.allocate( FrameCodec.HEADER_LENGTH );
+	private final ByteBuffer lengthOut = ByteBuffer.allocate( FrameCodec.HEADER_LENGTH );
+	private final ReentrantLock readLock = new ReentrantLock();
+	private final ReentrantLock writeLock = new ReentrantLock();
 
 	public SocketByteChannel( SocketChannel channel ) {
 		this.channel = channel;
 	}
 
+	/**
+	 * Connects with {@code TCP_NODELAY} set, as choreographies mostly exchange small
+	 * messages that a peer waits for.
+	 */
 	public static SocketByteChannel connect( String hostname, int portNumber ) {
+		return connect( hostname, portNumber, true );
+	}
+
+	public static SocketByteChannel connect( String hostname, int portNumber, boolean tcpNoDelay ) {
 		try {
 			SocketChannel channel = SocketChannel.open();
 			channel.connect( new InetSocketAddress( hostname, portNumber ) );
 			channel.configureBlocking( true );
+			channel.setOption( StandardSocketOptions.TCP_NODELAY, tcpNoDelay );
 			return new SocketByteChannel( channel );
 		} catch( IOException e ) {
 			e.printStackTrace();
@@ -37,6 +51,16 @@ public class SocketByteChannel implements BlockingByteChannel {
 		return channel.write( src );
 	}
 
+	@Override
+	public long write( ByteBuffer[] srcs, int offset, int length ) throws IOException {
+		return channel.write( srcs, offset, length );
+	}
+
+	@Override
+	public long write( ByteBuffer[] srcs ) throws IOException {
+		return channel.write( srcs );
+	}
+
 	@Override
 	public boolean isOpen() {
 		return channel.isOpen();
@@ -49,14 +73,30 @@ public class SocketByteChannel implements BlockingByteChannel {
 
 	@Override
 	public int recvTransmissionLength() throws IOException {
-		DataInputStream dis = new DataInputStream( channel.socket().getInputStream() );
-		return dis.readInt();
+		readLock.lock();
+		try {
+			lengthIn.clear();
+			FrameCodec.readFully( channel, lengthIn );
+			return lengthIn.flip().getInt();
+		} finally {
+			readLock.unlock();
+		}
 	}
 
 	@Override
 	public void sendTransmissionLength( int length ) throws IOException {
-		DataOutputStream dos = new DataOutputStream( channel.socket().getOutputStream() );
-		dos.writeInt( length );
+		writeLock.lock();
+		try {
+			lengthOut.clear();
+			lengthOut.putInt( length ).flip();
+			FrameCodec.writeFully( channel, lengthOut );
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	public SocketChannel socketChannel() {
+		return channel;
 	}
 
 }
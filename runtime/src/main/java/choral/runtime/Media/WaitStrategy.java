@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Media;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits for a {@link RingBufferQueue} to become non-empty (or non-full).
+ * {@code idle} is called repeatedly with an increasing round counter until the condition holds.
+ */
+public enum WaitStrategy {
+
+	/** Busy-spins; lowest latency, burns a core per waiting thread. */
+	SPIN {
+		@Override
+		void idle( int round ) {
+			Thread.onSpinWait();
+		}
+	},
+
+	/** Spins briefly, then yields the processor to other runnable threads. */
+	YIELD {
+		@Override
+		void idle( int round ) {
+			if( round < SPIN_ROUNDS ) {
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		}
+	},
+
+	/** Spins, then yields, then parks until signalled by the other side. */
+	PARK {
+		@Override
+		void idle( int round ) {
+			if( round < SPIN_ROUNDS ) {
+				Thread.onSpinWait();
+			} else if( round < SPIN_ROUNDS + YIELD_ROUNDS ) {
+				Thread.yield();
+			} else {
+				LockSupport.park( this );
+			}
+		}
+
+		@Override
+		boolean parks() {
+			return true;
+		}
+	};
+
+	private static final int SPIN_ROUNDS = 100;
+	private static final int YIELD_ROUNDS = 100;
+
+	abstract void idle( int round );
+
+	boolean parks() {
+		return false;
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one channel end, fed by {@link MeteredChannelImpl}, {@link MeteredByteChannel}
+ * and {@link MeteredSerializer}, and exposed as the MBean
+ * {@code choral:type=Channel,name=<name>}.
+ * <p>
+ * Metrics are enabled by the system property {@value #ENABLED_PROPERTY}, or by
+ * {@link #setEnabled(boolean)}. When they are not, {@link #register(String)} returns
+ * {@code null} and the {@code instrument} methods of the decorators return the channel or
+ * serializer they are given, so nothing is measured.
+ */
+public class ChannelMetrics implements ChannelMetricsMBean {
+
+	public static final String ENABLED_PROPERTY = "choral.metrics";
+
+	private static volatile boolean enabled = Boolean.getBoolean( ENABLED_PROPERTY );
+
+	private final String name;
+	private final LongAdder messagesSent = new LongAdder();
+	private final LongAdder messagesReceived = new LongAdder();
+	private final LongAdder selectionsSent = new LongAdder();
+	private final LongAdder selectionsReceived = new LongAdder();
+	private final LongAdder bytesSent = new LongAdder();
+	private final LongAdder bytesReceived = new LongAdder();
+	private final LongAdder sendNanos = new LongAdder();
+	private final LongAdder serializationNanos = new LongAdder();
+	private final LongAdder deserializationNanos = new LongAdder();
+	private final LatencyHistogram receiveWait = new LatencyHistogram();
+	private ObjectName objectName;
+
+	public ChannelMetrics( String name ) {
+		this.name = name;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables metrics. Channels and runners already created keep their metrics,
+	 * or the lack of them.
+	 */
+	public static void setEnabled( boolean enable ) {
+		enabled = enable;
+	}
+
+	/**
+	 * Creates the metrics of a channel and registers them with the platform MBean server,
+	 * or returns {@code null} if metrics are disabled.
+	 */
+	public static ChannelMetrics register( String name ) {
+		if( !enabled ) {
+			return null;
+		}
+		ChannelMetrics metrics = new ChannelMetrics( name );
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName objectName = new ObjectName( "choral:type=Channel,name=" + ObjectName.quote( name ) );
+			server.registerMBean( metrics, objectName );
+			metrics.objectName = objectName;
+		} catch( JMException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+		return metrics;
+	}
+
+	/**
+	 * Removes these metrics from the MBean server, if they were registered.
+	 */
+	public synchronized void unregister() {
+		if( objectName == null ) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean( objectName );
+		} catch( JMException e ) {
+			throw new RuntimeException( e.getMessage() );
+		} finally {
+			objectName = null;
+		}
+	}
+
+	void messageSent( long nanos ) {
+		messagesSent.increment();
+		sendNanos.add( nanos );
+	}
+
+	void messageReceived() {
+		messagesReceived.increment();
+	}
+
+	void selectionSent( long nanos ) {
+		selectionsSent.increment();
+		sendNanos.add( nanos );
+	}
+
+	void selectionReceived() {
+		selectionsReceived.increment();
+	}
+
+	void receiveWaited( long nanos ) {
+		receiveWait.record( nanos );
+	}
+
+	void bytesSent( long bytes ) {
+		bytesSent.add( bytes );
+	}
+
+	void bytesReceived( long bytes ) {
+		bytesReceived.add( bytes );
+	}
+
+	void serialized( long nanos ) {
+		serializationNanos.add( nanos );
+	}
+
+	void deserialized( long nanos ) {
+		deserializationNanos.add( nanos );
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getMessagesSent() {
+		return messagesSent.sum();
+	}
+
+	@Override
+	public long getMessagesReceived() {
+		return messagesReceived.sum();
+	}
+
+	@Override
+	public long getSelectionsSent() {
+		return selectionsSent.sum();
+	}
+
+	@Override
+	public long getSelectionsReceived() {
+		return selectionsReceived.sum();
+	}
+
+	@Override
+	public long getBytesSent() {
+		return bytesSent.sum();
+	}
+
+	@Override
+	public long getBytesReceived() {
+		return bytesReceived.sum();
+	}
+
+	@Override
+	public long getSendNanos() {
+		return sendNanos.sum();
+	}
+
+	@Override
+	public long getSerializationNanos() {
+		return serializationNanos.sum();
+	}
+
+	@Override
+	public long getDeserializationNanos() {
+		return deserializationNanos.sum();
+	}
+
+	@Override
+	public long getReceiveWaitCount() {
+		return receiveWait.count();
+	}
+
+	@Override
+	public long getReceiveWaitNanos() {
+		return receiveWait.totalNanos();
+	}
+
+	@Override
+	public long getReceiveWaitP50Nanos() {
+		return receiveWait.quantile( 0.5 );
+	}
+
+	@Override
+	public long getReceiveWaitP99Nanos() {
+		return receiveWait.quantile( 0.99 );
+	}
+
+	@Override
+	public long getReceiveWaitMaxNanos() {
+		return receiveWait.quantile( 1 );
+	}
+
+	@Override
+	public long[] getReceiveWaitHistogram() {
+		return receiveWait.snapshot();
+	}
+
+	public LatencyHistogram receiveWait() {
+		return receiveWait;
+	}
+
+	@Override
+	public void reset() {
+		messagesSent.reset();
+		messagesReceived.reset();
+		selectionsSent.reset();
+		selectionsReceived.reset();
+		bytesSent.reset();
+		bytesReceived.reset();
+		sendNanos.reset();
+		serializationNanos.reset();
+		deserializationNanos.reset();
+		receiveWait.reset();
+	}
+
+	@Override
+	public String toString() {
+		return name + ": sent " + getMessagesSent() + " messages, " + getSelectionsSent()
+				+ " selections, " + getBytesSent() + " bytes; received " + getMessagesReceived()
+				+ " messages, " + getSelectionsReceived() + " selections, " + getBytesReceived()
+				+ " bytes; receive wait p50 " + getReceiveWaitP50Nanos() + " ns, p99 "
+				+ getReceiveWaitP99Nanos() + " ns";
+	}
+
+}
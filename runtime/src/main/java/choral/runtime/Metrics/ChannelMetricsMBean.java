@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Metrics;
+
+/**
+ * The JMX view of {@link ChannelMetrics}.
+ */
+public interface ChannelMetricsMBean {
+
+	String getName();
+
+	long getMessagesSent();
+
+	long getMessagesReceived();
+
+	long getSelectionsSent();
+
+	long getSelectionsReceived();
+
+	long getBytesSent();
+
+	long getBytesReceived();
+
+	/**
+	 * Time spent by callers in sends, serialization included.
+	 */
+	long getSendNanos();
+
+	long getSerializationNanos();
+
+	long getDeserializationNanos();
+
+	long getReceiveWaitCount();
+
+	long getReceiveWaitNanos();
+
+	long getReceiveWaitP50Nanos();
+
+	long getReceiveWaitP99Nanos();
+
+	long getReceiveWaitMaxNanos();
+
+	/**
+	 * The blocking-receive wait histogram, see {@link LatencyHistogram}.
+	 */
+	long[] getReceiveWaitHistogram();
+
+	void reset();
+
+}
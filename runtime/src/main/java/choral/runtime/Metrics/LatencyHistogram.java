@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds with one bucket per power of two, so that its
+ * memory is fixed whatever the number of samples. Bucket {@code i} counts the durations
+ * in {@code [2^(i-1), 2^i)}; bucket 0 counts zero durations.
+ */
+public class LatencyHistogram {
+
+	public static final int BUCKETS = Long.SIZE + 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKETS );
+	private final LongAdder total = new LongAdder();
+
+	public void record( long nanos ) {
+		nanos = Math.max( 0, nanos );
+		buckets.incrementAndGet( Long.SIZE - Long.numberOfLeadingZeros( nanos ) );
+		total.add( nanos );
+	}
+
+	public long count() {
+		long count = 0;
+		for( int i = 0; i < BUCKETS; i++ ) {
+			count += buckets.get( i );
+		}
+		return count;
+	}
+
+	public long totalNanos() {
+		return total.sum();
+	}
+
+	/**
+	 * An upper bound of the {@code q}-quantile ({@code 0 < q <= 1}), accurate to a factor
+	 * of two; 0 when empty.
+	 */
+	public long quantile( double q ) {
+		long[] counts = snapshot();
+		long count = 0;
+		for( long c : counts ) {
+			count += c;
+		}
+		long rank = (long) Math.ceil( q * count );
+		long seen = 0;
+		for( int i = 0; i < BUCKETS; i++ ) {
+			seen += counts[ i ];
+			if( seen >= rank && counts[ i ] > 0 ) {
+				return upperBound( i );
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * The count of each bucket.
+	 */
+	public long[] snapshot() {
+		long[] counts = new long[ BUCKETS ];
+		for( int i = 0; i < BUCKETS; i++ ) {
+			counts[ i ] = buckets.get( i );
+		}
+		return counts;
+	}
+
+	public void reset() {
+		for( int i = 0; i < BUCKETS; i++ ) {
+			buckets.set( i, 0 );
+		}
+		total.reset();
+	}
+
+	private static long upperBound( int bucket ) {
+		return bucket == 0 ? 0 : bucket == Long.SIZE ? Long.MAX_VALUE : ( 1L << bucket ) - 1;
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Metrics;
+
+import choral.lang.Unit;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Serializers.BufferSerializer;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Counts the bytes of the messages that go through a byte channel, framing excluded.
+ */
+public class MeteredByteChannel implements SymByteChannelImpl, Flushable {
+
+	private final SymByteChannelImpl channel;
+	private final ChannelMetrics metrics;
+
+	public MeteredByteChannel( SymByteChannelImpl channel, ChannelMetrics metrics ) {
+		this.channel = channel;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns {@code channel} itself if {@code metrics} is {@code null}, i.e., metrics are
+	 * disabled.
+	 */
+	public static SymByteChannelImpl instrument( SymByteChannelImpl channel, ChannelMetrics metrics ) {
+		return metrics == null ? channel : new MeteredByteChannel( channel, metrics );
+	}
+
+	@Override
+	public < T extends ByteBuffer > Unit com( T m ) {
+		metrics.bytesSent( m.remaining() );
+		return channel.com( m );
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< Unit > comAsync( T m ) {
+		metrics.bytesSent( m.remaining() );
+		return channel.comAsync( m );
+	}
+
+	@Override
+	public Unit com( Object m, BufferSerializer serializer ) {
+		return channel.com( m, counting( serializer ) );
+	}
+
+	@Override
+	public CompletableFuture< Unit > comAsync( Object m, BufferSerializer serializer ) {
+		return channel.comAsync( m, counting( serializer ) );
+	}
+
+	@Override
+	public < T extends ByteBuffer > T com( Unit u ) {
+		return com();
+	}
+
+	@Override
+	public < T extends ByteBuffer > T com() {
+		T t = channel.com();
+		metrics.bytesReceived( t.remaining() );
+		return t;
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< T > comAsync() {
+		return channel.< T >comAsync().whenComplete( ( t, e ) -> {
+			if( e == null ) {
+				metrics.bytesReceived( t.remaining() );
+			}
+		} );
+	}
+
+	@Override
+	public void release( ByteBuffer buffer ) {
+		channel.release( buffer );
+	}
+
+	@Override
+	public ByteChannel byteChannel() {
+		return channel.byteChannel();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if( channel instanceof Flushable ) {
+			( (Flushable) channel ).flush();
+		}
+	}
+
+	private BufferSerializer counting( BufferSerializer serializer ) {
+		return ( o, buffer ) -> {
+			int start = buffer.position();
+			ByteBuffer filled = serializer.writeObject( o, buffer );
+			metrics.bytesSent( filled.position() - start );
+			return filled;
+		};
+	}
+
+}
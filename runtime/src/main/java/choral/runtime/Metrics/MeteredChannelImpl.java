@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Metrics;
+
+import choral.channels.DiDataChannel_A;
+import choral.channels.DiDataChannel_B;
+import choral.channels.DiSelectChannel_A;
+import choral.channels.DiSelectChannel_B;
+import choral.channels.SymChannelImpl;
+import choral.lang.Unit;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Counts the messages and selections that go through a channel end, the time callers
+ * spend sending them, and the time blocking receives wait.
+ */
+public class MeteredChannelImpl implements SymChannelImpl< Object > {
+
+	private final DiDataChannel_A< Object > out;
+	private final DiDataChannel_B< Object > in;
+	private final DiSelectChannel_A selectOut;
+	private final DiSelectChannel_B selectIn;
+	private final ChannelMetrics metrics;
+
+	protected MeteredChannelImpl(
+			DiDataChannel_A< Object > out, DiDataChannel_B< Object > in,
+			DiSelectChannel_A selectOut, DiSelectChannel_B selectIn,
+			ChannelMetrics metrics
+	) {
+		this.out = out;
+		this.in = in;
+		this.selectOut = selectOut;
+		this.selectIn = selectIn;
+		this.metrics = metrics;
+	}
+
+	public ChannelMetrics metrics() {
+		return metrics;
+	}
+
+	@Override
+	public < M > Unit com( M m ) {
+		long start = System.nanoTime();
+		Unit u = out.com( m );
+		metrics.messageSent( System.nanoTime() - start );
+		return u;
+	}
+
+	@Override
+	public < M > CompletableFuture< Unit > comAsync( M m ) {
+		long start = System.nanoTime();
+		CompletableFuture< Unit > f = out.comAsync( m );
+		metrics.messageSent( System.nanoTime() - start );
+		return f;
+	}
+
+	@Override
+	public < S > S com( Unit u ) {
+		return com();
+	}
+
+	@Override
+	public < S > S com() {
+		long start = System.nanoTime();
+		S s = in.com();
+		metrics.receiveWaited( System.nanoTime() - start );
+		metrics.messageReceived();
+		return s;
+	}
+
+	@Override
+	public < S > CompletableFuture< S > comAsync() {
+		return in.< S >comAsync().whenComplete( ( s, e ) -> {
+			if( e == null ) {
+				metrics.messageReceived();
+			}
+		} );
+	}
+
+	@Override
+	public < T extends Enum< T > > Unit select( T m ) {
+		long start = System.nanoTime();
+		Unit u = selectOut.select( m );
+		metrics.selectionSent( System.nanoTime() - start );
+		return u;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< Unit > selectAsync( T m ) {
+		long start = System.nanoTime();
+		CompletableFuture< Unit > f = selectOut.selectAsync( m );
+		metrics.selectionSent( System.nanoTime() - start );
+		return f;
+	}
+
+	@Override
+	public < T extends Enum< T > > T select( Unit m ) {
+		return select();
+	}
+
+	@Override
+	public < T extends Enum< T > > T select() {
+		long start = System.nanoTime();
+		T t = selectIn.select();
+		metrics.receiveWaited( System.nanoTime() - start );
+		metrics.selectionReceived();
+		return t;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< T > selectAsync() {
+		return selectIn.< T >selectAsync().whenComplete( ( t, e ) -> {
+			if( e == null ) {
+				metrics.selectionReceived();
+			}
+		} );
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Metrics;
+
+import choral.runtime.Serializers.BufferSerializer;
+import choral.runtime.Serializers.ChoralSerializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Measures the time spent serializing and deserializing messages. Serializers that write
+ * into the outbound buffer of a channel keep doing so. The chunked and interning modes of
+ * {@link choral.runtime.SerializerChannel.SerializerChannelImpl} need the serializer
+ * itself, so channels in those modes can only be measured at the channel level.
+ */
+public class MeteredSerializer implements ChoralSerializer< Object, ByteBuffer > {
+
+	private final ChoralSerializer< Object, ByteBuffer > serializer;
+	protected final ChannelMetrics metrics;
+
+	private MeteredSerializer( ChoralSerializer< Object, ByteBuffer > serializer, ChannelMetrics metrics ) {
+		this.serializer = serializer;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns {@code serializer} itself if {@code metrics} is {@code null}, i.e., metrics are
+	 * disabled.
+	 */
+	public static ChoralSerializer< Object, ByteBuffer > instrument(
+			ChoralSerializer< Object, ByteBuffer > serializer, ChannelMetrics metrics
+	) {
+		if( metrics == null ) {
+			return serializer;
+		}
+		return serializer instanceof BufferSerializer
+				? new Buffered( serializer, metrics )
+				: new MeteredSerializer( serializer, metrics );
+	}
+
+	@Override
+	public < M > ByteBuffer fromObject( M o ) {
+		long start = System.nanoTime();
+		ByteBuffer b = serializer.fromObject( o );
+		metrics.serialized( System.nanoTime() - start );
+		return b;
+	}
+
+	@Override
+	public < M > M toObject( ByteBuffer b ) {
+		long start = System.nanoTime();
+		M m = serializer.toObject( b );
+		metrics.deserialized( System.nanoTime() - start );
+		return m;
+	}
+
+	@Override
+	public boolean isStateful() {
+		return serializer.isStateful();
+	}
+
+	private static class Buffered extends MeteredSerializer implements BufferSerializer {
+
+		private final BufferSerializer buffers;
+
+		private Buffered( ChoralSerializer< Object, ByteBuffer > serializer, ChannelMetrics metrics ) {
+			super( serializer, metrics );
+			this.buffers = (BufferSerializer) serializer;
+		}
+
+		@Override
+		public ByteBuffer writeObject( Object o, ByteBuffer buffer ) {
+			long start = System.nanoTime();
+			ByteBuffer b = buffers.writeObject( o, buffer );
+			metrics.serialized( System.nanoTime() - start );
+			return b;
+		}
+
+	}
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.MultiplexedChannel;
+
+import choral.runtime.Media.BlockingByteChannel;
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Media.MessageQueue;
+import choral.runtime.Media.SerialExecutor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Carries many logical channels over a single {@link BlockingByteChannel}.
+ * Every frame is tagged with the id of its logical channel
+ * ({@code [int id][int length][payload]}); a reader thread demultiplexes incoming frames
+ * into one queue per id. Frames for an id that has not been opened locally are buffered,
+ * and the id is announced through {@link #accept()}.
+ * <p>
+ * Each logical channel is flow-controlled by credit: a sender may have at most
+ * {@code window} frames per id that the receiving side has not consumed yet, and the
+ * receiver grants credit back ({@code [int id][int -credit]}) as frames are consumed.
+ * So one slow logical channel buffers at most {@code window} frames on the receiving side
+ * and cannot stall the others. Both ends must use the same window.
+ * <p>
+ * A frame longer than the maximum frame length closes the connection instead of being
+ * allocated.
+ */
+public class ChannelMultiplexer {
+
+	public static final int DEFAULT_WINDOW = 64;
+
+	private static final int HEADER_LENGTH = 2 * Integer.BYTES;
+	private static final Object CLOSED = new Object();
+	// released to every logical channel once the connection is closed, to wake up senders
+	private static final int UNLIMITED = Integer.MAX_VALUE / 4;
+
+	private final BlockingByteChannel channel;
+	private final ByteBufferPool pool;
+	private final int window;
+	private final int maxFrameLength;
+	private final Map< Integer, Logical > logicals = new ConcurrentHashMap<>();
+	private final Set< Integer > closedIds = ConcurrentHashMap.newKeySet();
+	private final BlockingQueue< Integer > accepted = new LinkedBlockingQueue<>();
+	private final AtomicInteger nextId;
+	private final ByteBuffer writeHeader = ByteBuffer.allocateDirect( HEADER_LENGTH );
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final ByteBuffer[] gather = new ByteBuffer[ 2 ];
+	// credit grants are written from here, never from the reader thread
+	private final SerialExecutor control = new SerialExecutor();
+	private final Thread reader;
+	private volatile boolean closed = false;
+
+	/**
+	 * The state of one logical channel: the frames received and not yet consumed, the
+	 * credit left for sending and the frames consumed since the last credit grant.
+	 */
+	private final class Logical {
+
+		private final MessageQueue queue = new MessageQueue();
+		private final Semaphore credit = new Semaphore( window );
+		private final AtomicInteger consumed = new AtomicInteger();
+
+	}
+
+	/**
+	 * @param initiator whether this end opened the connection; the two ends draw the ids
+	 *                  of {@link #open()} from disjoint sets, so they never collide
+	 * @param window         the maximum number of unconsumed frames per logical channel
+	 * @param maxFrameLength the largest frame payload, in bytes, accepted from the peer
+	 */
+	public ChannelMultiplexer(
+			BlockingByteChannel channel, boolean initiator, ByteBufferPool pool, int window,
+			int maxFrameLength
+	) {
+		if( window < 1 ) {
+			throw new IllegalArgumentException( "Invalid window " + window );
+		}
+		if( maxFrameLength < 0 ) {
+			throw new IllegalArgumentException( "Invalid maximum frame length " + maxFrameLength );
+		}
+		this.channel = channel;
+		this.pool = pool;
+		this.window = window;
+		this.maxFrameLength = maxFrameLength;
+		this.nextId = new AtomicInteger( initiator ? 0 : 1 );
+		this.reader = new Thread( this::readLoop, "choral-multiplexer-reader" );
+		reader.setDaemon( true );
+		reader.start();
+	}
+
+	public ChannelMultiplexer( BlockingByteChannel channel, boolean initiator, ByteBufferPool pool, int window ) {
+		this( channel, initiator, pool, window, FrameCodec.DEFAULT_MAX_FRAME_LENGTH );
+	}
+
+	public ChannelMultiplexer( BlockingByteChannel channel, boolean initiator, ByteBufferPool pool ) {
+		this( channel, initiator, pool, DEFAULT_WINDOW );
+	}
+
+	public ChannelMultiplexer( BlockingByteChannel channel, boolean initiator ) {
+		this( channel, initiator, ByteBufferPool.getDefault() );
+	}
+
+	/**
+	 * Opens a logical channel with a fresh id.
+	 */
+	public int open() {
+		int id = nextId.getAndAdd( 2 );
+		logical( id, false );
+		return id;
+	}
+
+	/**
+	 * Opens the logical channel with the given id, e.g., one agreed upon out of band.
+	 * An id closed earlier may be opened again.
+	 */
+	public int open( int id ) {
+		closedIds.remove( id );
+		logical( id, false );
+		return id;
+	}
+
+	/**
+	 * Waits for the peer to start using a logical channel that was not opened locally
+	 * and returns its id.
+	 */
+	public int accept() throws InterruptedException {
+		return accepted.take();
+	}
+
+	/**
+	 * Discards the state of a logical channel. Frames still in flight for it are dropped
+	 * when they arrive, as are later ones, until the id is opened again.
+	 */
+	public void close( int id ) {
+		closedIds.add( id );
+		logicals.remove( id );
+	}
+
+	public void close() throws IOException {
+		closed = true;
+		channel.close();
+	}
+
+	public boolean isOpen() {
+		return !closed && channel.isOpen();
+	}
+
+	public int openChannels() {
+		return logicals.size();
+	}
+
+	/**
+	 * Sends a frame on a logical channel, waiting while the peer has not granted credit
+	 * for it.
+	 */
+	void send( int id, ByteBuffer payload ) throws IOException {
+		try {
+			logical( id, false ).credit.acquire();
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new IOException( e );
+		}
+		if( closed ) {
+			throw new IOException( "Multiplexed connection closed" );
+		}
+		write( id, payload.remaining(), payload );
+	}
+
+	private void write( int id, int length, ByteBuffer payload ) throws IOException {
+		writeLock.lock();
+		try {
+			writeHeader.clear();
+			writeHeader.putInt( id ).putInt( length ).flip();
+			if( payload == null ) {
+				FrameCodec.writeFully( channel, writeHeader );
+			} else if( channel instanceof GatheringByteChannel ) {
+				gather[ 0 ] = writeHeader;
+				gather[ 1 ] = payload;
+				try {
+					FrameCodec.writeFully( (GatheringByteChannel) channel, gather );
+				} finally {
+					gather[ 1 ] = null;
+				}
+			} else {
+				FrameCodec.writeFully( channel, writeHeader );
+				FrameCodec.writeFully( channel, payload );
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the next frame received on the logical channel; hand it back with
+	 * {@link #release(ByteBuffer)} once it has been consumed.
+	 */
+	ByteBuffer recv( int id ) throws IOException {
+		Logical logical = logical( id, false );
+		Object frame;
+		try {
+			frame = logical.queue.recv();
+		} catch( ExecutionException | InterruptedException e ) {
+			throw new IOException( e );
+		}
+		return consumed( id, logical, frame );
+	}
+
+	CompletableFuture< ByteBuffer > recvAsync( int id ) {
+		Logical logical = logical( id, false );
+		return logical.queue.recvAsync().thenApply( frame -> {
+			try {
+				return consumed( id, logical, frame );
+			} catch( IOException e ) {
+				throw new CompletionException( e );
+			}
+		} );
+	}
+
+	void release( ByteBuffer frame ) {
+		pool.release( frame );
+	}
+
+	/**
+	 * Accounts for a frame handed to the consumer, granting the peer more credit once half
+	 * of the window has been consumed.
+	 */
+	private ByteBuffer consumed( int id, Logical logical, Object frame ) throws IOException {
+		if( frame == CLOSED ) {
+			// put the sentinel back, so that every later receive fails as well
+			logical.queue.send( CLOSED );
+			throw new IOException( "Multiplexed connection closed" );
+		}
+		if( logical.consumed.incrementAndGet() >= Math.max( 1, window / 2 ) ) {
+			int credit = logical.consumed.getAndSet( 0 );
+			if( credit > 0 ) {
+				control.submit( () -> {
+					if( !closed ) {
+						write( id, -credit, null );
+					}
+					return null;
+				} ).exceptionally( e -> {
+					if( !closed ) {
+						e.printStackTrace();
+					}
+					return null;
+				} );
+			}
+		}
+		return (ByteBuffer) frame;
+	}
+
+	private Logical logical( int id, boolean remote ) {
+		Logical logical = logicals.get( id );
+		if( logical != null ) {
+			return logical;
+		}
+		Logical created = new Logical();
+		logical = logicals.putIfAbsent( id, created );
+		if( logical == null ) {
+			if( closed ) {
+				created.queue.send( CLOSED );
+				created.credit.release( UNLIMITED );
+			} else if( remote ) {
+				accepted.add( id );
+			}
+			return created;
+		}
+		return logical;
+	}
+
+	private void readLoop() {
+		ByteBuffer header = ByteBuffer.allocateDirect( HEADER_LENGTH );
+		try {
+			while( !closed ) {
+				header.clear();
+				if( channel.read( header ) < 0 ) {
+					break; // the peer closed the connection between two frames
+				}
+				FrameCodec.readFully( channel, header );
+				header.flip();
+				int id = header.getInt();
+				int length = header.getInt();
+				if( length < 0 ) {
+					// a credit grant: -length more frames may be sent on id
+					Logical logical = logicals.get( id );
+					if( logical != null ) {
+						logical.credit.release( -length );
+					}
+					continue;
+				}
+				FrameCodec.checkFrameLength( length, maxFrameLength );
+				ByteBuffer frame = pool.acquire( length );
+				FrameCodec.readFully( channel, frame );
+				if( closedIds.contains( id ) ) {
+					pool.release( frame ); // late frame for a closed logical channel
+				} else {
+					logical( id, true ).queue.send( frame.flip() );
+				}
+			}
+		} catch( IOException e ) {
+			if( !closed ) {
+				e.printStackTrace();
+				// the stream can no longer be followed, let the peer know
+				try {
+					channel.close();
+				} catch( IOException ex ) {
+					ex.printStackTrace();
+				}
+			}
+		} finally {
+			closed = true;
+			logicals.values().forEach( l -> {
+				l.queue.send( CLOSED );
+				l.credit.release( UNLIMITED );
+			} );
+		}
+	}
+
+}
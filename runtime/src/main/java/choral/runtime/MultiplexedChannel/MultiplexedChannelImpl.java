@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.MultiplexedChannel;
+
+import choral.channels.SymChannelImpl;
+import choral.lang.Unit;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Events.ComReceiveEvent;
+import choral.runtime.Events.ComSendEvent;
+import choral.runtime.Events.SelectReceiveEvent;
+import choral.runtime.Events.SelectSendEvent;
+import choral.runtime.Media.SerialExecutor;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.SelectionCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+public class MultiplexedChannelImpl implements SymChannelImpl< Object > {
+
+	private final ChoralSerializer< Object, ByteBuffer > serializer;
+	private final ChannelMultiplexer multiplexer;
+	private final int id;
+	private final String name;
+	private final SerialExecutor sendExecutor = new SerialExecutor();
+	private final SelectionCodec selectionCodec = new SelectionCodec();
+
+	public MultiplexedChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			ChannelMultiplexer multiplexer,
+			int id
+	) {
+		this( serializer, multiplexer, id, ChannelEvent.name( "MultiplexedChannel" ) );
+	}
+
+	/**
+	 * @param name the name of the channel in its events, shared by both ends, see
+	 *             {@link ChannelEvent#name(String)}
+	 */
+	public MultiplexedChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			ChannelMultiplexer multiplexer,
+			int id,
+			String name
+	) {
+		this.serializer = serializer;
+		this.multiplexer = multiplexer;
+		this.id = multiplexer.open( id );
+		this.name = name;
+	}
+
+	public int id() {
+		return id;
+	}
+
+	public void close() {
+		multiplexer.close( id );
+	}
+
+	@Override
+	public < M > Unit com( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		ByteBuffer b = serializer.fromObject( m );
+		event.bytes = b.remaining();
+		send( b );
+		event.emit( name, m );
+		return Unit.id;
+	}
+
+	private Unit send( ByteBuffer payload ) {
+		try {
+			sendExecutor.call( () -> {
+				multiplexer.send( id, payload );
+				return Unit.id;
+			} );
+		} catch( IOException e ) {
+			e.printStackTrace();
+		}
+		return Unit.id;
+	}
+
+	private CompletableFuture< Unit > sendAsync( ByteBuffer payload ) {
+		return sendExecutor.submit( () -> {
+			multiplexer.send( id, payload );
+			return Unit.id;
+		} );
+	}
+
+	@Override
+	public < M > M com( Unit u ) {
+		return com();
+	}
+
+	@Override
+	public < S > S com() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		event.begin();
+		ByteBuffer frame = recv();
+		event.bytes = frame.remaining();
+		S s = deserialize( frame );
+		event.emit( name, s );
+		return s;
+	}
+
+	private ByteBuffer recv() {
+		try {
+			return multiplexer.recv( id );
+		} catch( IOException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+	}
+
+	/**
+	 * The {@link ComSendEvent} of an asynchronous send covers serialization but not the write.
+	 */
+	@Override
+	public < M > CompletableFuture< Unit > comAsync( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		ByteBuffer b = serializer.fromObject( m );
+		event.bytes = b.remaining();
+		CompletableFuture< Unit > sent = sendAsync( b );
+		event.emit( name, m );
+		return sent;
+	}
+
+	@Override
+	public < S > CompletableFuture< S > comAsync() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		if( !event.isEnabled() ) {
+			return multiplexer.recvAsync( id ).thenApply( this::deserialize );
+		}
+		event.begin();
+		return multiplexer.recvAsync( id ).thenApply( frame -> {
+			event.bytes = frame.remaining();
+			S s = deserialize( frame );
+			event.emit( name, s );
+			return s;
+		} );
+	}
+
+	private < S > S deserialize( ByteBuffer frame ) {
+		S s = serializer.toObject( frame );
+		multiplexer.release( frame );
+		return s;
+	}
+
+	private < T extends Enum< T > > T decodeSelection( ByteBuffer frame ) {
+		T t = selectionCodec.decode( frame );
+		multiplexer.release( frame );
+		return t;
+	}
+
+	@Override
+	public < T extends Enum< T > > Unit select( T m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = selectionCodec.encode( m );
+		event.bytes = b.remaining();
+		Unit u = send( b );
+		selectionCodec.sent( m );
+		event.label = m.name();
+		event.emit( name, m );
+		return u;
+	}
+
+	@Override
+	public < T extends Enum< T > > T select( Unit m ) {
+		return select();
+	}
+
+	@Override
+	public < T extends Enum< T > > T select() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		event.begin();
+		ByteBuffer frame = recv();
+		event.bytes = frame.remaining();
+		T t = decodeSelection( frame );
+		event.label = t.name();
+		event.emit( name, t );
+		return t;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< Unit > selectAsync( T m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = selectionCodec.encode( m );
+		event.bytes = b.remaining();
+		CompletableFuture< Unit > sent = selectionCodec.sent( m, sendAsync( b ) );
+		event.label = m.name();
+		event.emit( name, m );
+		return sent;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< T > selectAsync() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		if( !event.isEnabled() ) {
+			return multiplexer.recvAsync( id ).thenApply( this::decodeSelection );
+		}
+		event.begin();
+		return multiplexer.recvAsync( id ).thenApply( frame -> {
+			event.bytes = frame.remaining();
+			T t = decodeSelection( frame );
+			event.label = t.name();
+			event.emit( name, t );
+			return t;
+		} );
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.RingChannel;
+
+import choral.channels.SymChannelImpl;
+import choral.lang.Unit;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Events.ComReceiveEvent;
+import choral.runtime.Events.ComSendEvent;
+import choral.runtime.Events.SelectReceiveEvent;
+import choral.runtime.Events.SelectSendEvent;
+import choral.runtime.Media.RingBufferQueue;
+
+public class RingChannelImpl implements SymChannelImpl< Object > {
+
+	private final RingBufferQueue queueOut;
+	private final RingBufferQueue queueIn;
+	private final String id;
+
+	public RingChannelImpl( RingBufferQueue queueOut, RingBufferQueue queueIn ) {
+		this( queueOut, queueIn, ChannelEvent.name( "RingChannel" ) );
+	}
+
+	/**
+	 * @param name the name of the channel in its events, shared by both ends, see
+	 *             {@link ChannelEvent#name(String)}
+	 */
+	public RingChannelImpl( RingBufferQueue queueOut, RingBufferQueue queueIn, String name ) {
+		this.queueOut = queueOut;
+		this.queueIn = queueIn;
+		this.id = name;
+	}
+
+	@Override
+	public < M > M com( Unit x ) {
+		return this.com();
+	}
+
+	@Override
+	public < S > S com() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		event.begin();
+		S s = receive();
+		event.emit( id, s );
+		return s;
+	}
+
+	@Override
+	public < M > Unit com( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		send( m );
+		event.emit( id, m );
+		return Unit.id;
+	}
+
+	@Override
+	public < M extends Enum< M > > Unit select( M m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		send( m );
+		event.label = m.name();
+		event.emit( id, m );
+		return Unit.id;
+	}
+
+	@Override
+	public < M extends Enum< M > > M select( Unit m ) {
+		return this.select();
+	}
+
+	@Override
+	public < T extends Enum< T > > T select() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		event.begin();
+		T t = receive();
+		event.label = t.name();
+		event.emit( id, t );
+		return t;
+	}
+
+	private void send( Object m ) {
+		try {
+			queueOut.send( m );
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException( e );
+		}
+	}
+
+	private < S > S receive() {
+		try {
+			return queueIn.recv();
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException( e );
+		}
+	}
+
+}
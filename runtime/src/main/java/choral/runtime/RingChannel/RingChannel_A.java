@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.RingChannel;
+
+import choral.channels.SymChannel_A;
+import choral.runtime.Media.RingBufferQueue;
+
+/**
+ * One end of a channel over a pair of single-producer/single-consumer
+ * {@link RingBufferQueue}s. Only one thread at a time may send on an end and only one may
+ * receive from it: unlike {@code LocalChannel_A}, an end must not be shared by concurrent
+ * senders or receivers.
+ */
+public class RingChannel_A extends RingChannelImpl implements SymChannel_A< Object > {
+	public RingChannel_A( RingBufferQueue queueOut, RingBufferQueue queueIn ) {
+		super( queueOut, queueIn );
+	}
+
+	public RingChannel_A( RingBufferQueue queueOut, RingBufferQueue queueIn, String name ) {
+		super( queueOut, queueIn, name );
+	}
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.SerializerChannel;
+
+import choral.channels.SymDataChannelImpl;
+import choral.lang.Unit;
+import choral.runtime.Media.SerialExecutor;
+import choral.runtime.Serializers.StreamingSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Sends values as a sequence of chunks of at most {@code chunkSize} bytes, so the first
+ * chunk leaves while the value is still being serialized and the receiver decodes it as
+ * chunks arrive. Every message starts with a marker byte: {@link #WHOLE} for a message
+ * that fits in one chunk, {@link #CHUNK} for a chunk followed by more, {@link #LAST} for
+ * the final chunk.
+ * <p>
+ * Chunking does not bound memory by itself, and there is no receiver credit.
+ * {@code maxPendingChunks} only bounds the chunks of a message that the sender has handed
+ * to {@link SymDataChannelImpl#comAsync(Object)} and whose futures have not completed.
+ * That keeps the sender's memory in check on channels that complete the future once the
+ * chunk is written, e.g. a WrapperByteChannel, but not on those that complete it at once,
+ * e.g. a LocalChannel or a BufferedByteChannel. How many sent chunks may wait for the
+ * receiver is up to the underlying channel, e.g. a bounded queue or TCP flow control.
+ * The receiver only bounds the size of a message it decodes: once the chunks of a message
+ * exceed {@code maxMessageSize} bytes, the rest of the message is skipped without being
+ * buffered and the receive fails, leaving the channel at the start of the next message.
+ */
+class ChunkedTransfer {
+
+	static final byte WHOLE = 0;
+	static final byte CHUNK = 1;
+	static final byte LAST = 2;
+
+	private static final int INITIAL_CHUNK_CAPACITY = 1024;
+
+	private final StreamingSerializer serializer;
+	private final SymDataChannelImpl< ByteBuffer > channel;
+	private final Consumer< ByteBuffer > release;
+	private final int chunkSize;
+	private final int maxPendingChunks;
+	private final long maxMessageSize;
+	private final ReentrantLock sendLock = new ReentrantLock();
+	private final SerialExecutor recvExecutor = new SerialExecutor();
+
+	ChunkedTransfer(
+			StreamingSerializer serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			Consumer< ByteBuffer > release,
+			int chunkSize,
+			int maxPendingChunks,
+			long maxMessageSize
+	) {
+		if( chunkSize <= 0 || maxPendingChunks <= 0 || maxMessageSize <= 0 ) {
+			throw new IllegalArgumentException( "Chunk size, maximum pending chunks and maximum message "
+					+ "size must be positive, got " + chunkSize + ", " + maxPendingChunks + " and "
+					+ maxMessageSize );
+		}
+		this.serializer = serializer;
+		this.channel = channel;
+		this.release = release;
+		this.chunkSize = chunkSize;
+		this.maxPendingChunks = maxPendingChunks;
+		this.maxMessageSize = maxMessageSize;
+	}
+
+	/**
+	 * Serializes {@code m} and queues its chunks; the returned future completes once the
+	 * last chunk has been sent.
+	 */
+	CompletableFuture< Unit > send( Object m ) {
+		sendLock.lock();
+		try {
+			ChunkOutputStream out = new ChunkOutputStream();
+			try {
+				serializer.write( m, out );
+			} catch( IOException e ) {
+				throw new RuntimeException( e.getMessage() );
+			}
+			return out.finish();
+		} finally {
+			sendLock.unlock();
+		}
+	}
+
+	/**
+	 * Sends an already encoded message, e.g. a selection, as a single chunk.
+	 */
+	CompletableFuture< Unit > sendWhole( ByteBuffer payload ) {
+		ByteBuffer message = ByteBuffer.allocate( 1 + payload.remaining() );
+		message.put( WHOLE ).put( payload ).flip();
+		sendLock.lock();
+		try {
+			return channel.comAsync( message );
+		} finally {
+			sendLock.unlock();
+		}
+	}
+
+	< S > S receive() {
+		return recvExecutor.call( this::read );
+	}
+
+	< S > CompletableFuture< S > receiveAsync() {
+		return recvExecutor.submit( this::read );
+	}
+
+	/**
+	 * Receives a message sent with {@link #sendWhole(ByteBuffer)}. The returned buffer is
+	 * positioned after the marker.
+	 */
+	ByteBuffer receiveWhole() {
+		return recvExecutor.call( this::readWhole );
+	}
+
+	CompletableFuture< ByteBuffer > receiveWholeAsync() {
+		return recvExecutor.submit( this::readWhole );
+	}
+
+	private ByteBuffer readWhole() {
+		ByteBuffer message = channel.com( Unit.id );
+		byte marker = message.get();
+		if( marker != WHOLE ) {
+			release.accept( message );
+			throw new IllegalStateException( "Expected a whole message, got chunk marker " + marker );
+		}
+		return message;
+	}
+
+	private < S > S read() {
+		ChunkInputStream in = new ChunkInputStream( channel.com( Unit.id ) );
+		try {
+			S s = serializer.read( in );
+			in.drain();
+			return s;
+		} catch( IOException e ) {
+			throw new RuntimeException( e.getMessage() );
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Collects serialized bytes into chunks and hands every full chunk to the channel.
+	 * A chunk is only sent once more bytes follow it, so that the last one can be marked.
+	 */
+	private class ChunkOutputStream extends OutputStream {
+		private final ArrayDeque< CompletableFuture< Unit > > inFlight = new ArrayDeque<>();
+		private ByteBuffer chunk = newChunk( Math.min( chunkSize, INITIAL_CHUNK_CAPACITY ) );
+		private boolean chunked = false;
+
+		@Override
+		public void write( int b ) {
+			ensure();
+			chunk.put( (byte) b );
+		}
+
+		@Override
+		public void write( byte[] b, int off, int len ) {
+			while( len > 0 ) {
+				ensure();
+				int n = Math.min( len, chunk.remaining() );
+				chunk.put( b, off, n );
+				off += n;
+				len -= n;
+			}
+		}
+
+		private void ensure() {
+			if( chunk.hasRemaining() ) {
+				return;
+			}
+			if( chunk.capacity() - 1 < chunkSize ) {
+				ByteBuffer larger = ByteBuffer.allocate( 1 + Math.min( chunkSize, ( chunk.capacity() - 1 ) * 2 ) );
+				larger.put( chunk.flip() );
+				chunk = larger;
+			} else {
+				emit( CHUNK );
+				chunked = true;
+				chunk = newChunk( chunkSize );
+			}
+		}
+
+		private void emit( byte marker ) {
+			chunk.put( 0, marker ).flip();
+			while( !inFlight.isEmpty() && ( inFlight.size() >= maxPendingChunks || inFlight.peek().isDone() ) ) {
+				inFlight.poll().join();
+			}
+			inFlight.add( channel.comAsync( chunk ) );
+		}
+
+		CompletableFuture< Unit > finish() {
+			emit( chunked ? LAST : WHOLE );
+			return inFlight.peekLast();
+		}
+
+		private ByteBuffer newChunk( int capacity ) {
+			// chunks are not pooled: local channels hand the sent buffer itself to the receiver
+			return ByteBuffer.allocate( 1 + capacity ).position( 1 );
+		}
+	}
+
+	/**
+	 * Reads the bytes of a message across its chunks, pulling the next chunk from the
+	 * channel only when the current one is exhausted.
+	 */
+	private class ChunkInputStream extends InputStream {
+		private ByteBuffer chunk;
+		private byte marker;
+		private long size;
+
+		ChunkInputStream( ByteBuffer first ) {
+			this.chunk = first;
+			this.marker = first.get();
+			this.size = first.remaining();
+		}
+
+		private boolean next() throws IOException {
+			while( !chunk.hasRemaining() && !last() ) {
+				pull();
+			}
+			if( size > maxMessageSize ) {
+				skip();
+				throw new IOException( "Chunked message exceeds " + maxMessageSize + " bytes" );
+			}
+			return chunk.hasRemaining();
+		}
+
+		private boolean last() {
+			return marker == WHOLE || marker == LAST;
+		}
+
+		private void pull() {
+			release.accept( chunk );
+			chunk = channel.com( Unit.id );
+			marker = chunk.get();
+			size += chunk.remaining();
+		}
+
+		/**
+		 * Discards the rest of the message, one chunk at a time.
+		 */
+		private void skip() {
+			while( !last() ) {
+				pull();
+			}
+			chunk.position( chunk.limit() );
+		}
+
+		@Override
+		public int read() throws IOException {
+			return next() ? chunk.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read( byte[] b, int off, int len ) throws IOException {
+			if( len == 0 ) {
+				return 0;
+			}
+			if( !next() ) {
+				return -1;
+			}
+			int n = Math.min( len, chunk.remaining() );
+			chunk.get( b, off, n );
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return chunk.remaining();
+		}
+
+		/**
+		 * Skips whatever the serializer left unread, up to the end of the message.
+		 */
+		void drain() throws IOException {
+			while( next() ) {
+				chunk.position( chunk.limit() );
+			}
+		}
+
+		@Override
+		public void close() {
+			if( chunk != null ) {
+				release.accept( chunk );
+				chunk = null;
+			}
+		}
+	}
+
+}
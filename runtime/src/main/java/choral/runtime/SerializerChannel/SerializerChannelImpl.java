@@ -24,25 +24,181 @@ package choral.runtime.SerializerChannel;
 import choral.channels.SymChannelImpl;
 import choral.channels.SymDataChannelImpl;
 import choral.lang.Unit;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Events.ComReceiveEvent;
+import choral.runtime.Events.ComSendEvent;
+import choral.runtime.Events.DecodeEvent;
+import choral.runtime.Events.EncodeEvent;
+import choral.runtime.Events.SelectReceiveEvent;
+import choral.runtime.Events.SelectSendEvent;
+import choral.runtime.Serializers.BufferSerializer;
 import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.InterningSerializer;
+import choral.runtime.Serializers.SelectionCodec;
+import choral.runtime.Serializers.StreamingSerializer;
+import choral.runtime.Serializers.StringTable;
 
+import java.io.Flushable;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SerializerChannelImpl implements SymChannelImpl< Object >, Flushable {
+	public static final long DEFAULT_MAX_MESSAGE_SIZE = 64L << 20;
 
-public class SerializerChannelImpl implements SymChannelImpl< Object > {
 	private final ChoralSerializer< Object, ByteBuffer > serializer;
 	private final SymDataChannelImpl< ByteBuffer > channel;
+	private final SelectionCodec selectionCodec = new SelectionCodec();
+	private final ChunkedTransfer chunked;
+	private final StringTable strings;
+	private final boolean ordered;
+	private final SymByteChannelImpl fused;
+	private final ReentrantLock sendLock = new ReentrantLock();
+	private final ReentrantLock receiveLock = new ReentrantLock();
+	private final String id;
+	private CompletableFuture< ? > decoded = CompletableFuture.completedFuture( null );
 
 	public SerializerChannelImpl(
 			ChoralSerializer< Object, ByteBuffer > serializer,
 			SymDataChannelImpl< ByteBuffer > channel
 	) {
+		this( serializer, channel, ChannelEvent.name( "SerializerChannel" ) );
+	}
+
+	/**
+	 * @param name the name of the channel in its events, shared by both ends, see
+	 *             {@link ChannelEvent#name(String)}
+	 */
+	public SerializerChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			String name
+	) {
+		this.serializer = serializer;
+		this.channel = channel;
+		this.chunked = null;
+		this.strings = null;
+		this.ordered = serializer.isStateful();
+		this.fused = serializer instanceof BufferSerializer && channel instanceof SymByteChannelImpl
+				? (SymByteChannelImpl) channel
+				: null;
+		this.id = name;
+	}
+
+	/**
+	 * Sends every message in chunks of at most {@code chunkSize} bytes, waiting whenever
+	 * {@code maxPendingChunks} chunks of a message have been handed to the channel and not
+	 * yet written, and decodes received messages as their chunks arrive. This does not
+	 * bound the memory of either side, see {@link ChunkedTransfer}. The serializer must be
+	 * a {@link StreamingSerializer} and both ends must use chunked mode. Received messages
+	 * may be at most {@value #DEFAULT_MAX_MESSAGE_SIZE} bytes.
+	 */
+	public SerializerChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			int chunkSize,
+			int maxPendingChunks
+	) {
+		this( serializer, channel, chunkSize, maxPendingChunks, DEFAULT_MAX_MESSAGE_SIZE );
+	}
+
+	/**
+	 * Like {@link #SerializerChannelImpl(ChoralSerializer, SymDataChannelImpl, int, int)},
+	 * failing the receive of any message larger than {@code maxMessageSize} bytes.
+	 */
+	public SerializerChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			int chunkSize,
+			int maxPendingChunks,
+			long maxMessageSize
+	) {
+		this( serializer, channel, chunkSize, maxPendingChunks, maxMessageSize, ChannelEvent.name( "SerializerChannel" ) );
+	}
+
+	public SerializerChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			int chunkSize,
+			int maxPendingChunks,
+			long maxMessageSize,
+			String name
+	) {
+		if( !( serializer instanceof StreamingSerializer ) ) {
+			throw new IllegalArgumentException(
+					serializer.getClass().getName() + " does not support chunked transfer" );
+		}
+		this.serializer = serializer;
+		this.channel = channel;
+		this.chunked = new ChunkedTransfer(
+				(StreamingSerializer) serializer, channel, this::release, chunkSize, maxPendingChunks, maxMessageSize );
+		this.strings = null;
+		this.ordered = false;
+		this.fused = null;
+		this.id = name;
+	}
+
+	/**
+	 * Replaces class names and repeated strings with ids from {@code strings}, a table
+	 * kept for the lifetime of the channel. The serializer must be an
+	 * {@link InterningSerializer} and both ends must use a table with the same capacity.
+	 * Received messages are decoded in the order they arrive.
+	 */
+	public SerializerChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			StringTable strings
+	) {
+		this( serializer, channel, strings, ChannelEvent.name( "SerializerChannel" ) );
+	}
+
+	public SerializerChannelImpl(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			StringTable strings,
+			String name
+	) {
+		if( !( serializer instanceof InterningSerializer ) ) {
+			throw new IllegalArgumentException(
+					serializer.getClass().getName() + " does not support string interning" );
+		}
 		this.serializer = serializer;
 		this.channel = channel;
+		this.chunked = null;
+		this.strings = strings;
+		this.ordered = true;
+		this.fused = null;
+		this.id = name;
+	}
+
+	/**
+	 * The session string table, or {@code null} if strings are not interned.
+	 */
+	public StringTable strings() {
+		return strings;
 	}
 
 	@Override
 	public < M > Unit com( M m ) {
-		channel.com( serializer.fromObject( m ) );
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		if( chunked != null ) {
+			chunked.send( m ).join();
+		} else if( ordered ) {
+			sendLock.lock();
+			try {
+				channel.com( sized( encode( m ), event ) );
+			} finally {
+				sendLock.unlock();
+			}
+		} else if( fused != null ) {
+			fused.com( m, bufferSerializer( event ) );
+		} else {
+			channel.com( sized( encode( m ), event ) );
+		}
+		event.emit( id, m );
 		return Unit.id;
 	}
 
@@ -53,12 +209,182 @@ public class SerializerChannelImpl implements SymChannelImpl< Object > {
 
 	@Override
 	public < S > S com() {
-		return serializer.toObject( channel.com( Unit.id ) );
+		ComReceiveEvent event = new ComReceiveEvent();
+		event.begin();
+		S s;
+		if( chunked != null ) {
+			s = chunked.receive();
+		} else if( ordered ) {
+			s = this.< S >receiveAsync( event ).join();
+		} else {
+			ByteBuffer b = channel.com( Unit.id );
+			event.bytes = b.remaining();
+			s = deserialize( b );
+		}
+		event.emit( id, s );
+		return s;
+	}
+
+	/**
+	 * The {@link ComSendEvent} of an asynchronous send covers serialization but not the write.
+	 */
+	@Override
+	public < M > CompletableFuture< Unit > comAsync( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		CompletableFuture< Unit > sent;
+		if( chunked != null ) {
+			sent = chunked.send( m );
+		} else if( ordered ) {
+			sendLock.lock();
+			try {
+				sent = channel.comAsync( sized( encode( m ), event ) );
+			} finally {
+				sendLock.unlock();
+			}
+		} else if( fused != null ) {
+			sent = fused.comAsync( m, bufferSerializer( event ) );
+		} else {
+			sent = channel.comAsync( sized( encode( m ), event ) );
+		}
+		event.emit( id, m );
+		return sent;
+	}
+
+	@Override
+	public < S > CompletableFuture< S > comAsync() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		if( !event.isEnabled() ) {
+			return receiveAsync( null );
+		}
+		event.begin();
+		return this.< S >receiveAsync( event ).thenApply( s -> {
+			event.emit( id, s );
+			return s;
+		} );
+	}
+
+	/**
+	 * Receives a message, recording its size in {@code event}.
+	 */
+	private < S > CompletableFuture< S > receiveAsync( ComReceiveEvent event ) {
+		if( chunked != null ) {
+			return chunked.receiveAsync();
+		}
+		if( ordered ) {
+			receiveLock.lock();
+			try {
+				CompletableFuture< S > next = decoded.handle( ( r, e ) -> null )
+						.thenCombine( channel.< ByteBuffer >comAsync(), ( r, b ) -> this.< S >deserialize( sized( b, event ) ) );
+				decoded = next;
+				return next;
+			} finally {
+				receiveLock.unlock();
+			}
+		}
+		return channel.< ByteBuffer >comAsync().thenApply( b -> deserialize( sized( b, event ) ) );
+	}
+
+	/**
+	 * Records the size of {@code buffer} in {@code event}, unless that is {@code null}.
+	 */
+	private static ByteBuffer sized( ByteBuffer buffer, ChannelEvent event ) {
+		if( event != null ) {
+			event.bytes = buffer.remaining();
+		}
+		return buffer;
+	}
+
+	/**
+	 * The serializer of the fused path, wrapped to record the size of the message in
+	 * {@code event} and an {@link EncodeEvent} when those are enabled.
+	 */
+	private BufferSerializer bufferSerializer( ComSendEvent event ) {
+		BufferSerializer s = (BufferSerializer) serializer;
+		if( !event.isEnabled() && !new EncodeEvent().isEnabled() ) {
+			return s;
+		}
+		return ( o, buffer ) -> {
+			EncodeEvent encode = new EncodeEvent();
+			encode.begin();
+			int start = buffer.position();
+			ByteBuffer filled = s.writeObject( o, buffer );
+			event.bytes = encode.bytes = filled.position() - start;
+			encode.emit( id, o );
+			return filled;
+		};
+	}
+
+	/**
+	 * Encodes a message; on an ordered channel the caller holds {@code sendLock}, so that
+	 * messages are sent in the order in which they were encoded.
+	 */
+	private ByteBuffer encode( Object m ) {
+		EncodeEvent event = new EncodeEvent();
+		event.begin();
+		ByteBuffer b;
+		if( strings == null ) {
+			b = serializer.fromObject( m );
+		} else {
+			int mark = strings.mark();
+			try {
+				b = ( (InterningSerializer) serializer ).fromObject( m, strings );
+			} catch( RuntimeException e ) {
+				strings.rollback( mark );
+				throw e;
+			}
+		}
+		event.bytes = b.remaining();
+		event.emit( id, m );
+		return b;
+	}
+
+	/**
+	 * Flushes the underlying channel, if it buffers outgoing messages.
+	 */
+	@Override
+	public void flush() throws IOException {
+		if( channel instanceof Flushable ) {
+			( (Flushable) channel ).flush();
+		}
+	}
+
+	private < S > S deserialize( ByteBuffer buffer ) {
+		DecodeEvent event = new DecodeEvent();
+		event.begin();
+		event.bytes = buffer.remaining();
+		S s = strings == null
+				? serializer.toObject( buffer )
+				: ( (InterningSerializer) serializer ).toObject( buffer, strings );
+		release( buffer );
+		event.emit( id, s );
+		return s;
+	}
+
+	private < T extends Enum< T > > T decodeSelection( ByteBuffer buffer ) {
+		T t = selectionCodec.decode( buffer );
+		release( buffer );
+		return t;
+	}
+
+	private void release( ByteBuffer buffer ) {
+		if( channel instanceof SymByteChannelImpl ) {
+			( (SymByteChannelImpl) channel ).release( buffer );
+		}
 	}
 
 	@Override
 	public < T extends Enum< T > > Unit select( T m ) {
-		return this.com( m );
+		if( chunked != null ) {
+			return selectAsync( m ).join();
+		}
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		Unit u = channel.com( sized( selectionCodec.encode( m ), event ) );
+		selectionCodec.sent( m );
+		event.label = m.name();
+		event.emit( id, m );
+		return u;
 	}
 
 	@Override
@@ -68,7 +394,42 @@ public class SerializerChannelImpl implements SymChannelImpl< Object > {
 
 	@Override
 	public < T extends Enum< T > > T select() {
-		return this.com();
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		event.begin();
+		T t = decodeSelection( sized( chunked != null ? chunked.receiveWhole() : channel.com( Unit.id ), event ) );
+		event.label = t.name();
+		event.emit( id, t );
+		return t;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< Unit > selectAsync( T m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = sized( selectionCodec.encode( m ), event );
+		CompletableFuture< Unit > sent = selectionCodec.sent( m,
+				chunked != null ? chunked.sendWhole( b ) : channel.comAsync( b ) );
+		event.label = m.name();
+		event.emit( id, m );
+		return sent;
+	}
+
+	@Override
+	public < T extends Enum< T > > CompletableFuture< T > selectAsync() {
+		CompletableFuture< ByteBuffer > received = chunked != null
+				? chunked.receiveWholeAsync()
+				: channel.comAsync();
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		if( !event.isEnabled() ) {
+			return received.thenApply( this::decodeSelection );
+		}
+		event.begin();
+		return received.thenApply( b -> {
+			T t = decodeSelection( sized( b, event ) );
+			event.label = t.name();
+			event.emit( id, t );
+			return t;
+		} );
 	}
 
 }
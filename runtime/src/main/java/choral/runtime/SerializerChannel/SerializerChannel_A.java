@@ -24,6 +24,7 @@ package choral.runtime.SerializerChannel;
 import choral.channels.SymChannel_A;
 import choral.channels.SymDataChannelImpl;
 import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.StringTable;
 
 import java.nio.ByteBuffer;
 
@@ -35,4 +36,59 @@ public class SerializerChannel_A extends SerializerChannelImpl implements SymCha
 		super( serializer, channel );
 	}
 
+	public SerializerChannel_A(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			String name
+	) {
+		super( serializer, channel, name );
+	}
+
+	public SerializerChannel_A(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			int chunkSize,
+			int maxPendingChunks
+	) {
+		super( serializer, channel, chunkSize, maxPendingChunks );
+	}
+
+	public SerializerChannel_A(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			int chunkSize,
+			int maxPendingChunks,
+			long maxMessageSize
+	) {
+		super( serializer, channel, chunkSize, maxPendingChunks, maxMessageSize );
+	}
+
+	public SerializerChannel_A(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			int chunkSize,
+			int maxPendingChunks,
+			long maxMessageSize,
+			String name
+	) {
+		super( serializer, channel, chunkSize, maxPendingChunks, maxMessageSize, name );
+	}
+
+	public SerializerChannel_A(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			StringTable strings
+	) {
+		super( serializer, channel, strings );
+	}
+
+	public SerializerChannel_A(
+			ChoralSerializer< Object, ByteBuffer > serializer,
+			SymDataChannelImpl< ByteBuffer > channel,
+			StringTable strings,
+			String name
+	) {
+		super( serializer, channel, strings, name );
+	}
+
 }
@@ -0,0 +1,354 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Picks, for each concrete message type, the cheapest of several serializers. The first
+ * {@code warmup} messages of a type are encoded by each candidate in turn; the sender
+ * records the encoded size and the time to encode and decode them, then settles on the
+ * candidate with the lowest mean of {@code encode + decode + nanosPerByte * size}. The
+ * first sample of each candidate is left out of the times, as it pays for class loading.
+ * A candidate that fails on a type, or whose decoded value is not {@code equals} to the
+ * original for types that define equality, is never used for that type again.
+ * <p>
+ * Profiling decodes on the sending instance, so only stateless candidates
+ * ({@link ChoralSerializer#isStateful()}) are profiled: decoding there would disturb the
+ * state of a stateful one. Stateful candidates are only used when pinned; if every
+ * candidate is stateful, the first one is used until another is pinned.
+ * <p>
+ * Every message starts with the index of the candidate that encoded it, or
+ * {@code -1} for {@code null}, so the receiver follows the choices of the sender
+ * without further coordination. Both ends must list the same candidates in the same
+ * order, and the serializer is stateful if any candidate is. Choices can be pinned with
+ * {@link #pin(Class, ChoralSerializer)}, e.g. with the ones reported by
+ * {@link #profiles()} during a test run.
+ */
+public class AdaptiveSerializer implements ChoralSerializer< Object, ByteBuffer > {
+
+	public static final int DEFAULT_WARMUP = 16;
+	public static final double DEFAULT_NANOS_PER_BYTE = 1.0;
+
+	private static final byte NULL = -1;
+
+	private final List< ChoralSerializer< Object, ByteBuffer > > candidates;
+	private final boolean[] stateful;
+	private final int warmup;
+	private final double nanosPerByte;
+	private final ConcurrentHashMap< Class< ? >, Profile > profiles = new ConcurrentHashMap<>();
+
+	public AdaptiveSerializer(
+			List< ChoralSerializer< Object, ByteBuffer > > candidates,
+			int warmup,
+			double nanosPerByte
+	) {
+		if( candidates.isEmpty() || candidates.size() > Byte.MAX_VALUE ) {
+			throw new IllegalArgumentException( "Between 1 and " + Byte.MAX_VALUE + " candidates expected" );
+		}
+		this.candidates = List.copyOf( candidates );
+		this.stateful = new boolean[ candidates.size() ];
+		for( int i = 0; i < stateful.length; i++ ) {
+			stateful[ i ] = this.candidates.get( i ).isStateful();
+		}
+		this.warmup = warmup;
+		this.nanosPerByte = nanosPerByte;
+	}
+
+	public AdaptiveSerializer( List< ChoralSerializer< Object, ByteBuffer > > candidates ) {
+		this( candidates, DEFAULT_WARMUP, DEFAULT_NANOS_PER_BYTE );
+	}
+
+	@Override
+	public < M > ByteBuffer fromObject( M o ) {
+		if( o == null ) {
+			return ByteBuffer.allocate( 1 ).put( NULL ).flip();
+		}
+		Profile profile = profile( o.getClass() );
+		int choice = profile.choice();
+		if( choice >= 0 ) {
+			return tagged( choice, candidates.get( choice ).fromObject( o ) );
+		}
+		return measure( profile, o );
+	}
+
+	@Override
+	public < M > M toObject( ByteBuffer b ) {
+		ByteBuffer in = b.duplicate();
+		int index = in.get();
+		if( index == NULL ) {
+			return null;
+		}
+		if( index < 0 || index >= candidates.size() ) {
+			throw new IllegalArgumentException( "Unknown serializer index " + index );
+		}
+		return candidates.get( index ).toObject( in.slice() );
+	}
+
+	@Override
+	public boolean isStateful() {
+		for( boolean s : stateful ) {
+			if( s ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Uses {@code serializer}, one of the candidates, for every later message of {@code type}.
+	 */
+	public void pin( Class< ? > type, ChoralSerializer< Object, ByteBuffer > serializer ) {
+		int index = candidates.indexOf( serializer );
+		if( index < 0 ) {
+			throw new IllegalArgumentException( serializer + " is not a candidate" );
+		}
+		profile( type ).pin( index );
+	}
+
+	/**
+	 * The serializer chosen for {@code type}, or {@code null} while it is being profiled.
+	 */
+	public ChoralSerializer< Object, ByteBuffer > choice( Class< ? > type ) {
+		Profile profile = profiles.get( type );
+		int choice = profile == null ? -1 : profile.choice();
+		return choice < 0 ? null : candidates.get( choice );
+	}
+
+	public Map< Class< ? >, Profile > profiles() {
+		return Collections.unmodifiableMap( new LinkedHashMap<>( profiles ) );
+	}
+
+	private Profile profile( Class< ? > type ) {
+		return profiles.computeIfAbsent( type, t -> new Profile( stateful ) );
+	}
+
+	/**
+	 * Encodes and tags {@code o} with the next candidate to profile, and decodes it back to
+	 * time the receiving side. Falls back to the following candidates if that one fails.
+	 */
+	private ByteBuffer measure( Profile profile, Object o ) {
+		while( true ) {
+			int index = profile.next();
+			if( index < 0 ) {
+				int choice = profile.choice();
+				return tagged( choice, candidates.get( choice ).fromObject( o ) );
+			}
+			ChoralSerializer< Object, ByteBuffer > candidate = candidates.get( index );
+			try {
+				long start = System.nanoTime();
+				ByteBuffer encoded = candidate.fromObject( o );
+				long middle = System.nanoTime();
+				Object decoded = candidate.toObject( encoded.duplicate() );
+				long end = System.nanoTime();
+				if( definesEquals( o.getClass() ) && !o.equals( decoded ) ) {
+					throw new IllegalStateException( "Lossy round trip" );
+				}
+				profile.record( index, encoded.remaining(), middle - start, end - middle,
+						warmup, nanosPerByte );
+				return tagged( index, encoded );
+			} catch( RuntimeException e ) {
+				profile.fail( index, warmup, nanosPerByte );
+			}
+		}
+	}
+
+	private static boolean definesEquals( Class< ? > type ) {
+		try {
+			return type.getMethod( "equals", Object.class ).getDeclaringClass() != Object.class;
+		} catch( NoSuchMethodException e ) {
+			return false;
+		}
+	}
+
+	private static ByteBuffer tagged( int index, ByteBuffer payload ) {
+		ByteBuffer message = ByteBuffer.allocate( 1 + payload.remaining() );
+		return message.put( (byte) index ).put( payload ).flip();
+	}
+
+	/**
+	 * Measurements of the candidates on one type, and the choice made from them.
+	 */
+	public static final class Profile {
+		private final long[] samples;
+		private final long[] bytes;
+		private final long[] encodeNanos;
+		private final long[] decodeNanos;
+		private final boolean[] failed;
+		private final boolean[] skipped;
+		private int next = 0;
+		private volatile int choice = -1;
+		private boolean pinned = false;
+
+		/**
+		 * @param skipped the candidates not to profile
+		 */
+		private Profile( boolean[] skipped ) {
+			int candidates = skipped.length;
+			samples = new long[ candidates ];
+			bytes = new long[ candidates ];
+			encodeNanos = new long[ candidates ];
+			decodeNanos = new long[ candidates ];
+			failed = new boolean[ candidates ];
+			this.skipped = skipped.clone();
+			if( !anyProfiled() ) {
+				choice = 0;
+			}
+		}
+
+		private boolean anyProfiled() {
+			for( int i = 0; i < failed.length; i++ ) {
+				if( !failed[ i ] && !skipped[ i ] ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private int choice() {
+			return choice;
+		}
+
+		/**
+		 * The candidate to profile next, or -1 once a choice has been made.
+		 */
+		private synchronized int next() {
+			if( choice >= 0 ) {
+				return -1;
+			}
+			while( failed[ next ] || skipped[ next ] ) {
+				next = ( next + 1 ) % failed.length;
+			}
+			int index = next;
+			next = ( next + 1 ) % failed.length;
+			return index;
+		}
+
+		private synchronized void record(
+				int index, int size, long encode, long decode, int warmup, double nanosPerByte
+		) {
+			if( samples[ index ]++ > 0 ) {
+				encodeNanos[ index ] += encode;
+				decodeNanos[ index ] += decode;
+			}
+			bytes[ index ] += size;
+			decide( warmup, nanosPerByte );
+		}
+
+		private synchronized void fail( int index, int warmup, double nanosPerByte ) {
+			failed[ index ] = true;
+			if( !anyProfiled() ) {
+				throw new IllegalStateException( "No serializer can encode this type" );
+			}
+			decide( warmup, nanosPerByte );
+		}
+
+		private void decide( int warmup, double nanosPerByte ) {
+			if( pinned ) {
+				return;
+			}
+			int best = -1;
+			for( int i = 0; i < samples.length; i++ ) {
+				if( failed[ i ] || skipped[ i ] ) {
+					continue;
+				}
+				if( samples[ i ] < warmup ) {
+					return;
+				}
+				if( best < 0 || cost( i, nanosPerByte ) < cost( best, nanosPerByte ) ) {
+					best = i;
+				}
+			}
+			choice = best;
+		}
+
+		private synchronized void pin( int index ) {
+			pinned = true;
+			choice = index;
+		}
+
+		private double cost( int i, double nanosPerByte ) {
+			return meanEncodeNanos( i ) + meanDecodeNanos( i ) + nanosPerByte * meanBytes( i );
+		}
+
+		/**
+		 * The index of the chosen candidate, or -1 while profiling.
+		 */
+		public int chosen() {
+			return choice;
+		}
+
+		public synchronized boolean isPinned() {
+			return pinned;
+		}
+
+		public synchronized long samples( int candidate ) {
+			return samples[ candidate ];
+		}
+
+		public synchronized double meanBytes( int candidate ) {
+			return samples[ candidate ] == 0 ? 0 : (double) bytes[ candidate ] / samples[ candidate ];
+		}
+
+		public synchronized double meanEncodeNanos( int candidate ) {
+			return samples[ candidate ] < 2 ? 0 : (double) encodeNanos[ candidate ] / ( samples[ candidate ] - 1 );
+		}
+
+		public synchronized double meanDecodeNanos( int candidate ) {
+			return samples[ candidate ] < 2 ? 0 : (double) decodeNanos[ candidate ] / ( samples[ candidate ] - 1 );
+		}
+
+		public synchronized boolean failed( int candidate ) {
+			return failed[ candidate ];
+		}
+
+		/**
+		 * Whether {@code candidate} is stateful, and so not profiled.
+		 */
+		public boolean skipped( int candidate ) {
+			return skipped[ candidate ];
+		}
+
+		@Override
+		public synchronized String toString() {
+			StringBuilder b = new StringBuilder( pinned ? "pinned " : "chosen " ).append( choice );
+			for( int i = 0; i < samples.length; i++ ) {
+				b.append( ", [" ).append( i ).append( "] " );
+				if( failed[ i ] ) {
+					b.append( "failed" );
+				} else if( skipped[ i ] ) {
+					b.append( "stateful, not profiled" );
+				} else {
+					b.append( String.format( "%.1f B, %.0f/%.0f ns",
+							meanBytes( i ), meanEncodeNanos( i ), meanDecodeNanos( i ) ) );
+				}
+			}
+			return b.toString();
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+/**
+ * Encodes and decodes values of one type as plain field writes and reads, without
+ * reflection or type information in the payload. Codecs for the types communicated by a
+ * choreography are generated by the compiler ({@code epp --binary-codecs}) and used through a
+ * {@link BinaryCodecSerializer}.
+ */
+public interface BinaryCodec< T > {
+
+	Class< T > type();
+
+	void encode( T value, BinaryOutput out );
+
+	T decode( BinaryInput in );
+
+}
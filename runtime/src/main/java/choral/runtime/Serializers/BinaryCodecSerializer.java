@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes values with {@link BinaryCodec}s, falling back to another serializer for types
+ * without a codec. A message is a {@link VarInts} tag followed by the encoded value. Tag 0
+ * marks a payload of the fallback serializer and tag 1 a null; the next tags are the
+ * {@link BinaryCodecs}, and the given codecs follow from {@value #FIRST_CODEC_TAG} in order.
+ * Both ends must pass the same codecs in the same order, as the generated {@code codecs()}
+ * lists do.
+ */
+public class BinaryCodecSerializer implements ChoralSerializer< Object, ByteBuffer > {
+
+	public static final int FIRST_CODEC_TAG = 16;
+	private static final int FALLBACK_TAG = 0;
+	private static final int NULL_TAG = 1;
+	private static final int FIRST_BUILTIN_TAG = 2;
+
+	private final ChoralSerializer< Object, ByteBuffer > fallback;
+	private final Map< Class< ? >, Integer > tags = new HashMap<>();
+	private final List< BinaryCodec< ? > > codecs = new ArrayList<>();
+	private final ThreadLocal< BinaryOutput > outputs = ThreadLocal.withInitial( BinaryOutput::new );
+
+	public BinaryCodecSerializer(
+			ChoralSerializer< Object, ByteBuffer > fallback,
+			Collection< ? extends BinaryCodec< ? > > codecs
+	) {
+		this.fallback = fallback;
+		for( int i = 0; i < FIRST_CODEC_TAG; i++ ) {
+			this.codecs.add( null );
+		}
+		for( int i = 0; i < BinaryCodecs.BUILTIN.size(); i++ ) {
+			add( FIRST_BUILTIN_TAG + i, BinaryCodecs.BUILTIN.get( i ) );
+		}
+		int tag = FIRST_CODEC_TAG;
+		for( BinaryCodec< ? > codec : codecs ) {
+			add( tag++, codec );
+		}
+	}
+
+	public BinaryCodecSerializer( Collection< ? extends BinaryCodec< ? > > codecs ) {
+		this( KryoSerializer.getInstance(), codecs );
+	}
+
+	private void add( int tag, BinaryCodec< ? > codec ) {
+		if( tag < this.codecs.size() ) {
+			this.codecs.set( tag, codec );
+		} else {
+			this.codecs.add( codec );
+		}
+		tags.put( codec.type(), tag );
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public < M > ByteBuffer fromObject( M o ) {
+		BinaryOutput out = outputs.get();
+		out.reset();
+		if( o == null ) {
+			out.putVarInt( NULL_TAG );
+			return out.toByteBuffer();
+		}
+		Integer tag = tags.get( o.getClass() );
+		if( tag == null ) {
+			ByteBuffer payload = fallback.fromObject( o );
+			ByteBuffer message = ByteBuffer.allocate( 1 + payload.remaining() );
+			return message.put( (byte) FALLBACK_TAG ).put( payload ).flip();
+		}
+		out.putVarInt( tag );
+		( (BinaryCodec< M >) codecs.get( tag ) ).encode( o, out );
+		return out.toByteBuffer();
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public < M > M toObject( ByteBuffer b ) {
+		BinaryInput in = new BinaryInput( b );
+		int tag = in.getVarInt();
+		if( tag == NULL_TAG ) {
+			return null;
+		}
+		if( tag == FALLBACK_TAG ) {
+			return fallback.toObject( b.slice() );
+		}
+		BinaryCodec< ? > codec = tag < codecs.size() ? codecs.get( tag ) : null;
+		if( codec == null ) {
+			throw new IllegalStateException( "No binary codec with tag " + tag );
+		}
+		return (M) codec.decode( in );
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Codecs for {@link String} and the boxed primitive types, which generated codecs use for
+ * their fields and {@link BinaryCodecSerializer} understands without registration.
+ */
+public final class BinaryCodecs {
+
+	public static final BinaryCodec< String > STRING =
+			of( String.class, ( v, out ) -> out.putString( v ), BinaryInput::getString );
+	public static final BinaryCodec< Boolean > BOOLEAN =
+			of( Boolean.class, ( v, out ) -> out.putBoolean( v ), BinaryInput::getBoolean );
+	public static final BinaryCodec< Byte > BYTE =
+			of( Byte.class, ( v, out ) -> out.putByte( v ), BinaryInput::getByte );
+	public static final BinaryCodec< Character > CHARACTER =
+			of( Character.class, ( v, out ) -> out.putChar( v ), BinaryInput::getChar );
+	public static final BinaryCodec< Short > SHORT =
+			of( Short.class, ( v, out ) -> out.putShort( v ), BinaryInput::getShort );
+	public static final BinaryCodec< Integer > INTEGER =
+			of( Integer.class, ( v, out ) -> out.putInt( v ), BinaryInput::getInt );
+	public static final BinaryCodec< Long > LONG =
+			of( Long.class, ( v, out ) -> out.putLong( v ), BinaryInput::getLong );
+	public static final BinaryCodec< Float > FLOAT =
+			of( Float.class, ( v, out ) -> out.putFloat( v ), BinaryInput::getFloat );
+	public static final BinaryCodec< Double > DOUBLE =
+			of( Double.class, ( v, out ) -> out.putDouble( v ), BinaryInput::getDouble );
+	public static final BinaryCodec< byte[] > BYTES =
+			of( byte[].class, ( v, out ) -> out.putBytes( v ), BinaryInput::getBytes );
+
+	static final List< BinaryCodec< ? > > BUILTIN = List.of(
+			STRING, BOOLEAN, BYTE, CHARACTER, SHORT, INTEGER, LONG, FLOAT, DOUBLE, BYTES );
+
+	private BinaryCodecs() {
+	}
+
+	private static < T > BinaryCodec< T > of(
+			Class< T > type, BiConsumer< T, BinaryOutput > encoder, Function< BinaryInput, T > decoder
+	) {
+		return new BinaryCodec<>() {
+			@Override
+			public Class< T > type() {
+				return type;
+			}
+
+			@Override
+			public void encode( T value, BinaryOutput out ) {
+				encoder.accept( value, out );
+			}
+
+			@Override
+			public T decode( BinaryInput in ) {
+				return decoder.apply( in );
+			}
+		};
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads back what a {@link BinaryOutput} wrote, from the position of the given buffer.
+ */
+public final class BinaryInput {
+
+	private final ByteBuffer buffer;
+
+	public BinaryInput( ByteBuffer buffer ) {
+		this.buffer = buffer;
+	}
+
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	public boolean getBoolean() {
+		return buffer.get() != 0;
+	}
+
+	public byte getByte() {
+		return buffer.get();
+	}
+
+	public char getChar() {
+		return buffer.getChar();
+	}
+
+	public short getShort() {
+		return buffer.getShort();
+	}
+
+	public int getInt() {
+		return buffer.getInt();
+	}
+
+	public long getLong() {
+		return buffer.getLong();
+	}
+
+	public float getFloat() {
+		return buffer.getFloat();
+	}
+
+	public double getDouble() {
+		return buffer.getDouble();
+	}
+
+	public int getVarInt() {
+		return VarInts.get( buffer );
+	}
+
+	public long getVarLong() {
+		return VarInts.getLong( buffer );
+	}
+
+	public byte[] getBytes() {
+		byte[] bytes = new byte[ getVarInt() ];
+		buffer.get( bytes );
+		return bytes;
+	}
+
+	public String getString() {
+		int length = getVarInt();
+		if( buffer.hasArray() ) {
+			int offset = buffer.arrayOffset() + buffer.position();
+			buffer.position( buffer.position() + length );
+			return new String( buffer.array(), offset, length, StandardCharsets.UTF_8 );
+		}
+		byte[] bytes = new byte[ length ];
+		buffer.get( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	public < T > T getNullable( BinaryCodec< T > codec ) {
+		return getBoolean() ? codec.decode( this ) : null;
+	}
+
+}
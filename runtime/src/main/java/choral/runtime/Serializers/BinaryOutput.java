@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A growable buffer that {@link BinaryCodec}s write into. Multi-byte values are big-endian;
+ * lengths are {@link VarInts}.
+ */
+public final class BinaryOutput {
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private ByteBuffer buffer;
+
+	public BinaryOutput( int capacity ) {
+		this.buffer = ByteBuffer.allocate( capacity );
+	}
+
+	public BinaryOutput() {
+		this( INITIAL_CAPACITY );
+	}
+
+	public void reset() {
+		buffer.clear();
+	}
+
+	public int position() {
+		return buffer.position();
+	}
+
+	/**
+	 * Returns a new buffer holding exactly the bytes written since the last {@link #reset()}.
+	 */
+	public ByteBuffer toByteBuffer() {
+		ByteBuffer result = ByteBuffer.allocate( buffer.position() );
+		result.put( buffer.array(), 0, buffer.position() );
+		return result.flip();
+	}
+
+	private void ensure( int bytes ) {
+		if( buffer.remaining() < bytes ) {
+			int capacity = Math.max( buffer.capacity() * 2, buffer.position() + bytes );
+			ByteBuffer larger = ByteBuffer.allocate( capacity );
+			larger.put( buffer.flip() );
+			buffer = larger;
+		}
+	}
+
+	public void putBoolean( boolean value ) {
+		putByte( value ? (byte) 1 : (byte) 0 );
+	}
+
+	public void putByte( byte value ) {
+		ensure( Byte.BYTES );
+		buffer.put( value );
+	}
+
+	public void putChar( char value ) {
+		ensure( Character.BYTES );
+		buffer.putChar( value );
+	}
+
+	public void putShort( short value ) {
+		ensure( Short.BYTES );
+		buffer.putShort( value );
+	}
+
+	public void putInt( int value ) {
+		ensure( Integer.BYTES );
+		buffer.putInt( value );
+	}
+
+	public void putLong( long value ) {
+		ensure( Long.BYTES );
+		buffer.putLong( value );
+	}
+
+	public void putFloat( float value ) {
+		ensure( Float.BYTES );
+		buffer.putFloat( value );
+	}
+
+	public void putDouble( double value ) {
+		ensure( Double.BYTES );
+		buffer.putDouble( value );
+	}
+
+	public void putVarInt( int value ) {
+		ensure( VarInts.MAX_LENGTH );
+		VarInts.put( buffer, value );
+	}
+
+	public void putVarLong( long value ) {
+		ensure( VarInts.MAX_LONG_LENGTH );
+		VarInts.putLong( buffer, value );
+	}
+
+	public void putBytes( byte[] bytes ) {
+		putVarInt( bytes.length );
+		ensure( bytes.length );
+		buffer.put( bytes );
+	}
+
+	public void putBytes( ByteBuffer bytes ) {
+		putVarInt( bytes.remaining() );
+		ensure( bytes.remaining() );
+		buffer.put( bytes );
+	}
+
+	public void putString( String value ) {
+		putBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	/**
+	 * Writes a presence flag followed, for non-null values, by the encoding of {@code codec}.
+	 */
+	public < T > void putNullable( T value, BinaryCodec< T > codec ) {
+		putBoolean( value != null );
+		if( value != null ) {
+			codec.encode( value, this );
+		}
+	}
+
+}
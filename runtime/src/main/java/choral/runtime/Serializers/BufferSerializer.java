@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A serializer that writes into a buffer supplied by the caller, such as the outbound
+ * frame buffer of a channel, instead of returning a buffer of its own.
+ */
+public interface BufferSerializer {
+
+	/**
+	 * Writes {@code o} into {@code buffer}, starting at its position and up to its
+	 * capacity. Returns the buffer holding the bytes before the position and the
+	 * encoding of {@code o}, positioned after its last byte: either {@code buffer} itself
+	 * or, if that was too small, a larger copy of it.
+	 */
+	ByteBuffer writeObject( Object o, ByteBuffer buffer );
+
+}
@@ -42,4 +42,9 @@ public class ChainedSerializer< S, M, D > implements ChoralSerializer< S, D > {
 	public < T extends S > T toObject( D d ) {
 		return srcSerializer.toObject( dstSerializer.toObject( d ) );
 	}
+
+	@Override
+	public boolean isStateful() {
+		return srcSerializer.isStateful() || dstSerializer.isStateful();
+	}
 }
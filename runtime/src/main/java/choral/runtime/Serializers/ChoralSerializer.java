@@ -25,4 +25,12 @@ public interface ChoralSerializer< T, F > {
 	< M extends T > F fromObject( M o );
 
 	< M extends T > M toObject( F f );
+
+	/**
+	 * Whether encoding a message depends on the messages encoded before it, so that
+	 * messages must be decoded in the order in which they were encoded.
+	 */
+	default boolean isStateful() {
+		return false;
+	}
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses serialized messages with {@link Deflater}, e.g.
+ * {@code new ChainedSerializer<>( KryoSerializer.getInstance(), new DeflateSerializer( 256 ) )}.
+ * Messages shorter than the threshold, or that do not shrink, are sent as they are.
+ * <p>
+ * Each message up to {@value #MAX_DICTIONARY} bytes becomes the preset dictionary for the
+ * next message compressed, which pays off for small, repetitive messages. The receiver
+ * finds the dictionary among the last messages it decoded by its zlib id. Dictionaries
+ * are per direction, so each channel needs its own instance, and messages must be
+ * decoded in the order they were encoded.
+ */
+public class DeflateSerializer implements ChoralSerializer< ByteBuffer, ByteBuffer > {
+
+	public static final int MAX_DICTIONARY = 32 * 1024;
+
+	private static final byte RAW = 0;
+	private static final byte DEFLATED = 1;
+	private static final int RECEIVED_DICTIONARIES = 8;
+
+	private final int threshold;
+	private final Deflater deflater;
+	private final Inflater inflater = new Inflater();
+	private byte[] sendDictionary = null;
+	private final Map< Integer, byte[] > receivedDictionaries =
+			new LinkedHashMap<>( RECEIVED_DICTIONARIES, 0.75f, false ) {
+				@Override
+				protected boolean removeEldestEntry( Map.Entry< Integer, byte[] > eldest ) {
+					return size() > RECEIVED_DICTIONARIES;
+				}
+			};
+
+	private final LongAdder compressed = new LongAdder();
+	private final LongAdder uncompressed = new LongAdder();
+	private final LongAdder bytesIn = new LongAdder();
+	private final LongAdder bytesOut = new LongAdder();
+	private final LongAdder compressionNanos = new LongAdder();
+	private final LongAdder decompressionNanos = new LongAdder();
+
+	public DeflateSerializer( int threshold, int level ) {
+		this.threshold = threshold;
+		this.deflater = new Deflater( level );
+	}
+
+	public DeflateSerializer( int threshold ) {
+		this( threshold, Deflater.DEFAULT_COMPRESSION );
+	}
+
+	@Override
+	public synchronized < M extends ByteBuffer > ByteBuffer fromObject( M o ) {
+		int length = o.remaining();
+		if( length < threshold ) {
+			uncompressed.increment();
+			return raw( o );
+		}
+		long start = System.nanoTime();
+		byte[] dictionary = length <= MAX_DICTIONARY ? copy( o ) : null;
+		deflater.reset();
+		if( sendDictionary != null ) {
+			deflater.setDictionary( sendDictionary );
+		}
+		deflater.setInput( o.duplicate() );
+		deflater.finish();
+		ByteBuffer out = ByteBuffer.allocate( 1 + VarInts.MAX_LENGTH + length );
+		out.put( DEFLATED );
+		VarInts.put( out, length );
+		while( !deflater.finished() && out.hasRemaining() ) {
+			deflater.deflate( out );
+		}
+		sendDictionary = dictionary;
+		compressionNanos.add( System.nanoTime() - start );
+		if( !deflater.finished() ) {
+			// no smaller than the original
+			uncompressed.increment();
+			return raw( o );
+		}
+		compressed.increment();
+		bytesIn.add( length );
+		bytesOut.add( out.position() );
+		return out.flip();
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public synchronized < M extends ByteBuffer > M toObject( ByteBuffer b ) {
+		ByteBuffer in = b.duplicate();
+		byte kind = in.get();
+		if( kind == RAW ) {
+			ByteBuffer payload = in.slice();
+			if( payload.remaining() >= threshold ) {
+				remember( copy( payload ) );
+			}
+			return (M) payload;
+		}
+		if( kind != DEFLATED ) {
+			throw new IllegalArgumentException( "Unknown compression kind " + kind );
+		}
+		long start = System.nanoTime();
+		ByteBuffer out = ByteBuffer.allocate( VarInts.get( in ) );
+		inflater.reset();
+		inflater.setInput( in );
+		try {
+			while( !inflater.finished() ) {
+				if( inflater.inflate( out ) == 0 ) {
+					if( inflater.needsDictionary() ) {
+						byte[] dictionary = receivedDictionaries.get( inflater.getAdler() );
+						if( dictionary == null ) {
+							throw new IllegalStateException( "Unknown compression dictionary "
+									+ Integer.toHexString( inflater.getAdler() ) );
+						}
+						inflater.setDictionary( dictionary );
+					} else if( inflater.needsInput() || !out.hasRemaining() ) {
+						throw new IllegalArgumentException( "Truncated compressed message" );
+					}
+				}
+			}
+		} catch( DataFormatException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+		out.flip();
+		if( out.remaining() <= MAX_DICTIONARY ) {
+			remember( out.array().clone() );
+		}
+		decompressionNanos.add( System.nanoTime() - start );
+		return (M) out;
+	}
+
+	/**
+	 * Always, as a message may be compressed against the one encoded before it. Channels
+	 * therefore send messages in the order they encode them and decode them in the order
+	 * they arrive, and so does a {@link ChainedSerializer} with this stage.
+	 */
+	@Override
+	public boolean isStateful() {
+		return true;
+	}
+
+	private ByteBuffer raw( ByteBuffer o ) {
+		int length = o.remaining();
+		if( length >= threshold && length <= MAX_DICTIONARY ) {
+			sendDictionary = copy( o );
+		}
+		ByteBuffer out = ByteBuffer.allocate( 1 + length );
+		return out.put( RAW ).put( o.duplicate() ).flip();
+	}
+
+	private void remember( byte[] dictionary ) {
+		if( dictionary.length > MAX_DICTIONARY ) {
+			return;
+		}
+		Adler32 adler = new Adler32();
+		adler.update( dictionary );
+		receivedDictionaries.put( (int) adler.getValue(), dictionary );
+	}
+
+	private static byte[] copy( ByteBuffer b ) {
+		byte[] bytes = new byte[ b.remaining() ];
+		b.duplicate().get( bytes );
+		return bytes;
+	}
+
+	/**
+	 * Messages sent compressed.
+	 */
+	public long messagesCompressed() {
+		return compressed.sum();
+	}
+
+	/**
+	 * Messages sent as they are, because they were below the threshold or did not shrink.
+	 */
+	public long messagesUncompressed() {
+		return uncompressed.sum();
+	}
+
+	/**
+	 * Size of the compressed messages before compression.
+	 */
+	public long bytesBeforeCompression() {
+		return bytesIn.sum();
+	}
+
+	/**
+	 * Size of the compressed messages after compression.
+	 */
+	public long bytesAfterCompression() {
+		return bytesOut.sum();
+	}
+
+	/**
+	 * Compressed over original size of the compressed messages, or 1 if there were none.
+	 */
+	public double compressionRatio() {
+		long in = bytesIn.sum();
+		return in == 0 ? 1 : (double) bytesOut.sum() / in;
+	}
+
+	public long compressionNanos() {
+		return compressionNanos.sum();
+	}
+
+	public long decompressionNanos() {
+		return decompressionNanos.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "compressed " + messagesCompressed() + ", uncompressed " + messagesUncompressed()
+				+ ", ratio " + String.format( "%.3f", compressionRatio() )
+				+ ", compression " + compressionNanos() / 1000 + " us"
+				+ ", decompression " + decompressionNanos() / 1000 + " us";
+	}
+
+}
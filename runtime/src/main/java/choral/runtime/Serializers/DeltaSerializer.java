@@ -0,0 +1,362 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import org.objenesis.instantiator.ObjectInstantiator;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends, for each message type, only the fields that changed since the last message of
+ * that type, and rebuilds the whole object on the receiving side. A full snapshot, encoded
+ * by the wrapped serializer, is sent for the first message of a type and then every
+ * {@code snapshotInterval} messages, so that a lost update cannot linger.
+ * <p>
+ * Fields of primitive, boxed, {@link String} and enum types are compared with the last
+ * value and sent only when different; {@code int}, {@code long} and {@code short} fields
+ * travel as the varint difference from the last value. Other fields may be mutated in place, so they are
+ * always sent, encoded by the wrapped serializer. Arrays, records, and classes whose fields
+ * cannot be made accessible are always sent whole. Each channel needs its own instance.
+ */
+public class DeltaSerializer implements ChoralSerializer< Object, ByteBuffer > {
+
+	public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+	private static final byte FULL = 0;
+	private static final byte SNAPSHOT = 1;
+	private static final byte DELTA = 2;
+
+	private static final Map< Class< ? >, BinaryCodec< ? > > VALUE_CODECS = valueCodecs();
+	private static final ConcurrentHashMap< Class< ? >, Layout > layouts = new ConcurrentHashMap<>();
+	private static final Layout WHOLE = new Layout();
+
+	private final ChoralSerializer< Object, ByteBuffer > serializer;
+	private final int snapshotInterval;
+	private final BinaryOutput out = new BinaryOutput();
+	private final Map< Class< ? >, Sent > sent = new HashMap<>();
+	private final List< Received > received = new ArrayList<>();
+
+	public DeltaSerializer( ChoralSerializer< Object, ByteBuffer > serializer, int snapshotInterval ) {
+		if( snapshotInterval <= 0 ) {
+			throw new IllegalArgumentException( "Snapshot interval must be positive, got " + snapshotInterval );
+		}
+		this.serializer = serializer;
+		this.snapshotInterval = snapshotInterval;
+	}
+
+	public DeltaSerializer( ChoralSerializer< Object, ByteBuffer > serializer ) {
+		this( serializer, DEFAULT_SNAPSHOT_INTERVAL );
+	}
+
+	@Override
+	public synchronized < M > ByteBuffer fromObject( M o ) {
+		out.reset();
+		Layout layout = o == null ? WHOLE : layout( o.getClass() );
+		if( layout == WHOLE ) {
+			out.putByte( FULL );
+			out.putBytes( serializer.fromObject( o ) );
+			return out.toByteBuffer();
+		}
+		Object[] values = layout.values( o );
+		Sent last = sent.get( o.getClass() );
+		if( last == null || ++last.sinceSnapshot >= snapshotInterval ) {
+			if( last == null ) {
+				last = new Sent( sent.size() );
+				sent.put( o.getClass(), last );
+			}
+			last.values = values;
+			last.sinceSnapshot = 0;
+			out.putByte( SNAPSHOT );
+			out.putVarInt( last.index );
+			out.putBytes( serializer.fromObject( o ) );
+			return out.toByteBuffer();
+		}
+		out.putByte( DELTA );
+		out.putVarInt( last.index );
+		int changed = 0;
+		for( int i = 0; i < values.length; i++ ) {
+			if( layout.changed( i, last.values[ i ], values[ i ] ) ) {
+				changed++;
+			}
+		}
+		out.putVarInt( changed );
+		for( int i = 0; i < values.length; i++ ) {
+			if( layout.changed( i, last.values[ i ], values[ i ] ) ) {
+				out.putVarInt( i );
+				layout.encode( i, last.values[ i ], values[ i ], out, serializer );
+			}
+		}
+		last.values = values;
+		return out.toByteBuffer();
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public synchronized < M > M toObject( ByteBuffer b ) {
+		BinaryInput in = new BinaryInput( b.duplicate() );
+		byte kind = in.getByte();
+		if( kind == FULL ) {
+			return serializer.toObject( payload( in ) );
+		}
+		int index = in.getVarInt();
+		if( kind == SNAPSHOT ) {
+			M m = serializer.toObject( payload( in ) );
+			Layout layout = layout( m.getClass() );
+			while( received.size() <= index ) {
+				received.add( null );
+			}
+			received.set( index, new Received( layout, layout.values( m ) ) );
+			return m;
+		}
+		if( kind != DELTA ) {
+			throw new IllegalArgumentException( "Unknown delta message kind " + kind );
+		}
+		Received last = index < received.size() ? received.get( index ) : null;
+		if( last == null ) {
+			throw new IllegalStateException( "Delta for type " + index + " received before its snapshot" );
+		}
+		Object[] values = last.values.clone();
+		for( int changed = in.getVarInt(); changed > 0; changed-- ) {
+			int i = in.getVarInt();
+			values[ i ] = last.layout.decode( i, values[ i ], in, serializer );
+		}
+		last.values = values;
+		return (M) last.layout.create( values );
+	}
+
+	@Override
+	public boolean isStateful() {
+		return true;
+	}
+
+	private static ByteBuffer payload( BinaryInput in ) {
+		int length = in.getVarInt();
+		ByteBuffer buffer = in.buffer();
+		ByteBuffer payload = buffer.slice().limit( length );
+		buffer.position( buffer.position() + length );
+		return payload;
+	}
+
+	private static int zigZag( int value ) {
+		return ( value << 1 ) ^ ( value >> 31 );
+	}
+
+	private static int unZigZag( int value ) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	private static long zigZag( long value ) {
+		return ( value << 1 ) ^ ( value >> 63 );
+	}
+
+	private static long unZigZag( long value ) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	private static Layout layout( Class< ? > type ) {
+		return layouts.computeIfAbsent( type, Layout::of );
+	}
+
+	private static Map< Class< ? >, BinaryCodec< ? > > valueCodecs() {
+		Map< Class< ? >, BinaryCodec< ? > > codecs = new HashMap<>();
+		for( BinaryCodec< ? > codec : BinaryCodecs.BUILTIN ) {
+			if( codec != BinaryCodecs.BYTES ) {
+				codecs.put( codec.type(), codec );
+			}
+		}
+		codecs.put( boolean.class, BinaryCodecs.BOOLEAN );
+		codecs.put( byte.class, BinaryCodecs.BYTE );
+		codecs.put( char.class, BinaryCodecs.CHARACTER );
+		codecs.put( short.class, BinaryCodecs.SHORT );
+		codecs.put( int.class, BinaryCodecs.INTEGER );
+		codecs.put( long.class, BinaryCodecs.LONG );
+		codecs.put( float.class, BinaryCodecs.FLOAT );
+		codecs.put( double.class, BinaryCodecs.DOUBLE );
+		return codecs;
+	}
+
+	private static final class Sent {
+		private final int index;
+		private Object[] values;
+		private int sinceSnapshot;
+
+		private Sent( int index ) {
+			this.index = index;
+		}
+	}
+
+	private static final class Received {
+		private final Layout layout;
+		private Object[] values;
+
+		private Received( Layout layout, Object[] values ) {
+			this.layout = layout;
+			this.values = values;
+		}
+	}
+
+	/**
+	 * The instance fields of a type, with how each one is compared and encoded.
+	 */
+	private static final class Layout {
+		private final Field[] fields;
+		private final List< BinaryCodec< Object > > codecs;
+		private final ObjectInstantiator< ? > instantiator;
+
+		private Layout() {
+			this( new Field[ 0 ], null );
+		}
+
+		@SuppressWarnings( "unchecked" )
+		private Layout( Field[] fields, ObjectInstantiator< ? > instantiator ) {
+			this.fields = fields;
+			this.codecs = new ArrayList<>( fields.length );
+			this.instantiator = instantiator;
+			for( Field field : fields ) {
+				codecs.add( (BinaryCodec< Object >) VALUE_CODECS.get( field.getType() ) );
+			}
+		}
+
+		private static Layout of( Class< ? > type ) {
+			if( type.isArray() || type.isEnum() || type.isRecord() || type.isPrimitive()
+					|| VALUE_CODECS.containsKey( type ) || Modifier.isAbstract( type.getModifiers() ) ) {
+				return WHOLE;
+			}
+			List< Field > fields = new ArrayList<>();
+			for( Class< ? > c = type; c != Object.class; c = c.getSuperclass() ) {
+				for( Field field : c.getDeclaredFields() ) {
+					int modifiers = field.getModifiers();
+					if( Modifier.isStatic( modifiers ) || Modifier.isTransient( modifiers ) || field.isSynthetic() ) {
+						continue;
+					}
+					try {
+						field.setAccessible( true );
+					} catch( RuntimeException e ) {
+						return WHOLE;
+					}
+					fields.add( field );
+				}
+			}
+			return new Layout( fields.toArray( new Field[ 0 ] ),
+					new StdInstantiatorStrategy().newInstantiatorOf( type ) );
+		}
+
+		private Object[] values( Object o ) {
+			Object[] values = new Object[ fields.length ];
+			try {
+				for( int i = 0; i < fields.length; i++ ) {
+					values[ i ] = fields[ i ].get( o );
+				}
+			} catch( IllegalAccessException e ) {
+				throw new RuntimeException( e.getMessage() );
+			}
+			return values;
+		}
+
+		private Object create( Object[] values ) {
+			Object o = instantiator.newInstance();
+			try {
+				for( int i = 0; i < fields.length; i++ ) {
+					fields[ i ].set( o, values[ i ] );
+				}
+			} catch( IllegalAccessException e ) {
+				throw new RuntimeException( e.getMessage() );
+			}
+			return o;
+		}
+
+		private boolean isValue( int i ) {
+			return codecs.get( i ) != null || fields[ i ].getType().isEnum();
+		}
+
+		private boolean changed( int i, Object last, Object value ) {
+			return !isValue( i ) || !Objects.equals( last, value );
+		}
+
+		private void encode(
+				int i, Object last, Object value, BinaryOutput out, ChoralSerializer< Object, ByteBuffer > serializer
+		) {
+			Class< ? > type = fields[ i ].getType();
+			if( type == int.class || type == short.class ) {
+				out.putVarInt( zigZag( ( (Number) value ).intValue() - ( (Number) last ).intValue() ) );
+				return;
+			}
+			if( type == long.class ) {
+				out.putVarLong( zigZag( (Long) value - (Long) last ) );
+				return;
+			}
+			if( type.isPrimitive() ) {
+				codecs.get( i ).encode( value, out );
+				return;
+			}
+			out.putBoolean( value != null );
+			if( value == null ) {
+				return;
+			}
+			if( codecs.get( i ) != null ) {
+				codecs.get( i ).encode( value, out );
+			} else if( type.isEnum() ) {
+				out.putVarInt( ( (Enum< ? >) value ).ordinal() );
+			} else {
+				out.putBytes( serializer.fromObject( value ) );
+			}
+		}
+
+		private Object decode(
+				int i, Object last, BinaryInput in, ChoralSerializer< Object, ByteBuffer > serializer
+		) {
+			Class< ? > type = fields[ i ].getType();
+			if( type == int.class ) {
+				return (Integer) last + unZigZag( in.getVarInt() );
+			}
+			if( type == short.class ) {
+				return (short) ( (Short) last + unZigZag( in.getVarInt() ) );
+			}
+			if( type == long.class ) {
+				return (Long) last + unZigZag( in.getVarLong() );
+			}
+			if( type.isPrimitive() ) {
+				return codecs.get( i ).decode( in );
+			}
+			if( !in.getBoolean() ) {
+				return null;
+			}
+			if( codecs.get( i ) != null ) {
+				return codecs.get( i ).decode( in );
+			} else if( type.isEnum() ) {
+				return type.getEnumConstants()[ in.getVarInt() ];
+			} else {
+				return serializer.toObject( payload( in ) );
+			}
+		}
+	}
+
+}
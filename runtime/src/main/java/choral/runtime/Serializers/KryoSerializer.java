@@ -21,95 +21,504 @@
 
 package choral.runtime.Serializers;
 
+import choral.annotations.Choreography;
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.ReferenceResolver;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import org.objenesis.strategy.StdInstantiatorStrategy;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
+import java.net.URL;
 import java.nio.ByteBuffer;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
-public final class KryoSerializer implements ChoralSerializer< Object, ByteBuffer > {
-	private static final KryoSerializer INSTANCE = new KryoSerializer();
-	private static final Kryo kryo = new Kryo();
-	private static final Set< Integer > registeredClasses = new HashSet<>();
-	private boolean preloadDone = false;
+/**
+ * Kryo-based serializer that is safe to share between threads. Each call borrows a
+ * {@link Kryo} instance, together with its {@link Output} and {@link ByteBufferInput}, from a
+ * pool. Classes are registered once in a registry, shared by the instances of a pool, that
+ * every pooled instance catches up with before use.
+ * <p>
+ * Class ids are assigned in registration order. The serializer of a choreography,
+ * {@link #getInstance(String)}, registers the classes listed in the serialization manifest
+ * the compiler emitted for it ({@link #manifest(String)}), each at the id given by its
+ * position, so roles running in different processes agree on the ids. Classes the manifest
+ * does not list, like the implementation behind a payload typed by an interface, are written
+ * with their name instead of an id. The shared
+ * {@link #getInstance()} has no manifest: it scans the classpath for
+ * {@link KryoSerializable} classes, in name order, and registers the types of their fields
+ * and of the values of {@link Optional}s as they come, so its ids only match between
+ * roles that share the same classpath.
+ */
+public final class KryoSerializer implements InterningSerializer, StreamingSerializer, BufferSerializer {
+	public static final String MANIFEST_FOLDER = "META-INF/choral/serialization/";
+	public static final String MANIFEST_EXTENSION = ".manifest";
 
-	static {
-		kryo.setInstantiatorStrategy(
-				new DefaultInstantiatorStrategy(
-						// <-- the default initiator uses the empty-params constructor
-						new StdInstantiatorStrategy()
-						// <-- if the default fails, use JVM APIs to create
-						// an instance of a class without calling any constructor at all.
-				)
-		);
-	}
+	private static final int FIRST_ID = 64;
+	private static final int INITIAL_OUTPUT_SIZE = 4096;
+	private static final int MAX_RETAINED_OUTPUT_SIZE = 1 << 20;
+	private static final int MAX_POOLED_SESSIONS = 64;
+	private static final int STREAM_BUFFER_SIZE = 8192;
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate( 0 );
+
+	private static final Kryo defaults = new Kryo();
+	private static final KryoSerializer INSTANCE = new KryoSerializer( null, null );
+	private static final Map< String, KryoSerializer > choreographies = new ConcurrentHashMap<>();
+
+	private final String choreography;
+	private final List< String > manifest;
+	private final Set< Class< ? > > registeredClasses = ConcurrentHashMap.newKeySet();
+	private final List< Registration > registrations = new CopyOnWriteArrayList<>();
+	private int nextId = FIRST_ID;
+	private volatile boolean preloadDone = false;
 
-	private KryoSerializer() {
+	private final Pool< Session > sessions =
+			new Pool< Session >( true, false, MAX_POOLED_SESSIONS ) {
+				@Override
+				protected Session create() {
+					return new Session( false );
+				}
+			};
+	private final Pool< Session > interningSessions =
+			new Pool< Session >( true, false, MAX_POOLED_SESSIONS ) {
+				@Override
+				protected Session create() {
+					return new Session( true );
+				}
+			};
+
+	private KryoSerializer( String choreography, List< String > manifest ) {
+		this.choreography = choreography;
+		this.manifest = manifest;
+		register( Optional.class );
 	}
 
+	/**
+	 * The serializer without a manifest, see the class documentation.
+	 */
 	public static KryoSerializer getInstance() {
 		return INSTANCE;
 	}
 
-	private static void register( Class c ) {
-		kryo.register( c, c.hashCode() );
-		registeredClasses.add( c.hashCode() );
+	/**
+	 * The serializer of the choreography with the given qualified name, whose class ids
+	 * come from its serialization manifest.
+	 *
+	 * @throws IllegalArgumentException if the manifest is not on the classpath
+	 */
+	public static KryoSerializer getInstance( String choreography ) {
+		return choreographies.computeIfAbsent( choreography,
+				c -> new KryoSerializer( c, loadManifest( c ) ) );
+	}
+
+	/**
+	 * The serializer of the choreography that {@code role}, a class projected by the
+	 * compiler, belongs to; see {@link #getInstance(String)}.
+	 */
+	public static KryoSerializer getInstance( Class< ? > role ) {
+		Choreography choreography = role.getAnnotation( Choreography.class );
+		if( choreography == null ) {
+			throw new IllegalArgumentException( role.getName() + " is not a projected choreography" );
+		}
+		String packageName = role.getPackageName();
+		return getInstance( packageName.isEmpty()
+				? choreography.name()
+				: packageName + "." + choreography.name() );
+	}
+
+	/**
+	 * The location of the manifest of the choreography with the given qualified name,
+	 * relative to the root of the classpath.
+	 */
+	public static String manifest( String choreography ) {
+		return MANIFEST_FOLDER + choreography + MANIFEST_EXTENSION;
+	}
+
+	/**
+	 * The qualified name of the choreography this serializer belongs to, if any.
+	 */
+	public Optional< String > choreography() {
+		return Optional.ofNullable( choreography );
+	}
+
+	private synchronized void register( Class< ? > c ) {
+		if( !registeredClasses.contains( c ) ) {
+			register( c, nextId++ );
+		}
 	}
 
-	private static void preload() {
-		if( getInstance().preloadDone ) {
+	/**
+	 * Registers {@code c} under {@code id}, unless Kryo registers it by default or it is
+	 * already registered. The id is consumed either way, so later ids do not shift.
+	 */
+	private synchronized void register( Class< ? > c, int id ) {
+		nextId = Math.max( nextId, id + 1 );
+		if( registeredClasses.add( c ) && defaults.getClassResolver().getRegistration( c ) == null ) {
+			registrations.add( new Registration( c, id ) );
+		}
+	}
+
+	private synchronized void preload() {
+		if( preloadDone ) {
 			return;
-		} else {
-			getInstance().preloadDone = true;
-		}
-		try( ScanResult scanResult = new ClassGraph().enableAllInfo().scan() ) {
-			scanResult.getAllClasses()
-					.filter( c -> c.hasAnnotation( KryoSerializable.class.getName() ) )
-					.filter( c -> !registeredClasses.contains( c.hashCode() ) )
-					.forEach( c -> {
-						try {
-							KryoSerializer.register( Class.forName( c.getName() ) );
-							Class< ? > _class = Class.forName( c.getName() );
-							for( Field field : _class.getDeclaredFields() ) {
-								KryoSerializer.register( field.getType() );
-							}
-						} catch( ClassNotFoundException e ) {
-							e.printStackTrace();
-						}
-					} );
 		}
+		List< String > names = manifest != null ? manifest : scanClasspath();
+		int id = nextId;
+		List< Class< ? > > loaded = new ArrayList<>();
+		for( String name : names ) {
+			try {
+				Class< ? > _class = Class.forName( name );
+				register( _class, id );
+				loaded.add( _class );
+			} catch( ClassNotFoundException e ) {
+				// not used by this role, its id stays reserved
+			}
+			id++;
+		}
+		nextId = Math.max( nextId, id );
+		if( manifest == null ) {
+			// a manifest already lists the field types, at fixed positions
+			for( Class< ? > _class : loaded ) {
+				for( Field field : _class.getDeclaredFields() ) {
+					register( field.getType() );
+				}
+			}
+		}
+		preloadDone = true;
+	}
+
+	private static List< String > loadManifest( String choreography ) {
+		URL url = KryoSerializer.class.getClassLoader().getResource( manifest( choreography ) );
+		if( url == null ) {
+			throw new IllegalArgumentException( "No serialization manifest for " + choreography
+					+ " at " + manifest( choreography ) );
+		}
+		try( BufferedReader reader = new BufferedReader( new InputStreamReader(
+				url.openStream(), StandardCharsets.UTF_8 ) ) ) {
+			return reader.lines()
+					.map( String::strip )
+					.filter( l -> !l.isEmpty() && !l.startsWith( "#" ) )
+					.collect( Collectors.toList() );
+		} catch( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static List< String > scanClasspath() {
+		try( ScanResult scanResult = new ClassGraph().enableAnnotationInfo().scan() ) {
+			return scanResult.getClassesWithAnnotation( KryoSerializable.class.getName() )
+					.getNames().stream().sorted().collect( Collectors.toList() );
+		}
+	}
+
+	private Session obtain( StringTable table ) {
+		if( table == null ) {
+			return obtain();
+		}
+		Session session = obtain( interningSessions );
+		session.setTable( table );
+		return session;
+	}
+
+	private Session obtain() {
+		return obtain( sessions );
+	}
+
+	private Session obtain( Pool< Session > pool ) {
+		if( !preloadDone ) {
+			preload();
+		}
+		Session session = pool.obtain();
+		session.catchUp();
+		return session;
 	}
 
 	@Override
 	public < M > ByteBuffer fromObject( M o ) {
-		preload();
-		Output output = new Output( 4096 );
-		if( o instanceof Optional ) {
-			kryo.register( Optional.class );
-			if( ( (Optional) o ).isPresent() ) {
-				kryo.register( ( (Optional) o ).get().getClass() );
+		return fromObject( o, null );
+	}
+
+	@Override
+	public < M > M toObject( ByteBuffer b ) {
+		return toObject( b, null );
+	}
+
+	@Override
+	public < M > ByteBuffer fromObject( M o, StringTable table ) {
+		registerContents( o );
+		Session session = obtain( table );
+		try {
+			Output output = session.output;
+			output.reset();
+			session.kryo.writeClassAndObject( output, o );
+			return ByteBuffer.wrap( output.toBytes() );
+		} finally {
+			session.trimOutput();
+			release( session );
+		}
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public < M > M toObject( ByteBuffer b, StringTable table ) {
+		Session session = obtain( table );
+		try {
+			session.input.setBuffer( b );
+			return (M) session.kryo.readClassAndObject( session.input );
+		} finally {
+			session.input.setBuffer( EMPTY );
+			release( session );
+		}
+	}
+
+	@Override
+	public ByteBuffer writeObject( Object o, ByteBuffer buffer ) {
+		registerContents( o );
+		Session session = obtain();
+		ByteBufferOutput output = session.bufferOutput;
+		try {
+			output.setBuffer( buffer, -1 );
+			session.kryo.writeClassAndObject( output, o );
+			ByteBuffer result = output.getByteBuffer();
+			result.limit( result.capacity() ).position( output.position() );
+			return result;
+		} finally {
+			output.setBuffer( EMPTY, -1 );
+			sessions.free( session );
+		}
+	}
+
+	@Override
+	public void write( Object o, OutputStream out ) throws IOException {
+		registerContents( o );
+		Session session = obtain();
+		try {
+			session.streamOutput.setOutputStream( out );
+			session.kryo.writeClassAndObject( session.streamOutput, o );
+			session.streamOutput.flush();
+		} catch( KryoException e ) {
+			if( e.getCause() instanceof IOException ) {
+				throw (IOException) e.getCause();
 			}
+			throw e;
+		} finally {
+			session.streamOutput.setOutputStream( null );
+			sessions.free( session );
 		}
-		kryo.writeClassAndObject( output, o );
-		output.close();
-		return ByteBuffer.wrap( output.getBuffer() );
 	}
 
 	@Override
-	public < M > M toObject( ByteBuffer b ) {
-		preload();
-		Input input = new Input( b.array() );
-		M o = (M) kryo.readClassAndObject( input );
-		input.close();
-		return o;
+	@SuppressWarnings( "unchecked" )
+	public < M > M read( InputStream in ) throws IOException {
+		Session session = obtain();
+		try {
+			session.streamInput.setInputStream( in );
+			return (M) session.kryo.readClassAndObject( session.streamInput );
+		} catch( KryoException e ) {
+			if( e.getCause() instanceof IOException ) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		} finally {
+			session.streamInput.setInputStream( null );
+			sessions.free( session );
+		}
+	}
+
+	private void release( Session session ) {
+		if( session.interning ) {
+			session.setTable( null );
+			interningSessions.free( session );
+		} else {
+			sessions.free( session );
+		}
+	}
+
+	private void registerContents( Object o ) {
+		if( !preloadDone ) {
+			preload();
+		}
+		if( manifest == null && o instanceof Optional && ( (Optional< ? >) o ).isPresent() ) {
+			Class< ? > content = ( (Optional< ? >) o ).get().getClass();
+			if( !registeredClasses.contains( content ) ) {
+				register( content );
+			}
+		}
+	}
+
+	private static final class Registration {
+		private final Class< ? > type;
+		private final int id;
+
+		private Registration( Class< ? > type, int id ) {
+			this.type = type;
+			this.id = id;
+		}
+	}
+
+	/**
+	 * A {@link Kryo} instance with the buffers it works on, used by one thread at a time.
+	 */
+	private final class Session {
+		private final Kryo kryo = new Kryo();
+		private final Output output = new Output( INITIAL_OUTPUT_SIZE, -1 );
+		private final ByteBufferInput input = new ByteBufferInput( EMPTY );
+		private final ByteBufferOutput bufferOutput = new ByteBufferOutput();
+		private final Output streamOutput = new Output( STREAM_BUFFER_SIZE );
+		private final Input streamInput = new Input( STREAM_BUFFER_SIZE );
+		private final boolean interning;
+		private final TableStringSerializer strings;
+		private int registered = 0;
+
+		/**
+		 * Interning sessions write strings through {@link TableStringSerializer}. Kryo
+		 * only routes string fields of public classes through the String serializer
+		 * when strings are tracked as references, so they install {@link StringReferences}.
+		 */
+		private Session( boolean interning ) {
+			this.interning = interning;
+			kryo.setInstantiatorStrategy(
+					new DefaultInstantiatorStrategy(
+							// <-- the default initiator uses the empty-params constructor
+							new StdInstantiatorStrategy()
+							// <-- if the default fails, use JVM APIs to create
+							// an instance of a class without calling any constructor at all.
+					)
+			);
+			// a manifest lists the declared types only, other classes go by name
+			kryo.setRegistrationRequired( manifest == null );
+			if( interning ) {
+				strings = new TableStringSerializer();
+				kryo.setReferenceResolver( new StringReferences() );
+				kryo.getRegistration( String.class ).setSerializer( strings );
+			} else {
+				strings = null;
+			}
+		}
+
+		private void setTable( StringTable table ) {
+			strings.table = table;
+		}
+
+		private void catchUp() {
+			while( registered < registrations.size() ) {
+				Registration r = registrations.get( registered++ );
+				kryo.register( r.type, r.id );
+			}
+		}
+
+		private void trimOutput() {
+			if( output.getBuffer().length > MAX_RETAINED_OUTPUT_SIZE ) {
+				output.setBuffer( new byte[ INITIAL_OUTPUT_SIZE ], -1 );
+			}
+		}
+	}
+
+	/**
+	 * Writes strings as ids of the {@link StringTable} of the session, if any,
+	 * otherwise as {@link Output#writeString(String)} does.
+	 */
+	private static final class TableStringSerializer extends Serializer< String > {
+		private StringTable table;
+
+		private TableStringSerializer() {
+			setImmutable( true );
+		}
+
+		@Override
+		public void write( Kryo kryo, Output output, String s ) {
+			if( table == null ) {
+				output.writeString( s );
+				return;
+			}
+			int id = table.encode( s );
+			output.writeVarInt( id + 1, true );
+			if( id < 0 ) {
+				output.writeString( s );
+			}
+		}
+
+		@Override
+		public String read( Kryo kryo, Input input, Class< ? extends String > type ) {
+			if( table == null ) {
+				return input.readString();
+			}
+			int id = input.readVarInt( true ) - 1;
+			if( id >= 0 ) {
+				return table.decode( id );
+			}
+			String s = input.readString();
+			table.received( s );
+			return s;
+		}
+	}
+
+	/**
+	 * Tracks strings, and only strings, as references, without ever sharing one: the
+	 * {@link StringTable} already replaces repeated strings. The raw {@link Class}
+	 * parameters are those of {@link ReferenceResolver}.
+	 */
+	@SuppressWarnings( "rawtypes" )
+	private static final class StringReferences implements ReferenceResolver {
+
+		@Override
+		public void setKryo( Kryo kryo ) {
+		}
+
+		@Override
+		public int getWrittenId( Object object ) {
+			return -1;
+		}
+
+		@Override
+		public int addWrittenObject( Object object ) {
+			return 0;
+		}
+
+		@Override
+		public int nextReadId( Class type ) {
+			return 0;
+		}
+
+		@Override
+		public void setReadObject( int id, Object object ) {
+		}
+
+		@Override
+		public Object getReadObject( Class type, int id ) {
+			throw new IllegalStateException( "Unexpected string reference " + id );
+		}
+
+		@Override
+		public void reset() {
+		}
+
+		@Override
+		public boolean useReferences( Class type ) {
+			return type == String.class;
+		}
 	}
 
 }
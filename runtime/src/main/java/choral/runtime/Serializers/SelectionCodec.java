@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compact encoding of selection labels, kept per channel.
+ * Until the peer is known to have received its type, a label is sent as a definition,
+ * {@code [0][ordinal][type id][class name]}, that binds the type to the sender's id for
+ * it; once a definition has been written ({@link #sent(Enum)}), labels of that type take
+ * two bytes, {@code [type id][ordinal]} (all varints). Since a definition names its id,
+ * a type may be defined more than once, e.g., by concurrent sends or after a failed one,
+ * and no lock needs to be held while a label is transmitted. Each direction of a channel
+ * numbers its types independently, so one codec serves both ends of a symmetric channel.
+ */
+public class SelectionCodec {
+
+	private static final int DEFINITION = 0;
+
+	private final AtomicInteger lastTypeId = new AtomicInteger(); // ids start at 1, 0 marks a definition
+	private final Map< Class< ? >, Integer > typeIds = new ConcurrentHashMap<>();
+	private final Set< Class< ? > > sentTypes = ConcurrentHashMap.newKeySet();
+	private final Map< Integer, Enum< ? >[] > receivedTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Encodes a label, as a definition of its type unless one has already been
+	 * {@link #sent(Enum)}.
+	 */
+	public ByteBuffer encode( Enum< ? > label ) {
+		Class< ? > type = label.getDeclaringClass();
+		int id = typeIds.computeIfAbsent( type, t -> lastTypeId.incrementAndGet() );
+		if( sentTypes.contains( type ) ) {
+			ByteBuffer buffer = ByteBuffer.allocate( 2 * VarInts.MAX_LENGTH );
+			VarInts.put( buffer, id );
+			VarInts.put( buffer, label.ordinal() );
+			return buffer.flip();
+		}
+		byte[] name = type.getName().getBytes( StandardCharsets.UTF_8 );
+		ByteBuffer buffer = ByteBuffer.allocate( 3 * VarInts.MAX_LENGTH + name.length );
+		VarInts.put( buffer, DEFINITION );
+		VarInts.put( buffer, label.ordinal() );
+		VarInts.put( buffer, id );
+		buffer.put( name );
+		return buffer.flip();
+	}
+
+	/**
+	 * Records that {@code label}, as encoded by {@link #encode(Enum)}, has been written
+	 * to the channel, so that later labels of its type may refer to it by id.
+	 */
+	public void sent( Enum< ? > label ) {
+		sentTypes.add( label.getDeclaringClass() );
+	}
+
+	/**
+	 * Calls {@link #sent(Enum)} once {@code sending}, the transmission of {@code label},
+	 * completes normally.
+	 */
+	public < R > CompletableFuture< R > sent( Enum< ? > label, CompletableFuture< R > sending ) {
+		return sending.whenComplete( ( r, e ) -> {
+			if( e == null ) {
+				sent( label );
+			}
+		} );
+	}
+
+	/**
+	 * Decodes a label. The definition of a type must be decoded before the labels
+	 * that refer to it by id, i.e., labels of one direction in the order they were received.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public < T extends Enum< T > > T decode( ByteBuffer buffer ) {
+		int id = VarInts.get( buffer );
+		int ordinal = VarInts.get( buffer );
+		Enum< ? >[] constants;
+		if( id == DEFINITION ) {
+			id = VarInts.get( buffer );
+			String name = StandardCharsets.UTF_8.decode( buffer ).toString();
+			try {
+				constants = (Enum< ? >[]) Class.forName( name ).getEnumConstants();
+			} catch( ClassNotFoundException e ) {
+				throw new IllegalStateException( "Unknown selection type " + name, e );
+			}
+			receivedTypes.put( id, constants );
+		} else {
+			constants = receivedTypes.get( id );
+			if( constants == null ) {
+				throw new IllegalStateException( "Undefined selection type id " + id );
+			}
+		}
+		return (T) constants[ ordinal ];
+	}
+
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON serializer with the same wire format as {@link JSONSerializer} (class name, {@code !},
+ * Gson JSON, in UTF-8), so the two interoperate. Gson writes straight into a per-thread
+ * buffer that is reused across messages, and reads straight from the received buffer; no
+ * intermediate {@link String} of the message is built. Resolved classes and their type
+ * adapters are cached.
+ */
+public class StreamingJSONSerializer implements InterningSerializer, StreamingSerializer, BufferSerializer {
+
+	private static final StreamingJSONSerializer INSTANCE = new StreamingJSONSerializer();
+	private static final byte HEADER = '!';
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+	private final Gson gson = new Gson();
+	private final ConcurrentHashMap< Class< ? >, byte[] > classNames = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap< ByteBuffer, Class< ? > > classes = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap< Class< ? >, TypeAdapter< ? > > adapters = new ConcurrentHashMap<>();
+	private final ThreadLocal< Utf8Writer > writers = ThreadLocal.withInitial( Utf8Writer::new );
+
+	private StreamingJSONSerializer() {
+	}
+
+	public static StreamingJSONSerializer getInstance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public < M > ByteBuffer fromObject( M o ) {
+		return fromObject( o, null );
+	}
+
+	@Override
+	public < T > T toObject( ByteBuffer b ) {
+		return toObject( b, null );
+	}
+
+	/**
+	 * With a table, a class name sent before is replaced by its decimal id, which cannot be
+	 * mistaken for a class name. Strings within the JSON are left as they are.
+	 */
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public < M > ByteBuffer fromObject( M o, StringTable table ) {
+		Utf8Writer writer = writers.get();
+		writer.reset();
+		try {
+			write( o, writer, table );
+			return writer.toByteBuffer();
+		} finally {
+			writer.trim();
+		}
+	}
+
+	@Override
+	public ByteBuffer writeObject( Object o, ByteBuffer buffer ) {
+		Utf8Writer writer = writers.get();
+		ByteBuffer own = writer.buffer;
+		writer.buffer = buffer;
+		writer.highSurrogate = 0;
+		try {
+			write( o, writer, null );
+			return writer.buffer;
+		} finally {
+			writer.buffer = own;
+		}
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private < M > void write( M o, Utf8Writer writer, StringTable table ) {
+		Class< M > type = (Class< M >) o.getClass();
+		try {
+			int id = table == null ? -1 : table.encode( type.getName() );
+			if( id < 0 ) {
+				writer.putBytes( classNames.computeIfAbsent( type, StreamingJSONSerializer::header ) );
+			} else {
+				writer.write( Integer.toString( id ) );
+				writer.write( HEADER );
+			}
+			JsonWriter json = gson.newJsonWriter( writer );
+			adapter( type ).write( json, o );
+			json.flush();
+		} catch( IOException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public < T > T toObject( ByteBuffer b, StringTable table ) {
+		ByteBuffer in = b.slice();
+		while( in.hasRemaining() && in.get( in.position() ) <= ' ' ) {
+			in.get();
+		}
+		int start = in.position();
+		int end = start;
+		while( end < in.limit() && in.get( end ) != HEADER ) {
+			end++;
+		}
+		if( end == in.limit() ) {
+			throw new IllegalArgumentException( "Missing class header in JSON message" );
+		}
+		ByteBuffer name = in.duplicate().limit( end ).position( start );
+		Class< ? > type;
+		if( table == null ) {
+			type = resolve( name );
+		} else if( start < end && Character.isDigit( in.get( start ) ) ) {
+			int id = Integer.parseInt( StandardCharsets.US_ASCII.decode( name ).toString() );
+			type = resolve( ByteBuffer.wrap( table.decode( id ).getBytes( StandardCharsets.UTF_8 ) ) );
+		} else {
+			type = resolve( name );
+			table.received( type.getName() );
+		}
+		in.position( end + 1 );
+		try {
+			JsonReader json = gson.newJsonReader( new Utf8Reader( in ) );
+			return (T) adapter( type ).read( json );
+		} catch( IOException e ) {
+			throw new RuntimeException( e.getMessage() );
+		}
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public void write( Object o, OutputStream out ) throws IOException {
+		Class< Object > type = (Class< Object >) o.getClass();
+		out.write( classNames.computeIfAbsent( type, StreamingJSONSerializer::header ) );
+		JsonWriter json = gson.newJsonWriter( new OutputStreamWriter( out, StandardCharsets.UTF_8 ) );
+		adapter( type ).write( json, o );
+		json.flush();
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public < M > M read( InputStream in ) throws IOException {
+		ByteArrayOutputStream name = new ByteArrayOutputStream();
+		int c = in.read();
+		while( c >= 0 && c <= ' ' ) {
+			c = in.read();
+		}
+		while( c >= 0 && c != HEADER ) {
+			name.write( c );
+			c = in.read();
+		}
+		if( c < 0 ) {
+			throw new IllegalArgumentException( "Missing class header in JSON message" );
+		}
+		Class< ? > type = resolve( ByteBuffer.wrap( name.toByteArray() ) );
+		JsonReader json = gson.newJsonReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) );
+		return (M) adapter( type ).read( json );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private < M > TypeAdapter< M > adapter( Class< M > type ) {
+		return (TypeAdapter< M >) adapters.computeIfAbsent( type, gson::getAdapter );
+	}
+
+	private Class< ? > resolve( ByteBuffer name ) {
+		Class< ? > type = classes.get( name );
+		if( type == null ) {
+			ByteBuffer key = ByteBuffer.allocate( name.remaining() ).put( name.duplicate() ).flip();
+			String className = StandardCharsets.UTF_8.decode( name ).toString();
+			try {
+				type = Class.forName( className );
+			} catch( ClassNotFoundException e ) {
+				throw new RuntimeException( e.getMessage() );
+			}
+			classes.putIfAbsent( key, type );
+		}
+		return type;
+	}
+
+	private static byte[] header( Class< ? > type ) {
+		byte[] name = type.getName().getBytes( StandardCharsets.UTF_8 );
+		byte[] header = new byte[ name.length + 1 ];
+		System.arraycopy( name, 0, header, 0, name.length );
+		header[ name.length ] = HEADER;
+		return header;
+	}
+
+	/**
+	 * Encodes characters as UTF-8 into a growable buffer.
+	 */
+	private static final class Utf8Writer extends Writer {
+		private ByteBuffer buffer = ByteBuffer.allocate( INITIAL_CAPACITY );
+		private char highSurrogate = 0;
+
+		void reset() {
+			buffer.clear();
+			highSurrogate = 0;
+		}
+
+		void trim() {
+			if( buffer.capacity() > MAX_RETAINED_CAPACITY ) {
+				buffer = ByteBuffer.allocate( INITIAL_CAPACITY );
+			}
+		}
+
+		ByteBuffer toByteBuffer() {
+			ByteBuffer result = ByteBuffer.allocate( buffer.position() );
+			result.put( buffer.array(), 0, buffer.position() );
+			return result.flip();
+		}
+
+		void putBytes( byte[] bytes ) {
+			ensure( bytes.length );
+			buffer.put( bytes );
+		}
+
+		private void ensure( int bytes ) {
+			if( buffer.remaining() < bytes ) {
+				int capacity = Math.max( buffer.capacity() * 2, buffer.position() + bytes );
+				ByteBuffer larger = buffer.isDirect()
+						? ByteBuffer.allocateDirect( capacity )
+						: ByteBuffer.allocate( capacity );
+				larger.put( buffer.flip() );
+				buffer = larger;
+			}
+		}
+
+		@Override
+		public void write( int c ) {
+			put( (char) c );
+		}
+
+		@Override
+		public void write( char[] chars, int offset, int length ) {
+			ensure( length );
+			for( int i = offset; i < offset + length; i++ ) {
+				put( chars[ i ] );
+			}
+		}
+
+		@Override
+		public void write( String s, int offset, int length ) {
+			ensure( length );
+			for( int i = offset; i < offset + length; i++ ) {
+				put( s.charAt( i ) );
+			}
+		}
+
+		private void put( char c ) {
+			if( c < 0x80 && highSurrogate == 0 ) {
+				ensure( 1 );
+				buffer.put( (byte) c );
+			} else if( Character.isHighSurrogate( c ) ) {
+				if( highSurrogate != 0 ) {
+					put3( '?' );
+				}
+				highSurrogate = c;
+			} else if( Character.isLowSurrogate( c ) && highSurrogate != 0 ) {
+				int codePoint = Character.toCodePoint( highSurrogate, c );
+				highSurrogate = 0;
+				ensure( 4 );
+				buffer.put( (byte) ( 0xF0 | ( codePoint >> 18 ) ) )
+						.put( (byte) ( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) ) )
+						.put( (byte) ( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) ) )
+						.put( (byte) ( 0x80 | ( codePoint & 0x3F ) ) );
+			} else {
+				if( highSurrogate != 0 || Character.isLowSurrogate( c ) ) {
+					// unpaired surrogate, replaced as String.getBytes does
+					highSurrogate = 0;
+					put3( '?' );
+					if( Character.isLowSurrogate( c ) ) {
+						return;
+					}
+				}
+				put3( c );
+			}
+		}
+
+		private void put3( char c ) {
+			if( c < 0x80 ) {
+				ensure( 1 );
+				buffer.put( (byte) c );
+			} else if( c < 0x800 ) {
+				ensure( 2 );
+				buffer.put( (byte) ( 0xC0 | ( c >> 6 ) ) )
+						.put( (byte) ( 0x80 | ( c & 0x3F ) ) );
+			} else {
+				ensure( 3 );
+				buffer.put( (byte) ( 0xE0 | ( c >> 12 ) ) )
+						.put( (byte) ( 0x80 | ( ( c >> 6 ) & 0x3F ) ) )
+						.put( (byte) ( 0x80 | ( c & 0x3F ) ) );
+			}
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Decodes UTF-8 characters directly from a buffer.
+	 */
+	private static final class Utf8Reader extends Reader {
+		private final ByteBuffer buffer;
+		private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput( CodingErrorAction.REPLACE )
+				.onUnmappableCharacter( CodingErrorAction.REPLACE );
+		private boolean flushed = false;
+
+		Utf8Reader( ByteBuffer buffer ) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read( char[] chars, int offset, int length ) {
+			if( length == 0 ) {
+				return 0;
+			}
+			if( flushed ) {
+				return -1;
+			}
+			CharBuffer out = CharBuffer.wrap( chars, offset, length );
+			CoderResult result = decoder.decode( buffer, out, true );
+			if( result.isUnderflow() && decoder.flush( out ).isUnderflow() ) {
+				flushed = true;
+			}
+			int read = out.position() - offset;
+			return read == 0 && flushed ? -1 : read;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+}
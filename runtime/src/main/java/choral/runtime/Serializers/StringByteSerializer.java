@@ -44,7 +44,7 @@ public class StringByteSerializer implements ChoralSerializer< String, ByteBuffe
 
 	@Override
 	public < M extends String > M toObject( ByteBuffer byteBuffer ) {
-		return (M) new String( byteBuffer.array(), CHARSET );
+		return (M) CHARSET.decode( byteBuffer ).toString();
 	}
 
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session dictionary of the strings exchanged on one channel, such as class names and
+ * repeated field values. The first time a string is sent it travels verbatim and both
+ * ends give it the next id, so later occurrences travel as that id. Each end applies the
+ * same rule to decide which strings get an id, so the tables stay in sync without
+ * announcing definitions. Strings of one channel direction must be encoded in the order
+ * in which they are transmitted and decoded in the order in which they were received.
+ */
+public class StringTable {
+
+	public static final int DEFAULT_CAPACITY = 4096;
+	public static final int MIN_LENGTH = 4;
+	public static final int MAX_LENGTH = 128;
+
+	private final int capacity;
+	private final Map< String, Integer > sent = new HashMap<>();
+	private final List< String > sentOrder = new ArrayList<>();
+	private final List< String > received = new ArrayList<>();
+
+	public StringTable( int capacity ) {
+		this.capacity = capacity;
+	}
+
+	public StringTable() {
+		this( DEFAULT_CAPACITY );
+	}
+
+	/**
+	 * Returns the id of {@code s}, or -1 if it must be sent verbatim. In the latter case
+	 * {@code s} may get an id for the next messages.
+	 */
+	public synchronized int encode( String s ) {
+		Integer id = sent.get( s );
+		if( id != null ) {
+			return id;
+		}
+		if( interned( s, sent.size() ) ) {
+			sent.put( s, sentOrder.size() );
+			sentOrder.add( s );
+		}
+		return -1;
+	}
+
+	/**
+	 * Records a string received verbatim, mirroring {@link #encode(String)} on the sender.
+	 */
+	public synchronized void received( String s ) {
+		if( interned( s, received.size() ) ) {
+			received.add( s );
+		}
+	}
+
+	public synchronized String decode( int id ) {
+		if( id < 0 || id >= received.size() ) {
+			throw new IllegalStateException( "Undefined string id " + id );
+		}
+		return received.get( id );
+	}
+
+	/**
+	 * The number of strings given an id by the sending side, to be passed to
+	 * {@link #rollback(int)} should the message being encoded not be sent.
+	 */
+	public synchronized int mark() {
+		return sentOrder.size();
+	}
+
+	public synchronized void rollback( int mark ) {
+		while( sentOrder.size() > mark ) {
+			sent.remove( sentOrder.remove( sentOrder.size() - 1 ) );
+		}
+	}
+
+	public synchronized int sentSize() {
+		return sentOrder.size();
+	}
+
+	public synchronized int receivedSize() {
+		return received.size();
+	}
+
+	private boolean interned( String s, int size ) {
+		return size < capacity && s.length() >= MIN_LENGTH && s.length() <= MAX_LENGTH;
+	}
+
+}
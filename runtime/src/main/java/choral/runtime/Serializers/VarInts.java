@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Serializers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 encoding of non-negative ints and longs: 7 bits per byte, high bit set
+ * on every byte but the last.
+ */
+public final class VarInts {
+
+	public static final int MAX_LENGTH = 5;
+	public static final int MAX_LONG_LENGTH = 10;
+
+	private VarInts() {
+	}
+
+	public static void put( ByteBuffer buffer, int value ) {
+		while( ( value & ~0x7F ) != 0 ) {
+			buffer.put( (byte) ( ( value & 0x7F ) | 0x80 ) );
+			value >>>= 7;
+		}
+		buffer.put( (byte) value );
+	}
+
+	public static int get( ByteBuffer buffer ) {
+		int value = 0;
+		for( int shift = 0; shift < 32; shift += 7 ) {
+			byte b = buffer.get();
+			value |= ( b & 0x7F ) << shift;
+			if( b >= 0 ) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException( "Malformed varint" );
+	}
+
+	public static int length( int value ) {
+		int length = 1;
+		while( ( value & ~0x7F ) != 0 ) {
+			value >>>= 7;
+			length++;
+		}
+		return length;
+	}
+
+	public static void putLong( ByteBuffer buffer, long value ) {
+		while( ( value & ~0x7FL ) != 0 ) {
+			buffer.put( (byte) ( ( value & 0x7F ) | 0x80 ) );
+			value >>>= 7;
+		}
+		buffer.put( (byte) value );
+	}
+
+	public static long getLong( ByteBuffer buffer ) {
+		long value = 0;
+		for( int shift = 0; shift < 64; shift += 7 ) {
+			byte b = buffer.get();
+			value |= (long) ( b & 0x7F ) << shift;
+			if( b >= 0 ) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException( "Malformed varlong" );
+	}
+
+	public static int lengthLong( long value ) {
+		int length = 1;
+		while( ( value & ~0x7FL ) != 0 ) {
+			value >>>= 7;
+			length++;
+		}
+		return length;
+	}
+
+}
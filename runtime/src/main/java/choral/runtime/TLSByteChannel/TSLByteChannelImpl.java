@@ -23,34 +23,182 @@ package choral.runtime.TLSByteChannel;
 
 import choral.lang.Unit;
 import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Media.SerialExecutor;
+import choral.runtime.TLSByteChannel.tlschannel.BufferAllocator;
+import choral.runtime.TLSByteChannel.tlschannel.DirectBufferAllocator;
 import choral.runtime.TLSByteChannel.tlschannel.TlsChannel;
+import choral.runtime.TLSByteChannel.tlschannel.TrackingAllocator;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Length-prefixed framing over a {@link TlsChannel}, using the same wire format as
+ * {@link FrameCodec}. Frames are reassembled across TLS records, so payloads of any size
+ * survive intact. Received frames are taken from a {@link BufferAllocator}; a frame
+ * handed back through {@link #release(ByteBuffer)} is kept for the next reception.
+ * A received frame longer than the maximum frame length fails the receive instead of
+ * being allocated.
+ */
 public abstract class TSLByteChannelImpl implements SymByteChannelImpl {
+	private static final int MIN_FRAME_CAPACITY = 4096;
+
 	protected TlsChannel channel;
+	protected final BufferAllocator allocator;
+	private final int maxFrameLength;
+	private final SerialExecutor sendExecutor = new SerialExecutor();
+	private final SerialExecutor recvExecutor = new SerialExecutor();
+	private final ByteBuffer readHeader = ByteBuffer.allocateDirect( FrameCodec.HEADER_LENGTH );
+	private final ByteBuffer writeHeader = ByteBuffer.allocateDirect( FrameCodec.HEADER_LENGTH );
+	private final ReentrantLock readLock = new ReentrantLock();
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final ByteBuffer[] gather = new ByteBuffer[ 2 ];
+	private final AtomicReference< ByteBuffer > spare = new AtomicReference<>();
+
+	/**
+	 * @param maxFrameLength the largest frame, in bytes, accepted from the peer
+	 */
+	protected TSLByteChannelImpl( BufferAllocator allocator, int maxFrameLength ) {
+		if( maxFrameLength < 0 ) {
+			throw new IllegalArgumentException( "Invalid maximum frame length " + maxFrameLength );
+		}
+		this.allocator = allocator;
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	protected TSLByteChannelImpl( BufferAllocator allocator ) {
+		this( allocator, FrameCodec.DEFAULT_MAX_FRAME_LENGTH );
+	}
+
+	protected TSLByteChannelImpl() {
+		this( new TrackingAllocator( new DirectBufferAllocator() ) );
+	}
+
+	public BufferAllocator allocator() {
+		return allocator;
+	}
 
 	@Override
 	public < T extends ByteBuffer > T com( Unit u ) {
 		return this.com();
 	}
 
-	private ByteBuffer recvLoop( ByteBuffer recv ) throws IOException {
-		return channel.read( recv ) != -1 ? recv : recvLoop( recv );
-	}
-
 	@Override
 	public < T extends ByteBuffer > Unit com( T m ) {
 		try {
-			channel.write( m );
+			sendExecutor.call( () -> {
+				send( m );
+				return Unit.id;
+			} );
 		} catch( IOException e ) {
 			e.printStackTrace();
 		}
 		return Unit.id;
 	}
 
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< Unit > comAsync( T m ) {
+		return sendExecutor.submit( () -> {
+			send( m );
+			return Unit.id;
+		} );
+	}
+
+	@Override
+	public void writeFrames( ByteBuffer frames ) throws IOException {
+		sendExecutor.call( () -> {
+			writeLock.lock();
+			try {
+				FrameCodec.writeFully( channel, frames );
+			} finally {
+				writeLock.unlock();
+			}
+			return Unit.id;
+		} );
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< T > comAsync() {
+		return recvExecutor.submit( () -> (T) recv() );
+	}
+
+	private void send( ByteBuffer m ) throws IOException {
+		writeLock.lock();
+		try {
+			writeHeader.clear();
+			writeHeader.putInt( m.remaining() ).flip();
+			gather[ 0 ] = writeHeader;
+			gather[ 1 ] = m;
+			try {
+				FrameCodec.writeFully( channel, gather );
+			} finally {
+				gather[ 1 ] = null;
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private ByteBuffer recv() throws IOException {
+		readLock.lock();
+		try {
+			readHeader.clear();
+			FrameCodec.readFully( channel, readHeader );
+			int length = readHeader.flip().getInt();
+			FrameCodec.checkFrameLength( length, maxFrameLength );
+			ByteBuffer frame = frameBuffer( length );
+			try {
+				FrameCodec.readFully( channel, frame );
+			} catch( IOException e ) {
+				release( frame );
+				throw e;
+			}
+			return frame.flip();
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	private ByteBuffer frameBuffer( int length ) {
+		ByteBuffer buffer = spare.getAndSet( null );
+		if( buffer != null ) {
+			if( buffer.capacity() >= length ) {
+				buffer.clear().limit( length );
+				return buffer;
+			}
+			// too small: dropped, as buffers handed out by com() are never freed
+		}
+		buffer = allocator.allocate( frameCapacity( length ) );
+		buffer.limit( length );
+		return buffer;
+	}
+
+	private static int frameCapacity( int length ) {
+		if( length <= MIN_FRAME_CAPACITY ) {
+			return MIN_FRAME_CAPACITY;
+		}
+		int capacity = Integer.highestOneBit( length - 1 ) << 1;
+		return capacity > 0 ? capacity : length;
+	}
+
+	/**
+	 * Hands back a buffer returned by {@code com()}, which is kept for the next frame
+	 * unless a buffer is kept already. Buffers are never freed through the allocator, as
+	 * freeing a direct buffer that is still referenced somewhere would expose released
+	 * native memory; those that are not kept are reclaimed by the garbage collector.
+	 */
+	@Override
+	public void release( ByteBuffer buffer ) {
+		if( buffer != null ) {
+			spare.compareAndSet( null, buffer );
+		}
+	}
+
 	@Override
 	public ByteChannel byteChannel() {
 		return this.channel;
@@ -59,8 +207,7 @@ public abstract class TSLByteChannelImpl implements SymByteChannelImpl {
 	@Override
 	public < T extends ByteBuffer > T com() {
 		try {
-			int BUFFER_SIZE = 4096;
-			return (T) recvLoop( ByteBuffer.allocate( BUFFER_SIZE ) );
+			return recvExecutor.call( () -> (T) recv() );
 		} catch( IOException e ) {
 			throw new RuntimeException( e.getMessage() );
 		}
@@ -24,6 +24,8 @@ package choral.runtime.TLSByteChannel;
 import choral.channels.DiDataChannel_A;
 import choral.channels.DiDataChannel_B;
 import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.TLSByteChannel.tlschannel.BufferAllocator;
 import choral.runtime.TLSByteChannel.tlschannel.ServerTlsChannel;
 
 import javax.net.ssl.SSLContext;
@@ -46,4 +48,17 @@ public class TSLByteChannel_B extends TSLByteChannelImpl implements
 				.build();
 	}
 
+	public TSLByteChannel_B( ByteChannel channel, SSLContext sslContext, BufferAllocator allocator ) {
+		this( channel, sslContext, allocator, FrameCodec.DEFAULT_MAX_FRAME_LENGTH );
+	}
+
+	public TSLByteChannel_B(
+			ByteChannel channel, SSLContext sslContext, BufferAllocator allocator, int maxFrameLength
+	) {
+		super( allocator, maxFrameLength );
+		this.channel = ServerTlsChannel
+				.newBuilder( channel, sslContext )
+				.build();
+	}
+
 }
@@ -21,6 +21,8 @@
 
 package choral.runtime.TLSByteChannel.tlschannel.impl;
 
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Events.TlsHandshakeEvent;
 import choral.runtime.TLSByteChannel.tlschannel.*;
 import choral.runtime.TLSByteChannel.tlschannel.util.TlsChannelCallbackException;
 import choral.runtime.TLSByteChannel.tlschannel.util.Util;
@@ -103,6 +105,7 @@ public class TlsChannelImpl implements ByteChannel {
 	private final TrackingAllocator encryptedBufAllocator;
 	private final TrackingAllocator plainBufAllocator;
 	private final boolean waitForCloseConfirmation;
+	private final String eventName = ChannelEvent.name( "TlsChannel" );
 
 	// @formatter:off
 	public TlsChannelImpl(
@@ -511,9 +514,23 @@ public class TlsChannelImpl implements ByteChannel {
 			throw new ClosedChannelException();
 		try {
 			if( force || !negotiated ) {
-				engine.beginHandshake();
-//				logger.trace("Called engine.beginHandshake()");
-				handshake( Optional.empty(), Optional.empty() );
+				TlsHandshakeEvent event = new TlsHandshakeEvent();
+				event.begin();
+				try {
+					engine.beginHandshake();
+//					logger.trace("Called engine.beginHandshake()");
+					handshake( Optional.empty(), Optional.empty() );
+					event.succeeded = true;
+				} finally {
+					if( event.shouldCommit() ) {
+						event.channel = eventName;
+						event.clientMode = engine.getUseClientMode();
+						event.renegotiation = force;
+						event.protocol = engine.getSession().getProtocol();
+						event.cipherSuite = engine.getSession().getCipherSuite();
+						event.commit();
+					}
+				}
 				// call client code
 				try {
 					initSessionCallback.accept( engine.getSession() );
@@ -23,14 +23,22 @@ package choral.runtime.TLSChannel;
 
 import choral.channels.SymChannelImpl;
 import choral.lang.Unit;
+import choral.runtime.Events.ComReceiveEvent;
+import choral.runtime.Events.ComSendEvent;
+import choral.runtime.Events.SelectReceiveEvent;
+import choral.runtime.Events.SelectSendEvent;
 import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.SelectionCodec;
 import choral.runtime.TLSByteChannel.TSLByteChannelImpl;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class TLSChannelImpl< T > implements SymChannelImpl< T > {
 	protected TSLByteChannelImpl channel;
 	protected ChoralSerializer< Object, ByteBuffer > serializer;
+	protected String name; // of the channel in its events
+	protected final SelectionCodec selectionCodec = new SelectionCodec();
 
 	@Override
 	public < M extends T > M com( Unit u ) {
@@ -39,12 +47,26 @@ public abstract class TLSChannelImpl< T > implements SymChannelImpl< T > {
 
 	@Override
 	public < M extends T > Unit com( M m ) {
-		return channel.com( serializer.fromObject( m ) );
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		ByteBuffer b = serializer.fromObject( m );
+		event.bytes = b.remaining();
+		Unit u = channel.com( b );
+		event.emit( name, m );
+		return u;
 	}
 
 	@Override
 	public < M extends Enum< M > > Unit select( M m ) {
-		return channel.com( serializer.fromObject( m ) );
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = selectionCodec.encode( m );
+		event.bytes = b.remaining();
+		Unit u = channel.com( b );
+		selectionCodec.sent( m );
+		event.label = m.name();
+		event.emit( name, m );
+		return u;
 	}
 
 	@Override
@@ -54,11 +76,93 @@ public abstract class TLSChannelImpl< T > implements SymChannelImpl< T > {
 
 	@Override
 	public < S extends T > S com() {
-		return serializer.toObject( channel.com() );
+		ComReceiveEvent event = new ComReceiveEvent();
+		event.begin();
+		ByteBuffer b = channel.com();
+		event.bytes = b.remaining();
+		S s = deserialize( b );
+		event.emit( name, s );
+		return s;
 	}
 
 	@Override
 	public < T extends Enum< T > > T select() {
-		return serializer.toObject( channel.com() );
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		event.begin();
+		ByteBuffer b = channel.com();
+		event.bytes = b.remaining();
+		T t = decodeSelection( b );
+		event.label = t.name();
+		event.emit( name, t );
+		return t;
+	}
+
+	private < S extends T > S deserialize( ByteBuffer buffer ) {
+		S s = serializer.toObject( buffer );
+		channel.release( buffer );
+		return s;
+	}
+
+	private < E extends Enum< E > > E decodeSelection( ByteBuffer buffer ) {
+		E e = selectionCodec.decode( buffer );
+		channel.release( buffer );
+		return e;
+	}
+
+	/**
+	 * The {@link ComSendEvent} of an asynchronous send covers serialization but not the write.
+	 */
+	@Override
+	public < M extends T > CompletableFuture< Unit > comAsync( M m ) {
+		ComSendEvent event = new ComSendEvent();
+		event.begin();
+		ByteBuffer b = serializer.fromObject( m );
+		event.bytes = b.remaining();
+		CompletableFuture< Unit > sent = channel.comAsync( b );
+		event.emit( name, m );
+		return sent;
+	}
+
+	@Override
+	public < S extends T > CompletableFuture< S > comAsync() {
+		ComReceiveEvent event = new ComReceiveEvent();
+		if( !event.isEnabled() ) {
+			return channel.comAsync().thenApply( this::deserialize );
+		}
+		event.begin();
+		return channel.comAsync().thenApply( b -> {
+			event.bytes = b.remaining();
+			S s = deserialize( b );
+			event.emit( name, s );
+			return s;
+		} );
+	}
+
+	@Override
+	public < M extends Enum< M > > CompletableFuture< Unit > selectAsync( M m ) {
+		SelectSendEvent event = new SelectSendEvent();
+		event.begin();
+		ByteBuffer b = selectionCodec.encode( m );
+		event.bytes = b.remaining();
+		CompletableFuture< Unit > sent = selectionCodec.sent( m, channel.comAsync( b ) );
+		event.label = m.name();
+		event.emit( name, m );
+		return sent;
+	}
+
+	@Override
+	public < E extends Enum< E > > CompletableFuture< E > selectAsync() {
+		SelectReceiveEvent event = new SelectReceiveEvent();
+		if( !event.isEnabled() ) {
+			return channel.comAsync().thenApply( this::decodeSelection );
+		}
+		event.begin();
+		return channel.comAsync().thenApply( b -> {
+			event.bytes = b.remaining();
+			E e = decodeSelection( b );
+			event.label = e.name();
+			event.emit( name, e );
+			return e;
+		} );
 	}
 }
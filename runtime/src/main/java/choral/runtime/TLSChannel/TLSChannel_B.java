@@ -22,6 +22,7 @@
 package choral.runtime.TLSChannel;
 
 import choral.channels.SymChannel_B;
+import choral.runtime.Events.ChannelEvent;
 import choral.runtime.Serializers.ChoralSerializer;
 import choral.runtime.TLSByteChannel.TSLByteChannelImpl;
 
@@ -31,9 +32,20 @@ public class TLSChannel_B< T > extends TLSChannelImpl< T > implements SymChannel
 
 	public TLSChannel_B(
 			TSLByteChannelImpl channel, ChoralSerializer< Object, ByteBuffer > serializer
+	) {
+		this( channel, serializer, ChannelEvent.name( "TLSChannel" ) );
+	}
+
+	/**
+	 * @param name the name of the channel in its events, shared by both ends, see
+	 *             {@link ChannelEvent#name(String)}
+	 */
+	public TLSChannel_B(
+			TSLByteChannelImpl channel, ChoralSerializer< Object, ByteBuffer > serializer, String name
 	) {
 		this.channel = channel;
 		this.serializer = serializer;
+		this.name = name;
 	}
 
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The trace id of the choreography invocation the current thread is working on.
+ * {@link TracingByteChannel}s stamp it on every frame they send, and a thread that
+ * receives a traced frame adopts its id, so that the id follows the invocation across
+ * roles. Zero means untraced.
+ */
+public final class TraceContext {
+
+	private static final ThreadLocal< long[] > CURRENT = ThreadLocal.withInitial( () -> new long[ 1 ] );
+
+	private TraceContext() {
+	}
+
+	public static long current() {
+		return CURRENT.get()[ 0 ];
+	}
+
+	public static void set( long trace ) {
+		CURRENT.get()[ 0 ] = trace;
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Returns a fresh, non-zero trace id.
+	 */
+	public static long newTrace() {
+		long trace;
+		do {
+			trace = ThreadLocalRandom.current().nextLong() >>> 1;
+		} while( trace == 0 );
+		return trace;
+	}
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Tracing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Merges the dumps of the {@link TraceRecorder}s of all roles into a single timeline and
+ * reports, for every traced invocation, its critical path: the chain of local computation
+ * and message transfers that determined its duration.
+ * <p>
+ * Usage: {@code TraceMerge [--timeline] <dump>...}
+ * <p>
+ * The path is reconstructed backwards from the last message event of the invocation. A
+ * receive whose message was sent after the receiver had started waiting for it continues
+ * the path at the matching send, in the sender; any other event continues it at the
+ * previous event of the same role. Messages are matched on trace id, channel, sender and
+ * sequence number; the sender of a receive is the other role that used the same channel.
+ */
+public class TraceMerge {
+
+	static final class Event {
+
+		final String role;
+		final byte kind;
+		final long time;
+		final long wait;
+		final long trace;
+		final String channel;
+		final long sequence;
+		final int bytes;
+		Event previous;
+		Event peer;
+
+		Event( String role, byte kind, long time, long wait, long trace, String channel, long sequence, int bytes ) {
+			this.role = role;
+			this.kind = kind;
+			this.time = time;
+			this.wait = wait;
+			this.trace = trace;
+			this.channel = channel;
+			this.sequence = sequence;
+			this.bytes = bytes;
+		}
+
+		boolean isSend() {
+			return kind == TraceRecorder.SEND;
+		}
+
+		/**
+		 * Whether the receiver was blocked on this message, i.e., it was sent after the
+		 * receiver started waiting.
+		 */
+		boolean waitedOnPeer() {
+			return !isSend() && peer != null && peer.time > time - wait;
+		}
+
+	}
+
+	private final List< Event > events = new ArrayList<>();
+
+	public static void main( String[] args ) throws IOException {
+		boolean timeline = false;
+		List< Path > dumps = new ArrayList<>();
+		for( String arg : args ) {
+			if( arg.equals( "--timeline" ) ) {
+				timeline = true;
+			} else {
+				dumps.add( Path.of( arg ) );
+			}
+		}
+		if( dumps.isEmpty() ) {
+			System.err.println( "Usage: TraceMerge [--timeline] <dump>..." );
+			System.exit( 1 );
+		}
+		TraceMerge merge = new TraceMerge();
+		for( Path dump : dumps ) {
+			merge.read( dump );
+		}
+		merge.link();
+		if( timeline ) {
+			merge.printTimeline( System.out );
+		}
+		merge.printCriticalPaths( System.out );
+	}
+
+	public void read( Path dump ) throws IOException {
+		try( BufferedReader reader = Files.newBufferedReader( dump, StandardCharsets.UTF_8 ) ) {
+			String line = reader.readLine();
+			if( !TraceRecorder.FORMAT.equals( line ) ) {
+				throw new IOException( dump + " is not a trace dump" );
+			}
+			String role = null;
+			while( ( line = reader.readLine() ) != null ) {
+				String[] fields = line.split( "\t" );
+				if( fields[ 0 ].equals( "# role" ) ) {
+					role = fields[ 1 ];
+				} else if( !line.startsWith( "#" ) && !line.isEmpty() ) {
+					if( fields.length != 7 || role == null ) {
+						throw new IOException( "Malformed line in " + dump + ": " + line );
+					}
+					events.add( new Event(
+							role,
+							(byte) fields[ 0 ].charAt( 0 ),
+							Long.parseLong( fields[ 1 ] ),
+							Long.parseLong( fields[ 2 ] ),
+							Long.parseUnsignedLong( fields[ 3 ], 16 ),
+							fields[ 4 ],
+							Long.parseLong( fields[ 5 ] ),
+							Integer.parseInt( fields[ 6 ] ) ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Orders the events, chains those of each role and matches every receive with its send.
+	 */
+	public void link() {
+		events.sort( Comparator.comparingLong( e -> e.time ) );
+		Map< String, Set< String > > participants = new HashMap<>();
+		Map< String, Event > lastByRole = new HashMap<>();
+		Map< String, Event > sends = new HashMap<>();
+		for( Event e : events ) {
+			participants.computeIfAbsent( e.channel, c -> new TreeSet<>() ).add( e.role );
+			e.previous = lastByRole.put( e.role, e );
+			if( e.isSend() ) {
+				sends.put( key( e.trace, e.channel, e.role, e.sequence ), e );
+			}
+		}
+		for( Event e : events ) {
+			if( e.isSend() ) {
+				continue;
+			}
+			for( String sender : participants.get( e.channel ) ) {
+				Event send = sender.equals( e.role ) ? null : sends.get( key( e.trace, e.channel, sender, e.sequence ) );
+				if( send != null ) {
+					e.peer = send;
+					send.peer = e;
+					break;
+				}
+			}
+		}
+	}
+
+	public void printTimeline( PrintStream out ) {
+		if( events.isEmpty() ) {
+			return;
+		}
+		long origin = events.get( 0 ).time;
+		out.println( "Timeline" );
+		for( Event e : events ) {
+			StringBuilder line = new StringBuilder();
+			line.append( String.format( "%12s  %-12s %s %-16s #%-6d trace %016x %8d B",
+					millis( e.time - origin ), e.role, e.isSend() ? "send" : "recv",
+					e.channel, e.sequence, e.trace, e.bytes ) );
+			if( !e.isSend() ) {
+				line.append( "  waited " ).append( millis( e.wait ) );
+				if( e.peer != null ) {
+					line.append( "  from " ).append( e.peer.role )
+							.append( " after " ).append( millis( e.time - e.peer.time ) );
+				}
+			}
+			out.println( line );
+		}
+		out.println();
+	}
+
+	public void printCriticalPaths( PrintStream out ) {
+		Map< Long, List< Event > > byTrace = new TreeMap<>( Long::compareUnsigned );
+		for( Event e : events ) {
+			if( e.trace != 0 ) {
+				byTrace.computeIfAbsent( e.trace, t -> new ArrayList<>() ).add( e );
+			}
+		}
+		for( Map.Entry< Long, List< Event > > entry : byTrace.entrySet() ) {
+			printCriticalPath( out, entry.getKey(), entry.getValue() );
+		}
+	}
+
+	private void printCriticalPath( PrintStream out, long trace, List< Event > traced ) {
+		Event first = traced.get( 0 );
+		Event last = traced.get( traced.size() - 1 );
+		Map< String, Long > computeByRole = new LinkedHashMap<>();
+		Map< String, Long > transferByChannel = new LinkedHashMap<>();
+		List< String > steps = new ArrayList<>();
+		Event current = last;
+		long pathStart = last.time;
+		while( current != null ) {
+			pathStart = current.time;
+			Event next;
+			if( current.waitedOnPeer() ) {
+				next = current.peer;
+				long transfer = current.time - next.time;
+				transferByChannel.merge( next.role + " -> " + current.role + " (" + current.channel + ")", transfer, Long::sum );
+				steps.add( String.format( "%12s  transfer %s -> %s on %s #%d",
+						millis( transfer ), next.role, current.role, current.channel, current.sequence ) );
+			} else {
+				next = previous( current, trace );
+				if( next != null ) {
+					long compute = current.time - next.time;
+					computeByRole.merge( current.role, compute, Long::sum );
+					steps.add( String.format( "%12s  compute  %s", millis( compute ), current.role ) );
+				}
+			}
+			current = next;
+		}
+		out.printf( "Trace %016x: %d events, span %s, critical path %s%n",
+				trace, traced.size(), millis( last.time - first.time ), millis( last.time - pathStart ) );
+		print( out, "compute", computeByRole );
+		print( out, "transfer", transferByChannel );
+		out.println( "  path (latest first):" );
+		for( String step : steps ) {
+			out.println( "  " + step );
+		}
+		out.println();
+	}
+
+	/**
+	 * Returns the event of the same role and invocation that precedes {@code e}.
+	 */
+	private static Event previous( Event e, long trace ) {
+		Event p = e.previous;
+		while( p != null && p.trace != trace ) {
+			p = p.previous;
+		}
+		return p;
+	}
+
+	private static void print( PrintStream out, String label, Map< String, Long > nanos ) {
+		List< Map.Entry< String, Long > > sorted = new ArrayList<>( nanos.entrySet() );
+		sorted.sort( Map.Entry.< String, Long >comparingByValue().reversed() );
+		for( Map.Entry< String, Long > entry : sorted ) {
+			out.printf( "  %-8s %12s  %s%n", label, millis( entry.getValue() ), entry.getKey() );
+		}
+	}
+
+	private static String key( long trace, String channel, String role, long sequence ) {
+		return Long.toHexString( trace ) + '\t' + channel + '\t' + role + '\t' + sequence;
+	}
+
+	private static String millis( long nanos ) {
+		return String.format( "%.3f ms", nanos / 1e6 );
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the sends and receives of one role into a ring buffer allocated upfront, so
+ * that recording allocates nothing and the most recent {@link #capacity()} events are
+ * always available. Dump it with {@link #dump(Path)} and merge the dumps of all roles
+ * with {@link TraceMerge}.
+ * <p>
+ * Timestamps are wall-clock nanoseconds, so that dumps taken on different hosts can be
+ * merged as long as their clocks are synchronised. Events recorded while a dump is in
+ * progress may or may not be part of it; a dump skips the events still being written, or
+ * overwritten while it reads them, rather than mixing the fields of two events.
+ */
+public class TraceRecorder {
+
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+	public static final String FORMAT = "# choral-trace 1";
+
+	static final byte SEND = 'S';
+	static final byte RECEIVE = 'R';
+
+	private static final long EPOCH_OFFSET = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+
+	private final String role;
+	private final int mask;
+	private final byte[] kinds;
+	private final long[] times;
+	private final long[] waits;
+	private final long[] traces;
+	private final long[] sequences;
+	private final int[] channels;
+	private final int[] sizes;
+	// 1 + the index of the event in each slot, published after its fields; 0 while written
+	private final AtomicLongArray stamps;
+	private final AtomicLong next = new AtomicLong();
+	private final Map< String, Integer > channelIds = new ConcurrentHashMap<>();
+	private final List< String > channelNames = new ArrayList<>();
+
+	/**
+	 * @param capacity the number of events retained, rounded up to a power of two
+	 */
+	public TraceRecorder( String role, int capacity ) {
+		if( capacity <= 0 ) {
+			throw new IllegalArgumentException( "Invalid capacity " + capacity );
+		}
+		int size = Integer.highestOneBit( capacity );
+		if( size < capacity ) {
+			size <<= 1;
+		}
+		this.role = role;
+		this.mask = size - 1;
+		this.kinds = new byte[ size ];
+		this.times = new long[ size ];
+		this.waits = new long[ size ];
+		this.traces = new long[ size ];
+		this.sequences = new long[ size ];
+		this.channels = new int[ size ];
+		this.sizes = new int[ size ];
+		this.stamps = new AtomicLongArray( size );
+	}
+
+	public TraceRecorder( String role ) {
+		this( role, DEFAULT_CAPACITY );
+	}
+
+	public String role() {
+		return role;
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Returns the number of events recorded so far, including those overwritten.
+	 */
+	public long recorded() {
+		return next.get();
+	}
+
+	/**
+	 * Returns the wall-clock time in nanoseconds used for the timestamps of the events.
+	 */
+	public static long now() {
+		return EPOCH_OFFSET + System.nanoTime();
+	}
+
+	/**
+	 * Returns the id under which events on the channel named {@code name} are recorded.
+	 * Both ends of a channel must use the same name.
+	 */
+	int channel( String name ) {
+		return channelIds.computeIfAbsent( name, n -> {
+			synchronized( channelNames ) {
+				channelNames.add( n );
+				return channelNames.size() - 1;
+			}
+		} );
+	}
+
+	void sent( int channel, long trace, long sequence, int bytes ) {
+		record( SEND, now(), 0, trace, channel, sequence, bytes );
+	}
+
+	/**
+	 * @param waitStart when the role started waiting for the message, see {@link #now()}
+	 */
+	void received( int channel, long trace, long sequence, int bytes, long waitStart ) {
+		long time = now();
+		record( RECEIVE, time, time - waitStart, trace, channel, sequence, bytes );
+	}
+
+	private void record( byte kind, long time, long wait, long trace, int channel, long sequence, int bytes ) {
+		long index = next.getAndIncrement();
+		int slot = (int) ( index & mask );
+		stamps.set( slot, 0 );
+		VarHandle.storeStoreFence();
+		times[ slot ] = time;
+		waits[ slot ] = wait;
+		traces[ slot ] = trace;
+		sequences[ slot ] = sequence;
+		channels[ slot ] = channel;
+		sizes[ slot ] = bytes;
+		kinds[ slot ] = kind;
+		stamps.lazySet( slot, index + 1 );
+	}
+
+	/**
+	 * Writes the retained events, oldest first, as tab-separated lines.
+	 */
+	public void dump( Writer writer ) throws IOException {
+		long end = next.get();
+		long start = Math.max( 0, end - capacity() );
+		String[] names;
+		synchronized( channelNames ) {
+			names = channelNames.toArray( new String[ 0 ] );
+		}
+		writer.write( FORMAT + "\n" );
+		writer.write( "# role\t" + role + "\n" );
+		writer.write( "# kind\ttime\twait\ttrace\tchannel\tsequence\tbytes\n" );
+		for( long i = start; i < end; i++ ) {
+			int slot = (int) ( i & mask );
+			if( stamps.get( slot ) != i + 1 ) {
+				continue;
+			}
+			byte kind = kinds[ slot ];
+			long time = times[ slot ];
+			long wait = waits[ slot ];
+			long trace = traces[ slot ];
+			int channel = channels[ slot ];
+			long sequence = sequences[ slot ];
+			int size = sizes[ slot ];
+			VarHandle.loadLoadFence();
+			if( stamps.get( slot ) != i + 1 ) {
+				// overwritten while read
+				continue;
+			}
+			writer.write( (char) kind );
+			writer.write( '\t' + Long.toString( time ) );
+			writer.write( '\t' + Long.toString( wait ) );
+			writer.write( '\t' + Long.toHexString( trace ) );
+			writer.write( '\t' + names[ channel ] );
+			writer.write( '\t' + Long.toString( sequence ) );
+			writer.write( '\t' + Integer.toString( size ) );
+			writer.write( '\n' );
+		}
+	}
+
+	public void dump( Path file ) throws IOException {
+		try( BufferedWriter writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 ) ) {
+			dump( writer );
+		}
+	}
+
+	/**
+	 * Forgets the recorded events.
+	 */
+	public void reset() {
+		for( int slot = 0; slot <= mask; slot++ ) {
+			stamps.set( slot, 0 );
+		}
+		next.set( 0 );
+	}
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2019 by Saverio Giallorenzo <saverio.giallorenzo@gmail.com>
+ * Copyright (C) 2019 by Fabrizio Montesi <famontesi@gmail.com>
+ * Copyright (C) 2019 by Marco Peressotti <marco.peressotti@gmail.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Library General Public License as
+ * published by the Free Software Foundation; either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this program; if not, write to the
+ * Free Software Foundation, Inc.,
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ */
+
+package choral.runtime.Tracing;
+
+import choral.lang.Unit;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Serializers.BufferSerializer;
+import choral.runtime.Serializers.VarInts;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prefixes every message with the {@link TraceContext trace id} of the sender and a
+ * per-direction sequence number, and records sends and receives in a
+ * {@link TraceRecorder}. The prefix takes two varlongs, at most {@link #MAX_HEADER_LENGTH}
+ * bytes. Both ends of the channel must be traced, under the same name.
+ * <p>
+ * Every message goes out through {@link #com(Object, BufferSerializer)} of the underlying
+ * channel: the prefix is written into the outbound frame buffer, followed by the output of
+ * the serializer or, for a message that is already a buffer, by a copy of it.
+ * <p>
+ * A blocking receive adopts the trace id of the message for the receiving thread. An
+ * asynchronous one adopts it only while the dependent stages registered before the
+ * message arrives run; the thread that completes it keeps its own id afterwards.
+ */
+public class TracingByteChannel implements SymByteChannelImpl, Flushable {
+
+	public static final int MAX_HEADER_LENGTH = 2 * VarInts.MAX_LONG_LENGTH;
+
+	private final SymByteChannelImpl channel;
+	private final TraceRecorder recorder;
+	private final int channelId;
+	private final AtomicLong sequence = new AtomicLong();
+
+	public TracingByteChannel( SymByteChannelImpl channel, TraceRecorder recorder, String name ) {
+		this.channel = channel;
+		this.recorder = recorder;
+		this.channelId = recorder.channel( name );
+	}
+
+	/**
+	 * Returns {@code channel} itself if {@code recorder} is {@code null}, i.e., tracing is
+	 * disabled.
+	 */
+	public static SymByteChannelImpl instrument( SymByteChannelImpl channel, TraceRecorder recorder, String name ) {
+		return recorder == null ? channel : new TracingByteChannel( channel, recorder, name );
+	}
+
+	@Override
+	public < T extends ByteBuffer > Unit com( T m ) {
+		return channel.com( m, stamping( COPY ) );
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< Unit > comAsync( T m ) {
+		return channel.comAsync( m, stamping( COPY ) );
+	}
+
+	@Override
+	public Unit com( Object m, BufferSerializer serializer ) {
+		return channel.com( m, stamping( serializer ) );
+	}
+
+	@Override
+	public CompletableFuture< Unit > comAsync( Object m, BufferSerializer serializer ) {
+		return channel.comAsync( m, stamping( serializer ) );
+	}
+
+	@Override
+	public < T extends ByteBuffer > T com( Unit u ) {
+		return com();
+	}
+
+	@Override
+	public < T extends ByteBuffer > T com() {
+		long waitStart = TraceRecorder.now();
+		T t = channel.com();
+		long trace = unstamp( t, waitStart );
+		if( trace != 0 ) {
+			TraceContext.set( trace );
+		}
+		return t;
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< T > comAsync() {
+		long waitStart = TraceRecorder.now();
+		CompletableFuture< T > received = new CompletableFuture<>();
+		channel.< T >comAsync().whenComplete( ( t, e ) -> {
+			if( e != null ) {
+				received.completeExceptionally( e );
+				return;
+			}
+			long trace;
+			try {
+				trace = unstamp( t, waitStart );
+			} catch( RuntimeException x ) {
+				received.completeExceptionally( x );
+				return;
+			}
+			long previous = TraceContext.current();
+			TraceContext.set( trace == 0 ? previous : trace );
+			try {
+				received.complete( t );
+			} finally {
+				TraceContext.set( previous );
+			}
+		} );
+		return received;
+	}
+
+	@Override
+	public void release( ByteBuffer buffer ) {
+		channel.release( buffer );
+	}
+
+	@Override
+	public ByteChannel byteChannel() {
+		return channel.byteChannel();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if( channel instanceof Flushable ) {
+			( (Flushable) channel ).flush();
+		}
+	}
+
+	/**
+	 * Writes a message that is already serialized, a {@link ByteBuffer}, into the frame.
+	 */
+	private static final BufferSerializer COPY = ( o, buffer ) -> {
+		ByteBuffer m = ( (ByteBuffer) o ).duplicate();
+		return reserve( buffer, m.remaining() ).put( m );
+	};
+
+	/**
+	 * Returns {@code buffer}, or a larger copy of it, with room for {@code bytes} after its
+	 * position and its limit at its capacity.
+	 */
+	private static ByteBuffer reserve( ByteBuffer buffer, int bytes ) {
+		if( buffer.capacity() - buffer.position() < bytes ) {
+			ByteBuffer larger = ByteBuffer.allocate( buffer.position() + bytes + buffer.capacity() );
+			buffer.flip();
+			buffer = larger.put( buffer );
+		}
+		return buffer.limit( buffer.capacity() );
+	}
+
+	private BufferSerializer stamping( BufferSerializer serializer ) {
+		long trace = TraceContext.current();
+		long seq = sequence.getAndIncrement();
+		return ( o, buffer ) -> {
+			buffer = reserve( buffer, MAX_HEADER_LENGTH );
+			VarInts.putLong( buffer, trace );
+			VarInts.putLong( buffer, seq );
+			int start = buffer.position();
+			ByteBuffer filled = serializer.writeObject( o, buffer );
+			recorder.sent( channelId, trace, seq, filled.position() - start );
+			return filled;
+		};
+	}
+
+	/**
+	 * Consumes the prefix of {@code t}, records its reception and returns its trace id.
+	 */
+	private long unstamp( ByteBuffer t, long waitStart ) {
+		long trace = VarInts.getLong( t );
+		long seq = VarInts.getLong( t );
+		recorder.received( channelId, trace, seq, t.remaining(), waitStart );
+		return trace;
+	}
+
+}
@@ -24,17 +24,39 @@ package choral.runtime.WrapperByteChannel;
 import choral.lang.Unit;
 import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
 import choral.runtime.Media.BlockingByteChannel;
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Media.SerialExecutor;
+import choral.runtime.Serializers.BufferSerializer;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 public class WrapperByteChannelImpl implements SymByteChannelImpl {
 
 	private final BlockingByteChannel channel;
+	private final FrameCodec codec;
+	private final SerialExecutor sendExecutor = new SerialExecutor();
+	private final SerialExecutor recvExecutor = new SerialExecutor();
+	private volatile int frameSizeHint = 256;
 
 	public WrapperByteChannelImpl( BlockingByteChannel channel ) {
+		this( channel, ByteBufferPool.getDefault() );
+	}
+
+	public WrapperByteChannelImpl( BlockingByteChannel channel, ByteBufferPool pool ) {
+		this( channel, pool, FrameCodec.DEFAULT_MAX_FRAME_LENGTH );
+	}
+
+	/**
+	 * @param maxFrameLength the largest frame, in bytes, accepted from the peer; see
+	 *                       {@link FrameCodec#readFrame()}
+	 */
+	public WrapperByteChannelImpl( BlockingByteChannel channel, ByteBufferPool pool, int maxFrameLength ) {
 		this.channel = channel;
+		this.codec = new FrameCodec( channel, pool, maxFrameLength );
 	}
 
 	@Override
@@ -45,12 +67,7 @@ public class WrapperByteChannelImpl implements SymByteChannelImpl {
 	@Override
 	public < T extends ByteBuffer > T com() {
 		try {
-			synchronized( channel ) {
-				int transmissionLength = channel.recvTransmissionLength();
-				ByteBuffer recv = ByteBuffer.allocate( transmissionLength );
-				channel.read( recv );
-				return (T) recv;
-			}
+			return recvExecutor.call( () -> (T) codec.readFrame() );
 		} catch( IOException e ) {
 			throw new RuntimeException( e.getMessage() );
 		}
@@ -59,16 +76,87 @@ public class WrapperByteChannelImpl implements SymByteChannelImpl {
 	@Override
 	public < T extends ByteBuffer > Unit com( T m ) {
 		try {
-			synchronized( channel ) {
-				channel.sendTransmissionLength( m.limit() );
-				channel.write( m );
-			}
+			sendExecutor.call( () -> {
+				codec.writeFrame( m );
+				return Unit.id;
+			} );
+		} catch( IOException e ) {
+			e.printStackTrace();
+		}
+		return Unit.id;
+	}
+
+	/**
+	 * The caller must not modify {@code m} until the returned future completes.
+	 */
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< Unit > comAsync( T m ) {
+		return sendExecutor.submit( () -> {
+			codec.writeFrame( m );
+			return Unit.id;
+		} );
+	}
+
+	@Override
+	public Unit com( Object m, BufferSerializer serializer ) {
+		ByteBuffer frame = encode( m, serializer );
+		try {
+			sendExecutor.call( () -> {
+				codec.writeSealedFrame( frame );
+				return Unit.id;
+			} );
 		} catch( IOException e ) {
 			e.printStackTrace();
 		}
 		return Unit.id;
 	}
 
+	@Override
+	public CompletableFuture< Unit > comAsync( Object m, BufferSerializer serializer ) {
+		ByteBuffer frame = encode( m, serializer );
+		return sendExecutor.submit( () -> {
+			codec.writeSealedFrame( frame );
+			return Unit.id;
+		} );
+	}
+
+	/**
+	 * Serializes {@code m} into a pooled frame sized after the previous one.
+	 */
+	private ByteBuffer encode( Object m, BufferSerializer serializer ) {
+		ByteBuffer frame = codec.newFrame( frameSizeHint );
+		ByteBuffer filled;
+		try {
+			filled = serializer.writeObject( m, frame );
+		} catch( RuntimeException e ) {
+			codec.release( frame );
+			throw e;
+		}
+		if( filled != frame ) {
+			codec.release( frame );
+		}
+		frameSizeHint = filled.position() - FrameCodec.HEADER_LENGTH;
+		return codec.sealFrame( filled );
+	}
+
+	@Override
+	public void writeFrames( ByteBuffer frames ) throws IOException {
+		sendExecutor.call( () -> {
+			codec.writeFrames( frames );
+			return Unit.id;
+		} );
+	}
+
+	@Override
+	public < T extends ByteBuffer > CompletableFuture< T > comAsync() {
+		return recvExecutor.submit( () -> (T) codec.readFrame() );
+	}
+
+	@Override
+	public void release( ByteBuffer buffer ) {
+		codec.release( buffer );
+	}
+
 	@Override
 	public ByteChannel byteChannel() {
 		return channel;
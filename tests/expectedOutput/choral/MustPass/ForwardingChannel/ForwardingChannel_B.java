@@ -0,0 +1,23 @@
+package choral.MustPass.ForwardingChannel;
+
+import choral.annotations.Choreography;
+import choral.channels.DiDataChannel_B;
+import choral.lang.Unit;
+
+@Choreography( role = "B", name = "ForwardingChannel" )
+public class ForwardingChannel_B< T > implements DiDataChannel_B < T > {
+	private final DiDataChannel_B < T > channel;
+
+	public ForwardingChannel_B( DiDataChannel_B < T > channel ) {
+		this.channel = channel;
+	}
+
+	public < S extends T > S com( Unit m ) {
+		return this.< S >com();
+	}
+	
+	public < S extends T > S com() {
+		return channel.< S >com( Unit.id );
+	}
+
+}
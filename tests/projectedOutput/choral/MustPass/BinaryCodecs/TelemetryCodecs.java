@@ -0,0 +1,100 @@
+package choral.MustPass.BinaryCodecs;
+
+import choral.runtime.Serializers.BinaryCodec;
+import choral.runtime.Serializers.BinaryCodecs;
+import choral.runtime.Serializers.BinaryInput;
+import choral.runtime.Serializers.BinaryOutput;
+
+import java.util.List;
+
+/**
+ * Binary codecs for the types communicated by {@code Telemetry}, generated by the Choral compiler.
+ * Use them with {@code new BinaryCodecSerializer( TelemetryCodecs.codecs() )}.
+ */
+public final class TelemetryCodecs {
+
+	private TelemetryCodecs() {
+	}
+
+	public static List< BinaryCodec< ? > > codecs() {
+		return List.of(
+				ReadingCodec.INSTANCE,
+				PatientCodec.INSTANCE,
+				ScaleCodec.INSTANCE
+		);
+	}
+
+	public static final class ReadingCodec implements BinaryCodec< choral.MustPass.BinaryCodecs.utils.Reading > {
+
+		public static final ReadingCodec INSTANCE = new ReadingCodec();
+
+		@Override
+		public Class< choral.MustPass.BinaryCodecs.utils.Reading > type() {
+			return choral.MustPass.BinaryCodecs.utils.Reading.class;
+		}
+
+		@Override
+		public void encode( choral.MustPass.BinaryCodecs.utils.Reading value, BinaryOutput out ) {
+			out.putNullable( value.patient(), PatientCodec.INSTANCE );
+			out.putNullable( value.scale(), ScaleCodec.INSTANCE );
+			out.putDouble( value.value() );
+		}
+
+		@Override
+		public choral.MustPass.BinaryCodecs.utils.Reading decode( BinaryInput in ) {
+			return new choral.MustPass.BinaryCodecs.utils.Reading(
+					in.getNullable( PatientCodec.INSTANCE ),
+					in.getNullable( ScaleCodec.INSTANCE ),
+					in.getDouble()
+			);
+		}
+
+	}
+
+	public static final class PatientCodec implements BinaryCodec< choral.MustPass.BinaryCodecs.utils.Patient > {
+
+		public static final PatientCodec INSTANCE = new PatientCodec();
+
+		@Override
+		public Class< choral.MustPass.BinaryCodecs.utils.Patient > type() {
+			return choral.MustPass.BinaryCodecs.utils.Patient.class;
+		}
+
+		@Override
+		public void encode( choral.MustPass.BinaryCodecs.utils.Patient value, BinaryOutput out ) {
+			out.putNullable( value.id(), BinaryCodecs.STRING );
+			out.putNullable( value.age(), BinaryCodecs.INTEGER );
+		}
+
+		@Override
+		public choral.MustPass.BinaryCodecs.utils.Patient decode( BinaryInput in ) {
+			return new choral.MustPass.BinaryCodecs.utils.Patient(
+					in.getNullable( BinaryCodecs.STRING ),
+					in.getNullable( BinaryCodecs.INTEGER )
+			);
+		}
+
+	}
+
+	public static final class ScaleCodec implements BinaryCodec< choral.MustPass.BinaryCodecs.utils.Scale > {
+
+		public static final ScaleCodec INSTANCE = new ScaleCodec();
+
+		@Override
+		public Class< choral.MustPass.BinaryCodecs.utils.Scale > type() {
+			return choral.MustPass.BinaryCodecs.utils.Scale.class;
+		}
+
+		@Override
+		public void encode( choral.MustPass.BinaryCodecs.utils.Scale value, BinaryOutput out ) {
+			out.putVarInt( value.ordinal() );
+		}
+
+		@Override
+		public choral.MustPass.BinaryCodecs.utils.Scale decode( BinaryInput in ) {
+			return choral.MustPass.BinaryCodecs.utils.Scale.values()[ in.getVarInt() ];
+		}
+
+	}
+
+}
@@ -0,0 +1,20 @@
+package choral.MustPass.BinaryCodecs;
+
+import choral.MustPass.BinaryCodecs.utils.Reading;
+import choral.annotations.Choreography;
+import choral.channels.SymChannel_A;
+import choral.lang.Unit;
+
+@Choreography( role = "Device", name = "Telemetry" )
+public class Telemetry_Device {
+	private SymChannel_A < Object > ch;
+
+	public Telemetry_Device( SymChannel_A < Object > ch ) {
+		this.ch = ch;
+	}
+
+	public Unit send( Reading reading ) {
+		return ch.< Reading >com( reading );
+	}
+
+}
@@ -0,0 +1,24 @@
+package choral.MustPass.BinaryCodecs;
+
+import choral.MustPass.BinaryCodecs.utils.Reading;
+import choral.annotations.Choreography;
+import choral.channels.SymChannel_B;
+import choral.lang.Unit;
+
+@Choreography( role = "Gatherer", name = "Telemetry" )
+public class Telemetry_Gatherer {
+	private SymChannel_B < Object > ch;
+
+	public Telemetry_Gatherer( SymChannel_B < Object > ch ) {
+		this.ch = ch;
+	}
+
+	public Reading send( Unit reading ) {
+		return send();
+	}
+	
+	public Reading send() {
+		return ch.< Reading >com( Unit.id );
+	}
+
+}
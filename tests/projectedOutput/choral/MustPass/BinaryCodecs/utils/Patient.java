@@ -0,0 +1,23 @@
+package choral.MustPass.BinaryCodecs.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Patient" )
+public class Patient {
+	private String id;
+	private Integer age;
+
+	public Patient( String id, Integer age ) {
+		this.id = id;
+		this.age = age;
+	}
+
+	public String id() {
+		return id;
+	}
+	
+	public Integer age() {
+		return age;
+	}
+
+}
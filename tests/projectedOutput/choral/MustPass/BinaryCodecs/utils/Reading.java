@@ -0,0 +1,29 @@
+package choral.MustPass.BinaryCodecs.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Reading" )
+public class Reading {
+	private Patient patient;
+	private Scale scale;
+	private double value;
+
+	public Reading( Patient patient, Scale scale, double value ) {
+		this.patient = patient;
+		this.scale = scale;
+		this.value = value;
+	}
+
+	public Patient patient() {
+		return patient;
+	}
+	
+	public Scale scale() {
+		return scale;
+	}
+	
+	public double value() {
+		return value;
+	}
+
+}
@@ -0,0 +1,9 @@
+package choral.MustPass.BinaryCodecs.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Scale" )
+public enum Scale {
+	CELSIUS,
+	FAHRENHEIT
+}
@@ -0,0 +1,19 @@
+package choral.MustPass.BookSellingSoloist;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Panel" )
+class Panel {
+	private Panel() {
+		
+	}
+
+	public static String prompt( String world, String prompt ) {
+		return "";
+	}
+	
+	public static void show( String world, Object text ) {
+		
+	}
+
+}
@@ -0,0 +1,9 @@
+package choral.MustPass.BuyerSellerShipper;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "EnumBoolean" )
+enum EnumBoolean {
+	True,
+	False
+}
@@ -0,0 +1,19 @@
+package choral.MustPass.BuyerSellerShipper;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Shipping" )
+public class Shipping {
+	private Shipping( String title ) {
+		
+	}
+
+	public Shipping to( String address ) {
+		return null;
+	}
+	
+	public void ship() {
+		
+	}
+
+}
@@ -0,0 +1,9 @@
+package choral.MustPass.ConsumeItems;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "R", name = "ConsumeChoice" )
+public enum ConsumeChoice {
+	AGAIN,
+	STOP
+}
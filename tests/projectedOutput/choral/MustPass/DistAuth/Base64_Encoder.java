@@ -0,0 +1,15 @@
+package choral.MustPass.DistAuth;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Base64_Encoder" )
+public class Base64_Encoder {
+	private Base64_Encoder() {
+		
+	}
+
+	public static String encodeToString( Object b ) {
+		return "";
+	}
+
+}
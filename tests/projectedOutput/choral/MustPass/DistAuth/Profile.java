@@ -0,0 +1,15 @@
+package choral.MustPass.DistAuth;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Profile" )
+public class Profile {
+	public Profile( String id ) {
+		
+	}
+
+	public String id() {
+		return "";
+	}
+
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "B", name = "MyClass" )
+class MyClass_B implements MyExtInterface_B {
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "MyExtClass" )
+class MyExtClass_A extends MyClass_A implements MyOtherInterface_A {
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "B", name = "MyExtClass" )
+class MyExtClass_B extends MyClass_B implements MyOtherInterface_B {
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "MyExtInterface" )
+interface MyExtInterface_A extends MyInterface_A {
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "B", name = "MyExtInterface" )
+interface MyExtInterface_B extends MyInterface_B {
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "MyOtherInterface" )
+interface MyOtherInterface_A {
+}
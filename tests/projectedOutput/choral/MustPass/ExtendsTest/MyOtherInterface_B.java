@@ -0,0 +1,7 @@
+package choral.MustPass.ExtendsTest;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "B", name = "MyOtherInterface" )
+interface MyOtherInterface_B {
+}
@@ -0,0 +1,19 @@
+package choral.MustPass.ForwardingChannel;
+
+import choral.annotations.Choreography;
+import choral.channels.DiDataChannel_A;
+import choral.lang.Unit;
+
+@Choreography( role = "A", name = "ForwardingChannel" )
+public class ForwardingChannel_A< T > implements DiDataChannel_A < T > {
+	private final DiDataChannel_A < T > channel;
+
+	public ForwardingChannel_A( DiDataChannel_A < T > channel ) {
+		this.channel = channel;
+	}
+
+	public < S extends T > Unit com( S m ) {
+		return channel.< S >com( m );
+	}
+
+}
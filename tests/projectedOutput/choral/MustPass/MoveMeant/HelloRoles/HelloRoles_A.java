@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.HelloRoles;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "HelloRoles" )
+class HelloRoles_A {
+	public void sayHello() {
+		String a = "Hello from A";
+	}
+
+}
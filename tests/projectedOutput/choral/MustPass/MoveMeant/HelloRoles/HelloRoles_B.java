@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.HelloRoles;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "B", name = "HelloRoles" )
+class HelloRoles_B {
+	public void sayHello() {
+		String b = "Hello from B";
+	}
+
+}
@@ -0,0 +1,10 @@
+package choral.MustPass.MoveMeant.SSOWithRetry;
+
+import choral.MustPass.MoveMeant.SSOWithRetry.utils.*;
+import choral.annotations.Choreography;
+
+@Choreography( role = "R", name = "KOCEnum" )
+enum KOCEnum {
+	CASE0,
+	CASE1
+}
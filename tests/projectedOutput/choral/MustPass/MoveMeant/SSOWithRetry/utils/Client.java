@@ -0,0 +1,15 @@
+package choral.MustPass.MoveMeant.SSOWithRetry.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Client" )
+public class Client {
+	public Creds creds() {
+		return null;
+	}
+	
+	public boolean again() {
+		return true;
+	}
+
+}
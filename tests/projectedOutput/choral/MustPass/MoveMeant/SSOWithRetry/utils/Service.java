@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.SSOWithRetry.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Service" )
+public class Service {
+	public Token newToken() {
+		return null;
+	}
+
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.MoveMeant.SSOWithRetry.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Token" )
+public class Token {
+}
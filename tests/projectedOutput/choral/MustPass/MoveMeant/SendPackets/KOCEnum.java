@@ -0,0 +1,9 @@
+package choral.MustPass.MoveMeant.SendPackets;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "R", name = "KOCEnum" )
+enum KOCEnum {
+	CASE0,
+	CASE1
+}
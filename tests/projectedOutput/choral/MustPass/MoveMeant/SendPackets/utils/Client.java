@@ -0,0 +1,18 @@
+package choral.MustPass.MoveMeant.SendPackets.utils;
+
+import choral.annotations.Choreography;
+import java.util.List;
+
+@Choreography( role = "A", name = "Client" )
+public class Client {
+	public List < Integer > file;
+
+	public List < Integer > append( List < Integer > file, Integer packet ) {
+		return null;
+	}
+	
+	public List < Integer > emptyFile() {
+		return null;
+	}
+
+}
@@ -0,0 +1,16 @@
+package choral.MustPass.MoveMeant.SimpleIf3;
+
+import choral.annotations.Choreography;
+import choral.lang.Unit;
+
+@Choreography( role = "C", name = "SimpleIf3" )
+class SimpleIf3_C {
+	public void fun( Unit c_A, Unit c_B, Unit ch_AB ) {
+		fun();
+	}
+	
+	public void fun() {
+		
+	}
+
+}
@@ -0,0 +1,46 @@
+package choral.MustPass.MoveMeant.SimpleIf3.utils;
+
+import choral.annotations.Choreography;
+import java.lang.Object;
+
+@Choreography( role = "A", name = "Client" )
+public class Client {
+	Object obj;
+
+	public void fun() {
+		
+	}
+	
+	public void fun( int i ) {
+		
+	}
+	
+	public void fun0() {
+		
+	}
+	
+	public void midpoint() {
+		
+	}
+	
+	public void fun_in( Integer in ) {
+		
+	}
+	
+	public void fun_in( Integer in1, Integer in2 ) {
+		
+	}
+	
+	public void fun_in( String in ) {
+		
+	}
+	
+	public Integer fun_out() {
+		return 0;
+	}
+	
+	public Integer fun_in_out( Integer in ) {
+		return 0;
+	}
+
+}
@@ -0,0 +1,15 @@
+package choral.MustPass.MoveMeant.SplitAndCombine.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Main" )
+public class Main {
+	public static Tasks split( Task task ) {
+		return null;
+	}
+	
+	public static Result combine( Result subTask1, Result subTask2 ) {
+		return null;
+	}
+
+}
@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.SplitAndCombine.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Result" )
+public class Result {
+	public Result combineWith( Result otherResult ) {
+		return null;
+	}
+
+}
@@ -0,0 +1,7 @@
+package choral.MustPass.MoveMeant.SplitAndCombine.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Task" )
+public class Task {
+}
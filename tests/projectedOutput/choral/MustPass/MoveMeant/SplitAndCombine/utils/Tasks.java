@@ -0,0 +1,15 @@
+package choral.MustPass.MoveMeant.SplitAndCombine.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Tasks" )
+public class Tasks {
+	public Task first() {
+		return null;
+	}
+	
+	public Task second() {
+		return null;
+	}
+
+}
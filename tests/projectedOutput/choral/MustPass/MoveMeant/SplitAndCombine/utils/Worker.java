@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.SplitAndCombine.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Worker" )
+public class Worker {
+	public static Result run( Task task ) {
+		return null;
+	}
+
+}
@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.VitalsStreaming.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "PatientsRegistry" )
+public class PatientsRegistry {
+	public static String getPseudoID( String name ) {
+		return "";
+	}
+
+}
@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.VitalsStreaming.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Signature" )
+public class Signature {
+	public Signature( String signature ) {
+		
+	}
+
+}
@@ -0,0 +1,11 @@
+package choral.MustPass.MoveMeant.VitalsStreaming.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "SignatureRegistry" )
+public class SignatureRegistry {
+	public static Boolean isValid( Signature signature ) {
+		return true;
+	}
+
+}
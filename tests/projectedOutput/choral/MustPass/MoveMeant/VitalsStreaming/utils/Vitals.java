@@ -0,0 +1,27 @@
+package choral.MustPass.MoveMeant.VitalsStreaming.utils;
+
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "Vitals" )
+public class Vitals {
+	public Vitals( String id, String heartRate, String temperature, String motion ) {
+		
+	}
+
+	public String id() {
+		return "";
+	}
+	
+	public String heartRate() {
+		return "";
+	}
+	
+	public String temperature() {
+		return "";
+	}
+	
+	public String motion() {
+		return "";
+	}
+
+}
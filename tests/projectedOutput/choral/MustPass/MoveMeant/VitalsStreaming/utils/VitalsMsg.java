@@ -0,0 +1,21 @@
+package choral.MustPass.MoveMeant.VitalsStreaming.utils;
+
+import choral.MustPass.MoveMeant.VitalsStreaming.utils.Signature;
+import choral.MustPass.MoveMeant.VitalsStreaming.utils.Vitals;
+import choral.annotations.Choreography;
+
+@Choreography( role = "A", name = "VitalsMsg" )
+public class VitalsMsg {
+	public VitalsMsg( Signature signature, Vitals content ) {
+		
+	}
+
+	public Signature signature() {
+		return null;
+	}
+	
+	public Vitals content() {
+		return null;
+	}
+
+}
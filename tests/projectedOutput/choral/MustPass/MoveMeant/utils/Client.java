@@ -0,0 +1,37 @@
+package choral.MustPass.MoveMeant.utils;
+
+import choral.MustPass.MoveMeant.utils.Price;
+import choral.annotations.Choreography;
+import java.lang.Integer;
+import java.lang.Object;
+
+@Choreography( role = "A", name = "Client" )
+public class Client {
+	public static Price price;
+	Object obj;
+
+	public void fun0() {
+		
+	}
+	
+	public void fun_in( Integer in ) {
+		
+	}
+	
+	public void fun_in( Integer in1, Integer in2 ) {
+		
+	}
+	
+	public void fun_in( String in ) {
+		
+	}
+	
+	public Integer fun_out() {
+		return 0;
+	}
+	
+	public Integer fun_in_out( Integer in ) {
+		return 0;
+	}
+
+}
@@ -0,0 +1,10 @@
+package choral.MustPass.TestSwitch;
+
+import choral.annotations.Choreography;
+import choral.channels.*;
+
+@Choreography( role = "A", name = "C" )
+enum C {
+	LEFT,
+	RIGHT
+}
@@ -124,7 +124,7 @@ public class DiffieHellmanDataChannel implements SymDataChannelImpl< String > {
 			SecretKeySpec keySpec = new SecretKeySpec( secretKey.array(), "DES" );
 			Cipher cipher = Cipher.getInstance( "DES/ECB/PKCS5Padding" );
 			cipher.init( Cipher.DECRYPT_MODE, keySpec );
-			message = new String( cipher.doFinal( encMessage.array() ) );
+			message = new String( cipher.doFinal( bytes( encMessage ) ) );
 		} catch( Exception e ) {
 			e.printStackTrace();
 		}
@@ -132,7 +132,7 @@ public class DiffieHellmanDataChannel implements SymDataChannelImpl< String > {
 	}
 
 	private PublicKey buildPublicKey( ByteBuffer bytePublicKey ) {
-		X509EncodedKeySpec ks = new X509EncodedKeySpec( bytePublicKey.array() );
+		X509EncodedKeySpec ks = new X509EncodedKeySpec( bytes( bytePublicKey ) );
 		KeyFactory keyFactory = null;
 		PublicKey publicKey = null;
 		try {
@@ -144,6 +144,12 @@ public class DiffieHellmanDataChannel implements SymDataChannelImpl< String > {
 		return publicKey;
 	}
 
+	private static byte[] bytes( ByteBuffer buffer ) {
+		byte[] bytes = new byte[ buffer.remaining() ];
+		buffer.get( bytes );
+		return bytes;
+	}
+
 	@Override
 	public < S extends String > Unit com( S message ) {
 		KeyPair senderKeys = generateKeys();
@@ -0,0 +1,147 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Serializers.AdaptiveSerializer;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.DeltaSerializer;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.Serializers.StreamingJSONSerializer;
+import choral.serializers.Price;
+
+public class AdaptiveSerializerTests {
+
+    private static final int WARMUP = 4;
+
+    private static AdaptiveSerializer adaptive(List<ChoralSerializer<Object, ByteBuffer>> candidates) {
+        return new AdaptiveSerializer(candidates, WARMUP, AdaptiveSerializer.DEFAULT_NANOS_PER_BYTE);
+    }
+
+    private static List<ChoralSerializer<Object, ByteBuffer>> stateless() {
+        return List.of(StreamingJSONSerializer.getInstance(), KryoSerializer.getInstance());
+    }
+
+    /**
+     * Encodes every string as "lossy", for a type that defines equality.
+     */
+    private static final ChoralSerializer<Object, ByteBuffer> LOSSY = new ChoralSerializer<>() {
+        @Override
+        public <M> ByteBuffer fromObject(M o) {
+            return ByteBuffer.wrap("lossy".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <M> M toObject(ByteBuffer b) {
+            return (M) StandardCharsets.UTF_8.decode(b).toString();
+        }
+    };
+
+    @Test
+    public void nullHasItsOwnTag() {
+        // JSON, the first candidate, cannot encode null
+        AdaptiveSerializer sender = adaptive(stateless());
+        AdaptiveSerializer receiver = adaptive(stateless());
+        ByteBuffer encoded = sender.fromObject(null);
+        assertEquals(1, encoded.remaining());
+        assertNull(receiver.toObject(encoded));
+    }
+
+    @Test
+    public void settlesAfterWarmupAndReceiverFollows() {
+        AdaptiveSerializer sender = adaptive(stateless());
+        AdaptiveSerializer receiver = adaptive(stateless());
+        assertFalse(sender.isStateful());
+        for (int i = 0; i < 3 * WARMUP; i++) {
+            Price price = receiver.toObject(sender.fromObject(new Price("item " + i, i)));
+            assertEquals("item " + i, price.name());
+            assertEquals(i, price.price());
+        }
+        AdaptiveSerializer.Profile profile = sender.profiles().get(Price.class);
+        assertTrue(profile.chosen() >= 0);
+        assertSame(stateless().get(profile.chosen()), sender.choice(Price.class));
+        assertEquals(WARMUP, profile.samples(0));
+        assertEquals(WARMUP, profile.samples(1));
+    }
+
+    @Test
+    public void lossyCandidateIsDropped() {
+        AdaptiveSerializer sender = adaptive(List.of(LOSSY, KryoSerializer.getInstance()));
+        AdaptiveSerializer receiver = adaptive(List.of(LOSSY, KryoSerializer.getInstance()));
+        for (int i = 0; i < 2 * WARMUP; i++) {
+            assertEquals("value " + i, receiver.toObject(sender.fromObject("value " + i)));
+        }
+        assertTrue(sender.profiles().get(String.class).failed(0));
+        assertSame(KryoSerializer.getInstance(), sender.choice(String.class));
+    }
+
+    @Test
+    public void statefulCandidatesAreNotProfiled() {
+        DeltaSerializer sendingDelta = new DeltaSerializer(StreamingJSONSerializer.getInstance());
+        DeltaSerializer receivingDelta = new DeltaSerializer(StreamingJSONSerializer.getInstance());
+        AdaptiveSerializer sender = adaptive(List.of(sendingDelta, KryoSerializer.getInstance()));
+        AdaptiveSerializer receiver = adaptive(List.of(receivingDelta, KryoSerializer.getInstance()));
+        assertTrue(sender.isStateful());
+        for (int i = 0; i < 2 * WARMUP; i++) {
+            assertEquals(i, receiver.<Price>toObject(sender.fromObject(new Price("p", i))).price());
+        }
+        AdaptiveSerializer.Profile profile = sender.profiles().get(Price.class);
+        assertTrue(profile.skipped(0));
+        assertEquals(0, profile.samples(0));
+        assertEquals(1, profile.chosen());
+
+        // pinned, the receiving delta state follows the sender's
+        sender.pin(Price.class, sendingDelta);
+        for (int i = 0; i < 2 * WARMUP; i++) {
+            ByteBuffer encoded = sender.fromObject(new Price("p", i));
+            assertEquals(0, encoded.get(0));
+            assertEquals(i, receiver.<Price>toObject(encoded).price());
+        }
+    }
+
+    @Test
+    public void allStatefulUsesTheFirst() {
+        AdaptiveSerializer sender = adaptive(List.of(new DeltaSerializer(KryoSerializer.getInstance())));
+        AdaptiveSerializer receiver = adaptive(List.of(new DeltaSerializer(KryoSerializer.getInstance())));
+        for (int i = 0; i < 2; i++) {
+            assertEquals("v" + i, receiver.toObject(sender.fromObject("v" + i)));
+        }
+        assertEquals(0, sender.profiles().get(String.class).chosen());
+    }
+
+    @Test
+    public void concurrentRoundTrips() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            AdaptiveSerializer sender = adaptive(stateless());
+            AdaptiveSerializer receiver = adaptive(stateless());
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        Price price = receiver.toObject(sender.fromObject(new Price(thread + "-" + i, i)));
+                        assertEquals(thread + "-" + i, price.name());
+                        assertEquals("s" + i, receiver.toObject(sender.fromObject("s" + i)));
+                    }
+                }));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+            assertTrue(sender.profiles().get(Price.class).chosen() >= 0);
+        });
+    }
+
+}
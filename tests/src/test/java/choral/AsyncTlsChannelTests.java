@@ -0,0 +1,131 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.AsyncTLSChannel.AsyncTLSChannel_A;
+import choral.runtime.AsyncTLSChannel.AsyncTLSChannel_B;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.TLSByteChannel.tlschannel.async.AsynchronousTlsChannelGroup;
+
+public class AsyncTlsChannelTests {
+
+    enum Label { GO, STOP }
+
+    /**
+     * Encodes integers, failing on negative ones, and records how many decodings overlap.
+     */
+    static class IntSerializer implements ChoralSerializer<Object, ByteBuffer> {
+        final AtomicInteger decoding = new AtomicInteger();
+        volatile int maxOverlap;
+
+        @Override
+        public <M> ByteBuffer fromObject(M o) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(0, (Integer) o);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <M> M toObject(ByteBuffer b) {
+            maxOverlap = Math.max(maxOverlap, decoding.incrementAndGet());
+            try {
+                int value = b.getInt();
+                if (value < 0) {
+                    throw new IllegalArgumentException("negative " + value);
+                }
+                if (value % 7 == 0) {
+                    Thread.sleep(1);
+                }
+                return (M) Integer.valueOf(value);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                decoding.decrementAndGet();
+            }
+        }
+
+        @Override
+        public boolean isStateful() {
+            return true;
+        }
+    }
+
+    @Test
+    public void pipelinedReceivesDecodeInOrder() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            IntSerializer serializer = new IntSerializer();
+            withChannels(serializer, (a, b) -> {
+                int count = 300;
+                List<CompletableFuture<?>> received = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    received.add(i % 10 == 9 ? b.selectAsync() : b.comAsync());
+                }
+                for (int i = 0; i < count; i++) {
+                    if (i % 10 == 9) {
+                        a.selectAsync(i % 20 == 9 ? Label.GO : Label.STOP);
+                    } else {
+                        a.comAsync(i);
+                    }
+                }
+                for (int i = 0; i < count; i++) {
+                    Object expected = i % 10 == 9 ? (i % 20 == 9 ? Label.GO : Label.STOP) : i;
+                    assertEquals(expected, received.get(i).join());
+                }
+                assertEquals(1, serializer.maxOverlap);
+            });
+        });
+    }
+
+    @Test
+    public void blockingReceiveRethrowsTheCause() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            withChannels(new IntSerializer(), (a, b) -> {
+                // the handshake completes once b reads
+                CompletableFuture<?> sent = a.comAsync(-1).thenCompose(u -> a.comAsync(1));
+                assertThrows(IllegalArgumentException.class, () -> b.com());
+                assertEquals(1, (int) b.<Integer>com());
+                sent.join();
+            });
+        });
+    }
+
+    interface Session {
+        void run(AsyncTLSChannel_A a, AsyncTLSChannel_B b) throws Exception;
+    }
+
+    private static void withChannels(IntSerializer serializer, Session session) throws Exception {
+        SSLContext context = TlsFrameTests.sslContext();
+        AsynchronousTlsChannelGroup group = new AsynchronousTlsChannelGroup(1);
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress("localhost", 0));
+            SocketChannel client = SocketChannel.open(server.getLocalAddress());
+            SocketChannel accepted = server.accept();
+            AsyncTLSChannel_A a = new AsyncTLSChannel_A(serializer, group, client, context);
+            AsyncTLSChannel_B b = new AsyncTLSChannel_B(serializer, group, accepted, context);
+            try {
+                session.run(a, b);
+            } finally {
+                a.close();
+                b.close();
+            }
+        } finally {
+            group.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Serializers.BinaryCodec;
+import choral.runtime.Serializers.BinaryCodecSerializer;
+import choral.runtime.Serializers.BinaryCodecs;
+import choral.runtime.Serializers.BinaryInput;
+import choral.runtime.Serializers.BinaryOutput;
+import choral.serializers.Price;
+
+public class BinaryCodecSerializerTests {
+
+    // what epp --binary-codecs generates for Price
+    private static final BinaryCodec<Price> PRICE = new BinaryCodec<>() {
+        @Override
+        public Class<Price> type() {
+            return Price.class;
+        }
+
+        @Override
+        public void encode(Price value, BinaryOutput out) {
+            out.putNullable(value.name(), BinaryCodecs.STRING);
+            out.putNullable(value.price(), BinaryCodecs.INTEGER);
+        }
+
+        @Override
+        public Price decode(BinaryInput in) {
+            return new Price(in.getNullable(BinaryCodecs.STRING), in.getNullable(BinaryCodecs.INTEGER));
+        }
+    };
+
+    private static final BinaryCodecSerializer CODECS = new BinaryCodecSerializer(List.of(PRICE));
+
+    @Test
+    public void roundTripsCodecsAndBuiltins() {
+        Price price = CODECS.toObject(CODECS.fromObject(new Price("book", 12)));
+        assertEquals("book", price.name());
+        assertEquals(12, price.price());
+        Price empty = CODECS.toObject(CODECS.fromObject(new Price(null, null)));
+        assertNull(empty.name());
+        assertNull(empty.price());
+
+        String large = "é".repeat(10_000);
+        assertEquals(large, CODECS.toObject(CODECS.fromObject(large)));
+        assertEquals(Long.MIN_VALUE, (long) CODECS.toObject(CODECS.fromObject(Long.MIN_VALUE)));
+        assertEquals('x', (char) CODECS.toObject(CODECS.fromObject('x')));
+        assertEquals(0.5d, (double) CODECS.toObject(CODECS.fromObject(0.5d)));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, CODECS.toObject(CODECS.fromObject(new byte[] { 1, 2, 3 })));
+        assertNull(CODECS.toObject(CODECS.fromObject(null)));
+    }
+
+    @Test
+    public void typesWithoutCodecUseFallback() {
+        BinaryCodecSerializer fallbackOnly = new BinaryCodecSerializer(List.of());
+        Price price = new Price("book", 12);
+        ByteBuffer coded = CODECS.fromObject(price);
+        ByteBuffer fallback = fallbackOnly.fromObject(price);
+        assertEquals(BinaryCodecSerializer.FIRST_CODEC_TAG, coded.get(0));
+        assertEquals(0, fallback.get(0));
+        assertEquals("book", ((Price) fallbackOnly.toObject(fallback)).name());
+    }
+
+    @Test
+    public void unknownTagIsRejected() {
+        BinaryCodecSerializer fallbackOnly = new BinaryCodecSerializer(List.of());
+        ByteBuffer coded = CODECS.fromObject(new Price("book", 12));
+        assertThrows(IllegalStateException.class, () -> fallbackOnly.toObject(coded));
+    }
+
+    @Test
+    public void concurrentRoundTrips() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        String name = "item-" + thread + "-" + i;
+                        ByteBuffer encoded = CODECS.fromObject(new Price(name, i));
+                        // the next encoding on this thread must not overwrite the previous one
+                        CODECS.fromObject(new Price("other", -1));
+                        Price price = CODECS.toObject(encoded);
+                        assertEquals(name, price.name());
+                        assertEquals(i, price.price());
+                    }
+                }));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        });
+    }
+
+}
@@ -0,0 +1,85 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.TLSByteChannel.TSLByteChannel_A;
+import choral.runtime.TLSByteChannel.TSLByteChannel_B;
+import choral.utils.Pair;
+
+/**
+ * Threads blocked in channel I/O must not hold object monitors, which would pin a virtual
+ * thread to its carrier.
+ */
+public class BlockingIoLockTests {
+
+    /**
+     * Waits until {@code thread} is blocked on the socket or pipe, inside
+     * {@code FrameCodec.readFully}.
+     */
+    private static ThreadInfo blockedInRead(Thread thread) throws InterruptedException {
+        while (true) {
+            ThreadInfo info = ManagementFactory.getThreadMXBean()
+                    .getThreadInfo(new long[] { thread.getId() }, true, true)[0];
+            if (info != null && info.isInNative() && Arrays.stream(info.getStackTrace()).anyMatch(
+                    f -> f.getClassName().endsWith("FrameCodec") && f.getMethodName().equals("readFully"))) {
+                return info;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void pipedLengthReadHoldsNoMonitor() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+            CompletableFuture<Integer> length = new CompletableFuture<>();
+            Thread reader = new Thread(() -> {
+                try {
+                    length.complete(p.right().recvTransmissionLength());
+                } catch (Exception e) {
+                    length.completeExceptionally(e);
+                }
+            });
+            reader.start();
+            ThreadInfo info = blockedInRead(reader);
+            assertEquals(0, info.getLockedMonitors().length);
+            assertTrue(info.getLockedSynchronizers().length > 0);
+            p.left().sendTransmissionLength(42);
+            assertEquals(42, length.join());
+        });
+    }
+
+    @Test
+    public void tlsFrameReadHoldsNoMonitor() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            SSLContext context = TlsFrameTests.sslContext();
+            Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+            TSLByteChannel_A client = new TSLByteChannel_A(p.left(), context);
+            TSLByteChannel_B server = new TSLByteChannel_B(p.right(), context);
+            CompletableFuture<ByteBuffer> received = new CompletableFuture<>();
+            Thread reader = new Thread(() -> received.complete(server.com()));
+            reader.start();
+            ThreadInfo info = blockedInRead(reader);
+            assertEquals(0, info.getLockedMonitors().length);
+            client.comAsync(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+            assertEquals(3, received.join().remaining());
+            p.left().close();
+            p.right().close();
+        });
+    }
+
+}
@@ -0,0 +1,124 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.lang.Unit;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.SerializerChannel.SerializerChannel_A;
+import choral.runtime.SerializerChannel.SerializerChannel_B;
+import choral.runtime.Serializers.BufferSerializer;
+import choral.runtime.Serializers.ChoralSerializer;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.Serializers.StreamingJSONSerializer;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_A;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_B;
+import choral.serializers.Price;
+import choral.utils.Pair;
+
+public class BufferSerializerTests {
+
+    private static final List<ChoralSerializer<Object, ByteBuffer>> SERIALIZERS =
+            List.of(KryoSerializer.getInstance(), StreamingJSONSerializer.getInstance());
+
+    private static Pair<SerializerChannel_A, SerializerChannel_B> open(
+            ChoralSerializer<Object, ByteBuffer> serializer) throws Exception {
+        Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+        return Pair.of(
+                new SerializerChannel_A(serializer, new WrapperByteChannel_A(p.left())),
+                new SerializerChannel_B(serializer, new WrapperByteChannel_B(p.right())));
+    }
+
+    @Test
+    public void writesAfterThePositionAndGrows() {
+        for (ChoralSerializer<Object, ByteBuffer> serializer : SERIALIZERS) {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            buffer.putInt(0xCAFEBABE);
+            String large = "x".repeat(10_000);
+            ByteBuffer filled = ((BufferSerializer) serializer).writeObject(new Price(large, 7), buffer);
+            filled.flip();
+            assertEquals(0xCAFEBABE, filled.getInt());
+            Price price = serializer.toObject(filled.slice());
+            assertEquals(large, price.name());
+            assertEquals(7, price.price());
+        }
+    }
+
+    @Test
+    public void roundTripsThroughPooledFrames() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (ChoralSerializer<Object, ByteBuffer> serializer : SERIALIZERS) {
+                Pair<SerializerChannel_A, SerializerChannel_B> c = open(serializer);
+                // sizes below, above and back below the frame size of the previous message
+                int[] sizes = { 10, 100_000, 10, 300_000, 0 };
+                CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < sizes.length; i++) {
+                        if (i % 2 == 0) {
+                            c.left().com(new Price("y".repeat(sizes[i]), i));
+                        } else {
+                            c.left().comAsync(new Price("y".repeat(sizes[i]), i)).join();
+                        }
+                    }
+                });
+                for (int i = 0; i < sizes.length; i++) {
+                    Price price = c.right().com(Unit.id);
+                    assertEquals(sizes[i], price.name().length());
+                    assertEquals(i, price.price());
+                }
+                sent.join();
+            }
+        });
+    }
+
+    @Test
+    public void failedSerializationKeepsChannelUsable() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<SerializerChannel_A, SerializerChannel_B> c = open(KryoSerializer.getInstance());
+            // not registered with Kryo
+            assertThrows(IllegalArgumentException.class, () -> c.left().com(new ArrayList<>(List.of("a"))));
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> c.left().com("ok"));
+            assertEquals("ok", c.right().<String>com(Unit.id));
+            sent.join();
+        });
+    }
+
+    @Test
+    public void concurrentSendersShareThePool() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            Pair<SerializerChannel_A, SerializerChannel_B> c = open(KryoSerializer.getInstance());
+            int threads = 4;
+            int messages = 200;
+            Set<String> expected = new HashSet<>();
+            List<CompletableFuture<Void>> senders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                for (int i = 0; i < messages; i++) {
+                    expected.add(thread + "-" + i + "-" + "w".repeat((i * 97) % 5_000));
+                }
+                senders.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        c.left().com(thread + "-" + i + "-" + "w".repeat((i * 97) % 5_000));
+                    }
+                }));
+            }
+            Set<String> received = new HashSet<>();
+            for (int i = 0; i < threads * messages; i++) {
+                received.add(c.right().com(Unit.id));
+            }
+            assertEquals(expected, received);
+            CompletableFuture.allOf(senders.toArray(CompletableFuture[]::new)).join();
+        });
+    }
+
+}
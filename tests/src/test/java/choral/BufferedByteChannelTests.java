@@ -0,0 +1,164 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.BufferedByteChannel.BufferedByteChannelImpl;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.Metrics.ChannelMetrics;
+import choral.runtime.Metrics.MeteredByteChannel;
+import choral.runtime.WrapperByteChannel.WrapperByteChannelImpl;
+import choral.utils.Pair;
+
+public class BufferedByteChannelTests {
+
+    private static final int COUNT = 2_000;
+
+    @Test
+    public void flushesDoNotInterleaveWithDirectSends() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            WrapperByteChannelImpl out = new WrapperByteChannelImpl(pipe.left());
+            WrapperByteChannelImpl in = new WrapperByteChannelImpl(pipe.right());
+            BufferedByteChannelImpl buffered = new BufferedByteChannelImpl(
+                    out, 1024, TimeUnit.SECONDS.toNanos(10));
+            Thread small = new Thread(() -> {
+                for (int i = 0; i < COUNT; i++) {
+                    buffered.com(message(1, i, 16));
+                }
+                try {
+                    buffered.flush();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            Thread large = new Thread(() -> {
+                for (int i = 0; i < COUNT; i++) {
+                    out.comAsync(message(2, i, 700));
+                }
+            });
+            small.start();
+            large.start();
+            assertReceived(in, new int[] { 16, 700 });
+            small.join();
+            large.join();
+            pipe.left().close();
+            pipe.right().close();
+        });
+    }
+
+    @Test
+    public void flushesSplitFramesForOtherChannels() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            ChannelMetrics metrics = new ChannelMetrics("buffered");
+            SymByteChannelImpl out = new MeteredByteChannel(
+                    new WrapperByteChannelImpl(pipe.left()), metrics);
+            WrapperByteChannelImpl in = new WrapperByteChannelImpl(pipe.right());
+            BufferedByteChannelImpl buffered = new BufferedByteChannelImpl(
+                    out, 1024, TimeUnit.SECONDS.toNanos(10));
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < COUNT; i++) {
+                    buffered.com(message(1, i, 16));
+                }
+                try {
+                    buffered.flush();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            writer.start();
+            for (int i = 0; i < COUNT; i++) {
+                ByteBuffer m = in.com();
+                assertEquals(1, m.get());
+                assertEquals(i, m.getInt());
+                in.release(m);
+            }
+            writer.join();
+            assertEquals(COUNT * 16L, metrics.getBytesSent());
+            pipe.left().close();
+            pipe.right().close();
+        });
+    }
+
+    @Test
+    public void slowChannelsDoNotDelayDeadlineFlushesOfOthers() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            // nobody reads this pipe, so the deadline flush of a frame larger than the pipe
+            // buffer blocks
+            Pair<PipedByteChannel, PipedByteChannel> stuck = PipedByteChannel.getConnectedChannels();
+            BufferedByteChannelImpl slow = new BufferedByteChannelImpl(
+                    new WrapperByteChannelImpl(stuck.left()), 1 << 20, TimeUnit.MILLISECONDS.toNanos(1));
+            slow.com(message(1, 0, 500_000));
+            Thread.sleep(100);
+
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            WrapperByteChannelImpl in = new WrapperByteChannelImpl(pipe.right());
+            BufferedByteChannelImpl fast = new BufferedByteChannelImpl(
+                    new WrapperByteChannelImpl(pipe.left()), 1024, TimeUnit.MILLISECONDS.toNanos(1));
+            fast.com(message(2, 0, 16));
+            // no explicit flush: only the deadline sends the frame
+            ByteBuffer m = in.com();
+            assertEquals(2, m.get());
+            stuck.right().close();
+            stuck.left().close();
+            pipe.left().close();
+            pipe.right().close();
+        });
+    }
+
+    @Test
+    public void failedDeadlineFlushesAreRethrown() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            BufferedByteChannelImpl buffered = new BufferedByteChannelImpl(
+                    new WrapperByteChannelImpl(pipe.left()), 1024, TimeUnit.MILLISECONDS.toNanos(1));
+            pipe.left().close();
+            buffered.com(message(1, 0, 16));
+            Thread.sleep(200);
+            // the deadline flush failed and the frame is lost: every later operation says so
+            assertThrows(RuntimeException.class, () -> buffered.com(message(1, 1, 16)));
+            assertThrows(IOException.class, buffered::flush);
+            assertThrows(IOException.class, buffered::flush);
+            assertTrue(buffered.comAsync(message(1, 2, 16)).isCompletedExceptionally());
+            pipe.right().close();
+        });
+    }
+
+    /**
+     * Reads the frames of two senders, each tagging its frames with a sequence number.
+     */
+    private static void assertReceived(WrapperByteChannelImpl in, int[] sizes) {
+        int[] next = new int[sizes.length];
+        for (int n = 0; n < sizes.length * COUNT; n++) {
+            ByteBuffer m = in.com();
+            int sender = m.get() - 1;
+            assertEquals(sizes[sender], m.limit() - m.position() + 1);
+            assertEquals(next[sender]++, m.getInt());
+            while (m.hasRemaining()) {
+                assertEquals((byte) sender, m.get());
+            }
+            in.release(m);
+        }
+    }
+
+    private static ByteBuffer message(int sender, int sequence, int size) {
+        ByteBuffer m = ByteBuffer.allocate(size);
+        m.put((byte) sender).putInt(sequence);
+        while (m.hasRemaining()) {
+            m.put((byte) (sender - 1));
+        }
+        return m.flip();
+    }
+
+}
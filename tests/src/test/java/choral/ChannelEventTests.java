@@ -0,0 +1,196 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.jupiter.api.Test;
+
+import choral.channels.SymChannel_A;
+import choral.channels.SymChannel_B;
+import choral.lang.Unit;
+import choral.runtime.AsyncTLSChannel.AsyncTLSChannel_A;
+import choral.runtime.AsyncTLSChannel.AsyncTLSChannel_B;
+import choral.runtime.ChoreographyRunner.Transport;
+import choral.runtime.Events.ChannelEvent;
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.Media.RingBufferQueue;
+import choral.runtime.MultiplexedChannel.ChannelMultiplexer;
+import choral.runtime.MultiplexedChannel.MultiplexedChannel_A;
+import choral.runtime.MultiplexedChannel.MultiplexedChannel_B;
+import choral.runtime.RingChannel.RingChannel_A;
+import choral.runtime.RingChannel.RingChannel_B;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.TLSByteChannel.TSLByteChannel_A;
+import choral.runtime.TLSByteChannel.TSLByteChannel_B;
+import choral.runtime.TLSByteChannel.tlschannel.async.AsynchronousTlsChannelGroup;
+import choral.runtime.TLSChannel.TLSChannel_A;
+import choral.runtime.TLSChannel.TLSChannel_B;
+import choral.utils.Pair;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Both ends of a channel emit their events under the same channel name.
+ */
+public class ChannelEventTests {
+
+    enum Label { GO }
+
+    private static final List<String> EVENTS =
+            List.of("choral.ComSend", "choral.ComReceive", "choral.SelectSend", "choral.SelectReceive");
+
+    interface Session {
+        void run() throws Exception;
+    }
+
+    /**
+     * The events recorded while {@code session} runs, by channel name.
+     */
+    private static Map<String, List<String>> record(Session session) throws Exception {
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withoutThreshold();
+            }
+            recording.start();
+            session.run();
+            recording.stop();
+            Path file = Files.createTempFile("channel-events", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> EVENTS.contains(e.getEventType().getName()))
+                        .collect(Collectors.groupingBy(
+                        (RecordedEvent e) -> e.getString("channel"),
+                        Collectors.mapping(e -> e.getEventType().getName(), Collectors.toList())));
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static void exchange(SymChannel_A<Object> a, SymChannel_B<Object> b) {
+        CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+            a.com("hello");
+            a.select(Label.GO);
+        });
+        assertEquals("hello", b.<String>com(Unit.id));
+        assertEquals(Label.GO, b.<Label>select(Unit.id));
+        sent.join();
+    }
+
+    private static void assertOneOfEach(Map<String, List<String>> events, String name) {
+        assertEquals(EVENTS.stream().sorted().toList(), events.get(name).stream().sorted().toList());
+    }
+
+    @Test
+    public void transportsNameBothEndsAlike() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (Transport transport : List.of(Transport.local(), Transport.piped(KryoSerializer.getInstance()))) {
+                Pair<SymChannel_A<Object>, SymChannel_B<Object>> first = transport.open("orders", "A", "B");
+                Pair<SymChannel_A<Object>, SymChannel_B<Object>> second = transport.open("orders", "A", "B");
+                Map<String, List<String>> events = record(() -> {
+                    exchange(first.left(), first.right());
+                    exchange(second.left(), second.right());
+                });
+                List<String> names = events.keySet().stream().filter(n -> n.startsWith("orders#")).toList();
+                assertEquals(2, names.size(), names::toString);
+                assertNotEquals(names.get(0), names.get(1));
+                names.forEach(name -> assertOneOfEach(events, name));
+            }
+        });
+    }
+
+    @Test
+    public void ringChannel() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            String name = ChannelEvent.name("ring");
+            RingBufferQueue ab = new RingBufferQueue(), ba = new RingBufferQueue();
+            RingChannel_A a = new RingChannel_A(ab, ba, name);
+            RingChannel_B b = new RingChannel_B(ba, ab, name);
+            assertOneOfEach(record(() -> exchange(a, b)), name);
+        });
+    }
+
+    @Test
+    public void tlsChannel() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            String name = ChannelEvent.name("tls");
+            SSLContext context = TlsFrameTests.sslContext();
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            TLSChannel_A<Object> a = new TLSChannel_A<>(
+                    new TSLByteChannel_A(pipe.left(), context), KryoSerializer.getInstance(), name);
+            TLSChannel_B<Object> b = new TLSChannel_B<>(
+                    new TSLByteChannel_B(pipe.right(), context), KryoSerializer.getInstance(), name);
+            assertOneOfEach(record(() -> exchange(a, b)), name);
+            pipe.left().close();
+            pipe.right().close();
+        });
+    }
+
+    @Test
+    public void multiplexedChannel() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            String name = ChannelEvent.name("multiplexed");
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            ChannelMultiplexer left = new ChannelMultiplexer(pipe.left(), true, ByteBufferPool.getDefault());
+            ChannelMultiplexer right = new ChannelMultiplexer(pipe.right(), false, ByteBufferPool.getDefault());
+            try {
+                MultiplexedChannel_A a = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, 0, name);
+                MultiplexedChannel_B b = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, 0, name);
+                assertOneOfEach(record(() -> exchange(a, b)), name);
+            } finally {
+                left.close();
+                right.close();
+            }
+        });
+    }
+
+    @Test
+    public void asyncTlsChannel() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            String name = ChannelEvent.name("async-tls");
+            SSLContext context = TlsFrameTests.sslContext();
+            AsynchronousTlsChannelGroup group = new AsynchronousTlsChannelGroup(1);
+            try (ServerSocketChannel server = ServerSocketChannel.open()) {
+                server.bind(new InetSocketAddress("localhost", 0));
+                SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                SocketChannel accepted = server.accept();
+                AsyncTLSChannel_A a = new AsyncTLSChannel_A(KryoSerializer.getInstance(), group, client, context, name);
+                AsyncTLSChannel_B b = new AsyncTLSChannel_B(KryoSerializer.getInstance(), group, accepted, context, name);
+                try {
+                    assertOneOfEach(record(() -> exchange(a, b)), name);
+                    // the asynchronous receive emits its event once the message arrives
+                    Map<String, List<String>> events = record(() -> {
+                        CompletableFuture<Object> received = b.comAsync();
+                        a.comAsync("again").join();
+                        assertEquals("again", received.join());
+                    });
+                    assertEquals(List.of("choral.ComReceive", "choral.ComSend"),
+                            events.get(name).stream().sorted().toList());
+                } finally {
+                    a.close();
+                    b.close();
+                }
+            } finally {
+                group.shutdown();
+            }
+        });
+    }
+
+}
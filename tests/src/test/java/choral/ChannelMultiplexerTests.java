@@ -0,0 +1,147 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.MultiplexedChannel.ChannelMultiplexer;
+import choral.runtime.MultiplexedChannel.MultiplexedChannel_A;
+import choral.runtime.MultiplexedChannel.MultiplexedChannel_B;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.utils.Pair;
+
+public class ChannelMultiplexerTests {
+
+    private static final int WINDOW = 4;
+
+    private ChannelMultiplexer left;
+    private ChannelMultiplexer right;
+
+    @BeforeEach
+    public void connect() throws Exception {
+        Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+        left = new ChannelMultiplexer(pipe.left(), true, ByteBufferPool.getDefault(), WINDOW);
+        right = new ChannelMultiplexer(pipe.right(), false, ByteBufferPool.getDefault(), WINDOW);
+    }
+
+    @AfterEach
+    public void disconnect() throws Exception {
+        left.close();
+        right.close();
+    }
+
+    @Test
+    public void logicalChannelsAreIndependent() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MultiplexedChannel_A a1 = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, 0);
+            MultiplexedChannel_A a2 = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, 2);
+            MultiplexedChannel_B b1 = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, 0);
+            MultiplexedChannel_B b2 = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, 2);
+            a1.com("one");
+            a2.com("two");
+            assertEquals("two", b2.<String>com());
+            assertEquals("one", b1.<String>com());
+            b1.com(1);
+            assertEquals(1, a1.<Integer>com());
+        });
+    }
+
+    @Test
+    public void creditBoundsUnconsumedFrames() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MultiplexedChannel_A slow = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, 0);
+            MultiplexedChannel_A fast = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, 2);
+            MultiplexedChannel_B slowEnd = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, 0);
+            MultiplexedChannel_B fastEnd = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, 2);
+            CompletableFuture<Void> sender = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 3 * WINDOW; i++) {
+                    slow.com(i);
+                }
+            });
+            try {
+                sender.get(300, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // expected: the sender ran out of credit
+            }
+            assertFalse(sender.isDone());
+            // the other logical channel keeps flowing
+            fast.com("through");
+            assertEquals("through", fastEnd.<String>com());
+            for (int i = 0; i < 3 * WINDOW; i++) {
+                assertEquals(i, slowEnd.<Integer>com());
+            }
+            sender.get();
+        });
+    }
+
+    @Test
+    public void closedChannelsDropLateFrames() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            int closed = left.open();
+            MultiplexedChannel_A a = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, closed);
+            MultiplexedChannel_B b = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, closed);
+            b.close();
+            a.com("late");
+            int id = left.open();
+            MultiplexedChannel_A fresh = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, id);
+            fresh.com("fresh");
+            // the late frame must not be announced as a new session
+            assertEquals(id, right.accept());
+            MultiplexedChannel_B accepted = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, id);
+            assertEquals("fresh", accepted.<String>com());
+        });
+    }
+
+    @Test
+    public void receivesKeepFailingAfterThePeerCloses() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MultiplexedChannel_A a = new MultiplexedChannel_A(KryoSerializer.getInstance(), left, 0);
+            MultiplexedChannel_B b = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, 0);
+            a.com("last");
+            left.close();
+            assertEquals("last", b.<String>com());
+            assertThrows(RuntimeException.class, () -> b.<String>com());
+            assertThrows(RuntimeException.class, () -> b.<String>com());
+            assertThrows(CompletionException.class, () -> b.<String>comAsync().join());
+            // a logical channel opened after the connection died fails too
+            MultiplexedChannel_B late = new MultiplexedChannel_B(KryoSerializer.getInstance(), right, right.open());
+            assertThrows(RuntimeException.class, () -> late.<String>com());
+            assertThrows(RuntimeException.class, () -> late.<String>com());
+        });
+    }
+
+    @Test
+    public void oversizedFramesCloseTheConnection() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            ChannelMultiplexer sender = new ChannelMultiplexer(pipe.left(), true, ByteBufferPool.getDefault(), WINDOW);
+            ChannelMultiplexer receiver = new ChannelMultiplexer(pipe.right(), false, ByteBufferPool.getDefault(), WINDOW, 64);
+            try {
+                MultiplexedChannel_A a = new MultiplexedChannel_A(KryoSerializer.getInstance(), sender, 0);
+                MultiplexedChannel_B b = new MultiplexedChannel_B(KryoSerializer.getInstance(), receiver, 0);
+                a.com("small");
+                assertEquals("small", b.<String>com());
+                a.com("x".repeat(1000));
+                assertThrows(RuntimeException.class, () -> b.<String>com());
+                assertFalse(receiver.isOpen());
+            } finally {
+                sender.close();
+                receiver.close();
+            }
+        });
+    }
+
+}
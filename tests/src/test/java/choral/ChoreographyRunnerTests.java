@@ -0,0 +1,195 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import choral.channels.SymChannel_A;
+import choral.channels.SymChannel_B;
+import choral.lang.Unit;
+import choral.runtime.ChoreographyRunner.ChoreographyRunner;
+import choral.runtime.ChoreographyRunner.Transport;
+import choral.runtime.Metrics.ChannelMetrics;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.utils.Pair;
+
+public class ChoreographyRunnerTests {
+
+    public static class Client {
+        public static String echo(SymChannel_A<Object> channel, String message) {
+            if (message.isEmpty()) {
+                throw new IllegalStateException("nothing to send");
+            }
+            channel.com(message);
+            return channel.com(Unit.id);
+        }
+    }
+
+    public static class Server {
+        public static Unit echo(SymChannel_B<Object> channel, Unit message) {
+            String received = channel.com(Unit.id);
+            channel.com(received.toUpperCase());
+            return Unit.id;
+        }
+    }
+
+    public static class Peers {
+        public static class Peer {
+            public static Unit echo(SymChannel_A<Object> channel, String message) {
+                return Unit.id;
+            }
+        }
+    }
+
+    public static class Peer {
+        public static Unit echo(SymChannel_B<Object> channel, Unit message) {
+            return Unit.id;
+        }
+    }
+
+    private static Set<ObjectName> channelMBeans() throws Exception {
+        return ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("choral:type=Channel,*"), null);
+    }
+
+    private static List<Transport> transports() {
+        return List.of(Transport.local(), Transport.piped(KryoSerializer.getInstance()));
+    }
+
+    @Test
+    public void runsEveryRole() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (Transport transport : transports()) {
+                try (ChoreographyRunner runner = new ChoreographyRunner("echo", transport, Client.class, Server.class)) {
+                    assertEquals(List.of("Client", "Server"), runner.roles());
+                    for (int i = 0; i < 3; i++) {
+                        Map<String, Object> results = runner.run("hello " + i);
+                        assertEquals("HELLO " + i, results.get("Client"));
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void failingRoleReleasesItsPeers() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (Transport transport : transports()) {
+                ExecutorService executor = Executors.newCachedThreadPool();
+                try (ChoreographyRunner runner =
+                        new ChoreographyRunner("echo", transport, executor, Client.class, Server.class)) {
+                    // the server is left waiting for a message that never comes
+                    assertThrows(IllegalStateException.class, () -> runner.run(""));
+                    assertEquals("HELLO", runner.run("hello").get("Client"));
+                }
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            }
+        });
+    }
+
+    @Test
+    public void closeReleasesEverySession() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            AtomicInteger open = new AtomicInteger();
+            Transport bounded = Transport.local(1, 0, TimeUnit.MILLISECONDS);
+            Transport counting = new Transport() {
+                @Override
+                public Pair<SymChannel_A<Object>, SymChannel_B<Object>> open() throws IOException {
+                    open.incrementAndGet();
+                    return bounded.open();
+                }
+
+                @Override
+                public void close(Pair<SymChannel_A<Object>, SymChannel_B<Object>> channels) {
+                    open.decrementAndGet();
+                }
+            };
+            for (int round = 0; round < 20; round++) {
+                List<CompletableFuture<Map<String, Object>>> running = new ArrayList<>();
+                try (ChoreographyRunner runner = new ChoreographyRunner("echo", counting, Client.class, Server.class)) {
+                    for (int i = 0; i < 8; i++) {
+                        running.add(runner.runAsync("m" + i));
+                    }
+                }
+                // the invocations finish after close() and must not leave their channels in the pool
+                for (int i = 0; i < running.size(); i++) {
+                    assertEquals("M" + i, running.get(i).join().get("Client"));
+                }
+                assertEquals(0, open.get());
+            }
+        });
+    }
+
+    @Test
+    public void runnersOfTheSameChoreographyHaveTheirOwnMetrics() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            Set<ObjectName> before = channelMBeans();
+            ChannelMetrics.setEnabled(true);
+            try (ChoreographyRunner first = new ChoreographyRunner(
+                    "echo", Transport.piped(KryoSerializer.getInstance()), Client.class, Server.class);
+                 ChoreographyRunner second = new ChoreographyRunner(
+                    "echo", Transport.piped(KryoSerializer.getInstance()), Client.class, Server.class)) {
+                assertEquals(before.size() + 4, channelMBeans().size());
+                assertNotEquals(first.metrics().get(0).getName(), second.metrics().get(0).getName());
+
+                int invocations = 50;
+                List<CompletableFuture<Map<String, Object>>> running = new ArrayList<>();
+                for (int i = 0; i < invocations; i++) {
+                    running.add(first.runAsync("m" + i));
+                }
+                for (int i = 0; i < invocations; i++) {
+                    assertEquals("M" + i, running.get(i).join().get("Client"));
+                }
+                ChannelMetrics client = first.metrics().get(0);
+                ChannelMetrics server = first.metrics().get(1);
+                assertEquals(invocations, client.getMessagesSent());
+                assertEquals(invocations, client.getMessagesReceived());
+                assertEquals(invocations, server.getMessagesSent());
+                // the transport counts bytes and serialization times
+                assertTrue(client.getBytesSent() > 0);
+                assertEquals(client.getBytesSent(), server.getBytesReceived());
+                assertEquals(server.getBytesSent(), client.getBytesReceived());
+                assertTrue(client.getSerializationNanos() > 0);
+                assertTrue(server.getDeserializationNanos() > 0);
+                assertEquals(0, second.metrics().get(0).getMessagesSent());
+            } finally {
+                ChannelMetrics.setEnabled(false);
+            }
+            assertEquals(before, channelMBeans());
+        });
+    }
+
+    @Test
+    public void failedConstructorUnregistersItsMetrics() throws Exception {
+        Set<ObjectName> before = channelMBeans();
+        ChannelMetrics.setEnabled(true);
+        try {
+            // both ends are named after the role Peer, so the second registration fails
+            assertThrows(RuntimeException.class, () -> new ChoreographyRunner(
+                    "echo", Transport.local(), Peers.Peer.class, Peer.class));
+        } finally {
+            ChannelMetrics.setEnabled(false);
+        }
+        assertEquals(before, channelMBeans());
+    }
+
+}
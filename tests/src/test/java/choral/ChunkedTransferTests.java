@@ -0,0 +1,100 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.lang.Unit;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.SerializerChannel.SerializerChannel_A;
+import choral.runtime.SerializerChannel.SerializerChannel_B;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_A;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_B;
+import choral.serializers.Price;
+import choral.utils.Pair;
+
+public class ChunkedTransferTests {
+
+    private static final int CHUNK_SIZE = 64;
+    private static final int MAX_PENDING_CHUNKS = 2;
+
+    private static Pair<SerializerChannel_A, SerializerChannel_B> open(long maxMessageSize) throws Exception {
+        Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+        return Pair.of(
+                new SerializerChannel_A(KryoSerializer.getInstance(), new WrapperByteChannel_A(p.left()),
+                        CHUNK_SIZE, MAX_PENDING_CHUNKS, maxMessageSize),
+                new SerializerChannel_B(KryoSerializer.getInstance(), new WrapperByteChannel_B(p.right()),
+                        CHUNK_SIZE, MAX_PENDING_CHUNKS, maxMessageSize));
+    }
+
+    @Test
+    public void roundTripsAcrossChunks() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<SerializerChannel_A, SerializerChannel_B> c = open(1 << 20);
+            String name = "x".repeat(10_000);
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                c.left().com(new Price(name, 1));
+                c.left().com("small");
+            });
+            Price price = c.right().com(Unit.id);
+            assertEquals(name, price.name());
+            assertEquals("small", c.right().<String>com(Unit.id));
+            sent.join();
+        });
+    }
+
+    @Test
+    public void oversizedMessageIsSkipped() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<SerializerChannel_A, SerializerChannel_B> c = open(1024);
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                c.left().com("x".repeat(100_000));
+                c.left().com("next");
+            });
+            RuntimeException e = assertThrows(RuntimeException.class, () -> c.right().com(Unit.id));
+            assertEquals("Chunked message exceeds 1024 bytes", e.getMessage());
+            // the rest of the large message was skipped
+            assertEquals("next", c.right().<String>com(Unit.id));
+            sent.join();
+        });
+    }
+
+    @Test
+    public void concurrentSendersDoNotInterleaveChunks() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            Pair<SerializerChannel_A, SerializerChannel_B> c = open(1 << 20);
+            int threads = 4;
+            int messages = 200;
+            List<CompletableFuture<Void>> senders = new ArrayList<>();
+            Set<String> expected = new HashSet<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                for (int i = 0; i < messages; i++) {
+                    expected.add(thread + "-" + i + "-" + "y".repeat(i));
+                }
+                senders.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        c.left().com(thread + "-" + i + "-" + "y".repeat(i));
+                    }
+                }));
+            }
+            Set<String> received = new HashSet<>();
+            for (int i = 0; i < threads * messages; i++) {
+                received.add(c.right().com(Unit.id));
+            }
+            assertEquals(expected, received);
+            CompletableFuture.allOf(senders.toArray(CompletableFuture[]::new)).join();
+        });
+    }
+
+}
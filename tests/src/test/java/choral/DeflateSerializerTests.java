@@ -0,0 +1,109 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.lang.Unit;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.SerializerChannel.SerializerChannel_A;
+import choral.runtime.SerializerChannel.SerializerChannel_B;
+import choral.runtime.Serializers.ChainedSerializer;
+import choral.runtime.Serializers.DeflateSerializer;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_A;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_B;
+import choral.utils.Pair;
+
+public class DeflateSerializerTests {
+
+    private static ByteBuffer text(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void roundTrips() {
+        DeflateSerializer sender = new DeflateSerializer(16);
+        DeflateSerializer receiver = new DeflateSerializer(16);
+        byte[] random = new byte[1000];
+        new Random(1).nextBytes(random);
+        List<ByteBuffer> messages = List.of(
+                text("short"),
+                text("repeat ".repeat(100)),
+                ByteBuffer.wrap(random),
+                text("large ".repeat(20_000)));
+        for (ByteBuffer message : messages) {
+            assertEquals(message, receiver.toObject(sender.fromObject(message)));
+        }
+        assertEquals(2, sender.messagesCompressed());
+        assertEquals(2, sender.messagesUncompressed());
+    }
+
+    @Test
+    public void previousMessageIsTheDictionary() {
+        DeflateSerializer sender = new DeflateSerializer(16);
+        DeflateSerializer receiver = new DeflateSerializer(16);
+        ByteBuffer first = sender.fromObject(text("{\"name\":\"alice\",\"price\":12,\"currency\":\"EUR\"}"));
+        ByteBuffer second = sender.fromObject(text("{\"name\":\"alice\",\"price\":13,\"currency\":\"EUR\"}"));
+        assertTrue(second.remaining() < first.remaining());
+
+        // decoding out of order misses the dictionary
+        assertThrows(IllegalStateException.class, () -> receiver.toObject(second.duplicate()));
+        receiver.toObject(first);
+        assertEquals(text("{\"name\":\"alice\",\"price\":13,\"currency\":\"EUR\"}"), receiver.toObject(second));
+    }
+
+    @Test
+    public void isStatefulAlsoWhenChained() {
+        assertTrue(new DeflateSerializer(16).isStateful());
+        assertTrue(new ChainedSerializer<>(KryoSerializer.getInstance(), new DeflateSerializer(16)).isStateful());
+    }
+
+    @Test
+    public void concurrentSendersOverAChannel() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+            SerializerChannel_A a = new SerializerChannel_A(
+                    new ChainedSerializer<>(KryoSerializer.getInstance(), new DeflateSerializer(16)),
+                    new WrapperByteChannel_A(p.left()));
+            SerializerChannel_B b = new SerializerChannel_B(
+                    new ChainedSerializer<>(KryoSerializer.getInstance(), new DeflateSerializer(16)),
+                    new WrapperByteChannel_B(p.right()));
+            int threads = 4;
+            int messages = 250;
+            Set<String> expected = new HashSet<>();
+            List<CompletableFuture<Void>> senders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                for (int i = 0; i < messages; i++) {
+                    expected.add("message " + thread + " " + i + " " + "z".repeat(i % 50));
+                }
+                senders.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        a.com("message " + thread + " " + i + " " + "z".repeat(i % 50));
+                    }
+                }));
+            }
+            Set<String> received = new HashSet<>();
+            for (int i = 0; i < threads * messages; i++) {
+                received.add(b.com(Unit.id));
+            }
+            assertEquals(expected, received);
+            CompletableFuture.allOf(senders.toArray(CompletableFuture[]::new)).join();
+        });
+    }
+
+}
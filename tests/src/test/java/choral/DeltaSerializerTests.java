@@ -0,0 +1,123 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.lang.Unit;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.SerializerChannel.SerializerChannel_A;
+import choral.runtime.SerializerChannel.SerializerChannel_B;
+import choral.runtime.Serializers.BinaryInput;
+import choral.runtime.Serializers.BinaryOutput;
+import choral.runtime.Serializers.DeltaSerializer;
+import choral.runtime.Serializers.StreamingJSONSerializer;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_A;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_B;
+import choral.utils.Pair;
+
+public class DeltaSerializerTests {
+
+    static class Tick {
+        String symbol;
+        long time;
+        int quantity;
+
+        Tick(String symbol, long time, int quantity) {
+            this.symbol = symbol;
+            this.time = time;
+            this.quantity = quantity;
+        }
+    }
+
+    private static DeltaSerializer delta() {
+        return new DeltaSerializer(StreamingJSONSerializer.getInstance(), 8);
+    }
+
+    private static void assertTick(Tick expected, Tick actual) {
+        assertEquals(expected.symbol, actual.symbol);
+        assertEquals(expected.time, actual.time);
+        assertEquals(expected.quantity, actual.quantity);
+    }
+
+    @Test
+    public void roundTripsDeltasAndSnapshots() {
+        DeltaSerializer sender = delta();
+        DeltaSerializer receiver = delta();
+        List<Tick> ticks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ticks.add(new Tick("ACME", 1_700_000_000_000L + i, i % 3));
+        }
+        // differences that overflow a long
+        ticks.add(new Tick("ACME", Long.MIN_VALUE, 0));
+        ticks.add(new Tick("ACME", Long.MAX_VALUE, -1));
+        ticks.add(new Tick(null, 0, Integer.MIN_VALUE));
+        int snapshot = 0;
+        for (int i = 0; i < ticks.size(); i++) {
+            ByteBuffer encoded = sender.fromObject(ticks.get(i));
+            // a snapshot every 8 messages, deltas in between
+            if (i % 8 == 0) {
+                snapshot = encoded.remaining();
+            } else {
+                assertTrue(encoded.remaining() < snapshot);
+            }
+            assertTick(ticks.get(i), receiver.toObject(encoded));
+        }
+        assertEquals("whole", receiver.toObject(sender.fromObject("whole")));
+    }
+
+    @Test
+    public void varLongsRoundTrip() {
+        long[] values = { 0, 1, 127, 128, 300, -1, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE };
+        BinaryOutput out = new BinaryOutput(1);
+        for (long value : values) {
+            out.putVarLong(value);
+        }
+        BinaryInput in = new BinaryInput(out.toByteBuffer());
+        for (long value : values) {
+            assertEquals(value, in.getVarLong());
+        }
+        assertEquals(0, in.buffer().remaining());
+    }
+
+    @Test
+    public void concurrentSendersOverAChannel() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+            SerializerChannel_A a = new SerializerChannel_A(delta(), new WrapperByteChannel_A(p.left()));
+            SerializerChannel_B b = new SerializerChannel_B(delta(), new WrapperByteChannel_B(p.right()));
+            int threads = 4;
+            int messages = 250;
+            List<CompletableFuture<Void>> senders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String symbol = "S" + t;
+                senders.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < messages; i++) {
+                        a.com(new Tick(symbol, 1_000L * i, i));
+                    }
+                }));
+            }
+            // each sender's messages arrive in order, with every field rebuilt
+            Map<String, Integer> next = new HashMap<>();
+            for (int i = 0; i < threads * messages; i++) {
+                Tick tick = b.com(Unit.id);
+                int expected = next.getOrDefault(tick.symbol, 0);
+                assertEquals(expected, tick.quantity);
+                assertEquals(1_000L * expected, tick.time);
+                next.put(tick.symbol, expected + 1);
+            }
+            CompletableFuture.allOf(senders.toArray(CompletableFuture[]::new)).join();
+        });
+    }
+
+}
@@ -0,0 +1,114 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Media.ByteBufferPool;
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Media.PipedByteChannel;
+import choral.utils.Pair;
+
+public class FrameCodecTests {
+
+    @Test
+    public void framesRoundTrip() throws Exception {
+        Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+        FrameCodec out = new FrameCodec(pipe.left());
+        FrameCodec in = new FrameCodec(pipe.right());
+        Thread writer = new Thread(() -> {
+            try {
+                for (int size : new int[] { 0, 1, 255, 256, 70_000 }) {
+                    out.writeFrame(ByteBuffer.wrap(payload(size)));
+                }
+                ByteBuffer sealed = out.newFrame(3);
+                sealed.put(new byte[] { 7, 8, 9 });
+                out.writeSealedFrame(out.sealFrame(sealed));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        for (int size : new int[] { 0, 1, 255, 256, 70_000 }) {
+            ByteBuffer frame = in.readFrame();
+            byte[] bytes = new byte[frame.remaining()];
+            frame.get(bytes);
+            assertArrayEquals(payload(size), bytes);
+            in.release(frame);
+        }
+        ByteBuffer frame = in.readFrame();
+        assertEquals(3, frame.remaining());
+        assertEquals(7, frame.get());
+        writer.join();
+        pipe.left().close();
+        pipe.right().close();
+    }
+
+    @Test
+    public void poolReusesBuffersBySizeClass() {
+        ByteBufferPool pool = new ByteBufferPool(false, 4);
+        ByteBuffer b = pool.acquire(300);
+        assertEquals(512, b.capacity());
+        assertEquals(300, b.limit());
+        pool.release(b);
+        assertSame(b, pool.acquire(500));
+        assertEquals(0, pool.retainedBytes());
+    }
+
+    @Test
+    public void poolBoundsRetainedBuffers() {
+        ByteBufferPool pool = new ByteBufferPool(false, 4, 4096);
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            buffers.add(pool.acquire(1024));
+        }
+        buffers.forEach(pool::release);
+        assertEquals(4096, pool.retainedBytes());
+        buffers.clear();
+        for (int i = 0; i < 8; i++) {
+            buffers.add(pool.acquire(256));
+        }
+        buffers.forEach(pool::release);
+        assertTrue(pool.retainedBytes() <= 4096);
+    }
+
+    @Test
+    public void oversizedFramesFailTheRead() throws Exception {
+        Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+        FrameCodec out = new FrameCodec(pipe.left());
+        FrameCodec in = new FrameCodec(pipe.right(), ByteBufferPool.getDefault(), 16);
+        out.writeFrame(ByteBuffer.wrap(payload(16)));
+        assertEquals(16, in.readFrame().remaining());
+        out.writeFrame(ByteBuffer.wrap(payload(17)));
+        assertThrows(IOException.class, in::readFrame);
+
+        pipe.left().close();
+        pipe.right().close();
+
+        // a corrupt or hostile header must not make the default codec allocate 2 GiB
+        pipe = PipedByteChannel.getConnectedChannels();
+        FrameCodec defaults = new FrameCodec(pipe.right());
+        new FrameCodec(pipe.left()).writeFrames(ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE));
+        assertThrows(IOException.class, defaults::readFrame);
+        pipe.left().close();
+        pipe.right().close();
+    }
+
+    private static byte[] payload(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        return bytes;
+    }
+
+}
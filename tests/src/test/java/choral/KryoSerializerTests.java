@@ -0,0 +1,133 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.Serializers.StringTable;
+import choral.serializers.Price;
+
+public class KryoSerializerTests {
+
+    private static final KryoSerializer KRYO = KryoSerializer.getInstance();
+
+    @Test
+    public void roundTrips() throws Exception {
+        Price price = new Price("book", 12);
+        Price decoded = KRYO.toObject(KRYO.fromObject(price));
+        assertEquals("book", decoded.name());
+        assertEquals(12, decoded.price());
+
+        ByteBuffer buffer = KRYO.writeObject(Optional.of(price), ByteBuffer.allocate(4));
+        Optional<Price> optional = KRYO.toObject(buffer.flip());
+        assertEquals("book", optional.get().name());
+
+        // one value per stream, as chunked transfers do
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        KRYO.write(price, out);
+        Price streamed = KRYO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("book", streamed.name());
+    }
+
+    @Test
+    public void internsRepeatedStrings() {
+        StringTable sent = new StringTable();
+        StringTable received = new StringTable();
+        ByteBuffer first = KRYO.fromObject(new Price("a repeated name", 1), sent);
+        ByteBuffer second = KRYO.fromObject(new Price("a repeated name", 2), sent);
+        assertTrue(second.remaining() < first.remaining());
+        assertEquals("a repeated name", KRYO.<Price>toObject(first, received).name());
+        Price decoded = KRYO.toObject(second, received);
+        assertEquals("a repeated name", decoded.name());
+        assertEquals(2, decoded.price());
+
+        // sessions go back to the pool without their table
+        assertEquals("plain", KRYO.toObject(KRYO.fromObject("plain")));
+    }
+
+    @Test
+    public void manifestIdsFollowPositions() {
+        // Price is second in both manifests, so both serializers give it the same id
+        KryoSerializer reserved = KryoSerializer.getInstance("choral.kryo.Reserved");
+        KryoSerializer listed = KryoSerializer.getInstance("choral.kryo.Listed");
+        assertSame(reserved, KryoSerializer.getInstance("choral.kryo.Reserved"));
+
+        Price fromReserved = listed.toObject(reserved.fromObject(new Price("book", 12)));
+        assertEquals("book", fromReserved.name());
+        Price fromListed = reserved.toObject(listed.fromObject(new Price("pen", 3)));
+        assertEquals(3, fromListed.price());
+    }
+
+    @Test
+    public void compilerManifestsCoverInterfaceTypedPayloads() throws Exception {
+        // epp writes the manifest under target/test-classes, which is on the test classpath
+        Path projected = Files.createTempDirectory("mergesort");
+        int exitCode = Choral.compile(new String[] {
+                "epp", "--headers=src/main/choral/MustPass/MoveMeant/Mergesort:../runtime/src/main/choral",
+                "-t", projected.toString(), "-s", "src/main/choral/MustPass/MoveMeant/Mergesort",
+                "Mergesort", "--infer-comms", "--serialization-manifest=target/test-classes" });
+        assertEquals(0, exitCode);
+        String choreography = "choral.MustPass.MoveMeant.Mergesort.Mergesort";
+        List<String> manifest = Files.readAllLines(
+                Path.of("target", "test-classes", KryoSerializer.manifest(choreography)));
+        assertTrue(manifest.contains("java.lang.Integer"));
+        assertTrue(manifest.stream().noneMatch(l -> l.equals("java.util.List")));
+
+        // List<Integer> is sent as whatever List the role holds
+        KryoSerializer kryo = KryoSerializer.getInstance(choreography);
+        List<Integer> array = kryo.toObject(kryo.fromObject(new ArrayList<>(List.of(3, 1, 2))));
+        assertEquals(List.of(3, 1, 2), array);
+        List<Integer> linked = kryo.toObject(kryo.fromObject(new LinkedList<>(List.of(4))));
+        assertEquals(LinkedList.class, linked.getClass());
+        assertEquals(List.of(4), linked);
+    }
+
+    @Test
+    public void missingManifestIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KryoSerializer.getInstance("choral.kryo.Unknown"));
+    }
+
+    @Test
+    public void concurrentRoundTrips() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            String large = "x".repeat(2 << 20);
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        String name = "item-" + thread + "-" + i;
+                        Price price = KRYO.toObject(KRYO.fromObject(new Price(name, i)));
+                        assertEquals(name, price.name());
+                        assertEquals(i, price.price());
+                        ByteBuffer b = KRYO.writeObject(name, ByteBuffer.allocate(16));
+                        assertEquals(name, KRYO.toObject(b.flip()));
+                        if (i % 500 == 0) {
+                            assertEquals(large, KRYO.toObject(KRYO.fromObject(large)));
+                        }
+                    }
+                }));
+            }
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        });
+    }
+
+}
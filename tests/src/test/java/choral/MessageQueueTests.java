@@ -0,0 +1,97 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import choral.channels.SymChannel_A;
+import choral.channels.SymChannel_B;
+import choral.lang.Unit;
+import choral.runtime.ChoreographyRunner.Transport;
+import choral.runtime.LocalChannel.LocalChannel_A;
+import choral.runtime.LocalChannel.LocalChannel_B;
+import choral.runtime.Media.MessageQueue;
+import choral.utils.Pair;
+
+public class MessageQueueTests {
+
+    @Test
+    public void zeroTimeoutDoesNotWait() {
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            MessageQueue queue = new MessageQueue(1);
+            assertTrue(queue.offer("a", 0, TimeUnit.SECONDS));
+            assertFalse(queue.offer("b", 0, TimeUnit.SECONDS));
+            assertFalse(queue.offer("b"));
+            assertFalse(queue.offer("b", 10, TimeUnit.MILLISECONDS));
+            assertEquals("a", queue.recv());
+            assertTrue(queue.offer("b"));
+            assertEquals(1, queue.peakDepth());
+        });
+    }
+
+    @Test
+    public void boundedSendWaitsForSpace() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MessageQueue queue = new MessageQueue(2);
+            int count = 10_000;
+            CompletableFuture<Void> sender = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < count; i++) {
+                    queue.send(i);
+                }
+            });
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, (int) queue.recv());
+            }
+            sender.join();
+            assertTrue(queue.peakDepth() <= 2);
+        });
+    }
+
+    @Test
+    public void sendTimesOutOnFullQueue() {
+        MessageQueue queue = new MessageQueue(1, 20, TimeUnit.MILLISECONDS);
+        queue.send("a");
+        assertThrows(IllegalStateException.class, () -> queue.send("b"));
+    }
+
+    @Test
+    public void interruptedRecvLeavesTheMessageForTheNextReceiver() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MessageQueue queue = new MessageQueue();
+            Thread.currentThread().interrupt();
+            assertThrows(InterruptedException.class, queue::recv);
+            queue.send("a");
+            assertEquals("a", queue.recv());
+        });
+    }
+
+    @Test
+    public void interruptedChannelReceiveFails() throws Exception {
+        Pair<SymChannel_A<Object>, SymChannel_B<Object>> channels = Transport.local().open();
+        Thread.currentThread().interrupt();
+        assertThrows(RuntimeException.class, () -> channels.right().com(Unit.id));
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    public void boundedLocalChannels() {
+        MessageQueue m1 = new MessageQueue(1, 20, TimeUnit.MILLISECONDS);
+        MessageQueue m2 = new MessageQueue(1, 20, TimeUnit.MILLISECONDS);
+        LocalChannel_A a = new LocalChannel_A(m1, m2);
+        LocalChannel_B b = new LocalChannel_B(m2, m1);
+        a.com("a");
+        assertThrows(IllegalStateException.class, () -> a.com("b"));
+        assertEquals("a", b.<String>com(Unit.id));
+        b.com("c");
+        assertEquals("c", a.<String>com(Unit.id));
+    }
+
+}
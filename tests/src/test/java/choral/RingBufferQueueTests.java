@@ -0,0 +1,94 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import choral.runtime.Media.RingBufferQueue;
+import choral.runtime.Media.WaitStrategy;
+import choral.runtime.RingChannel.RingChannel_A;
+import choral.runtime.RingChannel.RingChannel_B;
+
+public class RingBufferQueueTests {
+
+    @ParameterizedTest
+    @EnumSource(value = WaitStrategy.class, names = { "YIELD", "PARK" })
+    public void deliversInOrder(WaitStrategy strategy) {
+        // a tiny queue makes both sides wait, so lost wake-ups would hang the test
+        deliversInOrder(new RingBufferQueue(2, strategy), 50_000);
+    }
+
+    @Test
+    public void deliversInOrderSpinning() {
+        // spinning on a full or empty queue may take a whole time slice on a single core
+        deliversInOrder(new RingBufferQueue(1 << 16, WaitStrategy.SPIN), 50_000);
+    }
+
+    private static void deliversInOrder(RingBufferQueue queue, int count) {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < count; i++) {
+                        queue.send(i);
+                    }
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            producer.start();
+            for (int i = 0; i < count; i++) {
+                int received = queue.recv();
+                assertEquals(i, received);
+            }
+            producer.join();
+        });
+    }
+
+    @Test
+    public void offerFailsWhenFull() throws Exception {
+        RingBufferQueue queue = new RingBufferQueue(3, WaitStrategy.PARK);
+        assertEquals(4, queue.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(0, (int) queue.recv());
+        assertTrue(queue.offer(4));
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    public void recvIsInterruptible() {
+        RingBufferQueue queue = new RingBufferQueue(4, WaitStrategy.PARK);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, queue::recv);
+    }
+
+    @Test
+    public void interruptedChannelReceiveFails() {
+        RingChannel_B b = new RingChannel_B(new RingBufferQueue(), new RingBufferQueue());
+        Thread.currentThread().interrupt();
+        assertThrows(RuntimeException.class, b::com);
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    public void channelRoundTrip() {
+        RingBufferQueue ab = new RingBufferQueue(), ba = new RingBufferQueue();
+        RingChannel_A a = new RingChannel_A(ab, ba);
+        RingChannel_B b = new RingChannel_B(ba, ab);
+        a.com("ping");
+        assertEquals("ping", b.<String>com());
+        b.select(WaitStrategy.SPIN);
+        assertEquals(WaitStrategy.SPIN, a.<WaitStrategy>select());
+    }
+
+}
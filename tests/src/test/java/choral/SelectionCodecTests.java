@@ -0,0 +1,101 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Serializers.SelectionCodec;
+
+public class SelectionCodecTests {
+
+    enum Color { RED, GREEN, BLUE }
+
+    enum Choice { LEFT, RIGHT }
+
+    @Test
+    public void labelsRoundTrip() {
+        SelectionCodec out = new SelectionCodec();
+        SelectionCodec in = new SelectionCodec();
+        ByteBuffer definition = out.encode(Color.GREEN);
+        assertTrue(definition.remaining() > 2);
+        out.sent(Color.GREEN);
+        assertEquals(Color.GREEN, in.<Color>decode(definition));
+        for (Enum<?> label : List.of(Color.BLUE, Choice.RIGHT, Color.RED, Choice.LEFT)) {
+            ByteBuffer b = out.encode(label);
+            out.sent(label);
+            assertEquals(label, in.decode(b));
+        }
+        ByteBuffer shortForm = out.encode(Color.BLUE);
+        assertEquals(2, shortForm.remaining());
+        assertEquals(Color.BLUE, in.<Color>decode(shortForm));
+    }
+
+    @Test
+    public void unsentDefinitionsAreRepeated() {
+        SelectionCodec out = new SelectionCodec();
+        SelectionCodec in = new SelectionCodec();
+        out.encode(Choice.LEFT); // lost, e.g., the write failed
+        ByteBuffer retry = out.encode(Choice.RIGHT);
+        assertTrue(retry.remaining() > 2);
+        assertEquals(Choice.RIGHT, in.<Choice>decode(retry));
+        out.sent(Choice.RIGHT);
+        assertEquals(Choice.LEFT, in.<Choice>decode(out.encode(Choice.LEFT)));
+    }
+
+    @Test
+    public void undefinedIdsAreRejected() {
+        SelectionCodec out = new SelectionCodec();
+        out.encode(Color.RED);
+        out.sent(Color.RED);
+        ByteBuffer shortForm = out.encode(Color.RED);
+        assertThrows(IllegalStateException.class, () -> new SelectionCodec().decode(shortForm));
+    }
+
+    @Test
+    public void concurrentSendersStayDecodable() {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            SelectionCodec out = new SelectionCodec();
+            SelectionCodec in = new SelectionCodec();
+            BlockingQueue<ByteBuffer> wire = new LinkedBlockingQueue<>();
+            BlockingQueue<Enum<?>> labels = new LinkedBlockingQueue<>();
+            int perThread = 2_000;
+            List<Thread> senders = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                senders.add(new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        Enum<?> label = (i + offset) % 2 == 0
+                                ? Color.values()[i % 3]
+                                : Choice.values()[i % 2];
+                        ByteBuffer b = out.encode(label);
+                        // the wire keeps the order of the writes
+                        synchronized (wire) {
+                            wire.add(b);
+                            labels.add(label);
+                        }
+                        out.sent(label);
+                    }
+                }));
+            }
+            senders.forEach(Thread::start);
+            for (int i = 0; i < 4 * perThread; i++) {
+                ByteBuffer b = wire.take();
+                assertEquals(labels.take(), in.decode(b));
+            }
+            for (Thread t : senders) {
+                t.join();
+            }
+        });
+    }
+
+}
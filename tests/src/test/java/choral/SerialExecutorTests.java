@@ -0,0 +1,94 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.Media.SerialExecutor;
+import choral.runtime.WrapperByteChannel.WrapperByteChannelImpl;
+import choral.utils.Pair;
+
+public class SerialExecutorTests {
+
+    @Test
+    public void callWaitsForSubmittedTasks() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            SerialExecutor executor = new SerialExecutor();
+            List<String> order = new CopyOnWriteArrayList<>();
+            CountDownLatch gate = new CountDownLatch(1);
+            CompletableFuture<String> first = executor.submit(() -> {
+                gate.await();
+                order.add("async");
+                return "async";
+            });
+            CompletableFuture<String> sync = CompletableFuture.supplyAsync(
+                    () -> executor.call(() -> {
+                        order.add("sync");
+                        return "sync";
+                    }));
+            Thread.sleep(50);
+            assertFalse(sync.isDone());
+            gate.countDown();
+            assertEquals("async", first.join());
+            assertEquals("sync", sync.join());
+            assertEquals(List.of("async", "sync"), order);
+        });
+    }
+
+    @Test
+    public void tasksSubmittedDuringCallRunAfterIt() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            SerialExecutor executor = new SerialExecutor();
+            List<String> order = new CopyOnWriteArrayList<>();
+            CompletableFuture<?>[] later = new CompletableFuture<?>[1];
+            executor.call(() -> {
+                later[0] = executor.submit(() -> order.add("async"));
+                Thread.sleep(50);
+                order.add("sync");
+                return null;
+            });
+            later[0].join();
+            assertEquals(List.of("sync", "async"), order);
+        });
+    }
+
+    @Test
+    public void syncSendsKeepOrderWithAsyncOnes() {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            WrapperByteChannelImpl out = new WrapperByteChannelImpl(pipe.left());
+            WrapperByteChannelImpl in = new WrapperByteChannelImpl(pipe.right());
+            int count = 200;
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    ByteBuffer m = ByteBuffer.allocate(4).putInt(0, i);
+                    if (i % 3 == 0) {
+                        out.com(m);
+                    } else {
+                        out.comAsync(m);
+                    }
+                }
+            });
+            writer.start();
+            for (int i = 0; i < count; i++) {
+                ByteBuffer m = i % 2 == 0 ? in.com() : in.<ByteBuffer>comAsync().join();
+                assertEquals(i, m.getInt(m.position()));
+                in.release(m);
+            }
+            writer.join();
+            pipe.left().close();
+            pipe.right().close();
+        });
+    }
+
+}
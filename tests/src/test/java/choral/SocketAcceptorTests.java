@@ -0,0 +1,132 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Media.FrameCodec;
+import choral.runtime.Media.SocketAcceptor;
+import choral.runtime.Media.SocketByteChannel;
+
+public class SocketAcceptorTests {
+
+    @Test
+    public void servesSessionsConcurrently() {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            try (SocketAcceptor acceptor = SocketAcceptor.at("localhost", 0, SocketAcceptorTests::echo)) {
+                SocketByteChannel[] clients = new SocketByteChannel[8];
+                for (int i = 0; i < clients.length; i++) {
+                    clients[i] = SocketByteChannel.connect("localhost", acceptor.localPort());
+                }
+                // answered in reverse order, so every session must be open at once
+                for (int i = clients.length - 1; i >= 0; i--) {
+                    assertEquals(i, roundTrip(clients[i], i));
+                    clients[i].close();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void keepsAcceptingAfterFailedSessions() {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            AtomicInteger sessions = new AtomicInteger();
+            SocketAcceptor.SessionHandler handler = channel -> {
+                if (sessions.getAndIncrement() == 0) {
+                    throw new IOException("first session fails");
+                }
+                echo(channel);
+            };
+            try (SocketAcceptor acceptor = SocketAcceptor.at("localhost", 0, handler)) {
+                SocketByteChannel failed = SocketByteChannel.connect("localhost", acceptor.localPort());
+                assertThrows(IOException.class, () -> roundTrip(failed, 1));
+                failed.close();
+                SocketByteChannel client = SocketByteChannel.connect("localhost", acceptor.localPort());
+                assertEquals(2, roundTrip(client, 2));
+                client.close();
+            }
+        });
+    }
+
+    @Test
+    public void keepsAcceptingAfterRejectedSessions() {
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            ExecutorService workers = Executors.newCachedThreadPool();
+            ExecutorService rejecting = Executors.newSingleThreadExecutor();
+            rejecting.shutdown();
+            AtomicInteger dispatched = new AtomicInteger();
+            ExecutorService flaky = new AbstractExecutorService() {
+                public void execute(Runnable task) {
+                    (dispatched.getAndIncrement() == 0 ? rejecting : workers).execute(task);
+                }
+
+                public void shutdown() {
+                }
+
+                public List<Runnable> shutdownNow() {
+                    return List.of();
+                }
+
+                public boolean isShutdown() {
+                    return false;
+                }
+
+                public boolean isTerminated() {
+                    return false;
+                }
+
+                public boolean awaitTermination(long timeout, TimeUnit unit) {
+                    return true;
+                }
+            };
+            try (SocketAcceptor acceptor = SocketAcceptor.at("localhost", 0, SocketAcceptorTests::echo, flaky)) {
+                SocketByteChannel rejected = SocketByteChannel.connect("localhost", acceptor.localPort());
+                assertThrows(IOException.class, () -> roundTrip(rejected, 1));
+                rejected.close();
+                SocketByteChannel client = SocketByteChannel.connect("localhost", acceptor.localPort());
+                assertEquals(2, roundTrip(client, 2));
+                client.close();
+            } finally {
+                workers.shutdown();
+            }
+        });
+    }
+
+    @Test
+    public void closeStopsListening() throws Exception {
+        SocketAcceptor acceptor = SocketAcceptor.at("localhost", 0, SocketAcceptorTests::echo);
+        int port = acceptor.localPort();
+        acceptor.close();
+        assertFalse(acceptor.isOpen());
+        assertThrows(IOException.class, () -> SocketChannel.open(new InetSocketAddress("localhost", port)));
+    }
+
+    private static void echo(SocketByteChannel channel) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(Integer.BYTES);
+        FrameCodec.readFully(channel, b);
+        FrameCodec.writeFully(channel, b.flip());
+    }
+
+    private static int roundTrip(SocketByteChannel channel, int value) throws IOException {
+        FrameCodec.writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, value));
+        ByteBuffer b = ByteBuffer.allocate(Integer.BYTES);
+        FrameCodec.readFully(channel, b);
+        return b.getInt(0);
+    }
+
+}
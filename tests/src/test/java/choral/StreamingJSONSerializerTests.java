@@ -0,0 +1,93 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Serializers.JSONSerializer;
+import choral.runtime.Serializers.StreamingJSONSerializer;
+import choral.runtime.Serializers.StringTable;
+import choral.serializers.Price;
+
+public class StreamingJSONSerializerTests {
+
+    private static final StreamingJSONSerializer JSON = StreamingJSONSerializer.getInstance();
+
+    @Test
+    public void roundTripsAndInteroperates() throws Exception {
+        // surrogate pairs and multi-byte characters cross the UTF-8 writer and reader
+        String name = "café 😀 中";
+        Price price = JSON.toObject(JSON.fromObject(new Price(name, 12)));
+        assertEquals(name, price.name());
+        assertEquals(12, price.price());
+
+        Price fromPlain = JSON.toObject(JSONSerializer.getInstance().fromObject(new Price(name, 1)));
+        assertEquals(name, fromPlain.name());
+        Price toPlain = JSONSerializer.getInstance().toObject(JSON.fromObject(new Price(name, 2)));
+        assertEquals(name, toPlain.name());
+
+        ByteBuffer buffer = JSON.writeObject(new Price(name, 3), ByteBuffer.allocate(4));
+        assertEquals(name, ((Price) JSON.toObject(buffer.flip())).name());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSON.write(new Price(name, 4), out);
+        Price streamed = JSON.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(name, streamed.name());
+
+        String large = "é".repeat(1 << 20);
+        assertEquals(large, JSON.toObject(JSON.fromObject(large)));
+    }
+
+    @Test
+    public void tableReplacesRepeatedClassNames() {
+        StringTable sent = new StringTable();
+        StringTable received = new StringTable();
+        ByteBuffer first = JSON.fromObject(new Price("a", 1), sent);
+        ByteBuffer second = JSON.fromObject(new Price("a", 1), sent);
+        assertTrue(second.remaining() < first.remaining());
+        assertTrue(StandardCharsets.UTF_8.decode(second.duplicate()).toString().startsWith("0!"));
+        assertEquals("a", ((Price) JSON.toObject(first, received)).name());
+        assertEquals("a", ((Price) JSON.toObject(second, received)).name());
+    }
+
+    @Test
+    public void missingHeaderIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JSON.toObject(ByteBuffer.wrap("{}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void concurrentRoundTrips() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        String name = "item-" + thread + "-" + i + "-é";
+                        ByteBuffer encoded = JSON.fromObject(new Price(name, i));
+                        // the per-thread writer is reused: earlier results must stay intact
+                        JSON.fromObject(new Price("other", -1));
+                        Price price = JSON.toObject(encoded);
+                        assertEquals(name, price.name());
+                        assertEquals(i, price.price());
+                    }
+                }));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        });
+    }
+
+}
@@ -27,6 +27,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -44,6 +47,7 @@ import javax.tools.StandardJavaFileManager;
 import javax.tools.ToolProvider;
 
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.Assertions;
 
@@ -52,6 +56,9 @@ import com.github.difflib.UnifiedDiffUtils;
 import com.github.difflib.patch.Patch;
 import org.junit.jupiter.api.function.Executable;
 
+import choral.runtime.Serializers.BinaryCodec;
+import choral.runtime.Serializers.BinaryCodecSerializer;
+
 public class TestChoral {
 
 	private static final String RUNTIME = Paths.get("..", "runtime", "src", "main", "choral").toString();
@@ -100,6 +107,7 @@ public class TestChoral {
 		builder.addSources( "IfDesugarTest", subFolder( MUSTPASS, "IfDesugar" ) );
 		builder.addSources( "ChainingExample", subFolder( MUSTPASS, "ChainingOperator" ) );
 		builder.addSources( "BuyBook2", subFolder( MUSTPASS, "BookSellingSoloist" ) );
+		builder.addSources( "ForwardingChannel", subFolder( MUSTPASS, "ForwardingChannel" ) );
 		//// https://github.com/choral-lang/choral/issues/29
 		// builder.addSources( "SwitchTest", subFolder( MUSTPASS, "SwitchTest" ) );
 		//// https://github.com/choral-lang/choral/issues/27
@@ -196,6 +204,53 @@ public class TestChoral {
 		);
 	}
 
+	/** Projects with --binary-codecs, then compiles the codecs and round-trips a value through them. */
+	@Test
+	@SuppressWarnings( "unchecked" )
+	public void binaryCodecs() throws Exception {
+		CompilationRequestBuilder builder = new CompilationRequestBuilder( "--binary-codecs" );
+		builder.addSources( "Telemetry", subFolder( MUSTPASS, "BinaryCodecs" ) );
+		CompilationResults results = compile( builder.build().findFirst().orElseThrow() );
+		Assertions.assertEquals( 0, results.exitCode, results.stderr );
+
+		Path projected = Path.of( PROJECTED, "choral", "MustPass", "BinaryCodecs" );
+		List< Path > javaFiles;
+		try( Stream< Path > files = Files.walk( projected ) ) {
+			javaFiles = files.filter( f -> f.toString().endsWith( ".java" ) ).toList();
+		}
+		Path classes = Files.createTempDirectory( "codecs" );
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
+		Assertions.assertTrue( compiler.getTask( null, fileManager, null,
+				List.of( "-d", classes.toString() ), null,
+				fileManager.getJavaFileObjectsFromPaths( javaFiles ) ).call() );
+
+		try( URLClassLoader loader = new URLClassLoader( new URL[]{ classes.toUri().toURL() },
+				TestChoral.class.getClassLoader() ) ) {
+			Class< ? > patient = loader.loadClass( "choral.MustPass.BinaryCodecs.utils.Patient" );
+			Class< ? > scale = loader.loadClass( "choral.MustPass.BinaryCodecs.utils.Scale" );
+			Class< ? > reading = loader.loadClass( "choral.MustPass.BinaryCodecs.utils.Reading" );
+			Object fahrenheit = scale.getEnumConstants()[ 1 ];
+			Object value = reading.getConstructor( patient, scale, double.class ).newInstance(
+					patient.getConstructor( String.class, Integer.class ).newInstance( "p-17", 42 ),
+					fahrenheit, 98.6 );
+
+			List< BinaryCodec< ? > > codecs = (List< BinaryCodec< ? > >) loader
+					.loadClass( "choral.MustPass.BinaryCodecs.TelemetryCodecs" )
+					.getMethod( "codecs" ).invoke( null );
+			BinaryCodecSerializer serializer = new BinaryCodecSerializer( codecs );
+			ByteBuffer encoded = serializer.fromObject( value );
+			Assertions.assertEquals( BinaryCodecSerializer.FIRST_CODEC_TAG, encoded.get( 0 ) );
+
+			Object decoded = serializer.toObject( encoded );
+			Object decodedPatient = reading.getMethod( "patient" ).invoke( decoded );
+			Assertions.assertEquals( "p-17", patient.getMethod( "id" ).invoke( decodedPatient ) );
+			Assertions.assertEquals( 42, patient.getMethod( "age" ).invoke( decodedPatient ) );
+			Assertions.assertSame( fahrenheit, reading.getMethod( "scale" ).invoke( decoded ) );
+			Assertions.assertEquals( 98.6, reading.getMethod( "value" ).invoke( decoded ) );
+		}
+	}
+
 	///////////////////////////////// DATATYPES /////////////////////////////////////
 
 	/**
@@ -0,0 +1,117 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.time.Duration;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.jupiter.api.Test;
+
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.TLSByteChannel.TSLByteChannel_A;
+import choral.runtime.TLSByteChannel.TSLByteChannel_B;
+import choral.runtime.TLSByteChannel.tlschannel.DirectBufferAllocator;
+import choral.runtime.TLSByteChannel.tlschannel.TrackingAllocator;
+import choral.utils.Pair;
+
+public class TlsFrameTests {
+
+    private static final String KEYS = Paths.get("src", "main", "java", "choral", "channels", "TLSPipeChannel").toString();
+    private static final int[] SIZES = { 0, 1, 4096, 5000, 70_000, 100 };
+
+    @Test
+    public void framesRoundTripWithoutFreeingBuffers() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            SSLContext context = sslContext();
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            TrackingAllocator allocator = new TrackingAllocator(new DirectBufferAllocator());
+            TSLByteChannel_A client = new TSLByteChannel_A(pipe.left(), context);
+            TSLByteChannel_B server = new TSLByteChannel_B(pipe.right(), context, allocator);
+            Thread writer = new Thread(() -> {
+                for (int size : SIZES) {
+                    client.com(ByteBuffer.wrap(payload(size)));
+                }
+            });
+            writer.start();
+            ByteBuffer previous = null;
+            for (int size : SIZES) {
+                ByteBuffer frame = server.com();
+                if (previous != null && previous.capacity() >= size) {
+                    assertSame(previous, frame);
+                }
+                byte[] bytes = new byte[frame.remaining()];
+                frame.get(bytes);
+                assertArrayEquals(payload(size), bytes);
+                server.release(frame);
+                server.release(frame);
+                previous = frame;
+            }
+            writer.join();
+            assertEquals(0, allocator.bytesDeallocated());
+            pipe.left().close();
+            pipe.right().close();
+        });
+    }
+
+    @Test
+    public void oversizedFramesFailTheReceive() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            SSLContext context = sslContext();
+            Pair<PipedByteChannel, PipedByteChannel> pipe = PipedByteChannel.getConnectedChannels();
+            TrackingAllocator allocator = new TrackingAllocator(new DirectBufferAllocator());
+            TSLByteChannel_A client = new TSLByteChannel_A(pipe.left(), context);
+            TSLByteChannel_B server = new TSLByteChannel_B(pipe.right(), context, allocator, 4096);
+            Thread writer = new Thread(() -> {
+                client.com(ByteBuffer.wrap(payload(4096)));
+                client.com(ByteBuffer.wrap(payload(70_000)));
+            });
+            writer.start();
+            assertEquals(4096, server.com().remaining());
+            long allocated = allocator.bytesAllocated();
+            assertThrows(RuntimeException.class, server::com);
+            assertEquals(allocated, allocator.bytesAllocated());
+            pipe.right().close();
+            writer.join();
+            pipe.left().close();
+        });
+    }
+
+    private static byte[] payload(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31 + size);
+        }
+        return bytes;
+    }
+
+    static SSLContext sslContext() throws Exception {
+        char[] password = "password".toCharArray();
+        KeyStore keys = KeyStore.getInstance("JKS");
+        KeyStore trust = KeyStore.getInstance("JKS");
+        try (FileInputStream in = new FileInputStream(Paths.get(KEYS, "keystore.jks").toFile())) {
+            keys.load(in, password);
+        }
+        try (FileInputStream in = new FileInputStream(Paths.get(KEYS, "truststore.ts").toFile())) {
+            trust.load(in, password);
+        }
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance("SunX509");
+        kmf.init(keys, password);
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance("SunX509");
+        tmf.init(trust);
+        SSLContext context = SSLContext.getInstance("TLSv1.3");
+        context.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+        return context;
+    }
+
+}
@@ -0,0 +1,142 @@
+package choral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import choral.lang.Unit;
+import choral.runtime.ChoralByteChannel.SymByteChannelImpl;
+import choral.runtime.Media.PipedByteChannel;
+import choral.runtime.SerializerChannel.SerializerChannel_A;
+import choral.runtime.SerializerChannel.SerializerChannel_B;
+import choral.runtime.Serializers.KryoSerializer;
+import choral.runtime.Tracing.TraceContext;
+import choral.runtime.Tracing.TraceRecorder;
+import choral.runtime.Tracing.TracingByteChannel;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_A;
+import choral.runtime.WrapperByteChannel.WrapperByteChannel_B;
+import choral.utils.Pair;
+
+public class TracingTests {
+
+    private static Pair<SymByteChannelImpl, SymByteChannelImpl> traced(TraceRecorder a, TraceRecorder b)
+            throws Exception {
+        Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+        return Pair.of(
+                new TracingByteChannel(new WrapperByteChannel_A(p.left()), a, "channel"),
+                new TracingByteChannel(new WrapperByteChannel_B(p.right()), b, "channel"));
+    }
+
+    private static List<String[]> events(TraceRecorder recorder) throws Exception {
+        StringWriter out = new StringWriter();
+        recorder.dump(out);
+        return out.toString().lines()
+                .filter(line -> !line.startsWith("#"))
+                .map(line -> line.split("\t"))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void buffersAndSerializedMessagesCarryTheTrace() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            TraceRecorder sender = new TraceRecorder("A"), receiver = new TraceRecorder("B");
+            Pair<SymByteChannelImpl, SymByteChannelImpl> c = traced(sender, receiver);
+            SerializerChannel_A a = new SerializerChannel_A(KryoSerializer.getInstance(), c.left());
+            SerializerChannel_B b = new SerializerChannel_B(KryoSerializer.getInstance(), c.right());
+            byte[] large = new byte[100_000];
+            Arrays.fill(large, (byte) 7);
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                TraceContext.set(0x42);
+                c.left().com(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+                // larger than the frame of the previous message
+                c.left().com(ByteBuffer.wrap(large));
+                a.com("serialized");
+            });
+            TraceContext.clear();
+            ByteBuffer small = c.right().com();
+            assertEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), small);
+            assertEquals(0x42, TraceContext.current());
+            c.right().release(small);
+            TraceContext.clear();
+            ByteBuffer received = c.right().com();
+            assertEquals(ByteBuffer.wrap(large), received);
+            c.right().release(received);
+            assertEquals("serialized", b.<String>com(Unit.id));
+            assertEquals(0x42, TraceContext.current());
+            sent.join();
+            TraceContext.clear();
+
+            List<String[]> sends = events(sender);
+            assertEquals(3, sends.size());
+            assertEquals(List.of("3", "100000"), List.of(sends.get(0)[6], sends.get(1)[6]));
+            for (String[] event : sends) {
+                assertEquals("S", event[0]);
+                assertEquals("42", event[3]);
+            }
+            List<String[]> receives = events(receiver);
+            assertEquals(3, receives.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(sends.get(i)[5], receives.get(i)[5]);
+                assertEquals(sends.get(i)[6], receives.get(i)[6]);
+            }
+        });
+    }
+
+    @Test
+    public void asyncReceiveAdoptsTheTraceForItsContinuations() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            Pair<SymByteChannelImpl, SymByteChannelImpl> c = traced(new TraceRecorder("A"), new TraceRecorder("B"));
+            CompletableFuture<Long> adopted = c.right().comAsync().thenApply(b -> TraceContext.current());
+            CompletableFuture.runAsync(() -> {
+                TraceContext.set(0x99);
+                c.left().com(ByteBuffer.wrap(new byte[] { 1 }));
+            }).join();
+            assertEquals(0x99, adopted.join());
+            assertEquals(0, TraceContext.current());
+        });
+    }
+
+    @Test
+    public void dumpsWhileRecordingAreConsistent() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            // a small recorder, so that slots are overwritten while dumped
+            TraceRecorder sender = new TraceRecorder("A", 16);
+            Pair<PipedByteChannel, PipedByteChannel> p = PipedByteChannel.getConnectedChannels();
+            SymByteChannelImpl a = new TracingByteChannel(new WrapperByteChannel_A(p.left()), sender, "channel");
+            WrapperByteChannel_B b = new WrapperByteChannel_B(p.right());
+            int messages = 5_000;
+            CompletableFuture<Void> drained = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < messages; i++) {
+                    b.release(b.com());
+                }
+            });
+            CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < messages; i++) {
+                    // each event is recognisable from any one of its fields
+                    TraceContext.set(i + 1);
+                    a.com(ByteBuffer.allocate(i % 100));
+                }
+            });
+            while (!sent.isDone()) {
+                for (String[] event : events(sender)) {
+                    long sequence = Long.parseLong(event[5]);
+                    assertEquals(sequence + 1, Long.parseLong(event[3], 16));
+                    assertEquals(sequence % 100, Long.parseLong(event[6]));
+                }
+            }
+            sent.join();
+            drained.join();
+            assertEquals(16, events(sender).size());
+        });
+    }
+
+}